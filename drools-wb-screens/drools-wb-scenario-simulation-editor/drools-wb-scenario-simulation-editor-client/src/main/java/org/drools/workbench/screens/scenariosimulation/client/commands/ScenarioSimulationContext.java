@@ -476,7 +476,24 @@ public class ScenarioSimulationContext {
             this.importPrefix = importPrefix;
         }
 
+        /**
+         * Clones the current <code>Status</code> together with deep copies of its <code>Simulation</code> and <code>Background</code>
+         * @return
+         */
         public Status cloneStatus() {
+            return cloneStatus(this.simulation.cloneModel(), this.background.cloneModel());
+        }
+
+        /**
+         * Clones the current <code>Status</code> <b>sharing</b> its <code>Simulation</code> and <code>Background</code>, to be used
+         * by commands which record only the part of the model they change
+         * @return
+         */
+        public Status cloneStatusSharingModels() {
+            return cloneStatus(this.simulation, this.background);
+        }
+
+        protected Status cloneStatus(Simulation simulation, Background background) {
             Status toReturn = new Status();
             toReturn.columnId = this.columnId;
             toReturn.columnIndex = this.columnIndex;
@@ -490,8 +507,8 @@ public class ScenarioSimulationContext {
             toReturn.keepData = this.keepData;
             toReturn.gridCellValue = this.gridCellValue;
             toReturn.rowIndex = this.rowIndex;
-            toReturn.simulation = this.simulation.cloneModel();
-            toReturn.background = this.background.cloneModel();
+            toReturn.simulation = simulation;
+            toReturn.background = background;
             toReturn.currentGrid = this.currentGrid;
             toReturn.importPrefix = this.importPrefix;
             return toReturn;
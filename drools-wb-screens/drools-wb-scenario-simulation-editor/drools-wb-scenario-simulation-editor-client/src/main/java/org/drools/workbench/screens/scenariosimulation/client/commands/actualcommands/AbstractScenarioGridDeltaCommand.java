@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands;
+
+import java.util.Collections;
+
+import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationContext;
+import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationViolation;
+import org.drools.workbench.screens.scenariosimulation.client.enums.GridWidget;
+import org.kie.workbench.common.command.client.CommandResult;
+import org.kie.workbench.common.command.client.impl.CommandResultImpl;
+
+/**
+ * <b>Abstract</b> <code>Command</code> class for grid commands which, on <b>undo/redo</b>, restore only the cells or rows
+ * they changed. The restorable <code>ScenarioSimulationContext.Status</code> shares the current <code>Simulation</code>
+ * and <code>Background</code> instead of cloning them, so the undo history grows with the size of the changes and not
+ * with the size of the model.
+ */
+public abstract class AbstractScenarioGridDeltaCommand extends AbstractScenarioGridCommand {
+
+    protected AbstractScenarioGridDeltaCommand(final GridWidget gridWidget) {
+        super(gridWidget);
+    }
+
+    @Override
+    protected ScenarioSimulationContext.Status setRestorableStatusPreExecution(ScenarioSimulationContext context) {
+        return context.getStatus().cloneStatusSharingModels();
+    }
+
+    @Override
+    protected CommandResult<ScenarioSimulationViolation> setCurrentContext(ScenarioSimulationContext context) {
+        try {
+            final ScenarioSimulationContext.Status originalStatus = context.getStatus().cloneStatusSharingModels();
+            context.getAbstractScesimGridModelByGridWidget(gridWidget).clearSelections();
+            restoreDelta(context);
+            // Undoing other commands may have replaced the models in the meantime: the current ones are kept
+            restorableStatus.setSimulation(originalStatus.getSimulation());
+            restorableStatus.setBackground(originalStatus.getBackground());
+            context.getScenarioSimulationEditorPresenter().reloadTestTools(true);
+            context.setStatus(restorableStatus);
+            restorableStatus = originalStatus;
+            return commonExecution(context);
+        } catch (Exception e) {
+            return new CommandResultImpl<>(CommandResult.Type.ERROR, Collections.singleton(new ScenarioSimulationViolation(e.getMessage())));
+        }
+    }
+
+    /**
+     * It reverts the recorded change on the current grid and model, and it records the change needed to apply it again,
+     * so that the same call performs both <b>undo</b> and <b>redo</b>
+     * @param context
+     */
+    protected abstract void restoreDelta(ScenarioSimulationContext context);
+}
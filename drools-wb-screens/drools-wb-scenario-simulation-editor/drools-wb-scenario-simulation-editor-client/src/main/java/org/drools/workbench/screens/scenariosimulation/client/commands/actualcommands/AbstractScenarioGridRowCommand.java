@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.scenariosimulation.api.model.AbstractScesimData;
+import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationContext;
+import org.drools.workbench.screens.scenariosimulation.client.enums.GridWidget;
+import org.drools.workbench.screens.scenariosimulation.client.models.AbstractScesimGridModel;
+import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridRow;
+
+/**
+ * <b>Abstract</b> <code>Command</code> class for commands which insert or delete whole rows. It records the inserted
+ * rows indexes and the deleted <code>AbstractScesimData</code>, which are replayed backward on <b>undo/redo</b>.
+ */
+public abstract class AbstractScenarioGridRowCommand extends AbstractScenarioGridDeltaCommand {
+
+    /**
+     * The row changes applied by the last execution, <b>undo</b> or <b>redo</b>, in order
+     */
+    protected List<RowChange> rowChanges = new ArrayList<>();
+
+    protected AbstractScenarioGridRowCommand(final GridWidget gridWidget) {
+        super(gridWidget);
+    }
+
+    /**
+     * It records the row inserted at the given index
+     * @param rowIndex
+     */
+    protected void rowInserted(int rowIndex) {
+        rowChanges.add(new RowChange(rowIndex, null));
+    }
+
+    /**
+     * It deletes the row at the given index, recording its <code>AbstractScesimData</code>
+     * @param context
+     * @param rowIndex
+     */
+    protected void deleteRow(ScenarioSimulationContext context, int rowIndex) {
+        final AbstractScesimData deletedData = context.getAbstractScesimModelByGridWidget(gridWidget).getDataByIndex(rowIndex);
+        context.getAbstractScesimGridModelByGridWidget(gridWidget).deleteRow(rowIndex);
+        rowChanges.add(new RowChange(rowIndex, deletedData));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void restoreDelta(ScenarioSimulationContext context) {
+        final AbstractScesimGridModel gridModel = context.getAbstractScesimGridModelByGridWidget(gridWidget);
+        final List<RowChange> appliedChanges = rowChanges;
+        rowChanges = new ArrayList<>();
+        for (int i = appliedChanges.size() - 1; i >= 0; i--) {
+            final RowChange rowChange = appliedChanges.get(i);
+            if (rowChange.deletedData == null) {
+                deleteRow(context, rowChange.rowIndex);
+            } else {
+                gridModel.insertRow(rowChange.rowIndex, new ScenarioGridRow(), rowChange.deletedData);
+                rowInserted(rowChange.rowIndex);
+            }
+        }
+    }
+
+    /**
+     * A single row insertion or, when <code>deletedData</code> is set, deletion
+     */
+    protected static class RowChange {
+
+        protected final int rowIndex;
+        protected final AbstractScesimData deletedData;
+
+        protected RowChange(int rowIndex, AbstractScesimData deletedData) {
+            this.rowIndex = rowIndex;
+            this.deletedData = deletedData;
+        }
+    }
+}
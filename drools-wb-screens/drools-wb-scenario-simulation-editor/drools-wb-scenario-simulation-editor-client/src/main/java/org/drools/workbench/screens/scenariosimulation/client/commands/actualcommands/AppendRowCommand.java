@@ -22,7 +22,7 @@ import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGr
 /**
  * <code>Command</code> to <b>append</b> (i.e. put in the last position) a row
  */
-public class AppendRowCommand extends AbstractScenarioGridCommand {
+public class AppendRowCommand extends AbstractScenarioGridRowCommand {
 
     public AppendRowCommand(GridWidget gridWidget) {
         super(gridWidget);
@@ -31,5 +31,6 @@ public class AppendRowCommand extends AbstractScenarioGridCommand {
     @Override
     protected void internalExecute(ScenarioSimulationContext context) {
         context.getAbstractScesimGridModelByGridWidget(gridWidget).appendRow(new ScenarioGridRow());
+        rowInserted(context.getAbstractScesimGridModelByGridWidget(gridWidget).getRowCount() - 1);
     }
 }
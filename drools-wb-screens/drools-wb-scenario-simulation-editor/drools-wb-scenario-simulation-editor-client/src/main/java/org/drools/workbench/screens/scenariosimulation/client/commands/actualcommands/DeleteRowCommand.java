@@ -22,7 +22,7 @@ import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGr
 /**
  * <code>Command</code> to <b>delete</b> a row.
  */
-public class DeleteRowCommand extends AbstractScenarioGridCommand {
+public class DeleteRowCommand extends AbstractScenarioGridRowCommand {
 
     public DeleteRowCommand(GridWidget gridWidget) {
         super(gridWidget);
@@ -30,9 +30,10 @@ public class DeleteRowCommand extends AbstractScenarioGridCommand {
 
     @Override
     protected void internalExecute(ScenarioSimulationContext context) {
-        context.getAbstractScesimGridModelByGridWidget(gridWidget).deleteRow(context.getStatus().getRowIndex());
+        deleteRow(context, context.getStatus().getRowIndex());
         if (context.getAbstractScesimGridModelByGridWidget(gridWidget).getRows().isEmpty()) {
             context.getAbstractScesimGridModelByGridWidget(gridWidget).insertRow(0, new ScenarioGridRow());
+            rowInserted(0);
         }
     }
 }
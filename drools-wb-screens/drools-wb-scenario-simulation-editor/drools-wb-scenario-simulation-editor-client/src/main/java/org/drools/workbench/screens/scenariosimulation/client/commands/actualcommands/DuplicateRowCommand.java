@@ -22,7 +22,7 @@ import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGr
 /**
  * <code>Command</code> to <b>duplicate</b> a row.
  */
-public class DuplicateRowCommand extends AbstractScenarioGridCommand {
+public class DuplicateRowCommand extends AbstractScenarioGridRowCommand {
 
     public DuplicateRowCommand(GridWidget gridWidget) {
         super(gridWidget);
@@ -31,5 +31,6 @@ public class DuplicateRowCommand extends AbstractScenarioGridCommand {
     @Override
     protected void internalExecute(ScenarioSimulationContext context) {
         context.getAbstractScesimGridModelByGridWidget(gridWidget).duplicateRow(context.getStatus().getRowIndex(), new ScenarioGridRow());
+        rowInserted(context.getStatus().getRowIndex() + 1);
     }
 }
@@ -19,7 +19,7 @@ import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioS
 import org.drools.workbench.screens.scenariosimulation.client.enums.GridWidget;
 import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridRow;
 
-public class InsertRowCommand extends AbstractScenarioGridCommand {
+public class InsertRowCommand extends AbstractScenarioGridRowCommand {
 
     public InsertRowCommand(GridWidget gridWidget) {
         super(gridWidget);
@@ -29,5 +29,6 @@ public class InsertRowCommand extends AbstractScenarioGridCommand {
     protected void internalExecute(ScenarioSimulationContext context) {
         context.getAbstractScesimGridModelByGridWidget(gridWidget).insertRow(context.getStatus().getRowIndex(),
                                                                              new ScenarioGridRow());
+        rowInserted(context.getStatus().getRowIndex());
     }
 }
@@ -22,7 +22,7 @@ import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGr
 /**
  * <code>Command</code> to <b>prepend</b> (i.e. put in the first position) a row
  */
-public class PrependRowCommand extends AbstractScenarioGridCommand {
+public class PrependRowCommand extends AbstractScenarioGridRowCommand {
 
     public PrependRowCommand(GridWidget gridWidget) {
         super(gridWidget);
@@ -31,5 +31,6 @@ public class PrependRowCommand extends AbstractScenarioGridCommand {
     @Override
     protected void internalExecute(ScenarioSimulationContext context) {
         context.getAbstractScesimGridModelByGridWidget(gridWidget).insertRow(0, new ScenarioGridRow());
+        rowInserted(0);
     }
 }
@@ -20,14 +20,25 @@ import org.drools.scenariosimulation.api.model.AbstractScesimModel;
 import org.drools.scenariosimulation.api.model.FactMapping;
 import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationContext;
 import org.drools.workbench.screens.scenariosimulation.client.enums.GridWidget;
+import org.drools.workbench.screens.scenariosimulation.client.models.AbstractScesimGridModel;
 import org.drools.workbench.screens.scenariosimulation.client.utils.ScenarioSimulationUtils;
 import org.drools.workbench.screens.scenariosimulation.client.values.ScenarioGridCellValue;
 import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridColumn;
+import org.uberfire.ext.wires.core.grids.client.model.GridCell;
+import org.uberfire.ext.wires.core.grids.client.model.GridCellValue;
 
 /**
  * <code>Command</code> to set the <i>value</i> of a grid' cell
  */
-public class SetGridCellValueCommand extends AbstractScenarioGridCommand {
+public class SetGridCellValueCommand extends AbstractScenarioGridDeltaCommand {
+
+    protected int rowIndex;
+    protected int columnIndex;
+
+    /**
+     * The value of the changed cell to restore when calling <b>undo/redo</b>; <code>null</code> if the cell was empty
+     */
+    protected GridCellValue<?> restorableCellValue;
 
     public SetGridCellValueCommand(GridWidget gridWidget) {
         super(gridWidget);
@@ -37,7 +48,9 @@ public class SetGridCellValueCommand extends AbstractScenarioGridCommand {
     protected void internalExecute(ScenarioSimulationContext context) {
         final ScenarioSimulationContext.Status status = context.getStatus();
         AbstractScesimModel<AbstractScesimData> abstractScesimModel = context.getAbstractScesimModelByGridWidget(gridWidget);
-        int columnIndex = status.getColumnIndex();
+        rowIndex = status.getRowIndex();
+        columnIndex = status.getColumnIndex();
+        restorableCellValue = getCellValue(context.getAbstractScesimGridModelByGridWidget(gridWidget));
         FactMapping factMapping = abstractScesimModel.getScesimModelDescriptor().getFactMappingByIndex(columnIndex);
         ScenarioGridColumn selectedColumn = (ScenarioGridColumn) context.getAbstractScesimGridModelByGridWidget(gridWidget).getColumns().get(columnIndex);
         String placeholder = ScenarioSimulationUtils.getPlaceHolder(selectedColumn.isInstanceAssigned(),
@@ -50,4 +63,22 @@ public class SetGridCellValueCommand extends AbstractScenarioGridCommand {
                                                                                                           placeholder));
         context.getAbstractScesimGridModelByGridWidget(gridWidget).resetError(status.getRowIndex(), columnIndex);
     }
+
+    @Override
+    protected void restoreDelta(ScenarioSimulationContext context) {
+        final AbstractScesimGridModel<?, ?> gridModel = context.getAbstractScesimGridModelByGridWidget(gridWidget);
+        final GridCellValue<?> currentCellValue = getCellValue(gridModel);
+        if (restorableCellValue == null) {
+            gridModel.deleteCell(rowIndex, columnIndex);
+        } else {
+            gridModel.setCellValue(rowIndex, columnIndex, restorableCellValue);
+            gridModel.resetError(rowIndex, columnIndex);
+        }
+        restorableCellValue = currentCellValue;
+    }
+
+    protected GridCellValue<?> getCellValue(AbstractScesimGridModel<?, ?> gridModel) {
+        final GridCell<?> cell = gridModel.getCell(rowIndex, columnIndex);
+        return cell != null ? cell.getValue() : null;
+    }
 }
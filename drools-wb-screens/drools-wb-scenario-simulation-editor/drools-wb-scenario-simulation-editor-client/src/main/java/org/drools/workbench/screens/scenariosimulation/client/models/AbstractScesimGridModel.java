@@ -210,6 +210,19 @@ public abstract class AbstractScesimGridModel<T extends AbstractScesimModel<E>,
         commonAddRow(rowIndex);
     }
 
+    /**
+     * This method <i>insert</i> a row to the grid <b>and</b> the given <code>AbstractScesimData</code> to the underlying model
+     * @param rowIndex
+     * @param row
+     * @param abstractScesimData
+     */
+    public void insertRow(final int rowIndex, final GridRow row, final E abstractScesimData) {
+        checkSimulation();
+        abstractScesimModel.addData(rowIndex);
+        abstractScesimModel.replaceData(rowIndex, abstractScesimData);
+        insertRowGridOnly(rowIndex, row, abstractScesimData);
+    }
+
     /**
      * This method <i>delete</i> the row at the given index from both the grid <b>and</b> the underlying model
      * @param rowIndex
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands;
+
+import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationContext;
+import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationViolation;
+import org.junit.Test;
+import org.kie.workbench.common.command.client.CommandResult;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public abstract class AbstractScenarioGridDeltaCommandTest extends AbstractScenarioGridCommandTest {
+
+    @Test
+    @Override
+    public void setRestorableStatus() {
+        ScenarioSimulationContext.Status restorableStatus = commandSpy.setRestorableStatusPreExecution(scenarioSimulationContextLocal);
+        assertNotNull(restorableStatus);
+        assertEquals(simulationMock, restorableStatus.getSimulation());
+        assertEquals(backgroundMock, restorableStatus.getBackground());
+        verify(simulationMock, never()).cloneModel();
+        verify(backgroundMock, never()).cloneModel();
+    }
+
+    @Test
+    @Override
+    public void setCurrentContextNoSimulationNoBackground() {
+        final ScenarioSimulationContext.Status status = scenarioSimulationContextLocal.getStatus();
+        commandSpy.restorableStatus = status;
+        doThrow(new IllegalStateException()).when(getDeltaCommandSpy()).restoreDelta(eq(scenarioSimulationContextLocal));
+        final CommandResult<ScenarioSimulationViolation> retrieved = commandSpy.setCurrentContext(scenarioSimulationContextLocal);
+        assertEquals(CommandResult.Type.ERROR, retrieved.getType());
+        verify(scenarioSimulationEditorPresenterMock, never()).reloadTestTools(eq(true));
+        verify(commandSpy, never()).commonExecution(eq(scenarioSimulationContextLocal));
+        assertEquals(status, commandSpy.restorableStatus);
+    }
+
+    @Test
+    @Override
+    public void setCurrentContextSimulationBackground() {
+        final ScenarioSimulationContext.Status status = scenarioSimulationContextLocal.getStatus().cloneStatusSharingModels();
+        status.setSimulation(clonedSimulationMock);
+        status.setBackground(clonedBackgroundMock);
+        commandSpy.restorableStatus = status;
+        doNothing().when(getDeltaCommandSpy()).restoreDelta(any(ScenarioSimulationContext.class));
+        final CommandResult<ScenarioSimulationViolation> retrieved = commandSpy.setCurrentContext(scenarioSimulationContextLocal);
+        assertEquals(CommandResult.Type.INFO, retrieved.getType());
+        verify(scenarioGridModelMock, times(1)).clearSelections();
+        verify(getDeltaCommandSpy(), times(1)).restoreDelta(eq(scenarioSimulationContextLocal));
+        verify(scenarioGridMock, never()).setContent(any(), any());
+        verify(backgroundGridMock, never()).setContent(any(), any());
+        verify(scenarioSimulationEditorPresenterMock, times(1)).reloadTestTools(eq(true));
+        verify(commandSpy, times(1)).commonExecution(eq(scenarioSimulationContextLocal));
+        assertEquals(status, scenarioSimulationContextLocal.getStatus());
+        assertEquals(simulationMock, scenarioSimulationContextLocal.getStatus().getSimulation());
+        assertEquals(backgroundMock, scenarioSimulationContextLocal.getStatus().getBackground());
+        assertNotEquals(status, commandSpy.restorableStatus);
+    }
+
+    protected AbstractScenarioGridDeltaCommand getDeltaCommandSpy() {
+        return (AbstractScenarioGridDeltaCommand) commandSpy;
+    }
+}
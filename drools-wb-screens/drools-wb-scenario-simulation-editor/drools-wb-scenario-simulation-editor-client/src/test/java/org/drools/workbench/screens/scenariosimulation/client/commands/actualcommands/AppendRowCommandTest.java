@@ -29,7 +29,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @RunWith(GwtMockitoTestRunner.class)
-public class AppendRowCommandTest extends AbstractScenarioGridCommandTest {
+public class AppendRowCommandTest extends AbstractScenarioGridDeltaCommandTest {
 
     @Before
     public void setup() {
@@ -17,6 +17,7 @@
 package org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.scenariosimulation.api.model.Scenario;
 import org.drools.workbench.screens.scenariosimulation.client.enums.GridWidget;
 import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridRow;
 import org.junit.Before;
@@ -24,9 +25,11 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.ROW_INDEX;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
@@ -35,7 +38,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(GwtMockitoTestRunner.class)
-public class DeleteRowCommandTest extends AbstractScenarioGridCommandTest {
+public class DeleteRowCommandTest extends AbstractScenarioGridDeltaCommandTest {
 
     @Before
     public void setup() {
@@ -56,4 +59,18 @@ public class DeleteRowCommandTest extends AbstractScenarioGridCommandTest {
         verify(scenarioGridModelMock, times(1)).deleteRow(eq(ROW_INDEX));
         verify(scenarioGridModelMock, times(1)).insertRow(eq(0), isA(ScenarioGridRow.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void restoreDelta() {
+        final Scenario deletedScenario = new Scenario();
+        scenarioSimulationContextLocal.getStatus().setRowIndex(ROW_INDEX);
+        when(rowsMock.isEmpty()).thenReturn(false);
+        when(simulationMock.getDataByIndex(ROW_INDEX)).thenReturn(deletedScenario);
+        doNothing().when(scenarioGridModelMock).insertRow(anyInt(), any(ScenarioGridRow.class), any(Scenario.class));
+        commandSpy.execute(scenarioSimulationContextLocal);
+        getDeltaCommandSpy().restoreDelta(scenarioSimulationContextLocal);
+        verify(scenarioGridModelMock, times(1)).insertRow(eq(ROW_INDEX), isA(ScenarioGridRow.class), eq(deletedScenario));
+        getDeltaCommandSpy().restoreDelta(scenarioSimulationContextLocal);
+        verify(scenarioGridModelMock, times(2)).deleteRow(eq(ROW_INDEX));
+    }
+}
@@ -31,7 +31,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @RunWith(GwtMockitoTestRunner.class)
-public class DuplicateRowCommandTest extends AbstractScenarioGridCommandTest {
+public class DuplicateRowCommandTest extends AbstractScenarioGridDeltaCommandTest {
 
     @Before
     public void setup() {
@@ -17,6 +17,7 @@
 package org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.scenariosimulation.api.model.Scenario;
 import org.drools.workbench.screens.scenariosimulation.client.enums.GridWidget;
 import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridRow;
 import org.junit.Before;
@@ -24,14 +25,18 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.ROW_INDEX;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(GwtMockitoTestRunner.class)
-public class InsertRowCommandTest extends AbstractScenarioGridCommandTest {
+public class InsertRowCommandTest extends AbstractScenarioGridDeltaCommandTest {
 
     @Before
     public void setup() {
@@ -45,4 +50,17 @@ public class InsertRowCommandTest extends AbstractScenarioGridCommandTest {
         commandSpy.execute(scenarioSimulationContextLocal);
         verify(scenarioGridModelMock, times(1)).insertRow(eq(ROW_INDEX), isA(ScenarioGridRow.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void restoreDelta() {
+        final Scenario insertedScenario = new Scenario();
+        scenarioSimulationContextLocal.getStatus().setRowIndex(ROW_INDEX);
+        when(simulationMock.getDataByIndex(ROW_INDEX)).thenReturn(insertedScenario);
+        doNothing().when(scenarioGridModelMock).insertRow(anyInt(), any(ScenarioGridRow.class), any(Scenario.class));
+        commandSpy.execute(scenarioSimulationContextLocal);
+        getDeltaCommandSpy().restoreDelta(scenarioSimulationContextLocal);
+        verify(scenarioGridModelMock, times(1)).deleteRow(eq(ROW_INDEX));
+        getDeltaCommandSpy().restoreDelta(scenarioSimulationContextLocal);
+        verify(scenarioGridModelMock, times(1)).insertRow(eq(ROW_INDEX), isA(ScenarioGridRow.class), eq(insertedScenario));
+    }
+}
@@ -30,7 +30,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @RunWith(GwtMockitoTestRunner.class)
-public class PrependRowCommandTest extends AbstractScenarioGridCommandTest {
+public class PrependRowCommandTest extends AbstractScenarioGridDeltaCommandTest {
 
     @Before
     public void setup() {
@@ -26,19 +26,24 @@ import org.junit.runner.RunWith;
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.COLUMN_INDEX;
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.MULTIPART_VALUE;
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.ROW_INDEX;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @RunWith(GwtMockitoTestRunner.class)
-public class SetGridCellValueCommandTest extends AbstractScenarioGridCommandTest {
+public class SetGridCellValueCommandTest extends AbstractScenarioGridDeltaCommandTest {
 
     @Before
     public void setup() {
         super.setup();
         commandSpy = spy(new SetGridCellValueCommand(GridWidget.SIMULATION));
+        doNothing().when(scenarioGridModelMock).resetError(anyInt(), anyInt());
     }
 
     @Test
@@ -50,4 +55,22 @@ public class SetGridCellValueCommandTest extends AbstractScenarioGridCommandTest
         verify(scenarioGridModelMock, times(1)).setCellValue(eq(ROW_INDEX), eq(COLUMN_INDEX), isA(ScenarioGridCellValue.class));
         verify(scenarioGridModelMock, times(1)).resetError(eq(ROW_INDEX), eq(COLUMN_INDEX));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void restoreDelta() {
+        final SetGridCellValueCommand setGridCellValueCommand = (SetGridCellValueCommand) commandSpy;
+        final ScenarioGridCellValue previousValue = new ScenarioGridCellValue(MULTIPART_VALUE);
+        setGridCellValueCommand.rowIndex = ROW_INDEX;
+        setGridCellValueCommand.columnIndex = COLUMN_INDEX;
+        setGridCellValueCommand.restorableCellValue = previousValue;
+        doReturn(null).when(scenarioGridModelMock).getCell(ROW_INDEX, COLUMN_INDEX);
+        doReturn(null).when(scenarioGridModelMock).deleteCell(anyInt(), anyInt());
+        setGridCellValueCommand.restoreDelta(scenarioSimulationContextLocal);
+        verify(scenarioGridModelMock, times(1)).setCellValue(eq(ROW_INDEX), eq(COLUMN_INDEX), eq(previousValue));
+        verify(scenarioGridModelMock, times(1)).resetError(eq(ROW_INDEX), eq(COLUMN_INDEX));
+        assertNull(setGridCellValueCommand.restorableCellValue);
+        setGridCellValueCommand.restoreDelta(scenarioSimulationContextLocal);
+        verify(scenarioGridModelMock, times(1)).deleteCell(eq(ROW_INDEX), eq(COLUMN_INDEX));
+        assertNull(setGridCellValueCommand.restorableCellValue);
+    }
+}
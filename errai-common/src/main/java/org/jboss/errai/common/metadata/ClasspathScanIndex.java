@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.common.metadata;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Binary index of the {@link MetaDataScanner} results of each jar on the classpath. Entries are keyed by the jar path
+ * and are only returned while the size and modification time of the jar are unchanged, so that only changed jars have
+ * to be scanned again.
+ * <p/>
+ * Directories (i.e. the classes of the project being compiled) are never indexed, since their size and modification
+ * time do not reflect changes to the files they contain.
+ */
+final class ClasspathScanIndex {
+
+  private static final Logger log = LoggerFactory.getLogger(ClasspathScanIndex.class);
+
+  private static final int MAGIC = 0xE7A15CA4;
+
+  /*
+   * Must be incremented whenever the format or the scanners used by the MetaDataScanner change.
+   */
+  private static final int VERSION = 1;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * @return The index stored in the given file, or an empty index if the file does not exist or cannot be read.
+   */
+  static ClasspathScanIndex read(final File file) {
+    final ClasspathScanIndex index = new ClasspathScanIndex();
+    if (!file.isFile()) {
+      return index;
+    }
+
+    try (final DataInputStream in = new DataInputStream(
+            new BufferedInputStream(new GZIPInputStream(new FileInputStream(file))))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        log.info("ignoring class scanning index with unknown format: " + file);
+        return index;
+      }
+      final int entryCount = in.readInt();
+      for (int i = 0; i < entryCount; i++) {
+        final String path = readString(in);
+        final long length = in.readLong();
+        final long lastModified = in.readLong();
+        final int storeCount = in.readInt();
+        final Map<String, Multimap<String, String>> stores = new HashMap<>(storeCount);
+        for (int j = 0; j < storeCount; j++) {
+          final String scannerName = readString(in);
+          final Multimap<String, String> store = HashMultimap.create();
+          final int keyCount = in.readInt();
+          for (int k = 0; k < keyCount; k++) {
+            final String key = readString(in);
+            final int valueCount = in.readInt();
+            for (int v = 0; v < valueCount; v++) {
+              store.put(key, readString(in));
+            }
+          }
+          stores.put(scannerName, store);
+        }
+        index.entries.put(path, new Entry(length, lastModified, stores));
+      }
+    }
+    catch (final IOException e) {
+      log.warn("could not read class scanning index " + file + ". all jars will be scanned.", e);
+      index.entries.clear();
+    }
+
+    return index;
+  }
+
+  /**
+   * Writes this index to a temporary file that then replaces the given file, so that concurrent compilations never
+   * read a partially written index.
+   */
+  void write(final File file) throws IOException {
+    final File dir = file.getAbsoluteFile().getParentFile();
+    if (!dir.exists()) {
+      // noinspection ResultOfMethodCallIgnored
+      dir.mkdirs();
+    }
+
+    final File tmp = File.createTempFile(file.getName(), ".tmp", dir);
+    try {
+      try (final DataOutputStream out = new DataOutputStream(
+              new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(tmp))))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        final Map<String, Entry> snapshot = new HashMap<>(entries);
+        out.writeInt(snapshot.size());
+        for (final Map.Entry<String, Entry> entry : snapshot.entrySet()) {
+          writeString(out, entry.getKey());
+          out.writeLong(entry.getValue().length);
+          out.writeLong(entry.getValue().lastModified);
+          out.writeInt(entry.getValue().stores.size());
+          for (final Map.Entry<String, Multimap<String, String>> store : entry.getValue().stores.entrySet()) {
+            writeString(out, store.getKey());
+            final Map<String, Collection<String>> values = store.getValue().asMap();
+            out.writeInt(values.size());
+            for (final Map.Entry<String, Collection<String>> value : values.entrySet()) {
+              writeString(out, value.getKey());
+              out.writeInt(value.getValue().size());
+              for (final String v : value.getValue()) {
+                writeString(out, v);
+              }
+            }
+          }
+        }
+      }
+      try {
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+      catch (final AtomicMoveNotSupportedException e) {
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+    finally {
+      // noinspection ResultOfMethodCallIgnored
+      tmp.delete();
+    }
+  }
+
+  /**
+   * @return The scanner stores of the given jar, keyed by scanner name, or {@code null} if the jar is not indexed or
+   *         has changed since it was indexed.
+   */
+  Map<String, Multimap<String, String>> get(final File jar) {
+    final Entry entry = entries.get(jar.getAbsolutePath());
+    if (entry != null && entry.length == jar.length() && entry.lastModified == jar.lastModified()) {
+      return entry.stores;
+    }
+
+    return null;
+  }
+
+  void put(final File jar, final Map<String, Multimap<String, String>> stores) {
+    final Map<String, Multimap<String, String>> copy = new HashMap<>(stores.size());
+    for (final Map.Entry<String, Multimap<String, String>> store : stores.entrySet()) {
+      synchronized (store.getValue()) {
+        copy.put(store.getKey(), HashMultimap.create(store.getValue()));
+      }
+    }
+    entries.put(jar.getAbsolutePath(), new Entry(jar.length(), jar.lastModified(), copy));
+  }
+
+  /**
+   * Removes the entries of all jars but the given ones, i.e. of jars that are no longer on the classpath.
+   */
+  void retainAll(final Collection<File> jars) {
+    final Set<String> paths = new HashSet<>();
+    for (final File jar : jars) {
+      paths.add(jar.getAbsolutePath());
+    }
+    entries.keySet().retainAll(paths);
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * @return The jar file of the given scan URL, or empty if the URL does not denote the root of a local jar.
+   */
+  static Optional<File> getIndexableFile(final URL url) {
+    URL fileUrl = url;
+    try {
+      if ("jar".equals(url.getProtocol())) {
+        final String path = url.getPath();
+        final int separator = path.indexOf("!/");
+        if (separator < 0 || separator + 2 < path.length()) {
+          return Optional.empty();
+        }
+        fileUrl = new URL(path.substring(0, separator));
+      }
+    }
+    catch (final MalformedURLException e) {
+      return Optional.empty();
+    }
+
+    if (!"file".equals(fileUrl.getProtocol())) {
+      return Optional.empty();
+    }
+
+    File file;
+    try {
+      file = new File(fileUrl.toURI());
+    }
+    catch (final URISyntaxException | IllegalArgumentException e) {
+      // scan URLs are decoded, so they may contain characters that are not valid in a URI.
+      file = new File(fileUrl.getPath());
+    }
+
+    return file.isFile() ? Optional.of(file) : Optional.empty();
+  }
+
+  private static String readString(final DataInputStream in) throws IOException {
+    final byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeString(final DataOutputStream out, final String value) throws IOException {
+    // DataOutputStream#writeUTF is limited to 64KB, which long property values may exceed.
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static class Entry {
+    private final long length;
+    private final long lastModified;
+    private final Map<String, Multimap<String, String>> stores;
+
+    private Entry(final long length, final long lastModified, final Map<String, Multimap<String, String>> stores) {
+      this.length = length;
+      this.lastModified = lastModified;
+      this.stores = stores;
+    }
+  }
+}
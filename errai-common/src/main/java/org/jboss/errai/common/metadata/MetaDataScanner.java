@@ -22,6 +22,7 @@ import org.jboss.errai.common.rebind.CacheStore;
 import org.jboss.errai.common.rebind.CacheUtil;
 import org.jboss.errai.reflections.Configuration;
 import org.jboss.errai.reflections.Reflections;
+import org.jboss.errai.reflections.ReflectionsException;
 import org.jboss.errai.reflections.scanners.FieldAnnotationsScanner;
 import org.jboss.errai.reflections.scanners.MethodAnnotationsScanner;
 import org.jboss.errai.reflections.util.ConfigurationBuilder;
@@ -46,11 +47,15 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 /**
@@ -72,7 +77,9 @@ public class MetaDataScanner extends Reflections {
 
   private static final String EXTENSION_KEY = "errai.class_scanning_extension";
 
-  private static final ErraiPropertyScanner propScanner = new ErraiPropertyScanner(file -> file.endsWith(".properties"));
+  private static final Predicate<String> PROPERTIES_FILTER = file -> file.endsWith(".properties");
+
+  private static final ErraiPropertyScanner propScanner = new ErraiPropertyScanner(PROPERTIES_FILTER);
 
   private final Map<Class<? extends Annotation>, Set<Class<?>>> _annotationCache = new HashMap<>();
 
@@ -88,19 +95,33 @@ public class MetaDataScanner extends Reflections {
     return createInstance(ErraiAppPropertiesFiles.getModulesUrls(), cacheFile);
   }
 
+  /**
+   * Creates a scanner that scans the classpath with one thread per available core, and that only scans the jars that
+   * have changed since they were recorded in the given {@link ClasspathScanIndex index file}. The index file is updated
+   * with the results of the scanned jars. Class files of unchanged jars are not read, so
+   * {@link #getHashForTypesAnnotatedWith(String, Class)} only covers the scanned urls.
+   */
+  static MetaDataScanner createIndexedInstance(final File indexFile) {
+    return createInstance(ErraiAppPropertiesFiles.getModulesUrls(), null, indexFile);
+  }
+
   private static MetaDataScanner createInstance(final List<URL> urls, final File cacheFile) {
+    return createInstance(urls, cacheFile, null);
+  }
+
+  private static MetaDataScanner createInstance(final List<URL> urls, final File cacheFile, final File indexFile) {
     registerDefaultHandlers();
 
     final DeploymentContext ctx = new DeploymentContext(urls);
     final List<URL> actualUrls = ctx.process();
 
-    final MetaDataScanner scanner = new MetaDataScanner(actualUrls, cacheFile);
+    final MetaDataScanner scanner = new MetaDataScanner(actualUrls, cacheFile, indexFile);
     ctx.close(); // needs to be closed after the scanner is created
     return scanner;
   }
 
-  private MetaDataScanner(final List<URL> urls, final File cacheFile) {
-    super(getConfiguration(urls));
+  private MetaDataScanner(final List<URL> urls, final File cacheFile, final File indexFile) {
+    super(getConfiguration(urls, indexFile == null));
     try {
       for (final Class<? extends Vfs.UrlType> cls : findExtensions()) {
         try {
@@ -116,11 +137,70 @@ public class MetaDataScanner extends Reflections {
     }
     if (cacheFile != null) {
       collect(cacheFile);
+    } else if (indexFile != null) {
+      scanIndexed(indexFile);
     } else {
       scan();
     }
   }
 
+  private void scanIndexed(final File indexFile) {
+    final long start = System.currentTimeMillis();
+    final ClasspathScanIndex index = ClasspathScanIndex.read(indexFile);
+    final int threads = Runtime.getRuntime().availableProcessors();
+    final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    final List<Future<Map<String, Multimap<String, String>>>> futures = new ArrayList<>();
+    final List<File> jars = new ArrayList<>();
+    int indexed = 0;
+    try {
+      for (final URL url : configuration.getUrls()) {
+        final Optional<File> jar = ClasspathScanIndex.getIndexableFile(url);
+        jar.ifPresent(jars::add);
+        final Map<String, Multimap<String, String>> stores = jar.map(index::get).orElse(null);
+        if (stores != null) {
+          mergeStores(stores);
+          indexed++;
+        }
+        else {
+          futures.add(executorService.submit(() -> {
+            final Map<String, Multimap<String, String>> scanned = new UrlScanner(url).scanFiles();
+            jar.ifPresent(file -> index.put(file, scanned));
+            return scanned;
+          }));
+        }
+      }
+
+      for (final Future<Map<String, Multimap<String, String>>> future : futures) {
+        try {
+          mergeStores(future.get());
+        }
+        catch (final Exception e) {
+          throw new RuntimeException(e);
+        }
+      }
+    }
+    finally {
+      executorService.shutdown();
+    }
+
+    index.retainAll(jars);
+    try {
+      index.write(indexFile);
+    }
+    catch (final IOException e) {
+      log.warn("could not write class scanning index " + indexFile, e);
+    }
+
+    log.info("scanned {} urls in {}ms using {} threads ({} unchanged jars loaded from {})",
+            configuration.getUrls().size(), System.currentTimeMillis() - start, threads, indexed, indexFile);
+  }
+
+  private void mergeStores(final Map<String, Multimap<String, String>> stores) {
+    for (final Map.Entry<String, Multimap<String, String>> store : stores.entrySet()) {
+      getStore().get(store.getKey()).putAll(store.getValue());
+    }
+  }
+
   private List<Class<? extends Vfs.UrlType>> findExtensions() {
 
     final List<Class<? extends Vfs.UrlType>> extensions = new ArrayList<>();
@@ -169,10 +249,12 @@ public class MetaDataScanner extends Reflections {
     return ErraiAppPropertiesFiles.getUrls(contextClassLoader, metaDataScannerClassLoader);
   }
 
-  private static Configuration getConfiguration(final List<URL> urls) {
-    return new ConfigurationBuilder().setUrls(urls).setExecutorService(Executors.newFixedThreadPool(2))
+  private static Configuration getConfiguration(final List<URL> urls, final boolean parallel) {
+    final ConfigurationBuilder builder = new ConfigurationBuilder().setUrls(urls)
             .setScanners(new FieldAnnotationsScanner(), new MethodAnnotationsScanner(),
                     new ExtendedTypeAnnotationScanner(), propScanner);
+    // The indexed scan manages its own threads.
+    return parallel ? builder.setExecutorService(Executors.newFixedThreadPool(2)) : builder;
   }
 
   private static void registerTypeHandler(final Vfs.UrlType handler) {
@@ -301,6 +383,33 @@ public class MetaDataScanner extends Reflections {
     return propScanner.getProperties();
   }
 
+  /**
+   * Scans a single url with its own scanners, so that its results can be indexed separately from the other urls.
+   */
+  private static class UrlScanner extends Reflections {
+    private final URL url;
+
+    private UrlScanner(final URL url) {
+      super(new ConfigurationBuilder().setUrls(url)
+              .setScanners(new FieldAnnotationsScanner(), new MethodAnnotationsScanner(),
+                      new ExtendedTypeAnnotationScanner(), new ErraiPropertyScanner(PROPERTIES_FILTER)));
+      this.url = url;
+    }
+
+    private Map<String, Multimap<String, String>> scanFiles() {
+      try {
+        for (final Vfs.File file : Vfs.fromURL(url).getFiles()) {
+          scan(file);
+        }
+      }
+      catch (final ReflectionsException e) {
+        log.error("could not create Vfs.Dir from url. ignoring the exception and continuing", e);
+      }
+
+      return getStore().getStoreMap();
+    }
+  }
+
   public static class CacheHolder implements CacheStore {
     final Map<String, Set<SortableClassFileWrapper>> ANNOTATIONS_TO_CLASS = new ConcurrentHashMap<>();
 
@@ -34,6 +34,9 @@ public class ScannerSingleton {
   private static final String ERRAI_REFLECTIONS_CACHE_PROPERTY = "errai.reflections.cache";
   private static final String CACHE_FILE_NAME = RebindUtils.getClasspathHash() + ".cache.xml";
 
+  private static final String ERRAI_REFLECTIONS_INDEX_PROPERTY = "errai.reflections.index";
+  private static final String INDEX_FILE_NAME = "classpath-scan.index";
+
   private static final Object lock = new Object();
 
   private static final FutureTask<MetaDataScanner> future = new FutureTask<>(() -> {
@@ -46,6 +49,10 @@ public class ScannerSingleton {
       }
     }
 
+    if (erraiReflectionsIndexIsEnabled()) {
+      return MetaDataScanner.createIndexedInstance(getIndexFile());
+    }
+
     return MetaDataScanner.createInstance();
   });
 
@@ -78,6 +85,17 @@ public class ScannerSingleton {
     return Boolean.getBoolean(ERRAI_REFLECTIONS_CACHE_PROPERTY);
   }
 
+  private static boolean erraiReflectionsIndexIsEnabled() {
+    return Boolean.getBoolean(ERRAI_REFLECTIONS_INDEX_PROPERTY);
+  }
+
+  /*
+   * Unlike the cache file, the index file is not specific to the classpath hash, since its entries are keyed by jar.
+   */
+  private static File getIndexFile() {
+    return new File(RebindUtils.getErraiCacheDir(), INDEX_FILE_NAME).getAbsoluteFile();
+  }
+
   private static File getCacheFile() {
     return new File(RebindUtils.getErraiCacheDir(), CACHE_FILE_NAME).getAbsoluteFile();
   }
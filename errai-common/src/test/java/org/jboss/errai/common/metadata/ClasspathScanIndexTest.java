@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.common.metadata;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link ClasspathScanIndex}.
+ */
+public class ClasspathScanIndexTest {
+
+  private File jar;
+  private File indexFile;
+
+  @Before
+  public void setup() throws Exception {
+    jar = File.createTempFile("scanned", ".jar");
+    Files.write(jar.toPath(), new byte[] { 1, 2, 3 });
+    indexFile = File.createTempFile("classpath-scan", ".index");
+    indexFile.delete();
+  }
+
+  @After
+  public void cleanup() {
+    jar.delete();
+    indexFile.delete();
+  }
+
+  @Test
+  public void testWriteAndRead() throws Exception {
+    final ClasspathScanIndex index = new ClasspathScanIndex();
+    index.put(jar, stores());
+    index.write(indexFile);
+
+    final ClasspathScanIndex read = ClasspathScanIndex.read(indexFile);
+
+    assertEquals(1, read.size());
+    assertEquals(stores(), read.get(jar));
+  }
+
+  @Test
+  public void testChangedJarIsNotReturned() throws Exception {
+    final ClasspathScanIndex index = new ClasspathScanIndex();
+    index.put(jar, stores());
+    Files.write(jar.toPath(), new byte[] { 1, 2, 3, 4 });
+
+    assertNull(index.get(jar));
+  }
+
+  @Test
+  public void testRetainAll() throws Exception {
+    final File otherJar = File.createTempFile("other", ".jar");
+    try {
+      final ClasspathScanIndex index = new ClasspathScanIndex();
+      index.put(jar, stores());
+      index.put(otherJar, stores());
+
+      index.retainAll(Collections.singleton(jar));
+
+      assertEquals(1, index.size());
+      assertNull(index.get(otherJar));
+    }
+    finally {
+      otherJar.delete();
+    }
+  }
+
+  @Test
+  public void testReadMissingOrCorruptFile() throws Exception {
+    assertEquals(0, ClasspathScanIndex.read(indexFile).size());
+
+    try (final FileOutputStream out = new FileOutputStream(indexFile)) {
+      out.write("not an index".getBytes());
+    }
+    assertEquals(0, ClasspathScanIndex.read(indexFile).size());
+  }
+
+  @Test
+  public void testGetIndexableFile() throws Exception {
+    final URL fileUrl = jar.toURI().toURL();
+
+    assertEquals(Optional.of(jar), ClasspathScanIndex.getIndexableFile(fileUrl));
+    assertEquals(Optional.of(jar), ClasspathScanIndex.getIndexableFile(new URL("jar:" + fileUrl + "!/")));
+    assertFalse(ClasspathScanIndex.getIndexableFile(new URL("jar:" + fileUrl + "!/META-INF/")).isPresent());
+    assertFalse(ClasspathScanIndex.getIndexableFile(jar.getParentFile().toURI().toURL()).isPresent());
+  }
+
+  private static Map<String, Multimap<String, String>> stores() {
+    final Multimap<String, String> annotations = HashMultimap.create();
+    annotations.put("javax.inject.Singleton", "org.foo.Bar");
+    annotations.put("javax.inject.Singleton", "org.foo.Baz");
+    final Multimap<String, String> properties = HashMultimap.create();
+    properties.put("errai.ioc.enabled.alternatives", "org.foo.Alternative\u00e4");
+
+    final Map<String, Multimap<String, String>> stores = new HashMap<>();
+    stores.put(ExtendedTypeAnnotationScanner.class.getName(), annotations);
+    stores.put(ErraiPropertyScanner.class.getName(), properties);
+    return stores;
+  }
+}
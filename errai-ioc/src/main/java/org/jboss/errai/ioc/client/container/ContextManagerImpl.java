@@ -19,17 +19,55 @@ package org.jboss.errai.ioc.client.container;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * @see ContextManager
  * @author Max Barkley <mbarkley@redhat.com>
  */
 public class ContextManagerImpl implements ContextManager {
 
+  private static final Logger logger = LoggerFactory.getLogger(ContextManager.class);
+
   private final Map<String, Context> contextsByFactoryName = new HashMap<String, Context>();
   private final Collection<Context> contexts = new ArrayList<Context>();
+  private final Map<Class<? extends Annotation>, Context> contextsByScope = new HashMap<Class<? extends Annotation>, Context>();
+
+  /*
+   * The context of every instance handed out by this manager, so that the managing context of an instance does not
+   * have to be searched for. Instances are removed when destroyed.
+   */
+  private final Map<Object, Context> contextsByInstance = new IdentityHashMap<Object, Context>();
+
+  /*
+   * Factories whose init method has been deferred until the first instance lookup. Only used in lazy mode.
+   */
+  private final Map<String, Factory<?>> uninitializedFactories = new HashMap<String, Factory<?>>();
+  private final boolean lazyFactoryInit;
+
+  private Collection<FactoryHandle> allFactoryHandles;
+
+  public ContextManagerImpl() {
+    this(false);
+  }
+
+  /**
+   * @param lazyFactoryInit
+   *          If true, {@link #finishInit()} only initializes the factories of
+   *          {@link FactoryHandle#isEager() eager} beans and factories that
+   *          {@link Factory#requiresEagerInit() require eager initialization}.
+   *          Every other factory is initialized before the first instance is
+   *          requested from it.
+   */
+  public ContextManagerImpl(final boolean lazyFactoryInit) {
+    this.lazyFactoryInit = lazyFactoryInit;
+  }
 
   @Override
   public void addContext(final Context context) {
@@ -39,20 +77,32 @@ public class ContextManagerImpl implements ContextManager {
       for (final Factory<?> factory : context.getAllFactories()) {
         contextsByFactoryName.put(factory.getHandle().getFactoryName(), context);
       }
+      allFactoryHandles = null;
+      contextsByScope.clear();
     }
   }
 
   @Override
   public <T> T getInstance(final String factoryName) {
-    return getContext(factoryName).getInstance(factoryName);
+    final Context context = getInitializedContext(factoryName);
+    return track(context.getInstance(factoryName), context);
   }
 
   @Override
   public <T> T getContextualInstance(final String factoryName, final Class<?>[] typeArgs, final Annotation[] qualifiers) {
-    return getContext(factoryName)
+    final Context context = getInitializedContext(factoryName);
+    return track(context
             .withContextualInstanceSupport()
             .orElseThrow(() -> new RuntimeException("The scope, " + getClass().getSimpleName() + ", does not support contextual instances."))
-            .getContextualInstance(factoryName, typeArgs, qualifiers);
+            .getContextualInstance(factoryName, typeArgs, qualifiers), context);
+  }
+
+  private <T> T track(final T instance, final Context context) {
+    if (instance != null) {
+      contextsByInstance.put(instance, context);
+    }
+
+    return instance;
   }
 
   private Context getContext(final String factoryName) {
@@ -64,10 +114,23 @@ public class ContextManagerImpl implements ContextManager {
     }
   }
 
+  private Context getInitializedContext(final String factoryName) {
+    final Context context = getContext(factoryName);
+    if (!uninitializedFactories.isEmpty()) {
+      final Factory<?> factory = uninitializedFactories.remove(factoryName);
+      if (factory != null) {
+        factory.init(context);
+      }
+    }
+
+    return context;
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public <T> T getEagerInstance(final String factoryName) {
-    final T instance = getContext(factoryName).<T>getInstance(factoryName);
+    final Context context = getInitializedContext(factoryName);
+    final T instance = track(context.<T>getInstance(factoryName), context);
     if ((instance instanceof Proxy)) {
       ((Proxy<T>) instance).unwrap();
     }
@@ -77,32 +140,51 @@ public class ContextManagerImpl implements ContextManager {
 
   @Override
   public <T> T getNewInstance(final String factoryName) {
-    return getContext(factoryName).getNewInstance(factoryName);
+    final Context context = getInitializedContext(factoryName);
+    return track(context.getNewInstance(factoryName), context);
   }
 
   @Override
   public Collection<FactoryHandle> getAllFactoryHandles() {
-    final Collection<FactoryHandle> allHandles = new ArrayList<FactoryHandle>();
-    for (final Context context : contexts) {
-      for (final Factory<?> factory : context.getAllFactories()) {
-        allHandles.add(factory.getHandle());
+    if (allFactoryHandles == null) {
+      final Collection<FactoryHandle> allHandles = new ArrayList<FactoryHandle>(contextsByFactoryName.size());
+      for (final Context context : contexts) {
+        for (final Factory<?> factory : context.getAllFactories()) {
+          allHandles.add(factory.getHandle());
+        }
       }
+      allFactoryHandles = Collections.unmodifiableCollection(allHandles);
     }
 
-    return allHandles;
+    return allFactoryHandles;
   }
 
   @Override
   public void destroy(final Object instance) {
-    for (final Context context : contexts) {
+    final Context context = getManagingContext(instance);
+    if (context != null) {
       context.destroyInstance(instance);
+      // Proxies of normal scoped beans remain managed after their instance is destroyed.
+      if (!context.isManaged(instance)) {
+        contextsByInstance.remove(instance);
+      }
     }
   }
 
   @Override
   public boolean isManaged(final Object ref) {
-    for (final Context context : contexts) {
-      if (context.isManaged(ref)) {
+    return getManagingContext(ref) != null;
+  }
+
+  @Override
+  public boolean addDestructionCallback(final Object instance, final DestructionCallback<?> callback) {
+    final Context context = contextsByInstance.get(instance);
+    if (context != null && context.addDestructionCallback(instance, callback)) {
+      return true;
+    }
+
+    for (final Context other : contexts) {
+      if (other != context && other.addDestructionCallback(instance, callback)) {
         return true;
       }
     }
@@ -111,33 +193,56 @@ public class ContextManagerImpl implements ContextManager {
   }
 
   @Override
-  public boolean addDestructionCallback(final Object instance, final DestructionCallback<?> callback) {
-    boolean success = false;
-    for (final Context context : contexts) {
-      success = success || context.addDestructionCallback(instance, callback);
+  public <P> P getInstanceProperty(final Object instance, final String propertyName, final Class<P> type) {
+    final Context context = getManagingContext(instance);
+    if (context != null) {
+      return context.getInstanceProperty(instance, propertyName, type);
     }
 
-    return success;
+    throw new RuntimeException("The given instance, " + instance + ", is not managed.");
   }
 
-  @Override
-  public <P> P getInstanceProperty(final Object instance, final String propertyName, final Class<P> type) {
+  /**
+   * @return The context managing the given instance, or null if it is not managed. Instances that were not handed out
+   *         by this manager (i.e. unwrapped proxy instances) are searched for in all contexts.
+   */
+  private Context getManagingContext(final Object instance) {
+    final Context tracked = contextsByInstance.get(instance);
+    if (tracked != null) {
+      if (tracked.isManaged(instance)) {
+        return tracked;
+      }
+      else {
+        contextsByInstance.remove(instance);
+      }
+    }
+
     for (final Context context : contexts) {
-      if (context.isManaged(instance)) {
-        return context.getInstanceProperty(instance, propertyName, type);
+      if (context != tracked && context.isManaged(instance)) {
+        return context;
       }
     }
 
-    throw new RuntimeException("The given instance, " + instance + ", is not managed.");
+    return null;
   }
 
   @Override
   public void finishInit() {
+    final long start = System.currentTimeMillis();
+    int initialized = 0;
     for (final Context context : contexts) {
       for (final Factory<?> factory : context.getAllFactories()) {
-        factory.init(context);
+        if (lazyFactoryInit && !factory.getHandle().isEager() && !factory.requiresEagerInit()) {
+          uninitializedFactories.put(factory.getHandle().getFactoryName(), factory);
+        }
+        else {
+          factory.init(context);
+          initialized++;
+        }
       }
     }
+    logger.debug("Initialized {} factories in {}ms ({} deferred until first lookup).", initialized,
+            System.currentTimeMillis() - start, uninitializedFactories.size());
   }
 
   @Override
@@ -145,12 +250,19 @@ public class ContextManagerImpl implements ContextManager {
     final Context context = getContextForScope(factory.getHandle().getScope());
     context.registerFactory(factory);
     contextsByFactoryName.put(factory.getHandle().getFactoryName(), context);
+    allFactoryHandles = null;
     factory.init(context);
   }
 
   private Context getContextForScope(final Class<? extends Annotation> scope) {
+    final Context cached = contextsByScope.get(scope);
+    if (cached != null) {
+      return cached;
+    }
+
     for (final Context context : contexts) {
       if (context.handlesScope(scope)) {
+        contextsByScope.put(scope, context);
         return context;
       }
     }
@@ -87,6 +87,19 @@ public abstract class Factory<T> {
    */
   public void init(final Context context) {}
 
+  /**
+   * When the {@link ContextManager} initializes factories lazily, the
+   * {@link #init(Context)} method of most factories is only called before the
+   * first instance is requested. Factories whose initialization has side effects
+   * that must happen at bootstrap (such as registering event observers) override
+   * this method in generated code.
+   *
+   * @return True iff {@link #init(Context)} must be called at bootstrap.
+   */
+  public boolean requiresEagerInit() {
+    return false;
+  }
+
   /**
    * This method is invoked whenever an actual instance of a bean must be
    * constructed. If a bean is proxied, this will likely happen on the first
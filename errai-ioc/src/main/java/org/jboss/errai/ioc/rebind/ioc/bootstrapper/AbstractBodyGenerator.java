@@ -658,10 +658,25 @@ public abstract class AbstractBodyGenerator implements FactoryBodyGenerator {
     return Collections.emptyList();
   }
 
+  /**
+   * @param injectable
+   *          Contains metadata (including dependencies) or the bean that the
+   *          generated factory will produce.
+   * @return True iff the non-empty {@link Factory#init(Context)} method of the
+   *         generated factory must run at bootstrap, even when factories are
+   *         initialized lazily.
+   */
+  protected boolean requiresEagerFactoryInit(final Injectable injectable) {
+    return controller.requiresEagerFactoryInitialization();
+  }
+
   private void maybeImplementFactoryInit(final ClassStructureBuilder<?> bodyBlockBuilder, final Injectable injectable,
           final List<Statement> factoryInitStatements) {
     if (!factoryInitStatements.isEmpty()) {
       bodyBlockBuilder.publicMethod(void.class, "init", finalOf(Context.class, "context")).appendAll(factoryInitStatements).finish();
+      if (requiresEagerFactoryInit(injectable)) {
+        bodyBlockBuilder.publicMethod(boolean.class, "requiresEagerInit").append(loadLiteral(true).returnValue()).finish();
+      }
     }
   }
 
@@ -152,11 +152,16 @@ public class IOCProcessor {
 
   public static final String REACHABILITY_PROPERTY = "errai.ioc.reachability";
   public static final String PLUGIN_PROPERTY = "errai.ioc.jsinterop.support";
+  public static final String LAZY_FACTORY_INIT_PROPERTY = "errai.ioc.lazy_factory_init";
 
   public static boolean isJsInteropSupportEnabled() {
     return Boolean.getBoolean(PLUGIN_PROPERTY);
   }
 
+  public static boolean isLazyFactoryInitEnabled() {
+    return Boolean.parseBoolean(EnvUtil.getEnvironmentConfig().getFrameworkOrSystemProperty(LAZY_FACTORY_INIT_PROPERTY));
+  }
+
   private final Set<Class<? extends Annotation>> nonSimpletonTypeAnnotations = new HashSet<>();
 
   private final InjectionContext injectionContext;
@@ -305,7 +310,7 @@ public class IOCProcessor {
     final String contextManagerFieldName = "contextManager";
     processingContext.getBootstrapBuilder()
       .privateField(contextManagerFieldName, ContextManager.class)
-      .initializesWith(ObjectBuilder.newInstanceOf(ContextManagerImpl.class))
+      .initializesWith(ObjectBuilder.newInstanceOf(ContextManagerImpl.class).withParameters(loadLiteral(isLazyFactoryInitEnabled())))
       .finish();
 
     return contextManagerFieldName;
@@ -56,6 +56,12 @@ import org.jboss.errai.ioc.rebind.ioc.injector.api.InjectionContext;
  */
 public class JsTypeFactoryBodyGenerator extends AbstractBodyGenerator {
 
+  @Override
+  protected boolean requiresEagerFactoryInit(final Injectable injectable) {
+    // The anti-inlining providers are registered in the window context without going through the controller.
+    return true;
+  }
+
   @Override
   protected List<Statement> generateFactoryInitStatements(final ClassStructureBuilder<?> bodyBlockBuilder,
           final Injectable injectable, final DependencyGraph graph, final InjectionContext injectionContext) {
@@ -79,6 +79,7 @@ public class FactoryController {
   private final MetaClass producedType;
   private final String factoryName;
   private final BuildMetaClass factory;
+  private boolean eagerFactoryInitialization;
 
   public FactoryController(final MetaClass producedType, final String factoryName, final BuildMetaClass factory) {
     this.producedType = producedType;
@@ -160,17 +161,37 @@ public class FactoryController {
    */
   public void addFactoryInitializationStatements(final List<Statement> factoryInitializationStatements) {
     this.factoryInitializationStatements.addAll(factoryInitializationStatements);
+    eagerFactoryInitialization |= !factoryInitializationStatements.isEmpty();
+  }
+
+  /**
+   * Add a list of statements to the implementation of
+   * {@link Factory#init(org.jboss.errai.ioc.client.container.Context)} that
+   * may be deferred until the first instance of the bean is requested, when
+   * factories are initialized lazily.
+   */
+  public void addDeferrableFactoryInitializationStatements(final List<Statement> factoryInitializationStatements) {
+    this.factoryInitializationStatements.addAll(factoryInitializationStatements);
   }
 
   /**
    * @return All statements added with
-   *         {@link #addFactoryInitializationStatements(List)}, in the order
-   *         they were added.
+   *         {@link #addFactoryInitializationStatements(List)} and
+   *         {@link #addDeferrableFactoryInitializationStatements(List)}, in the
+   *         order they were added.
    */
   public List<Statement> getFactoryInitializaionStatements() {
     return factoryInitializationStatements;
   }
 
+  /**
+   * @return True iff any statements were added with
+   *         {@link #addFactoryInitializationStatements(List)}.
+   */
+  public boolean requiresEagerFactoryInitialization() {
+    return eagerFactoryInitialization;
+  }
+
   /**
    * Add a list of statements to the implementation of
    * {@link Factory#createInstance(org.jboss.errai.ioc.client.container.ContextManager)}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (C) 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.ioc.unit.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+
+import org.jboss.errai.ioc.client.container.ApplicationScopedContext;
+import org.jboss.errai.ioc.client.container.ContextManager;
+import org.jboss.errai.ioc.client.container.ContextManagerImpl;
+import org.jboss.errai.ioc.client.container.DependentScopeContext;
+import org.jboss.errai.ioc.client.container.Factory;
+import org.jboss.errai.ioc.client.container.FactoryHandleImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates and destroys large numbers of dependent beans through the {@link ContextManagerImpl}, as Stunner does with
+ * shapes, controls and form displayers during a session.
+ */
+public class ContextManagerImplBenchmarkTest {
+
+  private static final Logger logger = LoggerFactory.getLogger(ContextManagerImplBenchmarkTest.class);
+
+  private static final int BEANS = 100_000;
+
+  private ContextManagerImpl contextManager;
+  private int destroyedParents;
+  private int destroyedChildren;
+  private int destructionCallbacks;
+
+  @Before
+  public void setup() {
+    final DependentScopeContext dependentContext = new DependentScopeContext();
+    final ApplicationScopedContext applicationContext = new ApplicationScopedContext();
+    dependentContext.registerFactory(new ParentFactory());
+    dependentContext.registerFactory(new ChildFactory());
+    applicationContext.registerFactory(new ServiceFactory());
+
+    contextManager = new ContextManagerImpl();
+    contextManager.addContext(applicationContext);
+    contextManager.addContext(dependentContext);
+    contextManager.finishInit();
+  }
+
+  @Test
+  public void createAndDestroyDependentBeansOneAtATime() throws Exception {
+    final long start = System.currentTimeMillis();
+    Parent parent = null;
+    for (int i = 0; i < BEANS; i++) {
+      parent = contextManager.getInstance("parent");
+      contextManager.addDestructionCallback(parent, p -> destructionCallbacks++);
+      assertTrue(contextManager.isManaged(parent));
+      contextManager.destroy(parent);
+    }
+    logger.info("Created and destroyed {} dependent beans one at a time in {}ms.", BEANS, System.currentTimeMillis() - start);
+
+    assertFalse(contextManager.isManaged(parent));
+    assertFalse(contextManager.isManaged(parent.child));
+    assertEquals(BEANS, destroyedParents);
+    assertEquals(BEANS, destroyedChildren);
+    assertEquals(BEANS, destructionCallbacks);
+  }
+
+  @Test
+  public void createAllThenDestroyAllDependentBeans() throws Exception {
+    final List<Parent> parents = new ArrayList<>(BEANS);
+    final long start = System.currentTimeMillis();
+    for (int i = 0; i < BEANS; i++) {
+      parents.add(contextManager.getInstance("parent"));
+    }
+    for (final Parent parent : parents) {
+      contextManager.destroy(parent);
+    }
+    logger.info("Created {} dependent beans and then destroyed them in {}ms.", BEANS, System.currentTimeMillis() - start);
+
+    for (final Parent parent : parents) {
+      assertFalse(contextManager.isManaged(parent));
+    }
+    assertEquals(BEANS, destroyedParents);
+    assertEquals(BEANS, destroyedChildren);
+    assertTrue(contextManager.isManaged(contextManager.getInstance("service")));
+  }
+
+  public static class Parent {
+    private Child child;
+    private Service service;
+  }
+
+  public static class Child {
+  }
+
+  public static class Service {
+  }
+
+  private class ParentFactory extends Factory<Parent> {
+
+    private ParentFactory() {
+      super(new FactoryHandleImpl(Parent.class, "parent", Dependent.class, false, null, true));
+    }
+
+    @Override
+    public Parent createInstance(final ContextManager contextManager) {
+      final Parent instance = new Parent();
+      instance.child = registerDependentScopedReference(instance, contextManager.<Child>getInstance("child"));
+      instance.service = contextManager.getInstance("service");
+      return instance;
+    }
+
+    @Override
+    protected void generatedDestroyInstance(final Object instance, final ContextManager contextManager) {
+      destroyedParents++;
+    }
+  }
+
+  private class ChildFactory extends Factory<Child> {
+
+    private ChildFactory() {
+      super(new FactoryHandleImpl(Child.class, "child", Dependent.class, false, null, true));
+    }
+
+    @Override
+    public Child createInstance(final ContextManager contextManager) {
+      return new Child();
+    }
+
+    @Override
+    protected void generatedDestroyInstance(final Object instance, final ContextManager contextManager) {
+      destroyedChildren++;
+    }
+  }
+
+  private static class ServiceFactory extends Factory<Service> {
+
+    private ServiceFactory() {
+      super(new FactoryHandleImpl(Service.class, "service", ApplicationScoped.class, false, null, true));
+    }
+
+    @Override
+    public Service createInstance(final ContextManager contextManager) {
+      return new Service();
+    }
+  }
+
+}
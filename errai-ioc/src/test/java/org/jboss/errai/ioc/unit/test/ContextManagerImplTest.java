@@ -0,0 +1,159 @@
+/**
+ * Copyright (C) 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.ioc.unit.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import javax.enterprise.context.Dependent;
+
+import org.jboss.errai.ioc.client.container.Context;
+import org.jboss.errai.ioc.client.container.ContextManagerImpl;
+import org.jboss.errai.ioc.client.container.Factory;
+import org.jboss.errai.ioc.client.container.FactoryHandle;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ContextManagerImplTest {
+
+  private Context context;
+  private Factory<?> eagerBeanFactory;
+  private Factory<?> eagerInitFactory;
+  private Factory<?> lazyFactory;
+
+  @Before
+  public void setup() {
+    context = mock(Context.class);
+    eagerBeanFactory = mockFactory("eagerBean", true, false);
+    eagerInitFactory = mockFactory("eagerInit", false, true);
+    lazyFactory = mockFactory("lazy", false, false);
+    when(context.getAllFactories()).thenReturn(Arrays.asList(eagerBeanFactory, eagerInitFactory, lazyFactory));
+  }
+
+  @Test
+  public void finishInitInitializesAllFactoriesByDefault() throws Exception {
+    final ContextManagerImpl contextManager = new ContextManagerImpl();
+    contextManager.addContext(context);
+
+    contextManager.finishInit();
+
+    verify(eagerBeanFactory).init(context);
+    verify(eagerInitFactory).init(context);
+    verify(lazyFactory).init(context);
+  }
+
+  @Test
+  public void finishInitOnlyInitializesEagerFactoriesInLazyMode() throws Exception {
+    final ContextManagerImpl contextManager = new ContextManagerImpl(true);
+    contextManager.addContext(context);
+
+    contextManager.finishInit();
+
+    verify(eagerBeanFactory).init(context);
+    verify(eagerInitFactory).init(context);
+    verify(lazyFactory, never()).init(context);
+  }
+
+  @Test
+  public void lazyFactoryIsInitializedOnceOnFirstLookup() throws Exception {
+    final ContextManagerImpl contextManager = new ContextManagerImpl(true);
+    contextManager.addContext(context);
+    contextManager.finishInit();
+
+    contextManager.getInstance("lazy");
+    contextManager.getNewInstance("lazy");
+    contextManager.getEagerInstance("lazy");
+
+    verify(lazyFactory, times(1)).init(context);
+    verify(context).getInstance("lazy");
+    verify(context).getNewInstance("lazy");
+  }
+
+  @Test
+  public void allFactoryHandlesAreCachedUntilContextsChange() throws Exception {
+    final ContextManagerImpl contextManager = new ContextManagerImpl();
+    contextManager.addContext(context);
+
+    assertEquals(3, contextManager.getAllFactoryHandles().size());
+    assertSame(contextManager.getAllFactoryHandles(), contextManager.getAllFactoryHandles());
+
+    final Context otherContext = mock(Context.class);
+    when(otherContext.getAllFactories()).thenReturn(Arrays.asList(mockFactory("other", false, false)));
+    contextManager.addContext(otherContext);
+
+    assertEquals(4, contextManager.getAllFactoryHandles().size());
+  }
+
+  @Test
+  public void contextForScopeIsOnlySearchedOnce() throws Exception {
+    final ContextManagerImpl contextManager = new ContextManagerImpl();
+    contextManager.addContext(context);
+    when(context.handlesScope(Dependent.class)).thenReturn(true);
+
+    contextManager.addFactory(mockFactory("added1", false, false, Dependent.class));
+    contextManager.addFactory(mockFactory("added2", false, false, Dependent.class));
+
+    verify(context, times(1)).handlesScope(Dependent.class);
+  }
+
+  @Test
+  public void instancesAreDestroyedInTheirOwnContext() throws Exception {
+    final Object instance = new Object();
+    final Context otherContext = mock(Context.class);
+    when(context.getInstance("lazy")).thenReturn(instance);
+    when(context.isManaged(instance)).thenReturn(true);
+    final ContextManagerImpl contextManager = new ContextManagerImpl();
+    contextManager.addContext(otherContext);
+    contextManager.addContext(context);
+    contextManager.finishInit();
+
+    contextManager.getInstance("lazy");
+
+    assertTrue(contextManager.isManaged(instance));
+    contextManager.destroy(instance);
+    verify(context).destroyInstance(instance);
+    verify(otherContext, never()).isManaged(instance);
+    verify(otherContext, never()).destroyInstance(instance);
+  }
+
+  private static Factory<?> mockFactory(final String name, final boolean eagerBean, final boolean eagerInit) {
+    return mockFactory(name, eagerBean, eagerInit, Dependent.class);
+  }
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private static Factory<?> mockFactory(final String name, final boolean eagerBean, final boolean eagerInit,
+          final Class scope) {
+    final Factory<?> factory = mock(Factory.class);
+    final FactoryHandle handle = mock(FactoryHandle.class);
+    when(handle.getFactoryName()).thenReturn(name);
+    when(handle.isEager()).thenReturn(eagerBean);
+    when(handle.getScope()).thenReturn(scope);
+    when(factory.getHandle()).thenReturn(handle);
+    when(factory.requiresEagerInit()).thenReturn(eagerInit);
+
+    return factory;
+  }
+
+}
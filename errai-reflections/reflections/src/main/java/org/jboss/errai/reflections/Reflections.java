@@ -280,7 +280,7 @@ public class Reflections extends ReflectionUtils {
             format("[using %d cores]", ((ThreadPoolExecutor) executorService).getMaximumPoolSize()) : ""));
   }
 
-  private void scan(Vfs.File file) {
+  protected void scan(Vfs.File file) {
     String input = file.getRelativePath();
     if (configuration.acceptsInput(input)) {
       for (Scanner scanner : configuration.getScanners()) {
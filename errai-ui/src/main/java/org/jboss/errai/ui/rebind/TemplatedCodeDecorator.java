@@ -246,7 +246,7 @@ public class TemplatedCodeDecorator extends IOCDecoratorExtension<Templated> {
                 .initializeWith(invokeStatic(GWT.class, "create", constructed.get(declaringClass))));
 
         if (generateCssBundle) {
-          controller.addFactoryInitializationStatements(singletonList(castTo(constructed.get(declaringClass),
+          controller.addDeferrableFactoryInitializationStatements(singletonList(castTo(constructed.get(declaringClass),
                   invokeStatic(GWT.class, "create", constructed.get(declaringClass))).invoke("getStyle")
                           .invoke("ensureInjected")));
         }
@@ -262,7 +262,7 @@ public class TemplatedCodeDecorator extends IOCDecoratorExtension<Templated> {
           final LessCompiler compiler = new LessCompiler();
           final String compiledCss = compiler.compile(source);
 
-          controller.addFactoryInitializationStatements(singletonList(invokeStatic(StyleInjector.class, "inject", loadLiteral(compiledCss))));
+          controller.addDeferrableFactoryInitializationStatements(singletonList(invokeStatic(StyleInjector.class, "inject", loadLiteral(compiledCss))));
         } catch (IOException | LessException e) {
           throw new RuntimeException("Error while attempting to compile the LESS stylesheet [" + resolvedStylesheetPath.get() + "].", e);
         }
@@ -33,6 +33,7 @@ import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridCellValue;
 import org.uberfire.ext.wires.core.grids.client.widget.context.GridBodyCellRenderContext;
 import org.uberfire.ext.wires.core.grids.client.widget.context.GridHeaderColumnRenderContext;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.GridRenderer;
+import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.impl.GridCellPrimitivePool;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.themes.GridRendererTheme;
 
 public class RendererUtils {
@@ -56,17 +57,24 @@ public class RendererUtils {
         final GridRenderer gridRenderer = context.getRenderer();
         final GridRendererTheme theme = gridRenderer.getTheme();
 
-        final Group g = GWT.create(Group.class);
-
         String value = gridCell.getValue().getValue();
-        final Text t;
-        if (!StringUtils.isEmpty(value)) {
-            t = theme.getBodyText();
-        } else {
+        final boolean isPlaceHolder = StringUtils.isEmpty(value);
+        if (isPlaceHolder) {
             value = gridCell.getValue().getPlaceHolder();
-            t = theme.getPlaceholderText();
         }
 
+        final GridCellPrimitivePool cellPrimitivePool = gridRenderer.getCellPrimitivePool();
+        if (cellPrimitivePool != null) {
+            return cellPrimitivePool.getTextGroup(context,
+                                                  isPlaceHolder,
+                                                  value,
+                                                  context.getCellWidth() / 2,
+                                                  context.getCellHeight() / 2);
+        }
+
+        final Group g = GWT.create(Group.class);
+        final Text t = isPlaceHolder ? theme.getPlaceholderText() : theme.getBodyText();
+
         t.setText(value);
         t.setListening(false);
         t.setX(context.getCellWidth() / 2);
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.dmn.client.marshaller.included;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.kie.workbench.common.dmn.client.marshaller.common.JsInteropUtils;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDefinitions;
+
+/**
+ * Session level cache of the {@link JSITDefinitions} parsed from the DMN files of the workspace.
+ * Entries are keyed by file path and are only returned while the content of the file
+ * is unchanged, so an edited file is parsed again on its next lookup.
+ * <p>
+ * Imported definitions are prefixed in place by the import helpers, so the cache keeps its own copy
+ * and hands out a new copy on each hit.
+ * <p>
+ * It also provides a lightweight scan of the root <code>definitions</code> element, so
+ * files whose namespace is not imported can be skipped without being fully parsed.
+ */
+@ApplicationScoped
+public class DMNIncludedDefinitionsCache {
+
+    private static final String DEFINITIONS_TAG = "definitions";
+
+    private static final String NAMESPACE_ATTRIBUTE = "namespace";
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    public Optional<JSITDefinitions> get(final String path,
+                                         final String content) {
+        final Entry entry = entries.get(path);
+        if (entry != null && entry.matches(content)) {
+            return Optional.of(copy(entry.definitions));
+        }
+        return Optional.empty();
+    }
+
+    public void put(final String path,
+                    final String content,
+                    final JSITDefinitions definitions) {
+        entries.put(path, new Entry(content, copy(definitions)));
+    }
+
+    public void remove(final String path) {
+        entries.remove(path);
+    }
+
+    /**
+     * Removes the entries of all paths but the given ones, i.e. of files that no longer exist in the workspace.
+     */
+    public void retainAll(final Collection<String> paths) {
+        entries.keySet().retainAll(paths);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    JSITDefinitions copy(final JSITDefinitions definitions) {
+        return JsInteropUtils.jsCopy(definitions);
+    }
+
+    /**
+     * Reads the <code>namespace</code> attribute of the root <code>definitions</code> element,
+     * without parsing the rest of the document. The value is decoded as an XML parser would.
+     * @param xml The DMN file content.
+     * @return The namespace, or empty when the root element or its namespace could not be found or
+     * the namespace contains references other than to the predefined entities or to characters.
+     */
+    public static Optional<String> readNamespace(final String xml) {
+        if (xml == null) {
+            return Optional.empty();
+        }
+        final int tagStart = findDefinitionsTag(xml);
+        if (tagStart < 0) {
+            return Optional.empty();
+        }
+        final int tagEnd = xml.indexOf('>', tagStart);
+        if (tagEnd < 0) {
+            return Optional.empty();
+        }
+        return readAttribute(xml.substring(tagStart, tagEnd), NAMESPACE_ATTRIBUTE)
+                .flatMap(DMNIncludedDefinitionsCache::decodeAttributeValue);
+    }
+
+    /**
+     * Decodes the entity and character references of an attribute value and normalizes its white space.
+     * @return The decoded value, or empty when it contains a reference that cannot be decoded,
+     * e.g. to an entity declared by the document type.
+     */
+    static Optional<String> decodeAttributeValue(final String value) {
+        final StringBuilder decoded = new StringBuilder(value.length());
+        int index = 0;
+        while (index < value.length()) {
+            final char c = value.charAt(index);
+            if (c == '&') {
+                final int referenceEnd = value.indexOf(';', index);
+                if (referenceEnd < 0) {
+                    return Optional.empty();
+                }
+                final Optional<String> reference = decodeReference(value.substring(index + 1, referenceEnd));
+                if (!reference.isPresent()) {
+                    return Optional.empty();
+                }
+                decoded.append(reference.get());
+                index = referenceEnd + 1;
+            } else {
+                decoded.append(isWhitespace(c) ? ' ' : c);
+                // A "\r\n" line break is normalized to a single space.
+                index += c == '\r' && value.startsWith("\n", index + 1) ? 2 : 1;
+            }
+        }
+        return Optional.of(decoded.toString());
+    }
+
+    private static Optional<String> decodeReference(final String reference) {
+        switch (reference) {
+            case "amp":
+                return Optional.of("&");
+            case "lt":
+                return Optional.of("<");
+            case "gt":
+                return Optional.of(">");
+            case "quot":
+                return Optional.of("\"");
+            case "apos":
+                return Optional.of("'");
+        }
+        if (!reference.startsWith("#")) {
+            return Optional.empty();
+        }
+        try {
+            final int codePoint = reference.startsWith("#x") ?
+                    Integer.parseInt(reference.substring(2), 16) :
+                    Integer.parseInt(reference.substring(1));
+            return Optional.of(new String(Character.toChars(codePoint)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static int findDefinitionsTag(final String xml) {
+        int index = xml.indexOf('<');
+        while (index >= 0 && index < xml.length() - 1) {
+            final char next = xml.charAt(index + 1);
+            if (xml.startsWith("<!--", index)) {
+                final int commentEnd = xml.indexOf("-->", index);
+                if (commentEnd < 0) {
+                    return -1;
+                }
+                index = commentEnd;
+            } else if (next != '?' && next != '!') {
+                final int nameEnd = findNameEnd(xml, index + 1);
+                final String name = xml.substring(index + 1, nameEnd);
+                final String localName = name.substring(name.indexOf(':') + 1);
+                return DEFINITIONS_TAG.equals(localName) ? nameEnd : -1;
+            }
+            index = xml.indexOf('<', index + 1);
+        }
+        return -1;
+    }
+
+    private static Optional<String> readAttribute(final String tag,
+                                                  final String attribute) {
+        int index = 0;
+        while (index < tag.length()) {
+            while (index < tag.length() && isWhitespace(tag.charAt(index))) {
+                index++;
+            }
+            final int nameEnd = tag.indexOf('=', index);
+            if (nameEnd < 0) {
+                return Optional.empty();
+            }
+            final String name = tag.substring(index, nameEnd).trim();
+            int valueStart = nameEnd + 1;
+            while (valueStart < tag.length() && isWhitespace(tag.charAt(valueStart))) {
+                valueStart++;
+            }
+            if (valueStart >= tag.length()) {
+                return Optional.empty();
+            }
+            final char quote = tag.charAt(valueStart);
+            final int valueEnd = tag.indexOf(quote, valueStart + 1);
+            if (valueEnd < 0) {
+                return Optional.empty();
+            }
+            if (attribute.equals(name)) {
+                return Optional.of(tag.substring(valueStart + 1, valueEnd));
+            }
+            index = valueEnd + 1;
+        }
+        return Optional.empty();
+    }
+
+    private static int findNameEnd(final String xml,
+                                   final int start) {
+        int index = start;
+        while (index < xml.length()) {
+            final char c = xml.charAt(index);
+            if (isWhitespace(c) || c == '>' || c == '/') {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    private static class Entry {
+
+        private final String content;
+        private final JSITDefinitions definitions;
+
+        private Entry(final String content,
+                      final JSITDefinitions definitions) {
+            this.content = content;
+            this.definitions = definitions;
+        }
+
+        private boolean matches(final String content) {
+            return this.content.equals(content);
+        }
+    }
+}
@@ -21,11 +21,14 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -71,6 +74,7 @@ public class DMNMarshallerImportsClientHelper implements DMNMarshallerImportsHel
     private final DMNMarshallerImportsContentService dmnImportsContentService;
     private final Promises promises;
     private final DMNIncludedNodeFactory includedModelFactory;
+    private final DMNIncludedDefinitionsCache definitionsCache;
 
     private static final Logger LOGGER = Logger.getLogger(DMNMarshallerImportsClientHelper.class.getName());
 
@@ -78,17 +82,24 @@ public class DMNMarshallerImportsClientHelper implements DMNMarshallerImportsHel
     public DMNMarshallerImportsClientHelper(final DMNMarshallerImportsService dmnImportsService,
                                             final DMNMarshallerImportsContentService dmnImportsContentService,
                                             final Promises promises,
-                                            final DMNIncludedNodeFactory includedModelFactory) {
+                                            final DMNIncludedNodeFactory includedModelFactory,
+                                            final DMNIncludedDefinitionsCache definitionsCache) {
         this.dmnImportsService = dmnImportsService;
         this.dmnImportsContentService = dmnImportsContentService;
         this.promises = promises;
         this.includedModelFactory = includedModelFactory;
+        this.definitionsCache = definitionsCache;
     }
 
     public Promise<Map<JSITImport, JSITDefinitions>> getImportDefinitionsAsync(final Metadata metadata,
                                                                                final List<JSITImport> imports) {
         if (!imports.isEmpty()) {
-            return loadDMNDefinitions().then(otherDefinitions -> {
+            final Set<String> namespaces = new HashSet<>();
+            for (int i = 0; i < imports.size(); i++) {
+                final JSITImport anImport = Js.uncheckedCast(imports.get(i));
+                namespaces.add(anImport.getNamespace());
+            }
+            return loadDMNDefinitions(namespaces::contains).then(otherDefinitions -> {
                 final Map<JSITImport, JSITDefinitions> importDefinitions = new HashMap<>();
                 for (final Map.Entry<String, JSITDefinitions> entry : otherDefinitions.entrySet()) {
                     final JSITDefinitions def = Js.uncheckedCast(entry.getValue());
@@ -103,15 +114,22 @@ public class DMNMarshallerImportsClientHelper implements DMNMarshallerImportsHel
         return promises.resolve(Collections.emptyMap());
     }
 
-    private Promise<Map<String, JSITDefinitions>> loadDMNDefinitions() {
+    /**
+     * Loads the {@link JSITDefinitions} of the workspace DMN files whose namespace is accepted by the given filter.
+     * The namespace of each file is read from its root element before parsing, so files that are not
+     * accepted are never fully parsed. Parsed definitions are reused from {@link DMNIncludedDefinitionsCache}
+     * while the file content is unchanged.
+     */
+    private Promise<Map<String, JSITDefinitions>> loadDMNDefinitions(final Predicate<String> namespaceFilter) {
         return dmnImportsContentService.getModelsDMNFilesURIs()
                 .then(list -> {
+                    definitionsCache.retainAll(Arrays.asList(list));
                     if (list.length == 0) {
                         return promises.resolve(Collections.emptyMap());
                     } else {
                         final Map<String, JSITDefinitions> otherDefinitions = new ConcurrentHashMap<>();
                         return promises.all(Arrays.asList(list),
-                                            (String file) -> loadDefinitionFromFile(file, otherDefinitions))
+                                            (String file) -> loadDefinitionFromFile(file, namespaceFilter, otherDefinitions))
                                 .then(v -> promises.resolve(otherDefinitions));
                     }
                 });
@@ -123,7 +141,8 @@ public class DMNMarshallerImportsClientHelper implements DMNMarshallerImportsHel
         if (includedModels.isEmpty()) {
             callback.onSuccess(result);
         } else {
-            loadDMNDefinitions()
+            final Set<String> namespaces = includedModels.stream().map(DMNIncludedModel::getNamespace).collect(Collectors.toSet());
+            loadDMNDefinitions(namespaces::contains)
                     .then(existingDefinitions -> promises.all(includedModels, model -> loadNodes(existingDefinitions, model, result))
                             .then(p ->
                                   {
@@ -224,25 +243,42 @@ public class DMNMarshallerImportsClientHelper implements DMNMarshallerImportsHel
     }
 
     private Promise<Void> loadDefinitionFromFile(final String file,
+                                                 final Predicate<String> namespaceFilter,
                                                  final Map<String, JSITDefinitions> otherDefinitions) {
         return dmnImportsContentService.loadFile(file)
                 .then(xml -> promises.create((success, failure) -> {
-                    if (!isEmpty(xml)) {
-                        final ServiceCallback<JSITDefinitions> callback = Js.uncheckedCast(getCallback(file, otherDefinitions, success));
-                        dmnImportsService.getDMNDefinitions(xml, callback);
-                    } else {
+                    if (isEmpty(xml) || !isNamespaceAccepted(xml, namespaceFilter)) {
                         success.onInvoke(promises.resolve());
+                        return;
+                    }
+                    final Optional<JSITDefinitions> cached = definitionsCache.get(file, xml);
+                    if (cached.isPresent()) {
+                        otherDefinitions.put(file, cached.get());
+                        success.onInvoke(promises.resolve());
+                    } else {
+                        final ServiceCallback<JSITDefinitions> callback = Js.uncheckedCast(getCallback(file, xml, otherDefinitions, success));
+                        dmnImportsService.getDMNDefinitions(xml, callback);
                     }
                 }));
     }
 
+    private boolean isNamespaceAccepted(final String xml,
+                                        final Predicate<String> namespaceFilter) {
+        // Files whose header or namespace cannot be read are fully parsed, so they are not silently dropped.
+        return DMNIncludedDefinitionsCache.readNamespace(xml)
+                .map(namespaceFilter::test)
+                .orElse(true);
+    }
+
     private ServiceCallback<Object> getCallback(final String filePath,
+                                                final String xml,
                                                 final Map<String, JSITDefinitions> otherDefinitions,
                                                 final Promise.PromiseExecutorCallbackFn.ResolveCallbackFn<Void> success) {
         return new ServiceCallback<Object>() {
             @Override
             public void onSuccess(final Object item) {
                 final JSITDefinitions def = Js.uncheckedCast(item);
+                definitionsCache.put(filePath, xml, def);
                 otherDefinitions.put(filePath, def);
                 success.onInvoke(promises.resolve());
             }
@@ -458,7 +494,7 @@ public class DMNMarshallerImportsClientHelper implements DMNMarshallerImportsHel
     public void getImportedItemDefinitionsByNamespaceAsync(final String modelName,
                                                            final String namespace,
                                                            final ServiceCallback<List<ItemDefinition>> callback) {
-        loadDMNDefinitions().then(definitions -> {
+        loadDMNDefinitions(n -> Objects.equals(n, namespace)).then(definitions -> {
             final List<ItemDefinition> result = new ArrayList<>();
             for (final Map.Entry<String, JSITDefinitions> entry : definitions.entrySet()) {
                 final JSITDefinitions definition = Js.uncheckedCast(entry.getValue());
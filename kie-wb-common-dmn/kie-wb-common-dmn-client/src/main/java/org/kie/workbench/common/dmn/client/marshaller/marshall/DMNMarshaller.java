@@ -17,10 +17,12 @@ package org.kie.workbench.common.dmn.client.marshaller.marshall;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -49,6 +51,7 @@ import org.kie.workbench.common.dmn.api.definition.model.KnowledgeSource;
 import org.kie.workbench.common.dmn.api.definition.model.TextAnnotation;
 import org.kie.workbench.common.dmn.client.docks.navigator.drds.DMNDiagramsSession;
 import org.kie.workbench.common.dmn.client.marshaller.common.DMNGraphUtils;
+import org.kie.workbench.common.dmn.client.marshaller.common.JsInteropUtils;
 import org.kie.workbench.common.dmn.client.marshaller.common.WrapperUtils;
 import org.kie.workbench.common.dmn.client.marshaller.converters.AssociationConverter;
 import org.kie.workbench.common.dmn.client.marshaller.converters.BusinessKnowledgeModelConverter;
@@ -127,22 +130,26 @@ public class DMNMarshaller {
     private KnowledgeSourceConverter knowledgeSourceConverter;
     private TextAnnotationConverter textAnnotationConverter;
     private DecisionServiceConverter decisionServiceConverter;
+    private DMNMarshallerNodeCache nodeCache;
 
     @Inject
     private DMNDiagramsSession dmnDiagramsSession;
 
     protected DMNMarshaller() {
-        this(null, null);
+        this(null, null, null);
     }
 
     @Inject
-    public DMNMarshaller(final FactoryManager factoryManager, final DMNDiagramsSession dmnDiagramsSession) {
+    public DMNMarshaller(final FactoryManager factoryManager,
+                         final DMNDiagramsSession dmnDiagramsSession,
+                         final DMNMarshallerNodeCache nodeCache) {
         this.inputDataConverter = new InputDataConverter(factoryManager);
         this.decisionConverter = new DecisionConverter(factoryManager);
         this.bkmConverter = new BusinessKnowledgeModelConverter(factoryManager);
         this.knowledgeSourceConverter = new KnowledgeSourceConverter(factoryManager);
         this.textAnnotationConverter = new TextAnnotationConverter(factoryManager);
         this.decisionServiceConverter = new DecisionServiceConverter(factoryManager, dmnDiagramsSession);
+        this.nodeCache = nodeCache;
     }
 
     public JSITDefinitions marshall() {
@@ -151,6 +158,9 @@ public class DMNMarshaller {
         final Node<View<DMNDiagram>, ?> dmnDiagramRoot = (Node<View<DMNDiagram>, ?>) DMNGraphUtils.findDMNDiagramRoot(dmnDiagramsSession.getDRGDiagram().getGraph());
         final Definitions definitionsStunnerPojo = ((DMNDiagram) getElementDefinition(dmnDiagramRoot)).getDefinitions();
         final List<String> dmnDiagramElementIds = new ArrayList<>();
+        final Set<String> cachedNodeIds = new HashSet<>();
+
+        nodeCache.validateImports(definitionsStunnerPojo.getImport());
 
         final JSITDefinitions definitions = DefinitionsConverter.dmnFromWB(definitionsStunnerPojo, true);
         if (Objects.isNull(definitions.getExtensionElements())) {
@@ -207,15 +217,23 @@ public class DMNMarshaller {
                 if (viewDefinition instanceof DRGElement) {
                     final DRGElement drgElement = (DRGElement) viewDefinition;
                     if (!drgElement.isAllowOnlyVisualChange()) {
-                        if (nodes.containsKey(drgElement.getId().getValue())) {
-                            final JSITDRGElement currentValue = nodes.get(drgElement.getId().getValue());
-                            mergeNodeRequirements(stunnerToDMN(withIncludedModels(node, definitionsStunnerPojo),
-                                                               componentWidthsConsumer),
+                        final String drgElementId = drgElement.getId().getValue();
+                        if (nodes.containsKey(drgElementId)) {
+                            // Cached conversions are shared with the next marshall, so they are not merged into.
+                            if (cachedNodeIds.remove(drgElementId)) {
+                                nodes.put(drgElementId, copy(nodes.get(drgElementId)));
+                            }
+                            final JSITDRGElement currentValue = nodes.get(drgElementId);
+                            mergeNodeRequirements(cachedStunnerToDMN(withIncludedModels(node, definitionsStunnerPojo),
+                                                                     componentWidthsConsumer),
                                                   currentValue);
                         } else {
-                            nodes.put(drgElement.getId().getValue(),
-                                      stunnerToDMN(withIncludedModels(node, definitionsStunnerPojo),
-                                                   componentWidthsConsumer));
+                            nodes.put(drgElementId,
+                                      cachedStunnerToDMN(withIncludedModels(node, definitionsStunnerPojo),
+                                                         componentWidthsConsumer));
+                            if (isCacheable(node)) {
+                                cachedNodeIds.add(drgElementId);
+                            }
                         }
                     }
                     final String namespaceURI = definitionsStunnerPojo.getDefaultNamespace();
@@ -543,6 +561,40 @@ public class DMNMarshaller {
         return edge.getUUID();
     }
 
+    /**
+     * Converts the node as {@link #stunnerToDMN(Node, Consumer)} does, reusing the conversion kept in
+     * {@link DMNMarshallerNodeCache} when the node has not changed since the last marshall.
+     */
+    JSITDRGElement cachedStunnerToDMN(final Node<?, ?> node,
+                                      final Consumer<JSITComponentWidths> componentWidthsConsumer) {
+        if (!isCacheable(node)) {
+            return stunnerToDMN(node, componentWidthsConsumer);
+        }
+
+        final Optional<JSITDRGElement> cached = nodeCache.get(node, componentWidthsConsumer);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        final List<JSITComponentWidths> componentWidths = new ArrayList<>();
+        final JSITDRGElement converted = stunnerToDMN(node, componentWidths::add);
+        componentWidths.forEach(componentWidthsConsumer);
+        nodeCache.put(node, converted, componentWidths);
+        return converted;
+    }
+
+    /**
+     * A {@link DecisionService} depends on the position and the requirements of the decisions it encapsulates,
+     * which are not reported by its own events, so it is converted on every marshall.
+     */
+    boolean isCacheable(final Node<?, ?> node) {
+        return !(getElementDefinition(node) instanceof DecisionService);
+    }
+
+    JSITDRGElement copy(final JSITDRGElement node) {
+        return JsInteropUtils.jsCopy(node);
+    }
+
     @SuppressWarnings("unchecked")
     public JSITDRGElement stunnerToDMN(final Node<?, ?> node,
                                        final Consumer<JSITComponentWidths> componentWidthsConsumer) {
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.dmn.client.marshaller.marshall;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.kie.workbench.common.dmn.api.definition.model.DRGElement;
+import org.kie.workbench.common.dmn.api.definition.model.Import;
+import org.kie.workbench.common.dmn.client.editors.types.DataTypeChangedEvent;
+import org.kie.workbench.common.dmn.client.events.EditExpressionEvent;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDRGElement;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.kie.JSITComponentWidths;
+import org.kie.workbench.common.stunner.core.client.canvas.event.command.CanvasCommandExecutedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.command.CanvasCommandUndoneEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.AbstractCanvasHandlerElementEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementAddedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementRemovedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementsClearEvent;
+import org.kie.workbench.common.stunner.core.client.session.ClientSession;
+import org.kie.workbench.common.stunner.core.client.session.event.SessionDestroyedEvent;
+import org.kie.workbench.common.stunner.core.client.session.event.SessionDiagramOpenedEvent;
+import org.kie.workbench.common.stunner.core.client.session.event.SessionOpenedEvent;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Element;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+
+import static org.kie.workbench.common.stunner.core.util.DefinitionUtils.getElementDefinition;
+
+/**
+ * Keeps the {@link JSITDRGElement} converted by {@link DMNMarshaller} for each Stunner {@link Node}, so that
+ * only the nodes changed since the last marshall are converted again.
+ * <p>
+ * Entries are invalidated from the canvas element events fired by the graph commands. A change to a node
+ * invalidates every node sharing its {@link DRGElement}, in any DRD, and the nodes it is a requirement of.
+ * A change to an edge invalidates its source and target nodes. The node open in the expression editor is
+ * never reused, since grid changes (e.g. column resizing) do not fire element events. Undo, redo and data
+ * type changes invalidate all the entries, as the elements they affect are not known. Opening or destroying
+ * a session, or opening a diagram, discards all the state, so that nodes of another diagram are never reused.
+ */
+@ApplicationScoped
+public class DMNMarshallerNodeCache {
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private final Set<Object> undoneCommands = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private String editedNodeUUID;
+
+    private String editedDRGElementId;
+
+    private int importsHashCode;
+
+    /**
+     * Returns the cached conversion of the node, replaying its component widths to the given consumer.
+     */
+    public Optional<JSITDRGElement> get(final Node<?, ?> node,
+                                        final Consumer<JSITComponentWidths> componentWidthsConsumer) {
+        final Entry entry = entries.get(node.getUUID());
+        if (Objects.isNull(entry) || isEdited(node.getUUID(), entry.drgElementId)) {
+            return Optional.empty();
+        }
+        entry.componentWidths.forEach(componentWidthsConsumer);
+        return Optional.of(entry.drgElement);
+    }
+
+    public void put(final Node<?, ?> node,
+                    final JSITDRGElement drgElement,
+                    final List<JSITComponentWidths> componentWidths) {
+        entries.put(node.getUUID(), new Entry(getDRGElementId(node), drgElement, new ArrayList<>(componentWidths)));
+    }
+
+    /**
+     * Invalidates all the entries when the imports of the model have changed since the last call.
+     */
+    public void validateImports(final List<Import> imports) {
+        final int hashCode = imports.hashCode();
+        if (hashCode != importsHashCode) {
+            importsHashCode = hashCode;
+            clear();
+        }
+    }
+
+    public void invalidate(final Element<?> element) {
+        if (element instanceof Node) {
+            final Node<?, ?> node = (Node<?, ?>) element;
+            invalidateNode(node);
+            // Requirements reference their source by href, which depends on the source name.
+            for (final Edge<?, ?> outEdge : node.getOutEdges()) {
+                invalidateNode(outEdge.getTargetNode());
+            }
+        } else if (element instanceof Edge) {
+            final Edge<?, ?> edge = (Edge<?, ?>) element;
+            invalidateNode(edge.getSourceNode());
+            invalidateNode(edge.getTargetNode());
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    void onSessionOpened(final @Observes SessionOpenedEvent event) {
+        reset();
+    }
+
+    void onSessionDiagramOpened(final @Observes SessionDiagramOpenedEvent event) {
+        reset();
+    }
+
+    void onSessionDestroyed(final @Observes SessionDestroyedEvent event) {
+        reset();
+    }
+
+    void onCanvasElementAdded(final @Observes CanvasElementAddedEvent event) {
+        onCanvasElementEvent(event);
+    }
+
+    void onCanvasElementUpdated(final @Observes CanvasElementUpdatedEvent event) {
+        onCanvasElementEvent(event);
+    }
+
+    void onCanvasElementRemoved(final @Observes CanvasElementRemovedEvent event) {
+        onCanvasElementEvent(event);
+    }
+
+    void onCanvasElementsClear(final @Observes CanvasElementsClearEvent event) {
+        clear();
+    }
+
+    void onCanvasCommandExecuted(final @Observes CanvasCommandExecutedEvent event) {
+        // A previously undone command being executed again is a redo.
+        if (undoneCommands.remove(event.getCommand())) {
+            clear();
+        }
+    }
+
+    void onCanvasCommandUndone(final @Observes CanvasCommandUndoneEvent event) {
+        undoneCommands.add(event.getCommand());
+        clear();
+    }
+
+    void onDataTypeChanged(final @Observes DataTypeChangedEvent event) {
+        clear();
+    }
+
+    void onEditExpression(final @Observes EditExpressionEvent event) {
+        // The previously edited node may have been changed without any element event.
+        invalidateEdited();
+        editedNodeUUID = event.getNodeUUID();
+        editedDRGElementId = getEditedNode(event.getSession()).map(DMNMarshallerNodeCache::getDRGElementId).orElse(null);
+    }
+
+    private void reset() {
+        clear();
+        undoneCommands.clear();
+        editedNodeUUID = null;
+        editedDRGElementId = null;
+    }
+
+    private void onCanvasElementEvent(final AbstractCanvasHandlerElementEvent event) {
+        invalidate(event.getElement());
+    }
+
+    private void invalidateNode(final Node<?, ?> node) {
+        if (Objects.isNull(node)) {
+            return;
+        }
+        entries.remove(node.getUUID());
+        final String drgElementId = getDRGElementId(node);
+        if (Objects.nonNull(drgElementId)) {
+            entries.values().removeIf(entry -> Objects.equals(entry.drgElementId, drgElementId));
+        }
+    }
+
+    private void invalidateEdited() {
+        if (Objects.nonNull(editedNodeUUID)) {
+            entries.remove(editedNodeUUID);
+        }
+        if (Objects.nonNull(editedDRGElementId)) {
+            entries.values().removeIf(entry -> Objects.equals(entry.drgElementId, editedDRGElementId));
+        }
+    }
+
+    private boolean isEdited(final String nodeUUID,
+                             final String drgElementId) {
+        return Objects.equals(nodeUUID, editedNodeUUID)
+                || (Objects.nonNull(drgElementId) && Objects.equals(drgElementId, editedDRGElementId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<Node<?, ?>> getEditedNode(final ClientSession session) {
+        if (Objects.isNull(session) || Objects.isNull(session.getCanvasHandler()) || Objects.isNull(session.getCanvasHandler().getDiagram())) {
+            return Optional.empty();
+        }
+        final Graph<?, Node> graph = session.getCanvasHandler().getDiagram().getGraph();
+        return Optional.ofNullable(graph.getNode(editedNodeUUID));
+    }
+
+    private static String getDRGElementId(final Node<?, ?> node) {
+        final Object definition = getElementDefinition(node);
+        if (definition instanceof DRGElement) {
+            return ((DRGElement) definition).getId().getValue();
+        }
+        return null;
+    }
+
+    private static class Entry {
+
+        private final String drgElementId;
+        private final JSITDRGElement drgElement;
+        private final List<JSITComponentWidths> componentWidths;
+
+        private Entry(final String drgElementId,
+                      final JSITDRGElement drgElement,
+                      final List<JSITComponentWidths> componentWidths) {
+            this.drgElementId = drgElementId;
+            this.drgElement = drgElement;
+            this.componentWidths = componentWidths;
+        }
+    }
+}
@@ -17,21 +17,48 @@
 package org.kie.workbench.common.dmn.client.widgets.grid;
 
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
 import javax.enterprise.context.Dependent;
 
 import org.kie.workbench.common.dmn.api.definition.model.Expression;
+import org.kie.workbench.common.dmn.client.editors.expressions.types.context.ExpressionCellValue;
 import org.kie.workbench.common.dmn.client.widgets.grid.model.BaseUIModelMapper;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvas;
 import org.kie.workbench.common.stunner.core.client.canvas.controls.AbstractCanvasControl;
+import org.uberfire.ext.wires.core.grids.client.model.GridCell;
+import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
 import org.uberfire.ext.wires.core.grids.client.model.GridData;
+import org.uberfire.ext.wires.core.grids.client.model.GridRow;
+import org.uberfire.ext.wires.core.grids.client.widget.dom.HasDOMElementResources;
 
+/**
+ * Least-recently-used cache of {@link BaseExpressionGrid} keyed by node UUID. The cache is bounded by both a number of
+ * entries and an estimated size, being the number of cells in each grid including those of nested grids. The least
+ * recently used grids are evicted, and have their DOM resources destroyed, when either bound is exceeded. Evicted grids
+ * are re-created from the {@link Expression} the next time they are needed. The most recently used grid is never evicted.
+ */
 @Dependent
 public class ExpressionGridCacheImpl extends AbstractCanvasControl<AbstractCanvas> implements ExpressionGridCache {
 
-    private Map<String, Optional<BaseExpressionGrid<? extends Expression, ? extends GridData, ? extends BaseUIModelMapper>>> cache = new HashMap<>();
+    public static final int DEFAULT_MAX_ENTRIES = 50;
+
+    public static final int DEFAULT_MAX_ESTIMATED_SIZE = 50000;
+
+    private Map<String, Optional<BaseExpressionGrid<? extends Expression, ? extends GridData, ? extends BaseUIModelMapper>>> cache = makeCache();
+
+    private Map<String, Integer> estimatedSizes = new HashMap<>();
+
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+    private int maxEstimatedSize = DEFAULT_MAX_ESTIMATED_SIZE;
+    private int estimatedSize = 0;
+
+    private int hitCount = 0;
+    private int missCount = 0;
+    private int evictionCount = 0;
 
     public ExpressionGridCacheImpl() {
         //Errai seems to need a zero parameter constructor to be explicitly declared
@@ -39,17 +66,27 @@ public class ExpressionGridCacheImpl extends AbstractCanvasControl<AbstractCanva
 
     @Override
     protected void doInit() {
-        cache = new HashMap<>();
+        cache = makeCache();
+        estimatedSizes = new HashMap<>();
+        estimatedSize = 0;
     }
 
     @Override
     protected void doDestroy() {
         cache.clear();
+        estimatedSizes.clear();
+        estimatedSize = 0;
     }
 
     @Override
     public Optional<BaseExpressionGrid<? extends Expression, ? extends GridData, ? extends BaseUIModelMapper>> getExpressionGrid(final String nodeUUID) {
-        return cache.getOrDefault(nodeUUID, Optional.empty());
+        final Optional<BaseExpressionGrid<? extends Expression, ? extends GridData, ? extends BaseUIModelMapper>> gridWidget = cache.get(nodeUUID);
+        if (gridWidget == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return gridWidget;
     }
 
     @Override
@@ -57,7 +94,12 @@ public class ExpressionGridCacheImpl extends AbstractCanvasControl<AbstractCanva
                                   final Optional<BaseExpressionGrid<? extends Expression, ? extends GridData, ? extends BaseUIModelMapper>> gridWidget) {
         if (gridWidget.isPresent()) {
             if (gridWidget.get().isCacheable()) {
+                removeEstimatedSize(nodeUUID);
+                final int size = estimateSize(gridWidget.get());
                 cache.put(nodeUUID, gridWidget);
+                estimatedSizes.put(nodeUUID, size);
+                estimatedSize = estimatedSize + size;
+                evict();
             }
         }
     }
@@ -65,10 +107,101 @@ public class ExpressionGridCacheImpl extends AbstractCanvasControl<AbstractCanva
     @Override
     public void removeExpressionGrid(final String nodeUUID) {
         cache.remove(nodeUUID);
+        removeEstimatedSize(nodeUUID);
+    }
+
+    /**
+     * Sets the maximum number of grids held in the cache. Grids are evicted immediately if the cache is larger.
+     * @param maxEntries
+     */
+    public void setMaxEntries(final int maxEntries) {
+        this.maxEntries = maxEntries;
+        evict();
+    }
+
+    /**
+     * Sets the maximum estimated size of grids held in the cache. Grids are evicted immediately if the cache is larger.
+     * @param maxEstimatedSize The maximum number of cells, including those of nested grids.
+     */
+    public void setMaxEstimatedSize(final int maxEstimatedSize) {
+        this.maxEstimatedSize = maxEstimatedSize;
+        evict();
+    }
+
+    public int getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    public int getMissCount() {
+        return missCount;
+    }
+
+    public int getEvictionCount() {
+        return evictionCount;
     }
 
     //Package-protected for Unit Tests
     Map<String, Optional<BaseExpressionGrid<? extends Expression, ? extends GridData, ? extends BaseUIModelMapper>>> getContent() {
         return cache;
     }
+
+    private void evict() {
+        final Iterator<Map.Entry<String, Optional<BaseExpressionGrid<? extends Expression, ? extends GridData, ? extends BaseUIModelMapper>>>> entries = cache.entrySet().iterator();
+        while (cache.size() > 1 && (cache.size() > maxEntries || estimatedSize > maxEstimatedSize)) {
+            final Map.Entry<String, Optional<BaseExpressionGrid<? extends Expression, ? extends GridData, ? extends BaseUIModelMapper>>> eldest = entries.next();
+            entries.remove();
+            removeEstimatedSize(eldest.getKey());
+            evictionCount++;
+            eldest.getValue().ifPresent(ExpressionGridCacheImpl::destroyResources);
+        }
+    }
+
+    private void removeEstimatedSize(final String nodeUUID) {
+        final Integer size = estimatedSizes.remove(nodeUUID);
+        if (size != null) {
+            estimatedSize = estimatedSize - size;
+        }
+    }
+
+    private static Map<String, Optional<BaseExpressionGrid<? extends Expression, ? extends GridData, ? extends BaseUIModelMapper>>> makeCache() {
+        return new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    static int estimateSize(final BaseExpressionGrid<? extends Expression, ? extends GridData, ? extends BaseUIModelMapper> gridWidget) {
+        int size = 0;
+        for (GridRow row : gridWidget.getModel().getRows()) {
+            for (GridCell<?> cell : row.getCells().values()) {
+                size = size + 1 + getNestedExpressionGrid(cell).map(ExpressionGridCacheImpl::estimateSize).orElse(0);
+            }
+        }
+        return size;
+    }
+
+    static void destroyResources(final BaseExpressionGrid<? extends Expression, ? extends GridData, ? extends BaseUIModelMapper> gridWidget) {
+        for (GridColumn<?> column : gridWidget.getModel().getColumns()) {
+            if (column.getColumnRenderer() instanceof HasDOMElementResources) {
+                ((HasDOMElementResources) column.getColumnRenderer()).destroyResources();
+            }
+            if (column instanceof HasDOMElementResources) {
+                ((HasDOMElementResources) column).destroyResources();
+            }
+        }
+        for (GridRow row : gridWidget.getModel().getRows()) {
+            for (GridCell<?> cell : row.getCells().values()) {
+                getNestedExpressionGrid(cell).ifPresent(ExpressionGridCacheImpl::destroyResources);
+            }
+        }
+    }
+
+    private static Optional<BaseExpressionGrid<? extends Expression, ? extends GridData, ? extends BaseUIModelMapper>> getNestedExpressionGrid(final GridCell<?> cell) {
+        if (cell == null || !(cell.getValue() instanceof ExpressionCellValue)) {
+            return Optional.empty();
+        }
+        final Optional<BaseExpressionGrid<? extends Expression, ? extends GridData, ? extends BaseUIModelMapper>> nested = ((ExpressionCellValue) cell.getValue()).getValue();
+        return nested == null ? Optional.empty() : nested;
+    }
 }
@@ -239,6 +239,26 @@ public class DelegatingGridData implements GridData {
         return delegate.getRowCount();
     }
 
+    @Override
+    public double getRowOffset(final int rowIndex) {
+        return delegate.getRowOffset(rowIndex);
+    }
+
+    @Override
+    public double[] getRowHeights() {
+        return delegate.getRowHeights();
+    }
+
+    @Override
+    public int indexOfRow(final GridRow row) {
+        return delegate.indexOfRow(row);
+    }
+
+    @Override
+    public int getRowIndex(final double offset) {
+        return delegate.getRowIndex(offset);
+    }
+
     @Override
     public Range deleteRow(final int rowIndex) {
         return delegate.deleteRow(rowIndex);
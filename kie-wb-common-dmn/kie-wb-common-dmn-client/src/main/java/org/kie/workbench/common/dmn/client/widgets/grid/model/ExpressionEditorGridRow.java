@@ -62,4 +62,9 @@ public class ExpressionEditorGridRow extends BaseGridRow {
 
         return height;
     }
+
+    @Override
+    public boolean isHeightCacheable() {
+        return false;
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.dmn.client.marshaller.included;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDefinitions;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class DMNIncludedDefinitionsCacheTest {
+
+    private static final String PATH = "dmntest/model.dmn";
+
+    private static final String CONTENT = "<dmn:definitions namespace=\"https://kiegroup.org/dmn/model\"/>";
+
+    @Mock
+    private JSITDefinitions definitions;
+
+    private DMNIncludedDefinitionsCache cache;
+
+    @Before
+    public void setup() {
+        cache = spy(new DMNIncludedDefinitionsCache());
+        doAnswer(invocation -> invocation.getArgument(0)).when(cache).copy(any());
+    }
+
+    @Test
+    public void testGetWhenContentIsUnchanged() {
+        cache.put(PATH, CONTENT, definitions);
+
+        assertEquals(Optional.of(definitions), cache.get(PATH, CONTENT));
+    }
+
+    @Test
+    public void testGetWhenContentHasChanged() {
+        cache.put(PATH, CONTENT, definitions);
+
+        assertFalse(cache.get(PATH, CONTENT + " ").isPresent());
+    }
+
+    @Test
+    public void testGetWhenContentHasChangedWithSameHash() {
+        // "Aa" and "BB" have the same length and String hash code.
+        cache.put(PATH, CONTENT + "Aa", definitions);
+
+        assertFalse(cache.get(PATH, CONTENT + "BB").isPresent());
+        assertFalse(cache.get(PATH, null).isPresent());
+    }
+
+    @Test
+    public void testRetainAll() {
+        cache.put(PATH, CONTENT, definitions);
+        cache.put("other.dmn", CONTENT, definitions);
+
+        cache.retainAll(Collections.singletonList(PATH));
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.get(PATH, CONTENT).isPresent());
+        assertFalse(cache.get("other.dmn", CONTENT).isPresent());
+    }
+
+    @Test
+    public void testGetWhenPathIsUnknown() {
+        assertFalse(cache.get(PATH, CONTENT).isPresent());
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        cache.put(PATH, CONTENT, definitions);
+        cache.put("other.dmn", CONTENT, definitions);
+
+        cache.remove(PATH);
+        assertEquals(1, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testReadNamespace() {
+        final String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<!-- <notDefinitions namespace=\"wrong\"> -->\n" +
+                "<dmn:definitions xmlns:dmn=\"http://www.omg.org/spec/DMN/20180521/MODEL/\"\n" +
+                "                 id=\"_1\" name='model' namespace = \"https://kiegroup.org/dmn/model\">\n" +
+                "  <dmn:inputData namespace=\"nested\"/>\n" +
+                "</dmn:definitions>";
+
+        assertEquals(Optional.of("https://kiegroup.org/dmn/model"), DMNIncludedDefinitionsCache.readNamespace(xml));
+    }
+
+    @Test
+    public void testReadNamespaceWithoutPrefix() {
+        assertEquals(Optional.of("ns"), DMNIncludedDefinitionsCache.readNamespace("<definitions namespace=\"ns\"></definitions>"));
+    }
+
+    @Test
+    public void testReadNamespaceWhenRootIsNotDefinitions() {
+        assertFalse(DMNIncludedDefinitionsCache.readNamespace("<pmml namespace=\"ns\"/>").isPresent());
+    }
+
+    @Test
+    public void testReadNamespaceWhenAttributeIsMissing() {
+        assertFalse(DMNIncludedDefinitionsCache.readNamespace("<definitions name=\"model\"/>").isPresent());
+        assertFalse(DMNIncludedDefinitionsCache.readNamespace("").isPresent());
+        assertFalse(DMNIncludedDefinitionsCache.readNamespace(null).isPresent());
+    }
+
+    @Test
+    public void testReadNamespaceDoesNotMatchPrefixedAttribute() {
+        assertTrue(DMNIncludedDefinitionsCache.readNamespace("<definitions xmlns:namespace=\"x\" namespace=\"ns\"/>").map("ns"::equals).orElse(false));
+    }
+
+    @Test
+    public void testReadNamespaceDecodesEntityReferences() {
+        assertEquals(Optional.of("https://kiegroup.org/dmn?a=1&b=\"<2>\"'"),
+                     DMNIncludedDefinitionsCache.readNamespace("<definitions namespace=\"https://kiegroup.org/dmn?a=1&amp;b=&quot;&lt;2&gt;&quot;&apos;\"/>"));
+    }
+
+    @Test
+    public void testReadNamespaceDecodesCharacterReferences() {
+        assertEquals(Optional.of("ns:\u00e9\ud83d\ude00"),
+                     DMNIncludedDefinitionsCache.readNamespace("<definitions namespace=\"ns&#58;&#233;&#x1F600;\"/>"));
+    }
+
+    @Test
+    public void testReadNamespaceNormalizesWhitespace() {
+        assertEquals(Optional.of("a b c d"),
+                     DMNIncludedDefinitionsCache.readNamespace("<definitions namespace=\"a\tb\r\nc\nd\"/>"));
+    }
+
+    @Test
+    public void testReadNamespaceWhenReferenceCannotBeDecoded() {
+        assertFalse(DMNIncludedDefinitionsCache.readNamespace("<definitions namespace=\"ns&custom;\"/>").isPresent());
+        assertFalse(DMNIncludedDefinitionsCache.readNamespace("<definitions namespace=\"ns&amp\"/>").isPresent());
+        assertFalse(DMNIncludedDefinitionsCache.readNamespace("<definitions namespace=\"ns&#xZZ;\"/>").isPresent());
+        assertFalse(DMNIncludedDefinitionsCache.readNamespace("<definitions namespace=\"ns&#1114112;\"/>").isPresent());
+    }
+}
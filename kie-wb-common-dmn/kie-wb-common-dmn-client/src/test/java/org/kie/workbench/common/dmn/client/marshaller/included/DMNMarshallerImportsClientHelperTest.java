@@ -19,6 +19,7 @@ package org.kie.workbench.common.dmn.client.marshaller.included;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +31,7 @@ import org.junit.runner.RunWith;
 import org.kie.workbench.common.dmn.api.editors.included.IncludedModel;
 import org.kie.workbench.common.dmn.api.editors.included.PMMLDocumentMetadata;
 import org.kie.workbench.common.dmn.api.editors.included.PMMLIncludedModel;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDefinitions;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITImport;
 import org.kie.workbench.common.stunner.core.client.service.ServiceCallback;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
@@ -47,9 +49,11 @@ import static org.junit.Assert.fail;
 import static org.kie.workbench.common.dmn.api.editors.included.DMNImportTypes.PMML;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -75,6 +79,11 @@ public class DMNMarshallerImportsClientHelperTest {
     @Mock
     private DMNIncludedNodeFactory includedModelFactory;
 
+    @Mock
+    private JSITDefinitions jsitDefinitions;
+
+    private DMNIncludedDefinitionsCache definitionsCache;
+
     @Captor
     private ArgumentCaptor<List<IncludedModel>> modelsCapture;
 
@@ -85,6 +94,13 @@ public class DMNMarshallerImportsClientHelperTest {
     private static final String DMN_PATH = "dmntest/" + DMN_FILE;
     private static final String DMN_CONTENT = "<xml> xml DMN content </xml>";
 
+    private static final String DMN_NAMESPACE = "https://kiegroup.org/dmn/imported";
+    private static final String DMN_OTHER_PATH = "dmntest/other.dmn";
+    private static final String DMN_DEFINITIONS_CONTENT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<dmn:definitions xmlns:dmn=\"http://www.omg.org/spec/DMN/20180521/MODEL/\" namespace=\"" + DMN_NAMESPACE + "\" name=\"imported\">\n" +
+            "</dmn:definitions>";
+    private static final String DMN_OTHER_DEFINITIONS_CONTENT = "<dmn:definitions namespace=\"https://kiegroup.org/dmn/other\" name=\"other\"/>";
+
     private static final String PMML_MODEL_NAME = "model-test";
     private static final String PMML_FILE = "test-pmml.pmml";
     private static final String PMML_PATH = "dmnpmml/" + PMML_FILE;
@@ -100,10 +116,93 @@ public class DMNMarshallerImportsClientHelperTest {
     @Before
     public void setup() {
         promises = new SyncPromises();
+        definitionsCache = spy(new DMNIncludedDefinitionsCache());
+        doAnswer(invocation -> invocation.getArgument(0)).when(definitionsCache).copy(any());
         importsHelper = new DMNMarshallerImportsClientHelper(dmnImportsService,
                                                              dmnImportsContentService,
                                                              promises,
-                                                             includedModelFactory);
+                                                             includedModelFactory,
+                                                             definitionsCache);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getImportDefinitionsAsyncParsesOnlyImportedNamespaces() {
+        final JSITImport jsImportMock = mock(JSITImport.class);
+        when(jsImportMock.getNamespace()).thenReturn(DMN_NAMESPACE);
+        when(jsitDefinitions.getNamespace()).thenReturn(DMN_NAMESPACE);
+        when(dmnImportsContentService.getModelsDMNFilesURIs()).thenReturn(promises.resolve(new String[]{DMN_PATH, DMN_OTHER_PATH}));
+        when(dmnImportsContentService.loadFile(DMN_PATH)).thenReturn(promises.resolve(DMN_DEFINITIONS_CONTENT));
+        when(dmnImportsContentService.loadFile(DMN_OTHER_PATH)).thenReturn(promises.resolve(DMN_OTHER_DEFINITIONS_CONTENT));
+        doAnswer(invocation -> {
+            ((ServiceCallback<JSITDefinitions>) invocation.getArgument(1)).onSuccess(jsitDefinitions);
+            return null;
+        }).when(dmnImportsService).getDMNDefinitions(eq(DMN_DEFINITIONS_CONTENT), any());
+
+        final Map<JSITImport, JSITDefinitions> importDefinitions = new HashMap<>();
+        importsHelper.getImportDefinitionsAsync(metadataMock, singletonList(jsImportMock)).then(definitions -> {
+            importDefinitions.putAll(definitions);
+            return promises.resolve();
+        });
+
+        verify(dmnImportsService).getDMNDefinitions(eq(DMN_DEFINITIONS_CONTENT), any());
+        verify(dmnImportsService, never()).getDMNDefinitions(eq(DMN_OTHER_DEFINITIONS_CONTENT), any());
+        assertEquals(1, importDefinitions.size());
+        assertEquals(jsitDefinitions, importDefinitions.get(jsImportMock));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getImportDefinitionsAsyncReusesCachedDefinitions() {
+        final JSITImport jsImportMock = mock(JSITImport.class);
+        when(jsImportMock.getNamespace()).thenReturn(DMN_NAMESPACE);
+        when(jsitDefinitions.getNamespace()).thenReturn(DMN_NAMESPACE);
+        when(dmnImportsContentService.getModelsDMNFilesURIs()).thenReturn(promises.resolve(new String[]{DMN_PATH}));
+        when(dmnImportsContentService.loadFile(DMN_PATH)).thenReturn(promises.resolve(DMN_DEFINITIONS_CONTENT));
+        doAnswer(invocation -> {
+            ((ServiceCallback<JSITDefinitions>) invocation.getArgument(1)).onSuccess(jsitDefinitions);
+            return null;
+        }).when(dmnImportsService).getDMNDefinitions(eq(DMN_DEFINITIONS_CONTENT), any());
+
+        importsHelper.getImportDefinitionsAsync(metadataMock, singletonList(jsImportMock));
+        importsHelper.getImportDefinitionsAsync(metadataMock, singletonList(jsImportMock));
+
+        verify(dmnImportsService, times(1)).getDMNDefinitions(eq(DMN_DEFINITIONS_CONTENT), any());
+        verify(definitionsCache).put(DMN_PATH, DMN_DEFINITIONS_CONTENT, jsitDefinitions);
+    }
+
+    @Test
+    public void getImportDefinitionsAsyncRemovesDeletedFilesFromCache() {
+        final JSITImport jsImportMock = mock(JSITImport.class);
+        when(jsImportMock.getNamespace()).thenReturn(DMN_NAMESPACE);
+        definitionsCache.put(DMN_OTHER_PATH, DMN_OTHER_DEFINITIONS_CONTENT, jsitDefinitions);
+        when(dmnImportsContentService.getModelsDMNFilesURIs()).thenReturn(promises.resolve(new String[0]));
+
+        importsHelper.getImportDefinitionsAsync(metadataMock, singletonList(jsImportMock));
+
+        assertEquals(0, definitionsCache.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getImportDefinitionsAsyncParsesChangedContent() {
+        final String changedContent = DMN_DEFINITIONS_CONTENT + "\n";
+        final JSITImport jsImportMock = mock(JSITImport.class);
+        when(jsImportMock.getNamespace()).thenReturn(DMN_NAMESPACE);
+        when(jsitDefinitions.getNamespace()).thenReturn(DMN_NAMESPACE);
+        when(dmnImportsContentService.getModelsDMNFilesURIs()).thenReturn(promises.resolve(new String[]{DMN_PATH}));
+        when(dmnImportsContentService.loadFile(DMN_PATH)).thenReturn(promises.resolve(DMN_DEFINITIONS_CONTENT),
+                                                                     promises.resolve(changedContent));
+        doAnswer(invocation -> {
+            ((ServiceCallback<JSITDefinitions>) invocation.getArgument(1)).onSuccess(jsitDefinitions);
+            return null;
+        }).when(dmnImportsService).getDMNDefinitions(any(), any());
+
+        importsHelper.getImportDefinitionsAsync(metadataMock, singletonList(jsImportMock));
+        importsHelper.getImportDefinitionsAsync(metadataMock, singletonList(jsImportMock));
+
+        verify(dmnImportsService).getDMNDefinitions(eq(DMN_DEFINITIONS_CONTENT), any());
+        verify(dmnImportsService).getDMNDefinitions(eq(changedContent), any());
     }
 
     @Test
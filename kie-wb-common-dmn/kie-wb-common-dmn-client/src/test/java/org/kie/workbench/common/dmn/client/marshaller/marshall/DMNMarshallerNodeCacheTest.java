@@ -0,0 +1,276 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.dmn.client.marshaller.marshall;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.dmn.api.definition.model.Decision;
+import org.kie.workbench.common.dmn.api.definition.model.Import;
+import org.kie.workbench.common.dmn.api.property.dmn.Id;
+import org.kie.workbench.common.dmn.client.editors.types.DataTypeChangedEvent;
+import org.kie.workbench.common.dmn.client.events.EditExpressionEvent;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDRGElement;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.kie.JSITComponentWidths;
+import org.kie.workbench.common.stunner.core.client.canvas.CanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.event.command.CanvasCommandExecutedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.command.CanvasCommandUndoneEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementsClearEvent;
+import org.kie.workbench.common.stunner.core.client.command.CanvasViolation;
+import org.kie.workbench.common.stunner.core.client.session.event.SessionDestroyedEvent;
+import org.kie.workbench.common.stunner.core.client.session.event.SessionDiagramOpenedEvent;
+import org.kie.workbench.common.stunner.core.client.session.event.SessionOpenedEvent;
+import org.kie.workbench.common.stunner.core.command.Command;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.mockito.Mock;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class DMNMarshallerNodeCacheTest {
+
+    @Mock
+    private JSITDRGElement drgElement;
+
+    @Mock
+    private JSITComponentWidths componentWidths;
+
+    @Mock
+    private CanvasHandler canvasHandler;
+
+    @Mock
+    private Command<CanvasHandler, CanvasViolation> command;
+
+    private DMNMarshallerNodeCache cache;
+
+    private Node<View, ?> node1;
+
+    private Node<View, ?> node2;
+
+    @Before
+    public void setup() {
+        cache = new DMNMarshallerNodeCache();
+        node1 = makeNode("uuid1", "id1");
+        node2 = makeNode("uuid2", "id2");
+    }
+
+    @Test
+    public void testGet() {
+        final List<JSITComponentWidths> collected = new ArrayList<>();
+
+        cache.put(node1, drgElement, singletonList(componentWidths));
+
+        assertEquals(drgElement, cache.get(node1, collected::add).get());
+        assertEquals(singletonList(componentWidths), collected);
+        assertFalse(cache.get(node2, collected::add).isPresent());
+    }
+
+    @Test
+    public void testInvalidateNode() {
+        cache.put(node1, drgElement, Collections.emptyList());
+        cache.put(node2, drgElement, Collections.emptyList());
+
+        cache.onCanvasElementUpdated(new CanvasElementUpdatedEvent(canvasHandler, node1));
+
+        assertFalse(cache.get(node1, cw -> {/* Nothing. */}).isPresent());
+        assertTrue(cache.get(node2, cw -> {/* Nothing. */}).isPresent());
+    }
+
+    @Test
+    public void testInvalidateNodeInvalidatesNodesWithSameDRGElement() {
+        final Node<View, ?> node1OtherDRD = makeNode("uuid3", "id1");
+        cache.put(node1, drgElement, Collections.emptyList());
+        cache.put(node1OtherDRD, drgElement, Collections.emptyList());
+
+        cache.invalidate(node1);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInvalidateNodeInvalidatesRequirementTargets() {
+        final Edge edge = mock(Edge.class);
+        when(edge.getSourceNode()).thenReturn(node1);
+        when(edge.getTargetNode()).thenReturn(node2);
+        when(node1.getOutEdges()).thenReturn(singletonList(edge));
+        cache.put(node1, drgElement, Collections.emptyList());
+        cache.put(node2, drgElement, Collections.emptyList());
+
+        cache.invalidate(node1);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInvalidateEdge() {
+        final Node<View, ?> node3 = makeNode("uuid3", "id3");
+        final Edge edge = mock(Edge.class);
+        when(edge.getSourceNode()).thenReturn(node1);
+        when(edge.getTargetNode()).thenReturn(node2);
+        cache.put(node1, drgElement, Collections.emptyList());
+        cache.put(node2, drgElement, Collections.emptyList());
+        cache.put(node3, drgElement, Collections.emptyList());
+
+        cache.invalidate(edge);
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.get(node3, cw -> {/* Nothing. */}).isPresent());
+    }
+
+    @Test
+    public void testEditedNodeIsNotReused() {
+        final EditExpressionEvent event = mock(EditExpressionEvent.class);
+        when(event.getNodeUUID()).thenReturn("uuid1");
+        cache.onEditExpression(event);
+
+        cache.put(node1, drgElement, Collections.emptyList());
+        cache.put(node2, drgElement, Collections.emptyList());
+
+        assertFalse(cache.get(node1, cw -> {/* Nothing. */}).isPresent());
+        assertTrue(cache.get(node2, cw -> {/* Nothing. */}).isPresent());
+    }
+
+    @Test
+    public void testPreviouslyEditedNodeIsInvalidated() {
+        final EditExpressionEvent event1 = mock(EditExpressionEvent.class);
+        final EditExpressionEvent event2 = mock(EditExpressionEvent.class);
+        when(event1.getNodeUUID()).thenReturn("uuid1");
+        when(event2.getNodeUUID()).thenReturn("uuid2");
+
+        cache.onEditExpression(event1);
+        cache.put(node1, drgElement, Collections.emptyList());
+        cache.onEditExpression(event2);
+
+        assertFalse(cache.get(node1, cw -> {/* Nothing. */}).isPresent());
+    }
+
+    @Test
+    public void testClearOnCanvasElementsClear() {
+        cache.put(node1, drgElement, Collections.emptyList());
+
+        cache.onCanvasElementsClear(new CanvasElementsClearEvent(canvasHandler));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testClearOnDataTypeChanged() {
+        cache.put(node1, drgElement, Collections.emptyList());
+
+        cache.onDataTypeChanged(new DataTypeChangedEvent());
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testClearOnUndoAndRedo() {
+        cache.put(node1, drgElement, Collections.emptyList());
+        cache.onCanvasCommandUndone(new CanvasCommandUndoneEvent<>(canvasHandler, command, null));
+        assertEquals(0, cache.size());
+
+        cache.put(node1, drgElement, Collections.emptyList());
+        cache.onCanvasCommandExecuted(new CanvasCommandExecutedEvent<>(canvasHandler, command, null));
+        assertEquals(0, cache.size());
+
+        cache.put(node1, drgElement, Collections.emptyList());
+        cache.onCanvasCommandExecuted(new CanvasCommandExecutedEvent<>(canvasHandler, command, null));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testClearOnSessionOpened() {
+        cache.put(node1, drgElement, Collections.emptyList());
+
+        cache.onSessionOpened(mock(SessionOpenedEvent.class));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testClearOnSessionDiagramOpened() {
+        cache.put(node1, drgElement, Collections.emptyList());
+
+        cache.onSessionDiagramOpened(mock(SessionDiagramOpenedEvent.class));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testClearOnSessionDestroyed() {
+        cache.put(node1, drgElement, Collections.emptyList());
+
+        cache.onSessionDestroyed(mock(SessionDestroyedEvent.class));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testSessionDestroyedResetsEditedNodeAndUndoneCommands() {
+        final EditExpressionEvent event = mock(EditExpressionEvent.class);
+        when(event.getNodeUUID()).thenReturn("uuid1");
+        cache.onEditExpression(event);
+        cache.onCanvasCommandUndone(new CanvasCommandUndoneEvent<>(canvasHandler, command, null));
+
+        cache.onSessionDestroyed(mock(SessionDestroyedEvent.class));
+        cache.put(node1, drgElement, Collections.emptyList());
+        cache.onCanvasCommandExecuted(new CanvasCommandExecutedEvent<>(canvasHandler, command, null));
+
+        assertTrue(cache.get(node1, cw -> {/* Nothing. */}).isPresent());
+    }
+
+    @Test
+    public void testValidateImports() {
+        final Import anImport = new Import();
+        anImport.setNamespace("https://kiegroup.org/dmn/imported");
+
+        cache.validateImports(Collections.emptyList());
+        cache.put(node1, drgElement, Collections.emptyList());
+        cache.validateImports(Collections.emptyList());
+        assertEquals(1, cache.size());
+
+        cache.validateImports(singletonList(anImport));
+        assertEquals(0, cache.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<View, ?> makeNode(final String uuid,
+                                   final String drgElementId) {
+        final Node<View, ?> node = mock(Node.class);
+        final View view = mock(View.class);
+        final Decision decision = new Decision();
+        decision.setId(new Id(drgElementId));
+        when(node.getUUID()).thenReturn(uuid);
+        when(node.getContent()).thenReturn(view);
+        when(view.getDefinition()).thenReturn(decision);
+        return node;
+    }
+}
@@ -19,12 +19,15 @@ package org.kie.workbench.common.dmn.client.marshaller.marshall;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.workbench.common.dmn.api.definition.model.DMNDiagram;
 import org.kie.workbench.common.dmn.api.definition.model.DRGElement;
+import org.kie.workbench.common.dmn.api.definition.model.Decision;
+import org.kie.workbench.common.dmn.api.definition.model.DecisionService;
 import org.kie.workbench.common.dmn.api.definition.model.Definitions;
 import org.kie.workbench.common.dmn.api.definition.model.Import;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dc.JSIPoint;
@@ -32,12 +35,14 @@ import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSIT
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITBusinessKnowledgeModel;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDRGElement;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDecision;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDecisionService;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDefinitions;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITInformationRequirement;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITKnowledgeRequirement;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITKnowledgeSource;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmndi12.JSIDMNDiagram;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmndi12.JSIDMNEdge;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.kie.JSITComponentWidths;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
@@ -60,6 +65,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -366,6 +372,74 @@ public class DMNMarshallerTest {
         verify(dmnMarshaller).addNodeToDefinitions(node, definitions);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCachedStunnerToDMNReusesUnchangedNode() {
+
+        final DMNMarshallerNodeCache nodeCache = new DMNMarshallerNodeCache();
+        final DMNMarshaller dmnMarshaller = spy(new DMNMarshaller(null, null, nodeCache));
+        final Node<View, ?> node = makeNode("uuid", new Decision());
+        final JSITDecision decision = makeDecision("id1");
+        final JSITComponentWidths componentWidths = mock(JSITComponentWidths.class);
+        final List<JSITComponentWidths> collectedComponentWidths = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            ((Consumer<JSITComponentWidths>) invocation.getArgument(1)).accept(componentWidths);
+            return decision;
+        }).when(dmnMarshaller).stunnerToDMN(eq(node), any());
+
+        assertEquals(decision, dmnMarshaller.cachedStunnerToDMN(node, collectedComponentWidths::add));
+        assertEquals(decision, dmnMarshaller.cachedStunnerToDMN(node, collectedComponentWidths::add));
+
+        verify(dmnMarshaller, times(1)).stunnerToDMN(eq(node), any());
+        assertEquals(asList(componentWidths, componentWidths), collectedComponentWidths);
+    }
+
+    @Test
+    public void testCachedStunnerToDMNConvertsInvalidatedNode() {
+
+        final DMNMarshallerNodeCache nodeCache = new DMNMarshallerNodeCache();
+        final DMNMarshaller dmnMarshaller = spy(new DMNMarshaller(null, null, nodeCache));
+        final Node<View, ?> node = makeNode("uuid", new Decision());
+        final JSITDecision decision = makeDecision("id1");
+
+        doReturn(decision).when(dmnMarshaller).stunnerToDMN(eq(node), any());
+
+        dmnMarshaller.cachedStunnerToDMN(node, cw -> {/* Nothing. */});
+        nodeCache.invalidate(node);
+        dmnMarshaller.cachedStunnerToDMN(node, cw -> {/* Nothing. */});
+
+        verify(dmnMarshaller, times(2)).stunnerToDMN(eq(node), any());
+    }
+
+    @Test
+    public void testCachedStunnerToDMNDoesNotCacheDecisionServices() {
+
+        final DMNMarshallerNodeCache nodeCache = new DMNMarshallerNodeCache();
+        final DMNMarshaller dmnMarshaller = spy(new DMNMarshaller(null, null, nodeCache));
+        final Node<View, ?> node = makeNode("uuid", new DecisionService());
+        final JSITDecisionService decisionService = mock(JSITDecisionService.class);
+
+        doReturn(decisionService).when(dmnMarshaller).stunnerToDMN(eq(node), any());
+
+        dmnMarshaller.cachedStunnerToDMN(node, cw -> {/* Nothing. */});
+        dmnMarshaller.cachedStunnerToDMN(node, cw -> {/* Nothing. */});
+
+        verify(dmnMarshaller, times(2)).stunnerToDMN(eq(node), any());
+        assertEquals(0, nodeCache.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<View, ?> makeNode(final String uuid,
+                                   final Object definition) {
+        final Node<View, ?> node = mock(Node.class);
+        final View view = mock(View.class);
+        when(node.getUUID()).thenReturn(uuid);
+        when(node.getContent()).thenReturn(view);
+        when(view.getDefinition()).thenReturn(definition);
+        return node;
+    }
+
     private JSITDecision makeDecision(final String id) {
         final JSITDecision decision = mock(JSITDecision.class);
         doReturn(id).when(decision).getId();
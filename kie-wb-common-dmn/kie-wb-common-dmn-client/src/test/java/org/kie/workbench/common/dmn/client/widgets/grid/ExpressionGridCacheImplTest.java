@@ -16,6 +16,8 @@
 
 package org.kie.workbench.common.dmn.client.widgets.grid;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -23,13 +25,24 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.workbench.common.dmn.api.definition.model.Expression;
+import org.kie.workbench.common.dmn.client.editors.expressions.types.context.ExpressionCellValue;
 import org.kie.workbench.common.dmn.client.widgets.grid.model.BaseUIModelMapper;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.uberfire.ext.wires.core.grids.client.model.GridCell;
+import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
 import org.uberfire.ext.wires.core.grids.client.model.GridData;
+import org.uberfire.ext.wires.core.grids.client.model.GridRow;
+import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridCell;
+import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridCellValue;
+import org.uberfire.ext.wires.core.grids.client.widget.dom.HasDOMElementResources;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ExpressionGridCacheImplTest {
@@ -39,6 +52,9 @@ public class ExpressionGridCacheImplTest {
     @Mock
     private BaseExpressionGrid editor;
 
+    @Mock
+    private GridData model;
+
     private ExpressionGridCacheImpl cache;
 
     @Before
@@ -58,6 +74,7 @@ public class ExpressionGridCacheImplTest {
     public void testPutExpressionGridWhenEditorIsCacheable() {
         final Map<String, Optional<BaseExpressionGrid<? extends Expression, ? extends GridData, ? extends BaseUIModelMapper>>> content = cache.getContent();
         when(editor.isCacheable()).thenReturn(true);
+        when(editor.getModel()).thenReturn(model);
 
         cache.putExpressionGrid(UUID,
                                 Optional.of(editor));
@@ -81,6 +98,7 @@ public class ExpressionGridCacheImplTest {
     @Test
     public void testGetExpressionWhenIsPresent() {
         when(editor.isCacheable()).thenReturn(true);
+        when(editor.getModel()).thenReturn(model);
 
         cache.putExpressionGrid(UUID, Optional.of(editor));
 
@@ -98,6 +116,7 @@ public class ExpressionGridCacheImplTest {
     public void testRemoveExpressionGrid() {
         final Map<String, Optional<BaseExpressionGrid<? extends Expression, ? extends GridData, ? extends BaseUIModelMapper>>> content = cache.getContent();
         when(editor.isCacheable()).thenReturn(true);
+        when(editor.getModel()).thenReturn(model);
         cache.putExpressionGrid(UUID, Optional.of(editor));
 
         cache.removeExpressionGrid("");
@@ -115,6 +134,7 @@ public class ExpressionGridCacheImplTest {
     @Test
     public void testDoInit() {
         when(editor.isCacheable()).thenReturn(true);
+        when(editor.getModel()).thenReturn(model);
 
         cache.putExpressionGrid(UUID, Optional.of(editor));
 
@@ -128,6 +148,7 @@ public class ExpressionGridCacheImplTest {
     @Test
     public void testDoDestroy() {
         when(editor.isCacheable()).thenReturn(true);
+        when(editor.getModel()).thenReturn(model);
 
         cache.putExpressionGrid(UUID, Optional.of(editor));
 
@@ -137,4 +158,140 @@ public class ExpressionGridCacheImplTest {
 
         assertThat(cache.getContent()).isEmpty();
     }
+
+    @Test
+    public void testHitAndMissCounts() {
+        final BaseExpressionGrid editor1 = makeCacheableEditor(1);
+        cache.putExpressionGrid("1", Optional.of(editor1));
+
+        assertThat(cache.getExpressionGrid("1")).hasValue(editor1);
+        assertThat(cache.getExpressionGrid("1")).hasValue(editor1);
+        assertThat(cache.getExpressionGrid("2")).isNotPresent();
+
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getEvictionCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvictedWhenMaxEntriesExceeded() {
+        final BaseExpressionGrid editor1 = makeCacheableEditor(1);
+        final BaseExpressionGrid editor2 = makeCacheableEditor(1);
+        final BaseExpressionGrid editor3 = makeCacheableEditor(1);
+        cache.setMaxEntries(2);
+
+        cache.putExpressionGrid("1", Optional.of(editor1));
+        cache.putExpressionGrid("2", Optional.of(editor2));
+        cache.getExpressionGrid("1");
+        cache.putExpressionGrid("3", Optional.of(editor3));
+
+        assertThat(cache.getContent().keySet()).containsExactly("1", "3");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.getEstimatedSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvictedWhenMaxEstimatedSizeExceeded() {
+        final BaseExpressionGrid editor1 = makeCacheableEditor(3);
+        final BaseExpressionGrid editor2 = makeCacheableEditor(3);
+        final BaseExpressionGrid editor3 = makeCacheableEditor(2);
+        cache.setMaxEstimatedSize(6);
+
+        cache.putExpressionGrid("1", Optional.of(editor1));
+        cache.putExpressionGrid("2", Optional.of(editor2));
+
+        assertThat(cache.getContent().keySet()).containsExactly("1", "2");
+        assertThat(cache.getEstimatedSize()).isEqualTo(6);
+
+        cache.putExpressionGrid("3", Optional.of(editor3));
+
+        assertThat(cache.getContent().keySet()).containsExactly("2", "3");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.getEstimatedSize()).isEqualTo(5);
+    }
+
+    @Test
+    public void testMostRecentlyUsedNeverEvicted() {
+        final BaseExpressionGrid editor1 = makeCacheableEditor(10);
+        cache.setMaxEstimatedSize(5);
+
+        cache.putExpressionGrid("1", Optional.of(editor1));
+
+        assertThat(cache.getContent().keySet()).containsExactly("1");
+        assertThat(cache.getEvictionCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testSetMaxEntriesEvicts() {
+        cache.putExpressionGrid("1", Optional.of(makeCacheableEditor(1)));
+        cache.putExpressionGrid("2", Optional.of(makeCacheableEditor(1)));
+
+        cache.setMaxEntries(1);
+
+        assertThat(cache.getContent().keySet()).containsExactly("2");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testEstimatedSizeIncludesNestedExpressionGrids() {
+        final BaseExpressionGrid nested = makeEditor(makeCells(2));
+        final Map<Integer, GridCell<?>> cells = new HashMap<>();
+        cells.put(0, new BaseGridCell<>(new ExpressionCellValue(Optional.of(nested))));
+        final BaseExpressionGrid editor1 = makeEditor(cells);
+
+        assertThat(ExpressionGridCacheImpl.estimateSize(editor1)).isEqualTo(3);
+    }
+
+    @Test
+    public void testEstimatedSizeUpdatedWhenReplacedOrRemoved() {
+        cache.putExpressionGrid("1", Optional.of(makeCacheableEditor(2)));
+        cache.putExpressionGrid("1", Optional.of(makeCacheableEditor(3)));
+
+        assertThat(cache.getEstimatedSize()).isEqualTo(3);
+
+        cache.removeExpressionGrid("1");
+
+        assertThat(cache.getEstimatedSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testEvictedExpressionGridResourcesDestroyed() {
+        final BaseExpressionGrid editor1 = makeCacheableEditor(1);
+        final BaseExpressionGrid editor2 = makeCacheableEditor(1);
+        final GridColumn column = mock(GridColumn.class, withSettings().extraInterfaces(HasDOMElementResources.class));
+        when(editor1.getModel().getColumns()).thenReturn(Collections.singletonList(column));
+        cache.setMaxEntries(1);
+
+        cache.putExpressionGrid("1", Optional.of(editor1));
+
+        verify((HasDOMElementResources) column, never()).destroyResources();
+
+        cache.putExpressionGrid("2", Optional.of(editor2));
+
+        verify((HasDOMElementResources) column).destroyResources();
+    }
+
+    private BaseExpressionGrid makeCacheableEditor(final int cellCount) {
+        final BaseExpressionGrid editor = makeEditor(makeCells(cellCount));
+        when(editor.isCacheable()).thenReturn(true);
+        return editor;
+    }
+
+    private BaseExpressionGrid makeEditor(final Map<Integer, GridCell<?>> cells) {
+        final BaseExpressionGrid editor = mock(BaseExpressionGrid.class);
+        final GridData model = mock(GridData.class);
+        final GridRow row = mock(GridRow.class);
+        when(editor.getModel()).thenReturn(model);
+        when(model.getRows()).thenReturn(Collections.singletonList(row));
+        when(row.getCells()).thenReturn(cells);
+        return editor;
+    }
+
+    private static Map<Integer, GridCell<?>> makeCells(final int cellCount) {
+        final Map<Integer, GridCell<?>> cells = new HashMap<>();
+        for (int i = 0; i < cellCount; i++) {
+            cells.put(i, new BaseGridCell<>(new BaseGridCellValue<>("value")));
+        }
+        return cells;
+    }
 }
@@ -323,6 +323,27 @@ public class DelegatingGridDataTest {
         verify(delegate).getRowCount();
     }
 
+    @Test
+    public void testDelegateGetRowOffset() {
+        uiModel.getRowOffset(1);
+
+        verify(delegate).getRowOffset(eq(1));
+    }
+
+    @Test
+    public void testDelegateGetRowHeights() {
+        uiModel.getRowHeights();
+
+        verify(delegate).getRowHeights();
+    }
+
+    @Test
+    public void testDelegateGetRowIndex() {
+        uiModel.getRowIndex(25.0);
+
+        verify(delegate).getRowIndex(eq(25.0));
+    }
+
     @Test
     public void testDelegateDeleteRow() {
         uiModel.deleteRow(0);
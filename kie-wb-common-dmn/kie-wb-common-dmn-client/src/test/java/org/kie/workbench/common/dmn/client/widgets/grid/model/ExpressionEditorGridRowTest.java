@@ -47,6 +47,12 @@ public class ExpressionEditorGridRowTest {
         assertThat(row.getHeight()).isEqualTo(DEFAULT_HEIGHT);
     }
 
+    @Test
+    public void testHeightIsNotCacheable() {
+        final GridRow row = new ExpressionEditorGridRow();
+        assertThat(row.isHeightCacheable()).isFalse();
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testRowLowerThanDefault() {
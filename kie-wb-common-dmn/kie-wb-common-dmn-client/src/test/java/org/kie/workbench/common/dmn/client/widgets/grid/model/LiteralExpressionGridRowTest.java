@@ -52,6 +52,12 @@ public class LiteralExpressionGridRowTest {
         assertThat(row.getHeight()).isEqualTo(DEFAULT_HEIGHT);
     }
 
+    @Test
+    public void testHeightIsNotCacheable() {
+        final GridRow row = new LiteralExpressionGridRow();
+        assertThat(row.isHeightCacheable()).isFalse();
+    }
+
     @Test
     public void testGetHeightWithHasDynamicHeightCell() {
         final GridRow row = spy(new LiteralExpressionGridRow());
@@ -35,8 +35,10 @@ import org.kie.workbench.common.dmn.client.editors.included.IncludedModelsPage;
 import org.kie.workbench.common.dmn.client.editors.included.common.IncludedModelsContext;
 import org.kie.workbench.common.dmn.client.editors.search.DMNEditorSearchIndex;
 import org.kie.workbench.common.dmn.client.editors.search.DMNSearchableElement;
+import org.kie.workbench.common.dmn.client.editors.types.DataTypeChangedEvent;
 import org.kie.workbench.common.dmn.client.editors.types.DataTypePageTabActiveEvent;
 import org.kie.workbench.common.dmn.client.editors.types.DataTypesPage;
+import org.kie.workbench.common.dmn.client.editors.types.common.events.RefreshDataTypesListEvent;
 import org.kie.workbench.common.dmn.client.editors.types.listview.common.DataTypeEditModeToggleEvent;
 import org.kie.workbench.common.dmn.client.events.EditExpressionEvent;
 import org.kie.workbench.common.dmn.client.session.DMNSession;
@@ -64,6 +66,7 @@ import org.kie.workbench.common.stunner.core.client.session.impl.AbstractSession
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
 import org.kie.workbench.common.stunner.core.documentation.DocumentationPage;
 import org.kie.workbench.common.stunner.core.documentation.DocumentationView;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.forms.client.event.RefreshFormPropertiesEvent;
 import org.kie.workbench.common.stunner.kogito.client.docks.DiagramEditorPropertiesDock;
 import org.kie.workbench.common.stunner.kogito.client.service.KogitoClientDiagramService;
@@ -304,6 +307,25 @@ public abstract class AbstractDMNDiagramEditor extends MultiPageEditorContainerP
         searchBarComponent.disableSearch();
     }
 
+    protected void onDataTypeChangedEvent(final DataTypeChangedEvent event) {
+        invalidateContentHash();
+    }
+
+    protected void onRefreshDataTypesListEvent(final RefreshDataTypesListEvent event) {
+        invalidateContentHash();
+    }
+
+    /**
+     * The data types and the included models change the model outside the graph commands, so the content hash of
+     * the graph, used for the dirty checks, has to be computed again.
+     */
+    void invalidateContentHash() {
+        if (stunnerEditor.isClosed() || Objects.isNull(stunnerEditor.getDiagram())) {
+            return;
+        }
+        GraphUtils.invalidateContentHash(stunnerEditor.getDiagram().getGraph());
+    }
+
     protected void onEditExpressionEvent(final EditExpressionEvent event) {
         searchBarComponent.disableSearch();
         if (isSameSession(stunnerEditor.getSession(), event.getSession())) {
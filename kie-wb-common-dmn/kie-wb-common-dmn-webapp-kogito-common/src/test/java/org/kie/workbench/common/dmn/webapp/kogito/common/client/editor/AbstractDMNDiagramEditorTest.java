@@ -31,8 +31,10 @@ import org.kie.workbench.common.dmn.client.editors.included.IncludedModelsPage;
 import org.kie.workbench.common.dmn.client.editors.included.common.IncludedModelsContext;
 import org.kie.workbench.common.dmn.client.editors.search.DMNEditorSearchIndex;
 import org.kie.workbench.common.dmn.client.editors.search.DMNSearchableElement;
+import org.kie.workbench.common.dmn.client.editors.types.DataTypeChangedEvent;
 import org.kie.workbench.common.dmn.client.editors.types.DataTypePageTabActiveEvent;
 import org.kie.workbench.common.dmn.client.editors.types.DataTypesPage;
+import org.kie.workbench.common.dmn.client.editors.types.common.events.RefreshDataTypesListEvent;
 import org.kie.workbench.common.dmn.client.editors.types.listview.common.DataTypeEditModeToggleEvent;
 import org.kie.workbench.common.dmn.client.events.EditExpressionEvent;
 import org.kie.workbench.common.dmn.client.session.DMNEditorSession;
@@ -61,6 +63,7 @@ import org.kie.workbench.common.stunner.core.diagram.DiagramImpl;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
 import org.kie.workbench.common.stunner.core.diagram.MetadataImpl;
 import org.kie.workbench.common.stunner.core.documentation.DocumentationView;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
 import org.kie.workbench.common.stunner.forms.client.event.RefreshFormPropertiesEvent;
 import org.kie.workbench.common.stunner.kogito.client.docks.DiagramEditorPropertiesDock;
 import org.kie.workbench.common.stunner.kogito.client.service.KogitoClientDiagramService;
@@ -329,6 +332,34 @@ public abstract class AbstractDMNDiagramEditorTest {
         verify(searchBarComponent).disableSearch();
     }
 
+    @Test
+    public void testOnDataTypeChangedEvent() {
+        final GraphImpl graph = mockGraph();
+        editor.onDataTypeChangedEvent(new DataTypeChangedEvent());
+        verify(graph).invalidateContentHash();
+    }
+
+    @Test
+    public void testOnRefreshDataTypesListEvent() {
+        final GraphImpl graph = mockGraph();
+        editor.onRefreshDataTypesListEvent(new RefreshDataTypesListEvent());
+        verify(graph).invalidateContentHash();
+    }
+
+    @Test
+    public void testOnDataTypeChangedEventWhenClosed() {
+        final GraphImpl graph = mockGraph();
+        when(stunnerEditor.isClosed()).thenReturn(true);
+        editor.onDataTypeChangedEvent(new DataTypeChangedEvent());
+        verify(graph, never()).invalidateContentHash();
+    }
+
+    private GraphImpl mockGraph() {
+        final GraphImpl graph = mock(GraphImpl.class);
+        when(stunnerEditor.getDiagram()).thenReturn(new DiagramImpl("dmn", graph, metadata));
+        return graph;
+    }
+
     @Test
     public void testOnClose() {
         openDiagram();
@@ -31,8 +31,10 @@ import org.kie.workbench.common.dmn.client.editors.included.IncludedModelsPage;
 import org.kie.workbench.common.dmn.client.editors.included.common.IncludedModelsContext;
 import org.kie.workbench.common.dmn.client.editors.search.DMNEditorSearchIndex;
 import org.kie.workbench.common.dmn.client.editors.search.DMNSearchableElement;
+import org.kie.workbench.common.dmn.client.editors.types.DataTypeChangedEvent;
 import org.kie.workbench.common.dmn.client.editors.types.DataTypePageTabActiveEvent;
 import org.kie.workbench.common.dmn.client.editors.types.DataTypesPage;
+import org.kie.workbench.common.dmn.client.editors.types.common.events.RefreshDataTypesListEvent;
 import org.kie.workbench.common.dmn.client.editors.types.listview.common.DataTypeEditModeToggleEvent;
 import org.kie.workbench.common.dmn.client.events.EditExpressionEvent;
 import org.kie.workbench.common.dmn.client.widgets.codecompletion.MonacoFEELInitializer;
@@ -174,6 +176,16 @@ public class DMNDiagramEditor extends AbstractDMNDiagramEditor {
         super.onRefreshFormPropertiesEvent(event);
     }
 
+    @Override
+    public void onDataTypeChangedEvent(final @Observes DataTypeChangedEvent event) {
+        super.onDataTypeChangedEvent(event);
+    }
+
+    @Override
+    public void onRefreshDataTypesListEvent(final @Observes RefreshDataTypesListEvent event) {
+        super.onRefreshDataTypesListEvent(event);
+    }
+
     @Override
     public boolean isReadOnly() {
         return readOnlyProvider.isReadOnlyDiagram();
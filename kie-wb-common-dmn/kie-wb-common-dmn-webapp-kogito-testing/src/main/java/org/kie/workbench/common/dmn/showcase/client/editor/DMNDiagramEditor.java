@@ -38,7 +38,9 @@ import org.kie.workbench.common.dmn.client.editors.included.IncludedModelsPage;
 import org.kie.workbench.common.dmn.client.editors.included.common.IncludedModelsContext;
 import org.kie.workbench.common.dmn.client.editors.search.DMNEditorSearchIndex;
 import org.kie.workbench.common.dmn.client.editors.search.DMNSearchableElement;
+import org.kie.workbench.common.dmn.client.editors.types.DataTypeChangedEvent;
 import org.kie.workbench.common.dmn.client.editors.types.DataTypesPage;
+import org.kie.workbench.common.dmn.client.editors.types.common.events.RefreshDataTypesListEvent;
 import org.kie.workbench.common.dmn.client.events.EditExpressionEvent;
 import org.kie.workbench.common.dmn.client.widgets.codecompletion.MonacoFEELInitializer;
 import org.kie.workbench.common.dmn.showcase.client.feel.FEELDemoEditor;
@@ -178,6 +180,16 @@ public class DMNDiagramEditor extends AbstractDMNDiagramEditor {
         super.onRefreshFormPropertiesEvent(event);
     }
 
+    @Override
+    public void onDataTypeChangedEvent(final @Observes DataTypeChangedEvent event) {
+        super.onDataTypeChangedEvent(event);
+    }
+
+    @Override
+    public void onRefreshDataTypesListEvent(final @Observes RefreshDataTypesListEvent event) {
+        super.onRefreshDataTypesListEvent(event);
+    }
+
     @Override
     public boolean isReadOnly() {
         return readOnlyProvider.isReadOnlyDiagram();
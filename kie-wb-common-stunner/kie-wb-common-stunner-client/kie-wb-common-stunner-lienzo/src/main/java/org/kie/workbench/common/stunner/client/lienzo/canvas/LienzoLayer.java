@@ -25,6 +25,7 @@ import com.ait.lienzo.client.core.Context2D;
 import com.ait.lienzo.client.core.shape.IPrimitive;
 import com.ait.lienzo.client.core.shape.Layer;
 import com.ait.lienzo.client.core.shape.Viewport;
+import com.ait.lienzo.client.core.shape.storage.PrimitiveQuadTreeStorageEngine;
 import com.ait.lienzo.client.core.types.Transform;
 import org.kie.workbench.common.stunner.core.client.canvas.TransformImpl;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
@@ -37,10 +38,21 @@ public class LienzoLayer {
 
     private final LienzoCustomLayer layer;
 
+    /**
+     * The canvas layer indexes its primitives in a quadtree, so only the ones visible through the viewport get drawn.
+     * The shapes are groups, which report their new bounds to the index once moved or resized, nested shapes through
+     * their top level group, so the index is not refreshed on each draw. Its selection layer is rendered lazily, only
+     * around the points being picked, as most draws are not followed by a pick.
+     */
     static class LienzoCustomLayer extends Layer {
 
         private boolean skipDraw = false;
 
+        LienzoCustomLayer() {
+            super(new PrimitiveQuadTreeStorageEngine());
+            setLazySelectionLayer(true);
+        }
+
         @Override
         public Layer draw(final Context2D context) {
             if (skipDraw) {
@@ -179,4 +179,16 @@ public class LienzoLayerTest {
         assertEquals(0.22d, transform.getScaleX(), 0d);
         assertEquals(0.33d, transform.getScaleY(), 0d);
     }
+
+    @Test
+    public void testCanvasLayerIsSpatiallyIndexed() {
+        final LienzoCustomLayer customLayer = new LienzoCustomLayer();
+        assertTrue(customLayer.getStorageEngine().isSpatiallyIndexed());
+    }
+
+    @Test
+    public void testCanvasLayerHasLazySelectionLayer() {
+        final LienzoCustomLayer customLayer = new LienzoCustomLayer();
+        assertTrue(customLayer.isLazySelectionLayer());
+    }
 }
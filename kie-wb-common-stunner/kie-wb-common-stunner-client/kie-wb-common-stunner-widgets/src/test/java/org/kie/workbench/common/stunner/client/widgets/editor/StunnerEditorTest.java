@@ -36,6 +36,7 @@ import org.kie.workbench.common.stunner.core.diagram.DiagramParsingException;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
 import org.kie.workbench.common.stunner.core.diagram.MetadataImpl;
 import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
 import org.kie.workbench.common.widgets.client.errorpage.ErrorPage;
 import org.mockito.Mock;
 import org.uberfire.stubs.ManagedInstanceStub;
@@ -186,6 +187,16 @@ public class StunnerEditorTest {
         verify(exceptionConsumer, times(1)).accept(eq(e));
     }
 
+    @Test
+    public void testGetCurrentContentHashKeepsGraphContentHash() {
+        GraphImpl graph = mock(GraphImpl.class);
+        diagram = new DiagramImpl("testDiagram", graph, diagram.getMetadata());
+        when(canvasHandler.getDiagram()).thenReturn(diagram);
+        openSuccess();
+        assertEquals(diagram.hashCode(), tested.getCurrentContentHash());
+        verify(graph, never()).invalidateContentHash();
+    }
+
     @SuppressWarnings("all")
     private void openSuccess() {
         doAnswer(invocation -> {
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.definition.adapter.binding;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Direct getters and setters for the bound fields of a bindable type, as generated by the Stunner
+ * annotation processor. Fields without an accessor here are read and written through the
+ * {@link BindableAdapterFunctions} instead.
+ */
+public class BindableFieldAccessors {
+
+    private final Map<String, Function<Object, Object>> getters = new HashMap<>();
+    private final Map<String, BiConsumer<Object, Object>> setters = new HashMap<>();
+
+    public BindableFieldAccessors addGetter(String field, Function<Object, Object> getter) {
+        getters.put(field, getter);
+        return this;
+    }
+
+    public BindableFieldAccessors addSetter(String field, BiConsumer<Object, Object> setter) {
+        setters.put(field, setter);
+        return this;
+    }
+
+    public Function<Object, Object> getGetter(String field) {
+        return getters.get(field);
+    }
+
+    public BiConsumer<Object, Object> getSetter(String field) {
+        return setters.get(field);
+    }
+}
@@ -21,4 +21,8 @@ import org.kie.workbench.common.stunner.core.definition.adapter.PropertyAdapter;
 public interface BindablePropertyAdapter<T, V> extends PropertyAdapter<T, V> {
 
     void addBinding(Class<?> type, String valueField);
+
+    default void addBinding(Class<?> type, String valueField, BindableFieldAccessors accessors) {
+        addBinding(type, valueField);
+    }
 }
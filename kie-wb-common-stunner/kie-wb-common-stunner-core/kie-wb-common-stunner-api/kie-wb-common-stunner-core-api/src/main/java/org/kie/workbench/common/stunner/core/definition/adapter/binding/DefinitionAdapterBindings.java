@@ -32,9 +32,11 @@ public class DefinitionAdapterBindings {
     private List<String> propertiesFieldNames;
     private List<Boolean> typedPropertyFields;
     private PropertyMetaTypes metaTypes;
+    private BindableFieldAccessors accessors;
 
     public DefinitionAdapterBindings() {
         this.baseType = Object.class;
+        this.accessors = new BindableFieldAccessors();
     }
 
     public PropertyMetaTypes getMetaTypes() {
@@ -127,6 +129,15 @@ public class DefinitionAdapterBindings {
         return this;
     }
 
+    public BindableFieldAccessors getAccessors() {
+        return accessors;
+    }
+
+    public DefinitionAdapterBindings setAccessors(BindableFieldAccessors accessors) {
+        this.accessors = accessors;
+        return this;
+    }
+
     public static class PropertyMetaTypes {
 
         private static final int NAME = 0;
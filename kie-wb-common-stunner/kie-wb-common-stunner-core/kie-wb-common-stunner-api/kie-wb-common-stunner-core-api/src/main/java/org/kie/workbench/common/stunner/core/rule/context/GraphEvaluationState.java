@@ -17,6 +17,9 @@
 package org.kie.workbench.common.stunner.core.rule.context;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Element;
@@ -42,6 +45,24 @@ public interface GraphEvaluationState {
     interface CardinalityState {
 
         Iterable<Node> nodes();
+
+        /**
+         * Counts the {@link #nodes()} for each of their labels.
+         * @param roleFilter The labels to count, or <code>null</code> to count all of them.
+         */
+        @SuppressWarnings("unchecked")
+        default Map<String, Integer> countLabels(final Set<String> roleFilter) {
+            final Map<String, Integer> labelsCount = new HashMap<>();
+            for (final Node node : nodes()) {
+                final Set<String> labels = node.getLabels();
+                if (null != labels) {
+                    labels.stream()
+                            .filter(role -> null == roleFilter || roleFilter.contains(role))
+                            .forEach(role -> labelsCount.merge(role, 1, Integer::sum));
+                }
+            }
+            return labelsCount;
+        }
     }
 
     interface ConnectorCardinalityState {
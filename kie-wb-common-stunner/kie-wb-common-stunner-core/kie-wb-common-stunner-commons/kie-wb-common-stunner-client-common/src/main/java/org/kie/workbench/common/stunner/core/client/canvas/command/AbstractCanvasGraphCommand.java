@@ -28,6 +28,7 @@ import org.kie.workbench.common.stunner.core.command.util.CommandUtils;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 
 /**
@@ -139,9 +140,11 @@ public abstract class AbstractCanvasGraphCommand
                 break;
             case EXECUTE:
                 graphResult = graphCommand.execute(graphContext);
+                GraphUtils.invalidateContentHashIfUntracked(graphContext, graphCommand);
                 break;
             case UNDO:
                 graphResult = graphCommand.undo(graphContext);
+                GraphUtils.invalidateContentHashIfUntracked(graphContext, graphCommand);
                 break;
         }
         return new CanvasCommandResultBuilder(graphResult).build();
@@ -49,6 +49,13 @@ public class ValidateSessionCommand extends AbstractClientSessionCommand<EditorS
         this.validator = validator;
     }
 
+    @Override
+    public void bind(final EditorSession session) {
+        super.bind(session);
+        // The graph violations are kept per session.
+        validator.invalidate();
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <V> void execute(final Callback<V> callback) {
@@ -65,6 +72,12 @@ public class ValidateSessionCommand extends AbstractClientSessionCommand<EditorS
         return session instanceof EditorSession;
     }
 
+    @Override
+    protected void doDestroy() {
+        super.doDestroy();
+        validator.invalidate();
+    }
+
     @SuppressWarnings("unchecked")
     private <V> void fireCallback(final Collection<DiagramElementViolation<RuleViolation>> violations,
                                   final Callback<V> callback) {
@@ -34,6 +34,8 @@ import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 import org.kie.workbench.common.stunner.core.validation.DiagramElementViolation;
 import org.kie.workbench.common.stunner.core.validation.DiagramValidator;
 import org.kie.workbench.common.stunner.core.validation.ElementViolation;
+import org.kie.workbench.common.stunner.core.validation.impl.AbstractDiagramValidator;
+import org.kie.workbench.common.stunner.core.validation.impl.GraphValidationSession;
 
 @Dependent
 public class CanvasDiagramValidator<H extends AbstractCanvasHandler> {
@@ -41,6 +43,7 @@ public class CanvasDiagramValidator<H extends AbstractCanvasHandler> {
     private final DiagramValidator<Diagram, RuleViolation> diagramValidator;
     private final Event<CanvasValidationSuccessEvent> validationSuccessEvent;
     private final Event<CanvasValidationFailEvent> validationFailEvent;
+    private GraphValidationSession validationSession;
 
     protected CanvasDiagramValidator() {
         this(null,
@@ -60,12 +63,43 @@ public class CanvasDiagramValidator<H extends AbstractCanvasHandler> {
     @SuppressWarnings("unchecked")
     public void validate(final H canvasHandler,
                          final Consumer<Collection<DiagramElementViolation<RuleViolation>>> callback) {
-        diagramValidator.validate(canvasHandler.getDiagram(),
-                                  violations -> {
-                                      checkViolations(canvasHandler,
-                                                      violations);
-                                      callback.accept(violations);
-                                  });
+        final Diagram diagram = canvasHandler.getDiagram();
+        final Consumer<Collection<DiagramElementViolation<RuleViolation>>> violationsConsumer = violations -> {
+            checkViolations(canvasHandler,
+                            violations);
+            callback.accept(violations);
+        };
+        if (diagramValidator instanceof AbstractDiagramValidator) {
+            final AbstractDiagramValidator validator = (AbstractDiagramValidator) diagramValidator;
+            validator.validate(diagram,
+                               getValidationSession(validator,
+                                                    diagram),
+                               violationsConsumer);
+        } else {
+            diagramValidator.validate(diagram,
+                                      violationsConsumer);
+        }
+    }
+
+    /**
+     * Discards the graph violations kept from the previous validations, so the next one evaluates the whole graph
+     * again.
+     */
+    public void invalidate() {
+        if (null != validationSession) {
+            validationSession.dispose();
+            validationSession = null;
+        }
+    }
+
+    private GraphValidationSession getValidationSession(final AbstractDiagramValidator validator,
+                                                        final Diagram diagram) {
+        // A new graph instance is given once the diagram gets reloaded.
+        if (null == validationSession || validationSession.getGraph() != diagram.getGraph()) {
+            invalidate();
+            validationSession = validator.newSession(diagram);
+        }
+        return validationSession;
     }
 
     @SuppressWarnings("unchecked")
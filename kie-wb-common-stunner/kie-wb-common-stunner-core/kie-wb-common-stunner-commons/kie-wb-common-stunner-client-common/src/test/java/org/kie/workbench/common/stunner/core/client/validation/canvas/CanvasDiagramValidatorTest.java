@@ -29,12 +29,15 @@ import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler
 import org.kie.workbench.common.stunner.core.client.shape.Shape;
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
+import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 import org.kie.workbench.common.stunner.core.validation.DiagramElementViolation;
 import org.kie.workbench.common.stunner.core.validation.DiagramValidator;
 import org.kie.workbench.common.stunner.core.validation.DomainViolation;
 import org.kie.workbench.common.stunner.core.validation.ModelBeanViolation;
 import org.kie.workbench.common.stunner.core.validation.Violation;
+import org.kie.workbench.common.stunner.core.validation.impl.AbstractDiagramValidator;
+import org.kie.workbench.common.stunner.core.validation.impl.GraphValidationSession;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -42,8 +45,12 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.uberfire.mocks.EventSourceMock;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -208,4 +215,42 @@ public class CanvasDiagramValidatorTest {
         assertEquals(event.getDiagramName(), NAME);
         assertEquals(event.getDiagramTitle(), TITLE);
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void validateWithGraphValidationSession() {
+        final AbstractDiagramValidator abstractDiagramValidator = mock(AbstractDiagramValidator.class);
+        final GraphValidationSession session = mock(GraphValidationSession.class);
+        final Graph graph = mock(Graph.class);
+        final ArgumentCaptor<Consumer> captor = ArgumentCaptor.forClass(Consumer.class);
+        when(diagram.getGraph()).thenReturn(graph);
+        when(session.getGraph()).thenReturn(graph);
+        when(abstractDiagramValidator.newSession(diagram)).thenReturn(session);
+        tested = new CanvasDiagramValidator(abstractDiagramValidator, successEvent, failEvent);
+
+        tested.validate(canvasHandler, callback);
+        tested.validate(canvasHandler, callback);
+        verify(abstractDiagramValidator, times(1)).newSession(diagram);
+        verify(abstractDiagramValidator, times(2)).validate(eq(diagram), eq(session), captor.capture());
+        verify(abstractDiagramValidator, never()).validate(eq(diagram), any(Consumer.class));
+        captor.getValue().accept(violations);
+        verify(callback).accept(violations);
+        verify(failEvent).fire(any(CanvasValidationFailEvent.class));
+
+        // A new session is created once the diagram is reloaded, or the validator invalidated.
+        final GraphValidationSession reloadedSession = mock(GraphValidationSession.class);
+        final Graph reloadedGraph = mock(Graph.class);
+        when(diagram.getGraph()).thenReturn(reloadedGraph);
+        when(reloadedSession.getGraph()).thenReturn(reloadedGraph);
+        when(abstractDiagramValidator.newSession(diagram)).thenReturn(reloadedSession);
+        tested.validate(canvasHandler, callback);
+        tested.validate(canvasHandler, callback);
+        verify(abstractDiagramValidator, times(2)).newSession(diagram);
+        verify(abstractDiagramValidator, times(2)).validate(eq(diagram), eq(reloadedSession), any(Consumer.class));
+        verify(session).dispose();
+        tested.invalidate();
+        verify(reloadedSession).dispose();
+        tested.validate(canvasHandler, callback);
+        verify(abstractDiagramValidator, times(3)).newSession(diagram);
+    }
+}
@@ -22,6 +22,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.kie.workbench.common.stunner.core.definition.adapter.DefinitionId;
 import org.kie.workbench.common.stunner.core.definition.property.PropertyMetaTypes;
@@ -190,7 +191,13 @@ public class BindableDefinitionAdapterImpl<T> implements BindableDefinitionAdapt
 
     @SuppressWarnings("unchecked")
     private <R> R getFieldValue(T pojo, String field) {
-        return (R) functions.getValue(pojo, field);
+        final DefinitionAdapterBindings b = getBindings(pojo);
+        final Function<Object, Object> getter = null != b && null != b.getAccessors() ?
+                b.getAccessors().getGetter(field) :
+                null;
+        return null != getter ?
+                (R) getter.apply(pojo) :
+                (R) functions.getValue(pojo, field);
     }
 
     private static String getDefinitionId(final Class<?> type) {
@@ -18,6 +18,8 @@ package org.kie.workbench.common.stunner.core.definition.adapter.binding;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.kie.workbench.common.stunner.core.i18n.StunnerTranslationService;
 
@@ -26,6 +28,7 @@ public class BindablePropertyAdapterImpl<T, R> implements BindablePropertyAdapte
     private final StunnerTranslationService translationService;
     private final BindableAdapterFunctions functions;
     private final Map<Class<?>, String> valueFields;
+    private final Map<Class<?>, BindableFieldAccessors> accessors;
 
     public static BindablePropertyAdapterImpl<Object, Object> create(StunnerTranslationService translationService,
                                                                      BindableAdapterFunctions functions) {
@@ -44,6 +47,7 @@ public class BindablePropertyAdapterImpl<T, R> implements BindablePropertyAdapte
         this.translationService = translationService;
         this.functions = functions;
         this.valueFields = valueFields;
+        this.accessors = new HashMap<>(valueFields.size());
     }
 
     @Override
@@ -51,6 +55,12 @@ public class BindablePropertyAdapterImpl<T, R> implements BindablePropertyAdapte
         valueFields.put(type, valueField);
     }
 
+    @Override
+    public void addBinding(Class<?> type, String valueField, BindableFieldAccessors accessors) {
+        addBinding(type, valueField);
+        this.accessors.put(type, accessors);
+    }
+
     @Override
     public String getId(T pojo) {
         return BindableAdapterUtils.getPropertyId(pojo.getClass());
@@ -84,11 +94,21 @@ public class BindablePropertyAdapterImpl<T, R> implements BindablePropertyAdapte
     }
 
     private void setFieldValue(T pojo, String field, R value) {
-        functions.setValue(pojo, field, value);
+        final BindableFieldAccessors typeAccessors = accessors.get(pojo.getClass());
+        final BiConsumer<Object, Object> setter = null != typeAccessors ? typeAccessors.getSetter(field) : null;
+        if (null != setter) {
+            setter.accept(pojo, value);
+        } else {
+            functions.setValue(pojo, field, value);
+        }
     }
 
     @SuppressWarnings("unchecked")
     private <R> R getFieldValue(T pojo, String field) {
-        return (R) functions.getValue(pojo, field);
+        final BindableFieldAccessors typeAccessors = accessors.get(pojo.getClass());
+        final Function<Object, Object> getter = null != typeAccessors ? typeAccessors.getGetter(field) : null;
+        return null != getter ?
+                (R) getter.apply(pojo) :
+                (R) functions.getValue(pojo, field);
     }
 }
@@ -31,6 +31,7 @@ import org.kie.workbench.common.stunner.core.command.event.local.CommandUndoExec
 import org.kie.workbench.common.stunner.core.command.event.local.IsCommandAllowedEvent;
 import org.kie.workbench.common.stunner.core.command.exception.CommandException;
 import org.kie.workbench.common.stunner.core.command.impl.CommandManagerImpl;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 
 @Dependent
@@ -84,6 +85,8 @@ public class GraphCommandManagerImpl
         try {
             final CommandResult<RuleViolation> result = commandManager.execute(context,
                                                                                command);
+            GraphUtils.invalidateContentHashIfUntracked(context,
+                                                        command);
             if (null != commandExecutedEvent) {
                 commandExecutedEvent.fire(new CommandExecutedEvent(command,
                                                                    result));
@@ -101,6 +104,8 @@ public class GraphCommandManagerImpl
                                              final Command<GraphCommandExecutionContext, RuleViolation> command) {
         final CommandResult<RuleViolation> result = commandManager.undo(context,
                                                                         command);
+        GraphUtils.invalidateContentHashIfUntracked(context,
+                                                    command);
         if (null != commandUndoExecutedEvent) {
             final CommandUndoExecutedEvent event = new CommandUndoExecutedEvent(command,
                                                                                 result);
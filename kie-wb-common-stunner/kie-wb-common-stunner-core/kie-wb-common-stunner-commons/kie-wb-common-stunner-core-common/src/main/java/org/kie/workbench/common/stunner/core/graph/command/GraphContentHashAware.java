@@ -0,0 +1,26 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.command;
+
+/**
+ * Marks graph commands that update the content hash of the graph for every element they change, on both execution
+ * and undo. The content hash of the graph is invalidated after running any other command.
+ * @see org.kie.workbench.common.stunner.core.graph.impl.GraphImpl#updateContentHash
+ */
+public interface GraphContentHashAware {
+
+}
@@ -19,9 +19,10 @@ package org.kie.workbench.common.stunner.core.graph.command.impl;
 import org.kie.soup.commons.validation.PortablePreconditions;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.HasControlPoints;
 
-public abstract class AbstractControlPointCommand extends AbstractGraphCommand {
+public abstract class AbstractControlPointCommand extends AbstractGraphCommand implements GraphContentHashAware {
 
     private final String edgeUUID;
 
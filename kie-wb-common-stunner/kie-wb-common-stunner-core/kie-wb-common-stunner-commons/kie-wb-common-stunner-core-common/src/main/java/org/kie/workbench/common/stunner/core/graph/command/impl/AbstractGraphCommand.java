@@ -30,6 +30,7 @@ import org.kie.workbench.common.stunner.core.graph.command.GraphCommand;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.processing.index.MutableIndex;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 import org.kie.workbench.common.stunner.core.rule.context.GraphEvaluationContext;
 import org.kie.workbench.common.stunner.core.rule.context.impl.RuleEvaluationContextBuilder;
@@ -83,6 +84,17 @@ public abstract class AbstractGraphCommand implements GraphCommand {
         return (Node<C, Edge>) node;
     }
 
+    /**
+     * Updates the content hash of the graph for the given changed elements.
+     * @see org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware
+     */
+    protected void updateContentHash(final GraphCommandExecutionContext context,
+                                     final Element<?>... elements) {
+        if (null != context.getGraphIndex()) {
+            GraphUtils.updateContentHash(getGraph(context), elements);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     protected <C> Element<C> getElementNotNull(final GraphCommandExecutionContext context,
                                                final String uuid) {
@@ -29,6 +29,7 @@ import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
@@ -39,7 +40,7 @@ import org.kie.workbench.common.stunner.core.rule.context.CardinalityContext;
  * given parent.
  */
 @Portable
-public class AddChildNodeCommand extends AbstractGraphCompositeCommand {
+public class AddChildNodeCommand extends AbstractGraphCompositeCommand implements GraphContentHashAware {
 
     private final String parentUUID;
     private final Node candidate;
@@ -23,6 +23,7 @@ import org.kie.workbench.common.stunner.core.command.util.CommandUtils;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.view.Connection;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
@@ -31,7 +32,7 @@ import org.kie.workbench.common.stunner.core.rule.RuleViolation;
  * A Command which adds an edge into a graph and sets its target node.
  */
 @Portable
-public final class AddConnectorCommand extends AbstractGraphCompositeCommand {
+public final class AddConnectorCommand extends AbstractGraphCompositeCommand implements GraphContentHashAware {
 
     private final String nodeUUID;
     private final Edge edge;
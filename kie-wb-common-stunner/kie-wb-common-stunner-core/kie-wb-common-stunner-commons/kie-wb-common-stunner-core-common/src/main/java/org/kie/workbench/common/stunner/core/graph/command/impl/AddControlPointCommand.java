@@ -71,6 +71,7 @@ public class AddControlPointCommand extends AbstractControlPointCommand {
             }
         }
         edgeControlPoints.setControlPoints(cps);
+        updateContentHash(context, getEdge(context));
         return GraphCommandResultBuilder.SUCCESS;
     }
 
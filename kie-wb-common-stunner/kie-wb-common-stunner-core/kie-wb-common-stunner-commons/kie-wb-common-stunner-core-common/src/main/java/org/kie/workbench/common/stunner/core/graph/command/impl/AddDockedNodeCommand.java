@@ -23,6 +23,7 @@ import org.kie.workbench.common.stunner.core.command.CommandResult;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 
 /**
@@ -30,7 +31,7 @@ import org.kie.workbench.common.stunner.core.rule.RuleViolation;
  * given parent.
  */
 @Portable
-public class AddDockedNodeCommand extends AbstractGraphCompositeCommand {
+public class AddDockedNodeCommand extends AbstractGraphCompositeCommand implements GraphContentHashAware {
 
     private final String parentUUID;
     private final Node candidate;
@@ -28,6 +28,7 @@ import org.kie.workbench.common.stunner.core.definition.clone.ClonePolicy;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.view.Connection;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
@@ -38,7 +39,7 @@ import org.kie.workbench.common.stunner.core.util.UUID;
  * A Command which adds an candidate into a graph and sets its target sourceNode.
  */
 @Portable
-public final class CloneConnectorCommand extends AbstractGraphCompositeCommand {
+public final class CloneConnectorCommand extends AbstractGraphCompositeCommand implements GraphContentHashAware {
 
     private final Edge candidate;
     private transient Edge clone;
@@ -42,6 +42,7 @@ import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.Bound;
 import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
@@ -62,7 +63,7 @@ import static org.kie.workbench.common.stunner.core.graph.util.GraphUtils.getPos
  * A Command to clone a node and set as a child of the given parent.
  */
 @Portable
-public class CloneNodeCommand extends AbstractGraphCompositeCommand {
+public class CloneNodeCommand extends AbstractGraphCompositeCommand implements GraphContentHashAware {
 
     private final Node<Definition, Edge> candidate;
     private final Optional<String> parentUuidOptional;
@@ -23,6 +23,7 @@ import org.kie.workbench.common.stunner.core.command.util.CommandUtils;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
@@ -31,7 +32,7 @@ import org.kie.workbench.common.stunner.core.rule.RuleViolation;
  * A Command to delete an edge from a graph
  */
 @Portable
-public class DeleteConnectorCommand extends AbstractGraphCompositeCommand {
+public class DeleteConnectorCommand extends AbstractGraphCompositeCommand implements GraphContentHashAware {
 
     private final String edgeUUID;
     private transient Edge<? extends View, Node> edge;
@@ -65,6 +65,7 @@ public class DeleteControlPointCommand extends AbstractControlPointCommand {
             }
         }
         edgeControlPoints.setControlPoints(cps);
+        updateContentHash(context, getEdge(context));
         return GraphCommandResultBuilder.SUCCESS;
     }
 
@@ -30,13 +30,14 @@ import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 
 /**
  * A Command to delete a set of elements.
  */
 @Portable
-public class DeleteElementsCommand extends AbstractGraphCompositeCommand {
+public class DeleteElementsCommand extends AbstractGraphCompositeCommand implements GraphContentHashAware {
 
     private final Collection<String> uuids;
     private transient Collection<Element> elements;
@@ -29,6 +29,7 @@ import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 import org.kie.workbench.common.stunner.core.rule.context.CardinalityContext;
@@ -37,7 +38,7 @@ import org.kie.workbench.common.stunner.core.rule.context.CardinalityContext;
  * A Command to deregister a node from the graph storage.
  */
 @Portable
-public class DeregisterNodeCommand extends AbstractGraphCommand {
+public class DeregisterNodeCommand extends AbstractGraphCommand implements GraphContentHashAware {
 
     private static Logger LOGGER = Logger.getLogger(DeregisterNodeCommand.class.getName());
 
@@ -27,6 +27,7 @@ import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
 import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
@@ -39,7 +40,7 @@ import org.kie.workbench.common.stunner.core.util.UUID;
  * Creates a dock relationship (edge + Dock content type) from the child node to the target node.
  */
 @Portable
-public final class DockNodeCommand extends AbstractGraphCommand {
+public final class DockNodeCommand extends AbstractGraphCommand implements GraphContentHashAware {
 
     private String parentUUID;
     private String candidateUUID;
@@ -77,6 +78,7 @@ public final class DockNodeCommand extends AbstractGraphCommand {
             parent.getOutEdges().add(edge);
             candidate.getInEdges().add(edge);
             getMutableIndex(context).addEdge(edge);
+            updateContentHash(context, edge);
         }
         return results;
     }
@@ -15,6 +15,9 @@
  */
 package org.kie.workbench.common.stunner.core.graph.command.impl;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.jboss.errai.common.client.api.annotations.MapsTo;
 import org.jboss.errai.common.client.api.annotations.Portable;
 import org.kie.soup.commons.validation.PortablePreconditions;
@@ -28,14 +31,16 @@ import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 
 /**
  * A Command to morph a node.
  */
 @Portable
-public final class MorphNodeCommand extends AbstractGraphCommand {
+public final class MorphNodeCommand extends AbstractGraphCommand implements GraphContentHashAware {
 
     private final String uuid;
     private final MorphDefinition morphDefinition;
@@ -88,6 +93,7 @@ public final class MorphNodeCommand extends AbstractGraphCommand {
 
         // Assign the resulting instance to the node,
         candidate.getContent().setDefinition(targetDef);
+        updateContentHash(context, candidate);
 
         // Update the node's labels.
         final DefinitionAdapter<Object> adapter =
@@ -95,11 +101,13 @@ public final class MorphNodeCommand extends AbstractGraphCommand {
                         .adapters()
                         .registry()
                         .getDefinitionAdapter(targetDef.getClass());
+        final Set<String> previousLabels = new HashSet<>(candidate.getLabels());
         candidate.getLabels().clear();
         final String[] labels = AbstractElementFactory.computeLabels(adapter, targetDef);
         for (String label : labels) {
             candidate.getLabels().add(label);
         }
+        GraphUtils.updateLabelsCount(getGraph(context), candidate, previousLabels);
         return results;
     }
 
@@ -26,6 +26,7 @@ import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 import org.kie.workbench.common.stunner.core.rule.context.CardinalityContext;
 
@@ -41,7 +42,7 @@ import org.kie.workbench.common.stunner.core.rule.context.CardinalityContext;
  * - <a>org.kie.workbench.common.stunner.core.graph.command.impl.AddDockedNodeCommand</a>
  */
 @Portable
-public class RegisterNodeCommand extends AbstractGraphCommand {
+public class RegisterNodeCommand extends AbstractGraphCommand implements GraphContentHashAware {
 
     private final Node candidate;
 
@@ -29,6 +29,7 @@ import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Parent;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
@@ -37,7 +38,7 @@ import org.kie.workbench.common.stunner.core.rule.RuleViolation;
  * Removes the parent-child relationship  ( Child ) between a parent and several nodes.
  */
 @Portable
-public class RemoveChildrenCommand extends AbstractGraphCommand {
+public class RemoveChildrenCommand extends AbstractGraphCommand implements GraphContentHashAware {
 
     private final String parentUUID;
     private final String[] candidateUUIDs;
@@ -89,6 +90,7 @@ public class RemoveChildrenCommand extends AbstractGraphCommand {
             parent.getOutEdges().remove(edge);
             candidate.getInEdges().remove(edge);
             getMutableIndex(context).removeEdge(edge);
+            updateContentHash(context, edge);
         }
     }
 
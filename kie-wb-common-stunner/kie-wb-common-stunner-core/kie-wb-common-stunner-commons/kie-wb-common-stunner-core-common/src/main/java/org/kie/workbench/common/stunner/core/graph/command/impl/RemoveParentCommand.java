@@ -26,6 +26,7 @@ import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Parent;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 
@@ -33,7 +34,7 @@ import org.kie.workbench.common.stunner.core.rule.RuleViolation;
  * Removes the parent-child relationship  ( Parent ) between two nodes.
  */
 @Portable
-public final class RemoveParentCommand extends AbstractGraphCommand {
+public final class RemoveParentCommand extends AbstractGraphCommand implements GraphContentHashAware {
 
     private final String parentUUID;
     private final String candidateUUID;
@@ -70,6 +71,7 @@ public final class RemoveParentCommand extends AbstractGraphCommand {
                 parent.getInEdges().remove(edge);
                 candidate.getOutEdges().remove(edge);
                 getMutableIndex(context).removeEdge(edge);
+                updateContentHash(context, edge);
             }
         }
         return results;
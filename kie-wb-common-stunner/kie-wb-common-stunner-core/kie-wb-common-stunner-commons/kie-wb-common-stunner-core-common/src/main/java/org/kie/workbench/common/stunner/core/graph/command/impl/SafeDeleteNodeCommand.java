@@ -34,6 +34,7 @@ import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
@@ -46,7 +47,7 @@ import org.kie.workbench.common.stunner.core.graph.util.SafeDeleteNodeProcessor;
  * Deletes a node taking into account its ingoing / outgoing edges and safe remove all node's children as well, if any.
  */
 @Portable
-public class SafeDeleteNodeCommand extends AbstractGraphCompositeCommand {
+public class SafeDeleteNodeCommand extends AbstractGraphCompositeCommand implements GraphContentHashAware {
 
     @Portable
     public static final class Options {
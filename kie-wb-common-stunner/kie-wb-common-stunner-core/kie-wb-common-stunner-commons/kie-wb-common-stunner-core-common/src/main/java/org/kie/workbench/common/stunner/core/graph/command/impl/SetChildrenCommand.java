@@ -29,6 +29,7 @@ import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
 import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
@@ -40,7 +41,7 @@ import org.kie.workbench.common.stunner.core.util.UUID;
  * All nodes must already be crated and present on the graph storage.
  */
 @Portable
-public class SetChildrenCommand extends AbstractGraphCommand {
+public class SetChildrenCommand extends AbstractGraphCommand implements GraphContentHashAware {
 
     private final String parentUUID;
     private final String[] candidateUUIDs;
@@ -94,6 +95,7 @@ public class SetChildrenCommand extends AbstractGraphCommand {
         parent.getOutEdges().add(edge);
         candidate.getInEdges().add(edge);
         getMutableIndex(context).addEdge(edge);
+        updateContentHash(context, edge);
     }
 
     @SuppressWarnings("unchecked")
@@ -26,6 +26,7 @@ import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.view.Connection;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
@@ -40,7 +41,7 @@ import org.kie.workbench.common.stunner.core.rule.context.EdgeCardinalityContext
  * - if connector is not view based, no need to provide magnet index.
  */
 @Portable
-public class SetConnectionTargetNodeCommand extends AbstractGraphCommand {
+public class SetConnectionTargetNodeCommand extends AbstractGraphCommand implements GraphContentHashAware {
 
     private final String targetNodeUUID;
     private final String edgeUUID;
@@ -106,6 +107,7 @@ public class SetConnectionTargetNodeCommand extends AbstractGraphCommand {
             ViewConnector connectionContent = (ViewConnector) edge.getContent();
             lastConnection = (Connection) connectionContent.getTargetConnection().orElse(null);
             connectionContent.setTargetConnection(connection);
+            updateContentHash(context, edge);
         }
         return results;
     }
@@ -27,6 +27,7 @@ import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Parent;
 import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
@@ -37,7 +38,7 @@ import org.kie.workbench.common.stunner.core.util.UUID;
  * Creates a parent relationship (edge + Parent content type) to the target node from the child node.
  */
 @Portable
-public final class SetParentNodeCommand extends AbstractGraphCommand {
+public final class SetParentNodeCommand extends AbstractGraphCommand implements GraphContentHashAware {
 
     private final String parentUUID;
     private final String candidateUUID;
@@ -76,6 +77,7 @@ public final class SetParentNodeCommand extends AbstractGraphCommand {
             parent.getOutEdges().add(edge);
             candidate.getInEdges().add(edge);
             getMutableIndex(context).addEdge(edge);
+            updateContentHash(context, edge);
         }
         return results;
     }
@@ -24,6 +24,7 @@ import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 
@@ -31,7 +32,7 @@ import org.kie.workbench.common.stunner.core.rule.RuleViolation;
  * Removes the parent-dock relationship  ( Dock ) between two nodes.
  */
 @Portable
-public class UnDockNodeCommand extends AbstractGraphCommand {
+public class UnDockNodeCommand extends AbstractGraphCommand implements GraphContentHashAware {
 
     private final String parentUUID;
     private final String candidateUUID;
@@ -82,6 +83,7 @@ public class UnDockNodeCommand extends AbstractGraphCommand {
         parent.getOutEdges().remove(edge);
         candidate.getInEdges().remove(edge);
         getMutableIndex(context).removeEdge(edge);
+        updateContentHash(context, edge);
     }
 
     protected CommandResult<RuleViolation> check(final GraphCommandExecutionContext context) {
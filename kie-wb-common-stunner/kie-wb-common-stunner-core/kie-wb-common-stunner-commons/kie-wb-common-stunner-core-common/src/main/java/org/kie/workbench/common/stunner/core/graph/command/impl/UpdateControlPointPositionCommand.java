@@ -52,6 +52,7 @@ public class UpdateControlPointPositionCommand extends AbstractControlPointComma
         final HasControlPoints hasControlPoints = getEdgeControlPoints(context);
         oldControlPoints = hasControlPoints.getControlPoints();
         hasControlPoints.setControlPoints(controlPoints);
+        updateContentHash(context, getEdge(context));
         return SUCCESS;
     }
 
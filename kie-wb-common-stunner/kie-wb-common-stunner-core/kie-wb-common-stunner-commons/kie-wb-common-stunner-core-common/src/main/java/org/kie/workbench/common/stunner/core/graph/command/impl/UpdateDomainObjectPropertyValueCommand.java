@@ -25,6 +25,7 @@ import org.kie.workbench.common.stunner.core.definition.adapter.PropertyAdapter;
 import org.kie.workbench.common.stunner.core.domainobject.DomainObject;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.registry.definition.AdapterRegistry;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 
@@ -32,7 +33,7 @@ import org.kie.workbench.common.stunner.core.rule.RuleViolation;
  * A Command to update a DomainObject's property.
  */
 @Portable
-public final class UpdateDomainObjectPropertyValueCommand extends AbstractGraphCommand {
+public final class UpdateDomainObjectPropertyValueCommand extends AbstractGraphCommand implements GraphContentHashAware {
 
     private final DomainObject domainObject;
     private final String field;
@@ -26,6 +26,7 @@ import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
@@ -36,7 +37,7 @@ import org.kie.workbench.common.stunner.core.rule.RuleViolation;
  * A Command to update an element's bounds.
  */
 @Portable
-public final class UpdateElementPositionCommand extends AbstractGraphCommand {
+public final class UpdateElementPositionCommand extends AbstractGraphCommand implements GraphContentHashAware {
 
     private final String uuid;
     private final Point2D location;
@@ -91,8 +92,10 @@ public final class UpdateElementPositionCommand extends AbstractGraphCommand {
     @Override
     @SuppressWarnings("unchecked")
     public CommandResult<RuleViolation> execute(final GraphCommandExecutionContext context) {
-        return execute(context,
-                       bounds -> node.getContent().setBounds(bounds));
+        final CommandResult<RuleViolation> results = execute(context,
+                                                             bounds -> node.getContent().setBounds(bounds));
+        updateContentHash(context, node);
+        return results;
     }
 
     @SuppressWarnings("unchecked")
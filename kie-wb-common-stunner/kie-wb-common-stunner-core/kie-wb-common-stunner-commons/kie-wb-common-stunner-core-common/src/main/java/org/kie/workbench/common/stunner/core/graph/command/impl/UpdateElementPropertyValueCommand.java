@@ -23,6 +23,7 @@ import org.kie.workbench.common.stunner.core.definition.adapter.PropertyAdapter;
 import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 
@@ -30,7 +31,7 @@ import org.kie.workbench.common.stunner.core.rule.RuleViolation;
  * A Command to update an element's property.
  */
 @Portable
-public final class UpdateElementPropertyValueCommand extends AbstractGraphCommand {
+public final class UpdateElementPropertyValueCommand extends AbstractGraphCommand implements GraphContentHashAware {
 
     private final String elementUUID;
     private final String field;
@@ -75,6 +76,7 @@ public final class UpdateElementPropertyValueCommand extends AbstractGraphComman
         oldValue = adapter.getValue(p);
         adapter.setValue(p,
                          value);
+        updateContentHash(context, element);
         return GraphCommandResultBuilder.SUCCESS;
     }
 
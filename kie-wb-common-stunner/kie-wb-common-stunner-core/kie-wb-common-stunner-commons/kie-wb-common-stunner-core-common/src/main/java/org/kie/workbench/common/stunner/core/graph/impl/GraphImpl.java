@@ -16,20 +16,69 @@
 
 package org.kie.workbench.common.stunner.core.graph.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 import org.jboss.errai.common.client.api.annotations.MapsTo;
 import org.jboss.errai.common.client.api.annotations.Portable;
 import org.kie.soup.commons.validation.PortablePreconditions;
 import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.store.GraphNodeStore;
 import org.kie.workbench.common.stunner.core.graph.store.GraphNodeStoreImpl;
 import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 
+/**
+ * The hash code of the graph is a content hash, i.e. the XOR of the hashes of all its nodes and edges
+ * (see {@link GraphUtils#computeElementHashCode(Element)}), which is computed once and then kept up to date by the
+ * graph commands as they change elements, so dirty checks don't have to walk the whole graph.
+ * Any change done outside the graph commands must either update the hash of the changed elements
+ * ({@link #updateContentHash(Element)}) or invalidate it ({@link #invalidateContentHash()}).
+ * <p>
+ * If the <code>FINEST</code> log level is enabled for this class, the incremental hash is verified against a full
+ * computation on each call.
+ * <p>
+ * The graph also counts its nodes by label (role), for cardinality lookups. The counts are kept up to date as nodes
+ * are added or removed, but changing the labels of a node in the graph requires a call to
+ * {@link #updateLabelsCount(Node, Set)}.
+ * <p>
+ * The elements reported as changed, either by the graph commands or by adding or removing nodes, are also notified
+ * to the registered {@link ContentChangeListener} instances, so they can keep track of the changes.
+ */
 @Portable
 public class GraphImpl<C> extends AbstractElement<C> implements Graph<C, Node> {
 
+    private static Logger LOGGER = Logger.getLogger(GraphImpl.class.getName());
+
     private final GraphNodeStore<Node> nodeStore;
+    private transient Map<String, Integer> elementHashes;
+    private transient int contentHash;
+    private transient Map<String, Integer> labelsCount;
+    private transient List<ContentChangeListener> contentChangeListeners;
+
+    /**
+     * Listens to the changes of the nodes and edges of a graph.
+     */
+    public interface ContentChangeListener {
+
+        /**
+         * The given node or edge has been changed, added or removed.
+         */
+        void onElementChanged(Element<?> element);
+
+        /**
+         * The graph has been changed in a way that is not tracked, so any element may have changed.
+         */
+        void onContentInvalidated();
+    }
 
     public static <C> GraphImpl<C> build(final String uuid) {
         return new GraphImpl<>(uuid, new GraphNodeStoreImpl());
@@ -44,12 +93,23 @@ public class GraphImpl<C> extends AbstractElement<C> implements Graph<C, Node> {
 
     @Override
     public Node addNode(final Node node) {
-        return nodeStore.add(node);
+        final Node previous = nodeStore.add(node);
+        if (null != previous) {
+            countLabels(previous.getLabels(), -1);
+        }
+        countLabels(node.getLabels(), 1);
+        updateNodeContentHash(node);
+        return previous;
     }
 
     @Override
     public Node removeNode(final String uuid) {
-        return nodeStore.remove(uuid);
+        final Node removed = nodeStore.remove(uuid);
+        if (null != removed) {
+            countLabels(removed.getLabels(), -1);
+            updateNodeContentHash(removed);
+        }
+        return removed;
     }
 
     @Override
@@ -65,6 +125,8 @@ public class GraphImpl<C> extends AbstractElement<C> implements Graph<C, Node> {
     @Override
     public void clear() {
         nodeStore.clear();
+        labelsCount = null;
+        invalidateContentHash();
     }
 
     @Override
@@ -77,9 +139,159 @@ public class GraphImpl<C> extends AbstractElement<C> implements Graph<C, Node> {
         return null;
     }
 
+    /**
+     * Returns the number of nodes for each label in use in this graph.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Integer> getLabelsCount() {
+        if (null == labelsCount) {
+            labelsCount = new HashMap<>();
+            nodeStore.forEach(node -> countLabels(node.getLabels(), 1));
+        }
+        return Collections.unmodifiableMap(labelsCount);
+    }
+
+    /**
+     * Discards the labels count, so it gets computed again on its next lookup, e.g. once the nodes of this graph
+     * have been changed without going through it.
+     */
+    public void invalidateLabelsCount() {
+        labelsCount = null;
+    }
+
+    /**
+     * Updates the labels count once the labels of the given node have been changed.
+     */
+    @SuppressWarnings("unchecked")
+    public void updateLabelsCount(final Node node,
+                                  final Set<String> previousLabels) {
+        countLabels(previousLabels, -1);
+        countLabels(node.getLabels(), 1);
+    }
+
+    /**
+     * Updates the content hash for the current state of the given element, which is either a node or an edge.
+     * Elements that are no longer part of this graph are removed from the hash.
+     */
+    public void updateContentHash(final Element<?> element) {
+        notifyElementChanged(element);
+        if (null == elementHashes) {
+            return;
+        }
+        final Integer previous = elementHashes.remove(element.getUUID());
+        if (null != previous) {
+            contentHash ^= previous;
+        }
+        if (isInGraph(element)) {
+            final int hash = GraphUtils.computeElementHashCode(element);
+            elementHashes.put(element.getUUID(), hash);
+            contentHash ^= hash;
+        }
+    }
+
+    /**
+     * Returns the hash of each node and edge in this graph, by element UUID, as kept for the content hash.
+     * Callers can compare it with a previous copy to find out the elements that have changed since then.
+     */
+    public Map<String, Integer> getElementHashes() {
+        if (null == elementHashes) {
+            computeContentHash();
+        }
+        return Collections.unmodifiableMap(elementHashes);
+    }
+
+    /**
+     * Discards the content hash, so it gets fully computed again on the next call to {@link #hashCode()}.
+     */
+    public void invalidateContentHash() {
+        elementHashes = null;
+        if (null != contentChangeListeners) {
+            new ArrayList<>(contentChangeListeners).forEach(ContentChangeListener::onContentInvalidated);
+        }
+    }
+
+    public void addContentChangeListener(final ContentChangeListener listener) {
+        if (null == contentChangeListeners) {
+            contentChangeListeners = new ArrayList<>();
+        }
+        contentChangeListeners.add(listener);
+    }
+
+    public void removeContentChangeListener(final ContentChangeListener listener) {
+        if (null != contentChangeListeners) {
+            contentChangeListeners.remove(listener);
+        }
+    }
+
     @Override
     public int hashCode() {
-        return GraphUtils.computeGraphHashCode(this);
+        if (null == elementHashes) {
+            computeContentHash();
+        } else if (LOGGER.isLoggable(Level.FINEST)) {
+            final int expected = GraphUtils.computeGraphHashCode(this);
+            if (expected != contentHash) {
+                LOGGER.log(Level.WARNING,
+                           "Incremental content hash [" + contentHash + "] of graph [" + getUUID() + "] " +
+                                   "does not match its computed hash [" + expected + "].");
+                computeContentHash();
+            }
+        }
+        return contentHash;
+    }
+
+    private void computeContentHash() {
+        elementHashes = GraphUtils.computeElementHashCodes(this);
+        contentHash = 0;
+        for (Integer hash : elementHashes.values()) {
+            contentHash ^= hash;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void updateNodeContentHash(final Node node) {
+        if (null == elementHashes && null == contentChangeListeners) {
+            return;
+        }
+        updateContentHash(node);
+        final List<Edge> inEdges = node.getInEdges();
+        final List<Edge> outEdges = node.getOutEdges();
+        if (null != inEdges) {
+            inEdges.forEach(this::updateContentHash);
+        }
+        if (null != outEdges) {
+            outEdges.forEach(this::updateContentHash);
+        }
+    }
+
+    private void notifyElementChanged(final Element<?> element) {
+        if (null != contentChangeListeners) {
+            for (ContentChangeListener listener : contentChangeListeners) {
+                listener.onElementChanged(element);
+            }
+        }
+    }
+
+    private void countLabels(final Set<String> labels,
+                             final int delta) {
+        if (null == labelsCount || null == labels) {
+            return;
+        }
+        for (String label : labels) {
+            final int count = labelsCount.getOrDefault(label, 0) + delta;
+            if (count > 0) {
+                labelsCount.put(label, count);
+            } else {
+                labelsCount.remove(label);
+            }
+        }
+    }
+
+    private boolean isInGraph(final Element<?> element) {
+        if (element instanceof Edge) {
+            final Edge<?, ?> edge = (Edge<?, ?>) element;
+            return isInGraph(edge.getSourceNode()) || isInGraph(edge.getTargetNode());
+        }
+        return element instanceof Node && null != nodeStore.get(element.getUUID());
     }
 
     @Override
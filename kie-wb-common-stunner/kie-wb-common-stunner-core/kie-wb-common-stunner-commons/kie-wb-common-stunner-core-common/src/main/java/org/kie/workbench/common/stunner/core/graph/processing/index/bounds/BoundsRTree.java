@@ -0,0 +1,428 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.index.bounds;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A simple R-tree over axis aligned rectangles.
+ * <p>
+ * The tree can be bulk loaded (Sort-Tile-Recursive) and then maintained incrementally by
+ * inserting, removing or updating single values. Point and rectangle queries only visit the
+ * tree nodes whose bounding rectangles intersect the query, so they run in logarithmic time
+ * for well distributed data.
+ * @param <T> The type of the indexed values. Values are compared by identity/equality, so each
+ * value must be present at most once in the tree.
+ */
+public final class BoundsRTree<T> {
+
+    static final int MAX_ENTRIES = 16;
+
+    private final Map<T, Entry<T>> entries = new HashMap<>();
+    private RNode<T> root = new RNode<>(true);
+
+    public static final class Entry<T> {
+
+        private final T value;
+        private final double minX;
+        private final double minY;
+        private final double maxX;
+        private final double maxY;
+        private RNode<T> leaf;
+
+        private Entry(final T value,
+                      final double minX,
+                      final double minY,
+                      final double maxX,
+                      final double maxY) {
+            this.value = value;
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public double getMinX() {
+            return minX;
+        }
+
+        public double getMinY() {
+            return minY;
+        }
+
+        public double getMaxX() {
+            return maxX;
+        }
+
+        public double getMaxY() {
+            return maxY;
+        }
+    }
+
+    private static final class RNode<T> {
+
+        private final boolean leaf;
+        private final List<Object> children = new ArrayList<>(MAX_ENTRIES + 1);
+        private RNode<T> parent;
+        private double minX = Double.MAX_VALUE;
+        private double minY = Double.MAX_VALUE;
+        private double maxX = -Double.MAX_VALUE;
+        private double maxY = -Double.MAX_VALUE;
+
+        private RNode(final boolean leaf) {
+            this.leaf = leaf;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void recomputeBounds() {
+            minX = Double.MAX_VALUE;
+            minY = Double.MAX_VALUE;
+            maxX = -Double.MAX_VALUE;
+            maxY = -Double.MAX_VALUE;
+            for (Object child : children) {
+                if (leaf) {
+                    final Entry<T> entry = (Entry<T>) child;
+                    include(entry.minX, entry.minY, entry.maxX, entry.maxY);
+                } else {
+                    final RNode<T> node = (RNode<T>) child;
+                    include(node.minX, node.minY, node.maxX, node.maxY);
+                }
+            }
+        }
+
+        private void include(final double x1,
+                             final double y1,
+                             final double x2,
+                             final double y2) {
+            minX = Math.min(minX, x1);
+            minY = Math.min(minY, y1);
+            maxX = Math.max(maxX, x2);
+            maxY = Math.max(maxY, y2);
+        }
+
+        private boolean intersects(final double x1,
+                                   final double y1,
+                                   final double x2,
+                                   final double y2) {
+            return x1 <= maxX && x2 >= minX && y1 <= maxY && y2 >= minY;
+        }
+
+        private double area() {
+            return (maxX - minX) * (maxY - minY);
+        }
+
+        private double enlargement(final double x1,
+                                   final double y1,
+                                   final double x2,
+                                   final double y2) {
+            final double w = Math.max(maxX, x2) - Math.min(minX, x1);
+            final double h = Math.max(maxY, y2) - Math.min(minY, y1);
+            return (w * h) - area();
+        }
+
+        private void add(final Object child) {
+            children.add(child);
+            attach(child);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void attach(final Object child) {
+            if (leaf) {
+                ((Entry<T>) child).leaf = this;
+            } else {
+                ((RNode<T>) child).parent = this;
+            }
+        }
+    }
+
+    /**
+     * Replaces the tree contents with the given entries, using Sort-Tile-Recursive packing.
+     */
+    public void load(final List<Entry<T>> toLoad) {
+        clear();
+        if (toLoad.isEmpty()) {
+            return;
+        }
+        List<Object> level = new ArrayList<>(toLoad.size());
+        for (Entry<T> entry : toLoad) {
+            entries.put(entry.value, entry);
+            level.add(entry);
+        }
+        boolean leaf = true;
+        while (level.size() > 1 || leaf) {
+            level = pack(level, leaf);
+            leaf = false;
+        }
+        root = cast(level.get(0));
+    }
+
+    public static <T> Entry<T> entry(final T value,
+                                     final double minX,
+                                     final double minY,
+                                     final double maxX,
+                                     final double maxY) {
+        return new Entry<>(value, minX, minY, maxX, maxY);
+    }
+
+    public void insert(final T value,
+                       final double minX,
+                       final double minY,
+                       final double maxX,
+                       final double maxY) {
+        remove(value);
+        final Entry<T> entry = new Entry<>(value, minX, minY, maxX, maxY);
+        entries.put(value, entry);
+        final RNode<T> leaf = chooseLeaf(root, entry);
+        leaf.add(entry);
+        adjust(leaf);
+    }
+
+    public boolean remove(final T value) {
+        final Entry<T> entry = entries.remove(value);
+        if (null == entry) {
+            return false;
+        }
+        final RNode<T> leaf = entry.leaf;
+        leaf.children.remove(entry);
+        entry.leaf = null;
+        condense(leaf);
+        return true;
+    }
+
+    public void update(final T value,
+                       final double minX,
+                       final double minY,
+                       final double maxX,
+                       final double maxY) {
+        final Entry<T> entry = entries.get(value);
+        if (null != entry && entry.minX == minX && entry.minY == minY && entry.maxX == maxX && entry.maxY == maxY) {
+            return;
+        }
+        insert(value, minX, minY, maxX, maxY);
+    }
+
+    public Entry<T> get(final T value) {
+        return entries.get(value);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public void clear() {
+        entries.clear();
+        root = new RNode<>(true);
+    }
+
+    /**
+     * Returns the bounds of all indexed values as <code>{minX, minY, maxX, maxY}</code>, or
+     * <code>null</code> if the tree is empty. It's answered from the root node in constant time.
+     */
+    public double[] getBounds() {
+        if (isEmpty()) {
+            return null;
+        }
+        return new double[]{root.minX, root.minY, root.maxX, root.maxY};
+    }
+
+    public void forEach(final Consumer<Entry<T>> consumer) {
+        entries.values().forEach(consumer);
+    }
+
+    public void search(final double x,
+                       final double y,
+                       final Consumer<Entry<T>> consumer) {
+        search(x, y, x, y, consumer);
+    }
+
+    public void search(final double minX,
+                       final double minY,
+                       final double maxX,
+                       final double maxY,
+                       final Consumer<Entry<T>> consumer) {
+        if (!isEmpty()) {
+            search(root, minX, minY, maxX, maxY, consumer);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void search(final RNode<T> node,
+                        final double minX,
+                        final double minY,
+                        final double maxX,
+                        final double maxY,
+                        final Consumer<Entry<T>> consumer) {
+        if (!node.intersects(minX, minY, maxX, maxY)) {
+            return;
+        }
+        for (Object child : node.children) {
+            if (node.leaf) {
+                final Entry<T> entry = (Entry<T>) child;
+                if (minX <= entry.maxX && maxX >= entry.minX && minY <= entry.maxY && maxY >= entry.minY) {
+                    consumer.accept(entry);
+                }
+            } else {
+                search((RNode<T>) child, minX, minY, maxX, maxY, consumer);
+            }
+        }
+    }
+
+    private List<Object> pack(final List<Object> items,
+                              final boolean leaf) {
+        final int count = items.size();
+        final int nodeCount = (int) Math.ceil((double) count / MAX_ENTRIES);
+        final int sliceCount = (int) Math.ceil(Math.sqrt(nodeCount));
+        final int sliceSize = sliceCount * MAX_ENTRIES;
+        items.sort(Comparator.comparingDouble(this::centerX));
+        final List<Object> result = new ArrayList<>(nodeCount);
+        for (int i = 0; i < count; i += sliceSize) {
+            final List<Object> slice = new ArrayList<>(items.subList(i, Math.min(i + sliceSize, count)));
+            slice.sort(Comparator.comparingDouble(this::centerY));
+            for (int j = 0; j < slice.size(); j += MAX_ENTRIES) {
+                final RNode<T> node = new RNode<>(leaf);
+                for (Object child : slice.subList(j, Math.min(j + MAX_ENTRIES, slice.size()))) {
+                    node.add(child);
+                }
+                node.recomputeBounds();
+                result.add(node);
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private double centerX(final Object item) {
+        if (item instanceof Entry) {
+            final Entry<T> entry = (Entry<T>) item;
+            return (entry.minX + entry.maxX) / 2;
+        }
+        final RNode<T> node = (RNode<T>) item;
+        return (node.minX + node.maxX) / 2;
+    }
+
+    @SuppressWarnings("unchecked")
+    private double centerY(final Object item) {
+        if (item instanceof Entry) {
+            final Entry<T> entry = (Entry<T>) item;
+            return (entry.minY + entry.maxY) / 2;
+        }
+        final RNode<T> node = (RNode<T>) item;
+        return (node.minY + node.maxY) / 2;
+    }
+
+    private RNode<T> chooseLeaf(final RNode<T> node,
+                                final Entry<T> entry) {
+        if (node.leaf) {
+            return node;
+        }
+        RNode<T> best = null;
+        double bestEnlargement = Double.MAX_VALUE;
+        double bestArea = Double.MAX_VALUE;
+        for (Object child : node.children) {
+            final RNode<T> candidate = cast(child);
+            final double enlargement = candidate.enlargement(entry.minX, entry.minY, entry.maxX, entry.maxY);
+            final double area = candidate.area();
+            if (enlargement < bestEnlargement || (enlargement == bestEnlargement && area < bestArea)) {
+                best = candidate;
+                bestEnlargement = enlargement;
+                bestArea = area;
+            }
+        }
+        return chooseLeaf(best, entry);
+    }
+
+    private void adjust(final RNode<T> start) {
+        RNode<T> node = start;
+        while (null != node) {
+            if (node.children.size() > MAX_ENTRIES) {
+                split(node);
+            }
+            node.recomputeBounds();
+            node = node.parent;
+        }
+    }
+
+    private void split(final RNode<T> node) {
+        // Split along the axis with the largest spread of child centers.
+        final boolean byX = (node.maxX - node.minX) >= (node.maxY - node.minY);
+        final List<Object> sorted = new ArrayList<>(node.children);
+        final ToDoubleFunction<Object> center = byX ? this::centerX : this::centerY;
+        sorted.sort(Comparator.comparingDouble(center));
+        final int half = sorted.size() / 2;
+        final RNode<T> sibling = new RNode<>(node.leaf);
+        node.children.clear();
+        for (int i = 0; i < sorted.size(); i++) {
+            if (i < half) {
+                node.add(sorted.get(i));
+            } else {
+                sibling.add(sorted.get(i));
+            }
+        }
+        node.recomputeBounds();
+        sibling.recomputeBounds();
+        if (null == node.parent) {
+            final RNode<T> newRoot = new RNode<>(false);
+            newRoot.add(node);
+            newRoot.add(sibling);
+            root = newRoot;
+        } else {
+            node.parent.add(sibling);
+        }
+    }
+
+    private void condense(final RNode<T> start) {
+        RNode<T> node = start;
+        while (null != node.parent) {
+            final RNode<T> parent = node.parent;
+            if (node.children.isEmpty()) {
+                parent.children.remove(node);
+                node.parent = null;
+            } else {
+                node.recomputeBounds();
+            }
+            node = parent;
+        }
+        node.recomputeBounds();
+        // Shrink the tree height when the root has a single inner child.
+        while (!root.leaf && root.children.size() == 1) {
+            root = cast(root.children.get(0));
+            root.parent = null;
+        }
+        if (!root.leaf && root.children.isEmpty()) {
+            root = new RNode<>(true);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RNode<T> cast(final Object o) {
+        return (RNode<T>) o;
+    }
+}
@@ -16,8 +16,14 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.index.bounds;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
@@ -35,12 +41,28 @@ import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.A
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ChildrenTraverseProcessor;
 import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 
+/**
+ * Indexes the absolute bounds of the graph's nodes into a {@link BoundsRTree}.
+ * <p>
+ * The graph is traversed only once after each call to {@link #build(Graph)} or
+ * {@link #setRootUUID(String)}, at the time of the first query. Further point and area queries,
+ * as well as the trimmed bounds, are answered from the index. Callers that keep the indexer
+ * alive across graph mutations can keep it up to date by using {@link #onNodeUpdated(Node)}
+ * and {@link #onNodeRemoved(Node)} instead of rebuilding it.
+ */
 @Dependent
 public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
 
     ChildrenTraverseProcessor childrenTraverseProcessor;
     private Graph<View, Node<View, Edge>> graph;
     private String rootUUID = null;
+    private final BoundsRTree<Node> index = new BoundsRTree<>();
+    private final Map<String, Integer> traverseOrder = new HashMap<>();
+    private final Set<String> rootDescendants = new HashSet<>();
+    private Node rootNode;
+    private double[] trimmedBounds;
+    private boolean indexed = false;
+    private int nextOrder = 0;
 
     @Inject
     public GraphBoundsIndexerImpl(final ChildrenTraverseProcessor childrenTraverseProcessor) {
@@ -50,6 +72,7 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
     @Override
     public GraphBoundsIndexerImpl build(final Graph<View, Node<View, Edge>> graph) {
         this.graph = graph;
+        invalidate();
         return this;
     }
 
@@ -101,9 +124,98 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
 
     @Override
     public double[] getTrimmedBounds() {
-        final double[] result = new double[]{Double.MAX_VALUE, Double.MAX_VALUE, 0, 0};
+        ensureIndexed();
+        if (null == trimmedBounds) {
+            trimmedBounds = computeTrimmedBounds();
+        }
+        return new double[]{trimmedBounds[0], trimmedBounds[1], trimmedBounds[2], trimmedBounds[3]};
+    }
+
+    /**
+     * Returns the node at the given absolute coordinates. When several nodes contain the point, the
+     * last one in the children traversal order (the innermost or the top-most one) is returned. The
+     * node given as root, if any, matches any point.
+     */
+    @SuppressWarnings("unchecked")
+    public Node<View<?>, Edge> findElementAt(final double x,
+                                             final double y) {
+        ensureIndexed();
+        final Node[] result = new Node[]{rootNode};
+        final int[] resultOrder = new int[]{null != rootNode ? getOrder(rootNode) : -1};
+        index.search(x,
+                     y,
+                     entry -> {
+                         final int order = getOrder(entry.getValue());
+                         if (order > resultOrder[0]) {
+                             result[0] = entry.getValue();
+                             resultOrder[0] = order;
+                         }
+                     });
+        return result[0];
+    }
+
+    /**
+     * Updates the indexed bounds for the given node and its children, or adds them if not yet present.
+     */
+    @SuppressWarnings("unchecked")
+    public void onNodeUpdated(final Node<?, ? extends Edge> node) {
+        if (!indexed || !(node.getContent() instanceof View)) {
+            return;
+        }
+        final Point2D position = GraphUtils.getComputedPosition(node);
+        final double[] size = GraphUtils.getNodeSize((View) node.getContent());
+        if (!traverseOrder.containsKey(node.getUUID())) {
+            traverseOrder.put(node.getUUID(),
+                              nextOrder++);
+        }
+        if (isRootDescendant(node)) {
+            rootDescendants.add(node.getUUID());
+        } else {
+            rootDescendants.remove(node.getUUID());
+        }
+        index.update(node,
+                     position.getX(),
+                     position.getY(),
+                     position.getX() + size[0],
+                     position.getY() + size[1]);
+        trimmedBounds = null;
+        GraphUtils.getChildNodes(node).forEach(this::onNodeUpdated);
+    }
+
+    /**
+     * Removes the given node and its children from the index.
+     */
+    public void onNodeRemoved(final Node<?, ? extends Edge> node) {
+        if (!indexed) {
+            return;
+        }
+        index.remove(node);
+        traverseOrder.remove(node.getUUID());
+        rootDescendants.remove(node.getUUID());
+        if (node == rootNode) {
+            rootNode = null;
+        }
+        trimmedBounds = null;
+        GraphUtils.getChildNodes(node).forEach(this::onNodeRemoved);
+    }
+
+    private void invalidate() {
+        indexed = false;
+        index.clear();
+        traverseOrder.clear();
+        rootDescendants.clear();
+        rootNode = null;
+        trimmedBounds = null;
+        nextOrder = 0;
+    }
+
+    private void ensureIndexed() {
+        if (indexed || null == graph) {
+            return;
+        }
+        final List<BoundsRTree.Entry<Node>> entries = new ArrayList<>();
         childrenTraverseProcessor
-                .setRootUUID(this.rootUUID)
+                .setRootUUID(null)
                 .traverse(graph,
                           new GraphBoundIndexerTraverseCallback(new NodeBoundsTraverseCallback() {
 
@@ -112,55 +224,82 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
                                                          final double parentX,
                                                          final double parentY) {
                                   final String uuid = node.getUUID();
-                                  final boolean isRoot = null != GraphBoundsIndexerImpl.this.rootUUID
-                                          && GraphBoundsIndexerImpl.this.rootUUID.equals(uuid);
-                                  if (!isRoot) {
-                                      final double[] absCoords = getNodeAbsoluteCoordinates(node,
-                                                                                            parentX,
-                                                                                            parentY);
-                                      final double x = absCoords[0];
-                                      final double y = absCoords[1];
-                                      final double w = absCoords[2];
-                                      final double h = absCoords[3];
-                                      if (x < result[0]) {
-                                          result[0] = x;
-                                      }
-                                      if (y < result[1]) {
-                                          result[1] = y;
-                                      }
-                                      if (w > result[2]) {
-                                          result[2] = w;
-                                      }
-                                      if (h > result[3]) {
-                                          result[3] = h;
-                                      }
+                                  traverseOrder.put(uuid,
+                                                    nextOrder++);
+                                  if (isRoot(node)) {
+                                      rootNode = node;
                                   }
+                                  final double[] absCoords = getNodeAbsoluteCoordinates(node,
+                                                                                        parentX,
+                                                                                        parentY);
+                                  entries.add(BoundsRTree.entry(node,
+                                                                absCoords[0],
+                                                                absCoords[1],
+                                                                absCoords[2],
+                                                                absCoords[3]));
+                              }
+
+                              @Override
+                              public void onNodeTraverse(final List<Node<View, Edge>> parents,
+                                                         final Node<View, Edge> node,
+                                                         final double parentX,
+                                                         final double parentY) {
+                                  if (null != rootUUID && parents.stream().anyMatch(GraphBoundsIndexerImpl.this::isRoot)) {
+                                      rootDescendants.add(node.getUUID());
+                                  }
+                                  onNodeTraverse(node,
+                                                 parentX,
+                                                 parentY);
                               }
                           }));
+        index.load(entries);
+        indexed = true;
+    }
+
+    private double[] computeTrimmedBounds() {
+        final double[] result = new double[]{Double.MAX_VALUE, Double.MAX_VALUE, 0, 0};
+        if (null == rootUUID) {
+            final double[] bounds = index.getBounds();
+            if (null != bounds) {
+                result[0] = bounds[0];
+                result[1] = bounds[1];
+                result[2] = Math.max(result[2], bounds[2]);
+                result[3] = Math.max(result[3], bounds[3]);
+            }
+            return result;
+        }
+        index.forEach(entry -> {
+            if (rootDescendants.contains(entry.getValue().getUUID())) {
+                result[0] = Math.min(result[0], entry.getMinX());
+                result[1] = Math.min(result[1], entry.getMinY());
+                result[2] = Math.max(result[2], entry.getMaxX());
+                result[3] = Math.max(result[3], entry.getMaxY());
+            }
+        });
         return result;
     }
 
-    @SuppressWarnings("unchecked")
-    public Node<View<?>, Edge> findElementAt(final double x,
-                                             final double y) {
-        final Node[] result = new Node[1];
-        childrenTraverseProcessor.traverse(graph,
-                                           new GraphBoundIndexerTraverseCallback(new NodeBoundsTraverseCallback() {
-
-                                               @Override
-                                               public void onNodeTraverse(final Node<View, Edge> node,
-                                                                          final double parentX,
-                                                                          final double parentY) {
-                                                   if (isNodeAt(node,
-                                                                parentX,
-                                                                parentY,
-                                                                x,
-                                                                y)) {
-                                                       result[0] = node;
-                                                   }
-                                               }
-                                           }));
-        return result[0];
+    private int getOrder(final Node node) {
+        final Integer order = traverseOrder.get(node.getUUID());
+        return null != order ? order : -1;
+    }
+
+    private boolean isRoot(final Node node) {
+        return null != rootUUID && null != node && rootUUID.equals(node.getUUID());
+    }
+
+    private boolean isRootDescendant(final Node<?, ? extends Edge> node) {
+        if (null == rootUUID) {
+            return false;
+        }
+        Element<?> parent = GraphUtils.getParent(node);
+        while (null != parent && null != parent.asNode()) {
+            if (rootUUID.equals(parent.getUUID())) {
+                return true;
+            }
+            parent = GraphUtils.getParent((Node<?, ? extends Edge>) parent.asNode());
+        }
+        return false;
     }
 
     private Point2D getNodeCoordinates(final Node node) {
@@ -188,36 +327,16 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
         return new double[]{ulX, ulY, lrX, lrY};
     }
 
-    private boolean isNodeAt(final Node node,
-                             final double parentX,
-                             final double parentY,
-                             final double mouseX,
-                             final double mouseY) {
-        if (null != rootUUID && node.getUUID().equals(rootUUID)) {
-            return true;
-        }
-        final double[] absoluteCoords = getNodeAbsoluteCoordinates(node,
-                                                                   parentX,
-                                                                   parentY);
-        final double ulX = absoluteCoords[0];
-        final double ulY = absoluteCoords[1];
-        final double lrX = absoluteCoords[2];
-        final double lrY = absoluteCoords[3];
-        if (mouseX >= ulX && mouseX <= lrX &&
-                mouseY >= ulY && mouseY <= lrY) {
-            return true;
-        }
-        return false;
-    }
-
     @Override
     public GraphBoundsIndexer setRootUUID(final String uuid) {
         this.rootUUID = uuid;
+        invalidate();
         return this;
     }
 
     @Override
     public void destroy() {
+        invalidate();
         this.graph = null;
         this.rootUUID = null;
         this.childrenTraverseProcessor = null;
@@ -228,6 +347,15 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
         public abstract void onNodeTraverse(final Node<View, Edge> node,
                                             final double parentX,
                                             final double parentY);
+
+        public void onNodeTraverse(final List<Node<View, Edge>> parents,
+                                   final Node<View, Edge> node,
+                                   final double parentX,
+                                   final double parentY) {
+            onNodeTraverse(node,
+                           parentX,
+                           parentY);
+        }
     }
 
     private class GraphBoundIndexerTraverseCallback extends AbstractChildrenTraverseCallback<Node<View, Edge>, Edge<Child, Node>> {
@@ -267,7 +395,8 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
                     }
                 });
             }
-            callback.onNodeTraverse(node,
+            callback.onNodeTraverse(parents.orElse(Collections.emptyList()),
+                                    node,
                                     parentLocation[0],
                                     parentLocation[1]);
         }
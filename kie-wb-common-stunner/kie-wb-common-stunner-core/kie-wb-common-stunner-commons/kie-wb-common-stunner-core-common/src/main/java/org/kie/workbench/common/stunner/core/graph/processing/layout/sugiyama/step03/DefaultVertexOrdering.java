@@ -17,7 +17,9 @@
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
@@ -85,11 +87,16 @@ public final class DefaultVertexOrdering implements VertexOrdering {
             }
         }
 
+        // The edges do not change from now on, so they are indexed once for all the crossing counts.
+        final OrientedEdgesIndex index = new OrientedEdgesIndex(edges);
+        int bestCrossing = this.crossingCount.crossing(best, index);
         for (int i = 0; i < MAX_ITERATIONS; i++) {
             this.vertexPositioning.positionVertices(virtualized, edges, i);
             this.verticesTransposer.transpose(virtualized, edges, i);
-            if (this.crossingCount.crossing(best, edges) > this.crossingCount.crossing(virtualized, edges)) {
+            final int crossing = this.crossingCount.crossing(virtualized, index);
+            if (bestCrossing > crossing) {
                 best = clone(virtualized);
+                bestCrossing = crossing;
             } else {
                 break;
             }
@@ -117,6 +124,12 @@ public final class DefaultVertexOrdering implements VertexOrdering {
                                            final LayeredGraph graph) {
         int virtualIndex = 0;
         final List<GraphLayer> virtualized = clone(graph.getLayers());
+        final Map<String, Integer> layerNumbers = new HashMap<>();
+        for (final GraphLayer layer : virtualized) {
+            for (final Vertex vertex : layer.getVertices()) {
+                layerNumbers.putIfAbsent(vertex.getId(), layer.getLevel());
+            }
+        }
 
         for (int i = 0; i < virtualized.size() - 1; i++) {
             final GraphLayer currentLayer = virtualized.get(i);
@@ -125,17 +138,18 @@ public final class DefaultVertexOrdering implements VertexOrdering {
 
                 final List<OrientedEdge> outgoing = edges.stream()
                         .filter(e -> Objects.equals(e.getFromVertexId(), vertex.getId()))
-                        .filter(e -> Math.abs(getLayerNumber(e.getToVertexId(), virtualized) - getLayerNumber(vertex.getId(), virtualized)) > 1)
+                        .filter(e -> Math.abs(getLayerNumber(e.getToVertexId(), layerNumbers) - getLayerNumber(vertex.getId(), layerNumbers)) > 1)
                         .collect(toList());
 
                 final List<OrientedEdge> incoming = edges.stream()
                         .filter(e -> Objects.equals(e.getToVertexId(), vertex.getId()))
-                        .filter(e -> Math.abs(getLayerNumber(e.getFromVertexId(), virtualized) - getLayerNumber(vertex.getId(), virtualized)) > 1)
+                        .filter(e -> Math.abs(getLayerNumber(e.getFromVertexId(), layerNumbers) - getLayerNumber(vertex.getId(), layerNumbers)) > 1)
                         .collect(toList());
 
                 for (final OrientedEdge edge : outgoing) {
                     final Vertex virtualVertex = new Vertex("V" + virtualIndex++, true);
                     nextLayer.getVertices().add(virtualVertex);
+                    layerNumbers.putIfAbsent(virtualVertex.getId(), nextLayer.getLevel());
                     edges.remove(edge);
                     final OrientedEdge v1 = new OrientedEdgeImpl(edge.getFromVertexId(), virtualVertex.getId());
                     final OrientedEdge v2 = new OrientedEdgeImpl(virtualVertex.getId(), edge.getToVertexId());
@@ -146,6 +160,7 @@ public final class DefaultVertexOrdering implements VertexOrdering {
                 for (final OrientedEdge edge : incoming) {
                     final Vertex virtualVertex = new Vertex("V" + virtualIndex++, true);
                     nextLayer.getVertices().add(virtualVertex);
+                    layerNumbers.putIfAbsent(virtualVertex.getId(), nextLayer.getLevel());
                     edges.remove(edge);
                     final OrientedEdge v1 = new OrientedEdgeImpl(virtualVertex.getId(), edge.getToVertexId());
                     final OrientedEdge v2 = new OrientedEdgeImpl(edge.getFromVertexId(), virtualVertex.getId());
@@ -159,13 +174,11 @@ public final class DefaultVertexOrdering implements VertexOrdering {
     }
 
     private int getLayerNumber(final String vertex,
-                               final List<GraphLayer> layers) {
-        final GraphLayer layer = layers
-                .stream()
-                .filter(l -> l.getVertices().stream().anyMatch(v -> Objects.equals(v.getId(), vertex)))
-                .findFirst()
-                .orElseThrow(() -> new NoSuchElementException("Can not found the layer of the vertex."));
-
-        return layer.getLevel();
+                               final Map<String, Integer> layerNumbers) {
+        final Integer layerNumber = layerNumbers.get(vertex);
+        if (layerNumber == null) {
+            throw new NoSuchElementException("Can not found the layer of the vertex.");
+        }
+        return layerNumber;
     }
-}
\ No newline at end of file
+}
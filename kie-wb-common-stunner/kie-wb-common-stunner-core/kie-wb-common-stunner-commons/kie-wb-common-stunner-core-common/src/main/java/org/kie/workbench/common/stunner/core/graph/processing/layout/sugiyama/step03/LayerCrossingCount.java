@@ -16,15 +16,18 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import org.kie.workbench.common.stunner.core.graph.processing.layout.Vertex;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayer;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
 
 /**
  * Counts the edges crossing.
+ * Uses the accumulator tree of Barth, Junger and Mutzel (2002): for two layers with E edges between them and
+ * S vertices in the south layer the crossings are counted in O(E log S).
+ * The working arrays are reused between calls, so an instance must not be shared by concurrent layouts.
  */
 public class LayerCrossingCount {
 
@@ -33,6 +36,10 @@ public class LayerCrossingCount {
      */
     private static final int DEFAULT_VERTEX_WEIGHT = 1;
 
+    private int[] southPositions = new int[0];
+    private int[] tree = new int[0];
+    private int[] entries = new int[8];
+
     /**
      * Counts the edges crossing considering two layers.
      * @param edges The existing edges.
@@ -43,34 +50,79 @@ public class LayerCrossingCount {
     public int crossing(final List<OrientedEdge> edges,
                         final GraphLayer north,
                         final GraphLayer south) {
+        return crossing(new OrientedEdgesIndex(edges), north, south);
+    }
 
-        final Object[] entries = flat(edges, north, south);
+    /**
+     * Counts the edges crossing considering two layers.
+     * Only the edges connecting a vertex of the north layer to a vertex of the south layer are considered.
+     * @param index The index of the existing edges.
+     * @param north The north layer.
+     * @param south The south layer.
+     * @return The total of edges crossing.
+     */
+    public int crossing(final OrientedEdgesIndex index,
+                        final GraphLayer north,
+                        final GraphLayer south) {
+
+        final List<Vertex> southVertices = south.getVertices();
+        if (southPositions.length < index.size()) {
+            southPositions = new int[index.size()];
+        }
+        Arrays.fill(southPositions, 0, index.size(), -1);
+        for (int i = 0; i < southVertices.size(); i++) {
+            final int vertex = index.indexOf(southVertices.get(i).getId());
+            if (vertex >= 0) {
+                southPositions[vertex] = i;
+            }
+        }
 
         int firstIndex = 1;
-        while (firstIndex < south.getVertices().size()) {
+        while (firstIndex < southVertices.size()) {
             firstIndex <<= 1;
         }
         final int treeSize = 2 * firstIndex - 1;
         firstIndex -= 1;
-        final int[] tree = new int[treeSize];
+        if (tree.length < treeSize) {
+            tree = new int[treeSize];
+        } else {
+            Arrays.fill(tree, 0, treeSize, 0);
+        }
 
         int crossings = 0;
 
-        for (final Object entry : entries) {
-            int index = ((Integer) entry) + firstIndex;
-            if (index < 0) {
+        for (final Vertex northVertex : north.getVertices()) {
+            final int vertex = index.indexOf(northVertex.getId());
+            if (vertex < 0) {
                 continue;
             }
-            tree[index] += DEFAULT_VERTEX_WEIGHT;
-            int weightSum = 0;
-            while (index > 0) {
-                if (index % 2 != 0) {
-                    weightSum += tree[index + 1];
+
+            final int[] neighbours = index.getNeighbours(vertex);
+            if (entries.length < neighbours.length) {
+                entries = new int[neighbours.length];
+            }
+            int count = 0;
+            for (final int neighbour : neighbours) {
+                final int position = southPositions[neighbour];
+                if (position >= 0) {
+                    entries[count++] = position;
                 }
-                index = (index - 1) >> 1;
-                tree[index] += DEFAULT_VERTEX_WEIGHT;
             }
-            crossings += DEFAULT_VERTEX_WEIGHT * weightSum;
+            Arrays.sort(entries, 0, count);
+
+            for (int i = 0; i < count; i++) {
+                int treeIndex = entries[i] + firstIndex;
+                tree[treeIndex] += DEFAULT_VERTEX_WEIGHT;
+                int weightSum = 0;
+                while (treeIndex > 0) {
+                    if (treeIndex % 2 != 0) {
+                        weightSum += tree[treeIndex + 1];
+                    }
+                    treeIndex = (treeIndex - 1) >> 1;
+                    tree[treeIndex] += DEFAULT_VERTEX_WEIGHT;
+                }
+                crossings += DEFAULT_VERTEX_WEIGHT * weightSum;
+            }
         }
 
         return crossings;
@@ -84,33 +136,21 @@ public class LayerCrossingCount {
      */
     int crossing(final List<GraphLayer> layers,
                  final List<OrientedEdge> edges) {
+        return crossing(layers, new OrientedEdgesIndex(edges));
+    }
+
+    /**
+     * Counts the total of edges crossing in all layers.
+     * @param layers Existing layers.
+     * @param index The index of the existing edges.
+     * @return The sum of edges crossing between all layers.
+     */
+    int crossing(final List<GraphLayer> layers,
+                 final OrientedEdgesIndex index) {
         int crossingCount = 0;
         for (int i = 1; i < layers.size(); i++) {
-            crossingCount += crossing(edges, layers.get(i - 1), layers.get(i));
+            crossingCount += crossing(index, layers.get(i - 1), layers.get(i));
         }
         return crossingCount;
     }
-
-    private Object[] flat(final List<OrientedEdge> edges,
-                          final GraphLayer north,
-                          final GraphLayer south) {
-
-        final ArrayList<String> southPos = new ArrayList<>(south.getVertices().size());
-        for (int i = 0; i < south.getVertices().size(); i++) {
-            southPos.add(south.getVertices().get(i).getId());
-        }
-
-        return north.getVertices().stream().flatMap(v -> {
-            List<OrientedEdge> connectedEdges = edges.stream()
-                    .filter(e -> (e.getToVertexId().equals(v.getId()) || e.getFromVertexId().equals(v.getId())))
-                    .collect(Collectors.toList());
-
-            return connectedEdges.stream().map(e -> {
-                if (southPos.contains(e.getToVertexId())) {
-                    return southPos.indexOf(e.getToVertexId());
-                }
-                return southPos.indexOf(e.getFromVertexId());
-            }).sorted();
-        }).toArray();
-    }
-}
\ No newline at end of file
+}
@@ -16,10 +16,11 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.enterprise.inject.Default;
 
@@ -45,12 +46,13 @@ public class MedianVertexLayerPositioning implements VertexLayerPositioning {
                                  final List<OrientedEdge> edges,
                                  final int currentIteration) {
 
+        final OrientedEdgesIndex index = new OrientedEdgesIndex(edges);
         if ((currentIteration % 2 == 0)) {
             for (int j = layers.size() - 1; j >= 1; j--) {
                 final GraphLayer currentLayer = layers.get(j);
                 for (final Vertex vertex : currentLayer.getVertices()) {
                     //positionVertices value of vertices in rank r-1 connected to v
-                    final double median = calculateMedianOfVerticesConnectedTo(vertex.getId(), layers.get(j - 1), edges);
+                    final double median = calculateMedianOfVerticesConnectedTo(vertex.getId(), layers.get(j - 1), index);
                     vertex.setMedian(median);
                 }
 
@@ -62,7 +64,7 @@ public class MedianVertexLayerPositioning implements VertexLayerPositioning {
                 final GraphLayer currentLayer = layers.get(j);
 
                 for (final Vertex vertex : layers.get(j).getVertices()) {
-                    final double median = calculateMedianOfVerticesConnectedTo(vertex.getId(), layers.get(j + 1), edges);
+                    final double median = calculateMedianOfVerticesConnectedTo(vertex.getId(), layers.get(j + 1), index);
                     vertex.setMedian(median);
                 }
 
@@ -81,41 +83,57 @@ public class MedianVertexLayerPositioning implements VertexLayerPositioning {
     public double calculateMedianOfVerticesConnectedTo(final String vertex,
                                                        final GraphLayer layer,
                                                        final List<OrientedEdge> edges) {
-        final List<Integer> connectedVerticesIndex = new ArrayList<>();
-        final List<Vertex> vertices = layer.getVertices();
-        for (int i = 0; i < vertices.size(); i++) {
-            final Vertex vertexInLayer = vertices.get(i);
-
-            final boolean hasConnection = edges.stream()
-                    .anyMatch(e -> e.isLinkedWithVertexId(vertexInLayer.getId()) && e.isLinkedWithVertexId(vertex));
+        return calculateMedianOfVerticesConnectedTo(vertex, layer, new OrientedEdgesIndex(edges));
+    }
 
-            if (hasConnection) {
-                connectedVerticesIndex.add(i);
+    /**
+     * Calculates the median position of a vertex connected to a neighborhood layer.
+     * @param vertex The vertex.
+     * @param layer The neighborhood layer.
+     * @param index The index of the existing edges.
+     * @return The median position. -1 (out of bounds) if there is no connection.
+     */
+    double calculateMedianOfVerticesConnectedTo(final String vertex,
+                                                final GraphLayer layer,
+                                                final OrientedEdgesIndex index) {
+        final List<Vertex> vertices = layer.getVertices();
+        final int vertexIndex = index.indexOf(vertex);
+        final int[] connectedVerticesIndex = new int[vertices.size()];
+        int size = 0;
+        if (vertexIndex >= 0) {
+            final Set<Integer> connected = new HashSet<>();
+            for (final int neighbour : index.getNeighbours(vertexIndex)) {
+                connected.add(neighbour);
+            }
+            // A vertex is linked to itself through any of its edges
+            connected.add(vertexIndex);
+            for (int i = 0; i < vertices.size(); i++) {
+                if (connected.contains(index.indexOf(vertices.get(i).getId()))) {
+                    connectedVerticesIndex[size++] = i;
+                }
             }
         }
 
-        final int size = connectedVerticesIndex.size();
-
         if (size == 0) {
-            final Optional<Vertex> first = layer.getVertices()
+            final Optional<Vertex> first = vertices
                     .stream()
                     .filter(v -> Objects.equals(v.getId(), vertex))
                     .findFirst();
-            return first.map(vertex1 -> layer.getVertices().indexOf(vertex1)).orElse(-1);
+            return first.map(vertices::indexOf).orElse(-1);
         }
 
         if (size == 1) {
-            return connectedVerticesIndex.get(0);
+            return connectedVerticesIndex[0];
         }
 
         final double median;
 
         if (size % 2 == 0) {
-            median = ((double) connectedVerticesIndex.get(size / 2) + (double) connectedVerticesIndex.get(size / 2 - 1)) / 2;
+            median = ((double) connectedVerticesIndex[size / 2] + (double) connectedVerticesIndex[size / 2 - 1]) / 2;
         } else {
-            median = (double) connectedVerticesIndex.get(size / 2);
+            median = (double) connectedVerticesIndex[size / 2];
         }
 
         return median;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
+
+/**
+ * An int-indexed, immutable view of a list of edges.
+ * Vertex ids are mapped to dense ints and each vertex keeps the array of the vertices it is connected to, in
+ * both directions, following the order of the edges list.
+ */
+public final class OrientedEdgesIndex {
+
+    private static final int[] NO_NEIGHBOURS = new int[0];
+
+    private final Map<String, Integer> indexes;
+    private final int[][] neighbours;
+
+    public OrientedEdgesIndex(final List<OrientedEdge> edges) {
+        this.indexes = new HashMap<>();
+        final int[] degrees = new int[edges.size() * 2];
+        for (final OrientedEdge edge : edges) {
+            final int from = register(edge.getFromVertexId());
+            final int to = register(edge.getToVertexId());
+            degrees[from]++;
+            if (from != to) {
+                degrees[to]++;
+            }
+        }
+
+        this.neighbours = new int[indexes.size()][];
+        for (int i = 0; i < neighbours.length; i++) {
+            neighbours[i] = degrees[i] == 0 ? NO_NEIGHBOURS : new int[degrees[i]];
+        }
+
+        final int[] filled = new int[neighbours.length];
+        for (final OrientedEdge edge : edges) {
+            final int from = indexes.get(edge.getFromVertexId());
+            final int to = indexes.get(edge.getToVertexId());
+            neighbours[from][filled[from]++] = to;
+            if (from != to) {
+                neighbours[to][filled[to]++] = from;
+            }
+        }
+    }
+
+    /**
+     * @param vertexId The id of the vertex.
+     * @return The dense index of the vertex, or -1 if it is not connected by any edge.
+     */
+    public int indexOf(final String vertexId) {
+        final Integer index = indexes.get(vertexId);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @return The number of indexed vertices.
+     */
+    public int size() {
+        return neighbours.length;
+    }
+
+    /**
+     * @param vertex The dense index of the vertex.
+     * @return The dense indexes of the vertices connected to the given one. The returned array must not be modified.
+     */
+    public int[] getNeighbours(final int vertex) {
+        return neighbours[vertex];
+    }
+
+    private int register(final String vertexId) {
+        final Integer index = indexes.get(vertexId);
+        if (index != null) {
+            return index;
+        }
+        final int newIndex = indexes.size();
+        indexes.put(vertexId, newIndex);
+        return newIndex;
+    }
+}
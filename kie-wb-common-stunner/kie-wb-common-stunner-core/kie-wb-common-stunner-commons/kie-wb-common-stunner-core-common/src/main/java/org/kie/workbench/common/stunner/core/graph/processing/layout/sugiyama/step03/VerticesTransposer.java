@@ -46,6 +46,7 @@ public class VerticesTransposer {
                    final List<OrientedEdge> edges,
                    final int currentIteration) {
 
+        final OrientedEdgesIndex edgesIndex = new OrientedEdgesIndex(edges);
         boolean improved = true;
         final boolean bottomUp = (currentIteration % 2) == 0;
 
@@ -58,7 +59,7 @@ public class VerticesTransposer {
                     final GraphLayer previous;
                     current = layers.get(index - 1);
                     previous = layers.get(index);
-                    improved = doTranspose(current, previous, edges);
+                    improved = doTranspose(current, previous, edgesIndex);
                 }
             } else {
                 for (int index = 1; index < layers.size(); index++) {
@@ -66,7 +67,7 @@ public class VerticesTransposer {
                     final GraphLayer previous;
                     current = layers.get(index);
                     previous = layers.get(index - 1);
-                    improved = doTranspose(current, previous, edges);
+                    improved = doTranspose(current, previous, edgesIndex);
                 }
             }
         }
@@ -74,20 +75,21 @@ public class VerticesTransposer {
 
     private boolean doTranspose(final GraphLayer current,
                                 final GraphLayer previous,
-                                final List<OrientedEdge> edges) {
+                                final OrientedEdgesIndex index) {
 
         final List<Vertex> vertices = current.getVertices();
         boolean improved = false;
+        // Only the order of the current layer changes, so the count is carried over between swaps.
+        int currentCrossing = this.crossingCount.crossing(index, previous, current);
         for (int i = 1; i < vertices.size(); i++) {
 
-            final int currentCrossing = this.crossingCount.crossing(edges, previous, current);
-
             Collections.swap(vertices, i, i - 1);
 
-            final int newCrossing = this.crossingCount.crossing(edges, previous, current);
+            final int newCrossing = this.crossingCount.crossing(index, previous, current);
             if (newCrossing >= currentCrossing) {
                 Collections.swap(vertices, i - 1, i);
             } else {
+                currentCrossing = newCrossing;
                 improved = true;
             }
         }
@@ -39,6 +39,8 @@ import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
 import org.kie.workbench.common.stunner.core.graph.content.Bound;
 import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.HasBounds;
@@ -51,8 +53,6 @@ import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
 import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
-import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.AbstractTreeTraverseCallback;
-import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.TreeWalkTraverseProcessorImpl;
 
 import static org.kie.soup.commons.validation.PortablePreconditions.checkNotNull;
 import static org.kie.workbench.common.stunner.core.util.HashUtil.combineHashCodes;
@@ -78,6 +78,20 @@ public class GraphUtils {
      */
     public static Map<String, Integer> getLabelsCount(final Graph<?, ? extends Node> target,
                                                       final Set<String> roleFilter) {
+        if (target instanceof GraphImpl) {
+            final Map<String, Integer> graphLabelsCount = ((GraphImpl<?>) target).getLabelsCount();
+            if (null == roleFilter) {
+                return new HashMap<>(graphLabelsCount);
+            }
+            final Map<String, Integer> labelsCount = new HashMap<>();
+            roleFilter.forEach(role -> {
+                final Integer count = graphLabelsCount.get(role);
+                if (null != count) {
+                    labelsCount.put(role, count);
+                }
+            });
+            return labelsCount;
+        }
         return getLabelsCount(target,
                               e -> true,
                               roleFilter);
@@ -111,6 +125,18 @@ public class GraphUtils {
                 });
     }
 
+    /**
+     * Updates the labels count of the graph once the labels of the given node have been changed.
+     * @see GraphImpl#updateLabelsCount(Node, Set)
+     */
+    public static void updateLabelsCount(final Graph<?, ? extends Node> graph,
+                                         final Node node,
+                                         final Set<String> previousLabels) {
+        if (graph instanceof GraphImpl) {
+            ((GraphImpl<?>) graph).updateLabelsCount(node, previousLabels);
+        }
+    }
+
     public enum CardinalityCountState {
         EMPTY,
         SINGLE_NODE,
@@ -404,44 +430,103 @@ public class GraphUtils {
                 OptionalInt.empty();
     }
 
-    @SuppressWarnings("all")
+    /**
+     * Computes the content hash of the whole graph, i.e. the XOR of the hashes of all its nodes and edges.
+     * @see #computeElementHashCode(Element)
+     */
     public static int computeGraphHashCode(GraphImpl graph) {
-        final int[] result = {0};
-        new TreeWalkTraverseProcessorImpl()
-                .traverse(graph,
-                          new AbstractTreeTraverseCallback<Graph, Node, Edge>() {
-
-                              @Override
-                              public boolean startEdgeTraversal(final Edge edge) {
-                                  super.startEdgeTraversal(edge);
-                                  final Object content = edge.getContent();
-                                  result[0] = combineHashCodes(result[0], content.hashCode());
-                                  if (edge.getContent() instanceof ViewConnector) {
-                                      Optional<Connection> sourceConnection = ((ViewConnector) edge.getContent()).getSourceConnection();
-                                      sourceConnection.ifPresent(c -> result[0] = combineHashCodes(result[0], c.hashCode()));
-                                      Optional<Connection> targetConnection = ((ViewConnector) edge.getContent()).getTargetConnection();
-                                      targetConnection.ifPresent(c -> result[0] = combineHashCodes(result[0], c.hashCode()));
-                                  }
-                                  return true;
-                              }
-
-                              @Override
-                              public boolean startNodeTraversal(final Node node) {
-                                  super.startNodeTraversal(node);
-                                  result[0] = combineHashCodes(result[0],
-                                                               node.hashCode());
-                                  if (!(node.getContent() instanceof DefinitionSet) &&
-                                          node.getContent() instanceof Definition) {
-                                      Object def = ((Definition) (node.getContent())).getDefinition();
-                                      result[0] = combineHashCodes(result[0], def.hashCode());
-                                  }
-                                  if (node.getContent() instanceof HasBounds) {
-                                      Bounds bounds = ((HasBounds) node.getContent()).getBounds();
-                                      result[0] = combineHashCodes(result[0], bounds.hashCode());
-                                  }
-                                  return true;
-                              }
-                          });
-        return result[0];
+        int result = 0;
+        for (Integer hash : computeElementHashCodes(graph).values()) {
+            result ^= hash;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the hash of each node of the graph and of each edge connected to them, by element UUID.
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Integer> computeElementHashCodes(Graph<?, Node> graph) {
+        final Map<String, Integer> result = new HashMap<>();
+        for (Node<?, Edge> node : graph.nodes()) {
+            result.put(node.getUUID(), computeElementHashCode(node));
+            if (null != node.getInEdges()) {
+                node.getInEdges().forEach(edge -> result.computeIfAbsent(edge.getUUID(), uuid -> computeElementHashCode(edge)));
+            }
+            if (null != node.getOutEdges()) {
+                node.getOutEdges().forEach(edge -> result.computeIfAbsent(edge.getUUID(), uuid -> computeElementHashCode(edge)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the hash of a node, given by its definition and bounds, or of an edge, given by its content,
+     * connections and connected nodes.
+     */
+    @SuppressWarnings("all")
+    public static int computeElementHashCode(Element element) {
+        int result = element.hashCode();
+        final Object content = element.getContent();
+        if (element instanceof Edge) {
+            final Edge edge = (Edge) element;
+            result = combineHashCodes(result, Objects.hashCode(content));
+            if (content instanceof ViewConnector) {
+                Optional<Connection> sourceConnection = ((ViewConnector) content).getSourceConnection();
+                Optional<Connection> targetConnection = ((ViewConnector) content).getTargetConnection();
+                result = combineHashCodes(result,
+                                          sourceConnection.map(Object::hashCode).orElse(0),
+                                          targetConnection.map(Object::hashCode).orElse(0));
+            }
+            return combineHashCodes(result,
+                                    null != edge.getSourceNode() ? edge.getSourceNode().hashCode() : 0,
+                                    null != edge.getTargetNode() ? edge.getTargetNode().hashCode() : 0);
+        }
+        if (!(content instanceof DefinitionSet) && content instanceof Definition) {
+            result = combineHashCodes(result, Objects.hashCode(((Definition) content).getDefinition()));
+        }
+        if (content instanceof HasBounds) {
+            result = combineHashCodes(result, Objects.hashCode(((HasBounds) content).getBounds()));
+        }
+        return result;
+    }
+
+    /**
+     * Updates the content hash of the graph for the given changed, added or removed elements.
+     * @see GraphImpl#updateContentHash(Element)
+     */
+    public static void updateContentHash(final Graph<?, ?> graph,
+                                         final Element<?>... elements) {
+        if (graph instanceof GraphImpl) {
+            for (Element<?> element : elements) {
+                if (null != element) {
+                    ((GraphImpl<?>) graph).updateContentHash(element);
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidates the content hash of the context's graph once the given command has been executed or undone on it,
+     * unless the command keeps it up to date.
+     * @see GraphContentHashAware
+     */
+    public static void invalidateContentHashIfUntracked(final GraphCommandExecutionContext context,
+                                                        final Object command) {
+        if (command instanceof GraphContentHashAware || null == context.getGraphIndex()) {
+            return;
+        }
+        invalidateContentHash(context.getGraphIndex().getGraph());
+    }
+
+    /**
+     * Invalidates the content hash of the graph, so it gets fully computed again, e.g. once its elements have been
+     * changed outside the graph commands.
+     * @see GraphImpl#invalidateContentHash()
+     */
+    public static void invalidateContentHash(final Graph<?, ?> graph) {
+        if (graph instanceof GraphImpl) {
+            ((GraphImpl<?>) graph).invalidateContentHash();
+        }
     }
 }
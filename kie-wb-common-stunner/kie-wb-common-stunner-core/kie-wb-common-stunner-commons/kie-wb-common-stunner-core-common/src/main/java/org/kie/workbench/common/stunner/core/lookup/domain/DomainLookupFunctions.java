@@ -17,6 +17,7 @@
 package org.kie.workbench.common.stunner.core.lookup.domain;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -202,24 +203,32 @@ public class DomainLookupFunctions {
             final Set<String> ids = new LookupDefinitionsByLabels(labels, definitionIdsAllowedFilter).execute(context);
             final Map<String, Integer> graphLabelCount = GraphUtils.getLabelsCount(graph,
                                                                                    labels);
+            // Definitions share most of their labels, so evaluate the cardinality rules once per label.
+            final Map<String, Boolean> allowedLabels = new HashMap<>();
             final Set<String> result = new LinkedHashSet<>();
             for (final String defId : ids) {
                 final Set<String> defLabels = context.getDefinitionsRegistry().getLabels(defId);
                 for (final String label : defLabels) {
-                    final Integer roleCount = Optional.ofNullable(graphLabelCount.get(label)).orElse(0);
-                    final RuleViolations violations =
-                            context.getRuleManager()
-                                    .evaluate(context.getCache().getRuleSet(),
-                                              cardinality(Collections.singleton(label),
-                                                          roleCount,
-                                                          Optional.of(CardinalityContext.Operation.ADD)));
-                    if (isValid(violations)) {
+                    if (allowedLabels.computeIfAbsent(label, l -> isAllowed(context, l, graphLabelCount))) {
                         result.add(defId);
                     }
                 }
             }
             return result;
         }
+
+        private static boolean isAllowed(final DomainLookupContext context,
+                                         final String label,
+                                         final Map<String, Integer> graphLabelCount) {
+            final Integer roleCount = Optional.ofNullable(graphLabelCount.get(label)).orElse(0);
+            final RuleViolations violations =
+                    context.getRuleManager()
+                            .evaluate(context.getCache().getRuleSet(),
+                                      cardinality(Collections.singleton(label),
+                                                  roleCount,
+                                                  Optional.of(CardinalityContext.Operation.ADD)));
+            return isValid(violations);
+        }
     }
 
     public static class LookupDefinitionsByLabels implements DomainLookupFunction {
@@ -16,10 +16,13 @@
 
 package org.kie.workbench.common.stunner.core.rule;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
@@ -29,6 +32,12 @@ import javax.enterprise.inject.Typed;
 import javax.inject.Inject;
 
 import org.kie.workbench.common.stunner.core.registry.rule.RuleHandlerRegistry;
+import org.kie.workbench.common.stunner.core.rule.context.ConnectionContext;
+import org.kie.workbench.common.stunner.core.rule.context.ContainmentContext;
+import org.kie.workbench.common.stunner.core.rule.context.DockingContext;
+import org.kie.workbench.common.stunner.core.rule.impl.CanConnect;
+import org.kie.workbench.common.stunner.core.rule.impl.CanContain;
+import org.kie.workbench.common.stunner.core.rule.impl.CanDock;
 
 @Dependent
 @Typed(CachedRuleManager.class)
@@ -89,23 +98,34 @@ public class CachedRuleManager implements RuleManager {
     private class CachedContextRules {
 
         private final Map<Class<? extends RuleEvaluationContext>, List<Rule>> rulesByContent;
+        private final Map<Class<? extends RuleEvaluationContext>, RulesByRole> rulesByRole;
 
         public CachedContextRules() {
             this.rulesByContent = new HashMap<>(15);
+            this.rulesByRole = new HashMap<>(3);
         }
 
         public Collection<Rule> getRulesByContext(final RuleSet ruleSet,
                                                   final RuleEvaluationContext context) {
             List<Rule> rules = rulesByContent.get(context.getClass());
             if (null == rules) {
-                return cacheRulesByContext(ruleSet,
-                                           context);
+                rules = cacheRulesByContext(ruleSet,
+                                            context);
             }
-            return rules;
+            final Set<String> roles = getContextRoles(context);
+            if (null == roles) {
+                return rules;
+            }
+            RulesByRole indexedRules = rulesByRole.get(context.getClass());
+            if (null == indexedRules) {
+                indexedRules = new RulesByRole(rules);
+                rulesByRole.put(context.getClass(), indexedRules);
+            }
+            return indexedRules.get(roles);
         }
 
-        public Collection<Rule> cacheRulesByContext(final RuleSet ruleSet,
-                                                    final RuleEvaluationContext context) {
+        public List<Rule> cacheRulesByContext(final RuleSet ruleSet,
+                                              final RuleEvaluationContext context) {
             final Collection<RuleEvaluationHandler> handlers = registry().getHandlersByContext(context.getType());
             final List<Rule> rules = ruleSet.getRules().stream()
                     .filter(rule -> accepts(handlers,
@@ -117,6 +137,7 @@ public class CachedRuleManager implements RuleManager {
 
         public void clear() {
             rulesByContent.clear();
+            rulesByRole.clear();
         }
 
         private boolean accepts(final Collection<RuleEvaluationHandler> handlers,
@@ -126,4 +147,73 @@ public class CachedRuleManager implements RuleManager {
                             .anyMatch(handler -> RuleManagerImpl.isRuleTypeAllowed().test(rule, handler));
         }
     }
+
+    /**
+     * The roles a rule must be declared for in order to be accepted by the handlers of the given context, or
+     * <code>null</code> if the rules for the context cannot be looked up by role.
+     */
+    private static Set<String> getContextRoles(final RuleEvaluationContext context) {
+        if (context instanceof ConnectionContext) {
+            return Collections.singleton(((ConnectionContext) context).getConnectorRole());
+        }
+        if (context instanceof ContainmentContext) {
+            return ((ContainmentContext) context).getParentRoles();
+        }
+        if (context instanceof DockingContext) {
+            return ((DockingContext) context).getParentRoles();
+        }
+        return null;
+    }
+
+    private static String getRuleRole(final Rule rule) {
+        if (rule instanceof CanConnect) {
+            return ((CanConnect) rule).getRole();
+        }
+        if (rule instanceof CanContain) {
+            return ((CanContain) rule).getRole();
+        }
+        if (rule instanceof CanDock) {
+            return ((CanDock) rule).getRole();
+        }
+        return null;
+    }
+
+    /**
+     * Indexes the rules for a context by the role they are declared for, so that the connection, containment and
+     * docking checks only go through the rules for the roles at hand rather than through all the rules of the set.
+     */
+    private static class RulesByRole {
+
+        private final List<Rule> rules;
+        private final List<Rule> unindexedRules;
+        private final Map<String, List<Rule>> indexedRules;
+
+        private RulesByRole(final List<Rule> rules) {
+            this.rules = rules;
+            this.unindexedRules = new ArrayList<>();
+            this.indexedRules = new HashMap<>();
+            for (Rule rule : rules) {
+                final String role = getRuleRole(rule);
+                if (null == role) {
+                    unindexedRules.add(rule);
+                } else {
+                    indexedRules.computeIfAbsent(role, r -> new ArrayList<>()).add(rule);
+                }
+            }
+        }
+
+        private Collection<Rule> get(final Set<String> roles) {
+            final List<Rule> result = new ArrayList<>(unindexedRules);
+            boolean matches = false;
+            for (String role : roles) {
+                final List<Rule> roleRules = indexedRules.get(role);
+                if (null != roleRules) {
+                    result.addAll(roleRules);
+                    matches = true;
+                }
+            }
+            // No rule is declared for the roles, return them all so the context's default policy still applies.
+            return matches ? result : rules;
+        }
+    }
 }
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -133,6 +134,26 @@ public class StatefulGraphEvaluationState extends AbstractGraphEvaluationState {
                                                           this::appendAddedNodes));
         }
 
+        /**
+         * Counts the labels of the {@link #nodes()}, using the labels count of the graph instead of visiting all its
+         * nodes.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<String, Integer> countLabels(final Set<String> roleFilter) {
+            final Map<String, Integer> labelsCount = GraphUtils.getLabelsCount(getGraph(), roleFilter);
+            deleted.stream()
+                    .filter(e -> Objects.nonNull(e.asNode()))
+                    .filter(e -> Objects.nonNull(getGraph().getNode(e.getUUID())))
+                    .forEach(node -> node.getLabels().stream()
+                            .filter(labelsCount::containsKey)
+                            .forEach(role -> labelsCount.computeIfPresent(role, (r, count) -> count > 1 ? count - 1 : null)));
+            added.stream()
+                    .filter(e -> Objects.nonNull(e.asNode()))
+                    .forEach(node -> GraphUtils.computeLabelsCount(node.asNode(), labelsCount, roleFilter));
+            return labelsCount;
+        }
+
         private Collection<Node> appendAddedNodes(final Collection<Node> nodes) {
             getAddedElements().stream()
                     .filter(e -> Objects.nonNull(e.asNode()))
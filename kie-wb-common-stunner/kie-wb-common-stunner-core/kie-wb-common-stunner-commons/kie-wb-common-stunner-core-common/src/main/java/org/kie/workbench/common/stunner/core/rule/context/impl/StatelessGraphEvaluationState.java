@@ -17,6 +17,8 @@
 package org.kie.workbench.common.stunner.core.rule.context.impl;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.kie.workbench.common.stunner.core.graph.Edge;
@@ -76,6 +78,11 @@ public class StatelessGraphEvaluationState extends AbstractGraphEvaluationState
         public Iterable<Node> nodes() {
             return (Iterable<Node>) getGraph().nodes();
         }
+
+        @Override
+        public Map<String, Integer> countLabels(final Set<String> roleFilter) {
+            return GraphUtils.getLabelsCount(getGraph(), roleFilter);
+        }
     }
 
     public static class StatelessConnectorCardinalityState implements ConnectorCardinalityState {
@@ -17,7 +17,6 @@
 package org.kie.workbench.common.stunner.core.rule.handler.impl;
 
 import java.util.Collections;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -30,7 +29,6 @@ import org.kie.workbench.common.stunner.core.rule.context.ConnectionContext;
 import org.kie.workbench.common.stunner.core.rule.impl.CanConnect;
 import org.kie.workbench.common.stunner.core.rule.violations.ConnectionRuleViolation;
 import org.kie.workbench.common.stunner.core.rule.violations.DefaultRuleViolations;
-import org.uberfire.commons.Pair;
 
 @ApplicationScoped
 public class ConnectionEvaluationHandler implements RuleEvaluationHandler<CanConnect, ConnectionContext> {
@@ -54,29 +52,20 @@ public class ConnectionEvaluationHandler implements RuleEvaluationHandler<CanCon
     @Override
     public RuleViolations evaluate(final CanConnect rule,
                                    final ConnectionContext context) {
-        final List<CanConnect.PermittedConnection> permittedConnections = rule.getPermittedConnections();
-        final String currentConnectorRole = context.getConnectorRole();
         final Set<String> incomingLabels = context.getTargetRoles().orElse(Collections.emptySet());
         final Set<String> outgoingLabels = context.getSourceRoles().orElse(Collections.emptySet());
         final DefaultRuleViolations results = new DefaultRuleViolations();
-        final Set<Pair<String, String>> couples = new LinkedHashSet<>();
-        for (CanConnect.PermittedConnection pc : permittedConnections) {
-            final boolean startMatch = outgoingLabels.contains(pc.getStartRole());
-            final boolean endMatch = startMatch && incomingLabels.contains(pc.getEndRole());
-            if (endMatch) {
-                return results;
-            }
-            couples.add(new Pair<>(pc.getStartRole(),
-                                   pc.getEndRole()));
+        if (!rule.isConnectionPermitted(outgoingLabels,
+                                        incomingLabels)) {
+            results.addViolation(new ConnectionRuleViolation(context.getConnectorRole(),
+                                                             serializeAllowedConnections(rule.getPermittedConnections())));
         }
-        results.addViolation(new ConnectionRuleViolation(currentConnectorRole,
-                                                         serializeAllowedConnections(couples)));
         return results;
     }
 
-    private Set<String> serializeAllowedConnections(final Set<Pair<String, String>> couples) {
-        return couples.stream()
-                .map(p -> "{'" + p.getK1() + "' ->'" + p.getK2() + "'}")
+    private Set<String> serializeAllowedConnections(final List<CanConnect.PermittedConnection> permittedConnections) {
+        return permittedConnections.stream()
+                .map(pc -> "{'" + pc.getStartRole() + "' ->'" + pc.getEndRole() + "'}")
                 .collect(Collectors.toSet());
     }
 }
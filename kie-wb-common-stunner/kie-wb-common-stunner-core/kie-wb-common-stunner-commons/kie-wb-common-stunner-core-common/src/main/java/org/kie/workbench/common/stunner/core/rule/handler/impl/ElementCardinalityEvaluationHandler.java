@@ -18,22 +18,18 @@ package org.kie.workbench.common.stunner.core.rule.handler.impl;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import org.kie.workbench.common.stunner.core.api.DefinitionManager;
 import org.kie.workbench.common.stunner.core.graph.Element;
-import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
-import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.core.rule.RuleEvaluationHandler;
 import org.kie.workbench.common.stunner.core.rule.RuleViolations;
 import org.kie.workbench.common.stunner.core.rule.context.CardinalityContext;
@@ -146,12 +142,6 @@ public class ElementCardinalityEvaluationHandler implements RuleEvaluationHandle
 
     Map<String, Integer> countLabels(final GraphEvaluationState state,
                                      final Set<String> roleFilter) {
-        final GraphEvaluationState.CardinalityState cardinalityState = state.getCardinalityState();
-
-        final Iterable<Node> nodes = cardinalityState.nodes();
-        final Map<String, Integer> labelsCount = new HashMap<>();
-        StreamSupport.stream(nodes.spliterator(), false)
-                .forEach(node -> GraphUtils.computeLabelsCount(node, labelsCount, roleFilter));
-        return labelsCount;
+        return state.getCardinalityState().countLabels(roleFilter);
     }
 }
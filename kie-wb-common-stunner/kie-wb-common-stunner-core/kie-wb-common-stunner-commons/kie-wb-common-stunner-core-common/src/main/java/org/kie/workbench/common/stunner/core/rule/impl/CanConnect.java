@@ -16,7 +16,11 @@
 
 package org.kie.workbench.common.stunner.core.rule.impl;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.jboss.errai.common.client.api.annotations.MapsTo;
 import org.jboss.errai.common.client.api.annotations.Portable;
@@ -58,6 +62,7 @@ public final class CanConnect extends AbstractRule {
 
     private final String role;
     private final List<PermittedConnection> permittedConnections;
+    private transient Map<String, Set<String>> endRolesByStartRole;
 
     public CanConnect(final @MapsTo("name") String name,
                       final @MapsTo("role") String role,
@@ -74,4 +79,25 @@ public final class CanConnect extends AbstractRule {
     public List<CanConnect.PermittedConnection> getPermittedConnections() {
         return permittedConnections;
     }
+
+    /**
+     * Returns whether this rule permits the connection between an element with any of the given start roles
+     * and an element with any of the given end roles.
+     */
+    public boolean isConnectionPermitted(final Set<String> startRoles,
+                                         final Set<String> endRoles) {
+        if (null == endRolesByStartRole) {
+            final Map<String, Set<String>> compiled = new HashMap<>();
+            permittedConnections.forEach(pc -> compiled.computeIfAbsent(pc.getStartRole(), role -> new HashSet<>())
+                    .add(pc.getEndRole()));
+            endRolesByStartRole = compiled;
+        }
+        for (String startRole : startRoles) {
+            final Set<String> permittedEndRoles = endRolesByStartRole.get(startRole);
+            if (null != permittedEndRoles && endRoles.stream().anyMatch(permittedEndRoles::contains)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
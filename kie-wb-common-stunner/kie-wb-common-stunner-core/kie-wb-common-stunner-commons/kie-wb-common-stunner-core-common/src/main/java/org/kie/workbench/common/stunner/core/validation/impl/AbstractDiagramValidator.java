@@ -32,8 +32,10 @@ import java.util.stream.StreamSupport;
 import org.jboss.errai.ioc.client.api.ManagedInstance;
 import org.kie.workbench.common.stunner.core.api.DefinitionManager;
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
+import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.TreeWalkTraverseProcessor;
 import org.kie.workbench.common.stunner.core.rule.RuleManager;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
@@ -108,6 +110,48 @@ public abstract class AbstractDiagramValidator
         );
     }
 
+    /**
+     * Creates a validation session for the graph of the <code>diagram</code>, to be given on its successive
+     * validations.
+     * @see #validate(Diagram, GraphValidationSession, Consumer)
+     */
+    public GraphValidationSession newSession(final Diagram diagram) {
+        return graphValidator.newSession(diagram.getGraph(),
+                                         null);
+    }
+
+    /**
+     * Validates the <code>diagram</code> as {@link #validate(Diagram, Consumer)} does, but only evaluates again the
+     * graph rules for the elements that have changed since the previous validation of the <code>session</code>,
+     * which must have been created for the diagram's graph. The domain and model validations are still done for
+     * all of the elements.
+     */
+    @SuppressWarnings("unchecked")
+    public void validate(final Diagram diagram,
+                         final GraphValidationSession session,
+                         final Consumer<Collection<DiagramElementViolation<RuleViolation>>> resultConsumer) {
+        final Graph graph = diagram.getGraph();
+        final List<DiagramElementViolation<RuleViolation>> violations = new LinkedList<>();
+
+        final Collection<DiagramElementViolation<RuleViolation>> diagramElementViolations = validateDomain(diagram);
+        violations.addAll(diagramElementViolations);
+
+        session.validate(vs -> {
+            final BiConsumer<Element, Collection<RuleViolation>> consumer = consumeBeanAndViolations(() -> violations);
+            consumer.accept(graph,
+                            session.getGraphViolations());
+            for (final Object node : graph.nodes()) {
+                consumer.accept((Node) node,
+                                session.getViolations(((Node) node).getUUID()));
+                for (final Object edge : ((Node) node).getOutEdges()) {
+                    consumer.accept((Edge) edge,
+                                    session.getViolations(((Edge) edge).getUUID()));
+                }
+            }
+            resultConsumer.accept(violations);
+        });
+    }
+
     private BiConsumer<Element, Collection<RuleViolation>> consumeBeanAndViolations(final Supplier<List<DiagramElementViolation<RuleViolation>>> violations) {
         return (element, ruleViolations) -> {
             if (Optional.ofNullable(element.getContent()).isPresent()) {
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.validation.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Element;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
+import org.kie.workbench.common.stunner.core.rule.RuleSet;
+import org.kie.workbench.common.stunner.core.rule.RuleViolation;
+import org.kie.workbench.common.stunner.core.rule.context.impl.RuleEvaluationContextBuilder.StatelessGraphContextBuilder;
+
+/**
+ * A validation session for a graph, which keeps the rule violations for each of its nodes and edges, so each
+ * validation only evaluates again the rules for the elements that have changed since the previous one.
+ * <p>
+ * The changed elements are the ones the graph commands report to the graph as they execute or get undone (see
+ * {@link GraphImpl.ContentChangeListener}), which the session marks as dirty. For a changed node, its containment,
+ * the containment of its child and docked nodes, and all of its edges are evaluated again. For a changed edge, the
+ * edge and both its current and previous source and target nodes are evaluated again, as the connector cardinality
+ * of the other edges of these nodes depends on it. The graph's cardinality is evaluated on each validation, which is
+ * cheap as the graph keeps its nodes count by label.
+ * <p>
+ * The containment of each node is evaluated for its actual parent, or for the parent of the node it's docked to.
+ * Graphs other than {@link GraphImpl} are fully validated each time.
+ * <p>
+ * Changes done outside the graph commands are not seen by the session, so their violations are stale until either
+ * the content hash of the graph ({@link GraphImpl#invalidateContentHash()}) or the session ({@link #invalidate()})
+ * get invalidated. Once no longer used, the session must be disposed ({@link #dispose()}).
+ */
+public class GraphValidationSession {
+
+    private final GraphValidatorImpl validator;
+    private final Graph graph;
+    private final RuleSet ruleSet;
+    private final Map<String, ElementViolations> elementViolations = new LinkedHashMap<>();
+    private final Map<String, Element> dirtyElements = new LinkedHashMap<>();
+    private final GraphImpl.ContentChangeListener changeListener = new GraphImpl.ContentChangeListener() {
+        @Override
+        public void onElementChanged(final Element<?> element) {
+            markDirty(element);
+        }
+
+        @Override
+        public void onContentInvalidated() {
+            invalidate();
+        }
+    };
+    private Collection<RuleViolation> graphViolations = Collections.emptyList();
+    private boolean validated = false;
+
+    GraphValidationSession(final GraphValidatorImpl validator,
+                           final Graph graph,
+                           final RuleSet ruleSet) {
+        this.validator = validator;
+        this.graph = graph;
+        this.ruleSet = ruleSet;
+        if (graph instanceof GraphImpl) {
+            ((GraphImpl<?>) graph).addContentChangeListener(changeListener);
+        }
+    }
+
+    /**
+     * Validates the elements that have changed since the previous validation, or the whole graph if it's the first
+     * one for this session.
+     * @param resultConsumer The consumer for all the resulting violations of the graph, and all of its nodes and
+     * edges.
+     */
+    public void validate(final Consumer<Collection<RuleViolation>> resultConsumer) {
+        final StatelessGraphContextBuilder contextBuilder = new StatelessGraphContextBuilder(graph);
+        final Evaluation evaluation = new Evaluation();
+        if (!validated || !(graph instanceof GraphImpl)) {
+            elementViolations.clear();
+            for (final Object node : graph.nodes()) {
+                evaluation.addNode((Node) node);
+            }
+        } else {
+            addDirtyElements(evaluation);
+        }
+        dirtyElements.clear();
+        evaluation.evaluate(contextBuilder);
+        validated = true;
+        graphViolations = validator.evaluateGraph(contextBuilder,
+                                                  ruleSet);
+        resultConsumer.accept(getViolations());
+    }
+
+    /**
+     * Returns the graph validated by this session.
+     */
+    public Graph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Returns the violations of the graph itself, i.e. of its cardinality rules, as given by the last validation.
+     */
+    public Collection<RuleViolation> getGraphViolations() {
+        return Collections.unmodifiableCollection(graphViolations);
+    }
+
+    /**
+     * Returns the violations of the graph, and all of its nodes and edges, as given by the last validation.
+     */
+    public Collection<RuleViolation> getViolations() {
+        final List<RuleViolation> violations = new ArrayList<>(graphViolations);
+        elementViolations.values().forEach(entry -> violations.addAll(entry.violations));
+        return violations;
+    }
+
+    /**
+     * Returns the violations of the node or edge with the given <code>uuid</code>, as given by the last validation.
+     */
+    public Collection<RuleViolation> getViolations(final String uuid) {
+        final ElementViolations entry = elementViolations.get(uuid);
+        return null != entry ? Collections.unmodifiableCollection(entry.violations) : Collections.emptyList();
+    }
+
+    /**
+     * Marks the given node or edge as changed, so the next validation evaluates it again. The changes done by the
+     * graph commands are marked by the session itself.
+     */
+    public void markDirty(final Element<?> element) {
+        if (validated && null != element) {
+            dirtyElements.put(element.getUUID(),
+                              element);
+        }
+    }
+
+    /**
+     * Discards the violations kept, so the next validation evaluates the whole graph again.
+     */
+    public void invalidate() {
+        validated = false;
+        dirtyElements.clear();
+        elementViolations.clear();
+        graphViolations = Collections.emptyList();
+    }
+
+    /**
+     * Stops tracking the changes of the graph.
+     */
+    public void dispose() {
+        invalidate();
+        if (graph instanceof GraphImpl) {
+            ((GraphImpl<?>) graph).removeContentChangeListener(changeListener);
+        }
+    }
+
+    private void addDirtyElements(final Evaluation evaluation) {
+        for (final Element element : dirtyElements.values()) {
+            final ElementViolations previous = elementViolations.remove(element.getUUID());
+            if (element instanceof Node) {
+                evaluation.addNode((Node) element);
+            } else if (element instanceof Edge) {
+                // Both the previous and the current source and target nodes.
+                if (null != previous) {
+                    previous.nodes.forEach(evaluation::addNode);
+                }
+                evaluation.addEdgeAndNodes((Edge) element);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Element getParent(final Node<?, Edge> node) {
+        Element parent = GraphUtils.getParent(node);
+        if (null == parent) {
+            parent = node.getInEdges().stream()
+                    .filter(edge -> edge.getContent() instanceof Dock)
+                    .findAny()
+                    .map(edge -> GraphUtils.getParent(edge.getSourceNode()))
+                    .orElse(null);
+        }
+        return null != parent ? parent : graph;
+    }
+
+    private boolean isInGraph(final Element element) {
+        if (element instanceof Edge) {
+            final Edge edge = (Edge) element;
+            return isInGraph(edge.getSourceNode()) || isInGraph(edge.getTargetNode());
+        }
+        return null != element && element == graph.getNode(element.getUUID());
+    }
+
+    /**
+     * The nodes and edges to evaluate on a validation.
+     */
+    private class Evaluation {
+
+        private final Map<String, Node> nodes = new LinkedHashMap<>();
+        private final Map<String, Edge> edges = new LinkedHashMap<>();
+        private final Set<String> addedNodes = new HashSet<>();
+
+        @SuppressWarnings("unchecked")
+        private void addNode(final Node<?, Edge> node) {
+            if (!isInGraph(node) || !addedNodes.add(node.getUUID())) {
+                return;
+            }
+            nodes.put(node.getUUID(),
+                      node);
+            node.getInEdges().forEach(edge -> edges.put(edge.getUUID(),
+                                                        edge));
+            node.getOutEdges().forEach(edge -> {
+                edges.put(edge.getUUID(),
+                          edge);
+                // The containment of child or docked nodes depends on this node.
+                final Object content = edge.getContent();
+                final Node target = edge.getTargetNode();
+                if ((content instanceof Child || content instanceof Dock) && isInGraph(target)) {
+                    nodes.put(target.getUUID(),
+                              target);
+                }
+            });
+        }
+
+        private void addEdgeAndNodes(final Edge edge) {
+            if (isInGraph(edge)) {
+                edges.put(edge.getUUID(),
+                          edge);
+            }
+            if (null != edge.getSourceNode()) {
+                addNode(edge.getSourceNode());
+            }
+            if (null != edge.getTargetNode()) {
+                addNode(edge.getTargetNode());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void evaluate(final StatelessGraphContextBuilder contextBuilder) {
+            nodes.values().forEach(node -> elementViolations.put(node.getUUID(),
+                                                                 new ElementViolations(node,
+                                                                                       validator.evaluateNode(contextBuilder,
+                                                                                                              ruleSet,
+                                                                                                              getParent(node),
+                                                                                                              node))));
+            edges.values().forEach(edge -> elementViolations.put(edge.getUUID(),
+                                                                 new ElementViolations(edge,
+                                                                                       validator.evaluateEdge(contextBuilder,
+                                                                                                              ruleSet,
+                                                                                                              edge))));
+        }
+    }
+
+    private static class ElementViolations {
+
+        private final Element element;
+        private final Collection<RuleViolation> violations;
+        private final List<Node> nodes = new ArrayList<>(2);
+
+        private ElementViolations(final Element element,
+                                  final Collection<RuleViolation> violations) {
+            this.element = element;
+            this.violations = violations;
+            if (element instanceof Edge) {
+                // Keep the nodes as they were, in case the edge gets connected to other nodes.
+                final Edge edge = (Edge) element;
+                if (null != edge.getSourceNode()) {
+                    nodes.add(edge.getSourceNode());
+                }
+                if (null != edge.getTargetNode()) {
+                    nodes.add(edge.getTargetNode());
+                }
+            }
+        }
+    }
+}
@@ -127,9 +127,10 @@ public class GraphValidatorImpl
                                   super.startGraphTraversal(graph);
                                   currentParents.clear();
                                   // Evaluate the graph's cardinality rules.
-                                  final Set<RuleViolation> graphCardinalityViolations =
-                                          violations.addViolations(evaluateCardinality(contextBuilder,
-                                                                                       ruleSet));
+                                  final Collection<RuleViolation> graphCardinalityViolations =
+                                          evaluateGraph(contextBuilder,
+                                                        ruleSet);
+                                  violations.addAll(graphCardinalityViolations);
                                   graphValidatorConsumer.ifPresent(g -> g.accept(graph,
                                                                                  graphCardinalityViolations));
                               }
@@ -137,54 +138,13 @@ public class GraphValidatorImpl
                               @Override
                               public boolean startEdgeTraversal(final Edge edge) {
                                   super.startEdgeTraversal(edge);
-                                  final Object content = edge.getContent();
-                                  final ViolationsSet edgeViolations =
-                                          new ViolationsSet();
-                                  if (content instanceof Child) {
+                                  if (edge.getContent() instanceof Child) {
                                       this.currentParents.push(edge.getSourceNode());
-                                  } else if (content instanceof View) {
-                                      final Optional<Node<? extends View<?>, ? extends Edge>> sourceOpt =
-                                              Optional.ofNullable(edge.getSourceNode());
-                                      final Optional<Node<? extends View<?>, ? extends Edge>> targetOpt =
-                                              Optional.ofNullable(edge.getTargetNode());
-                                      // Check not empty connections.
-                                      final Optional<RuleViolation> emptyConnectionViolation =
-                                              evaluateNotEmptyConnections(edge,
-                                                                          sourceOpt,
-                                                                          targetOpt);
-                                      emptyConnectionViolation.ifPresent(edgeViolations::add);
-                                      // Evaluate connection rules.
-                                      edgeViolations.addViolations(
-                                              evaluateConnection(contextBuilder,
-                                                                 ruleSet,
-                                                                 edge,
-                                                                 sourceOpt,
-                                                                 targetOpt)
-                                      );
-                                      // Evaluate connector cardinality rules for this edge.
-                                      if (null != edge.getTargetNode()) {
-                                          edgeViolations.addViolations(
-                                                  evaluateIncomingEdgeCardinality(contextBuilder,
-                                                                                  ruleSet,
-                                                                                  edge)
-                                          );
-                                      }
-                                      if (null != edge.getSourceNode()) {
-                                          edgeViolations.addViolations(
-                                                  evaluateOutgoingEdgeCardinality(contextBuilder,
-                                                                                  ruleSet,
-                                                                                  edge)
-                                          );
-                                      }
-                                  } else if (content instanceof Dock) {
-                                      final Node parent = edge.getSourceNode();
-                                      final Node docked = edge.getTargetNode();
-                                      // Evaluate docking rules for the source & target nodes.
-                                      edgeViolations.addViolations(evaluateDocking(contextBuilder,
-                                                                                   ruleSet,
-                                                                                   parent,
-                                                                                   docked));
                                   }
+                                  final Collection<RuleViolation> edgeViolations =
+                                          evaluateEdge(contextBuilder,
+                                                       ruleSet,
+                                                       edge);
                                   edgeValidatorConsumer.ifPresent(c -> c.accept(edge,
                                                                                 edgeViolations));
                                   violations.addAll(edgeViolations);
@@ -203,10 +163,13 @@ public class GraphValidatorImpl
                               public boolean startNodeTraversal(final Node node) {
                                   super.startNodeTraversal(node);
                                   final Collection<RuleViolation> nodeViolations =
-                                          evaluateNode(node,
+                                          evaluateNode(contextBuilder,
+                                                       ruleSet,
                                                        currentParents.isEmpty() ?
-                                                               null :
-                                                               currentParents.peek());
+                                                               graph :
+                                                               currentParents.peek(),
+                                                       node);
+                                  violations.addAll(nodeViolations);
                                   nodeValidatorConsumer.ifPresent(c -> c.accept(node,
                                                                                 nodeViolations));
                                   return true;
@@ -219,19 +182,104 @@ public class GraphValidatorImpl
                                   // Finished - feed the consumer instance.
                                   resultConsumer.accept(violations);
                               }
-
-                              private Collection<RuleViolation> evaluateNode(final Node node,
-                                                                             final Node parent) {
-                                  // Evaluate containment rules for this node.
-                                  return violations.addViolations(evaluateContainment(ruleSet,
-                                                                                      contextBuilder,
-                                                                                      null != parent ? parent : graph,
-                                                                                      node));
-                              }
                           });
     }
 
-    private RuleSet getRuleSet(final Graph<? extends DefinitionSet, ?> graph) {
+    /**
+     * Creates a new validation session for the <code>graph</code> instance, which only evaluates again the rules
+     * for the elements that have changed since its previous validation.
+     * @param graph The instance to validate.
+     * @param ruleSet The rule set to validate against it. If <code>null</code>, the default rule set for the graph
+     * will be used.
+     */
+    @SuppressWarnings("unchecked")
+    public GraphValidationSession newSession(final Graph graph,
+                                             final RuleSet ruleSet) {
+        return new GraphValidationSession(this,
+                                          graph,
+                                          null != ruleSet ? ruleSet : getRuleSet(graph));
+    }
+
+    /**
+     * Evaluates the graph's cardinality rules.
+     */
+    Collection<RuleViolation> evaluateGraph(final StatelessGraphContextBuilder contextBuilder,
+                                            final RuleSet ruleSet) {
+        return new ViolationsSet().addViolations(evaluateCardinality(contextBuilder,
+                                                                     ruleSet));
+    }
+
+    /**
+     * Evaluates the containment rules for the <code>node</code> in the given <code>parent</code>, which is either
+     * a node or the graph.
+     */
+    Collection<RuleViolation> evaluateNode(final StatelessGraphContextBuilder contextBuilder,
+                                           final RuleSet ruleSet,
+                                           final Element<? extends Definition<?>> parent,
+                                           final Node node) {
+        return new ViolationsSet().addViolations(evaluateContainment(ruleSet,
+                                                                     contextBuilder,
+                                                                     parent,
+                                                                     node));
+    }
+
+    /**
+     * Evaluates the connection and connector cardinality rules for a view connector, or the docking rules for a
+     * dock edge.
+     */
+    @SuppressWarnings("unchecked")
+    Collection<RuleViolation> evaluateEdge(final StatelessGraphContextBuilder contextBuilder,
+                                           final RuleSet ruleSet,
+                                           final Edge edge) {
+        final Object content = edge.getContent();
+        final ViolationsSet edgeViolations = new ViolationsSet();
+        if (content instanceof View) {
+            final Optional<Node<? extends View<?>, ? extends Edge>> sourceOpt =
+                    Optional.ofNullable(edge.getSourceNode());
+            final Optional<Node<? extends View<?>, ? extends Edge>> targetOpt =
+                    Optional.ofNullable(edge.getTargetNode());
+            // Check not empty connections.
+            final Optional<RuleViolation> emptyConnectionViolation =
+                    evaluateNotEmptyConnections(edge,
+                                                sourceOpt,
+                                                targetOpt);
+            emptyConnectionViolation.ifPresent(edgeViolations::add);
+            // Evaluate connection rules.
+            edgeViolations.addViolations(
+                    evaluateConnection(contextBuilder,
+                                       ruleSet,
+                                       edge,
+                                       sourceOpt,
+                                       targetOpt)
+            );
+            // Evaluate connector cardinality rules for this edge.
+            if (null != edge.getTargetNode()) {
+                edgeViolations.addViolations(
+                        evaluateIncomingEdgeCardinality(contextBuilder,
+                                                        ruleSet,
+                                                        edge)
+                );
+            }
+            if (null != edge.getSourceNode()) {
+                edgeViolations.addViolations(
+                        evaluateOutgoingEdgeCardinality(contextBuilder,
+                                                        ruleSet,
+                                                        edge)
+                );
+            }
+        } else if (content instanceof Dock) {
+            final Node parent = edge.getSourceNode();
+            final Node docked = edge.getTargetNode();
+            // Evaluate docking rules for the source & target nodes.
+            edgeViolations.addViolations(evaluateDocking(contextBuilder,
+                                                         ruleSet,
+                                                         parent,
+                                                         docked));
+        }
+        return edgeViolations;
+    }
+
+    RuleSet getRuleSet(final Graph<? extends DefinitionSet, ?> graph) {
         final String defSetId = graph.getContent().getDefinition();
         final Object definitionSet = definitionManager.definitionSets().getDefinitionSetById(defSetId);
         return definitionManager.adapters().forRules().getRuleSet(definitionSet);
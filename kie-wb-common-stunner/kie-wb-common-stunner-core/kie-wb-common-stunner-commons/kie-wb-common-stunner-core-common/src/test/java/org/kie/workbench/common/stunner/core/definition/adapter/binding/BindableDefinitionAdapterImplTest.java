@@ -35,7 +35,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.Silent.class)
@@ -162,6 +166,24 @@ public class BindableDefinitionAdapterImplTest {
         assertEquals(property, propertyField.get());
     }
 
+    @Test
+    public void testGetValuesUsingAccessors() {
+        BindableTestBean1 bean = new BindableTestBean1();
+        bean.titleField = "titleValue";
+        bean.propertyField = new BindableTestProperty1();
+        tested.addBindings(BindableTestBean1.class,
+                           new DefinitionAdapterBindings()
+                                   .setTitleField("titleField")
+                                   .setPropertiesFieldNames(Arrays.asList("propertyField"))
+                                   .setTypedPropertyFields(Arrays.asList(true))
+                                   .setAccessors(new BindableFieldAccessors()
+                                                         .addGetter("titleField", pojo -> ((BindableTestBean1) pojo).titleField)
+                                                         .addGetter("propertyField", pojo -> ((BindableTestBean1) pojo).propertyField)));
+        assertEquals("titleValue", tested.getTitle(bean));
+        assertEquals(bean.propertyField, tested.getProperty(bean, "propertyField").get());
+        verify(functions, never()).getValue(any(), anyString());
+    }
+
     @Test
     public void testGetMetaTypes() {
         String nameField = tested.getMetaPropertyField(BEAN1, PropertyMetaTypes.NAME);
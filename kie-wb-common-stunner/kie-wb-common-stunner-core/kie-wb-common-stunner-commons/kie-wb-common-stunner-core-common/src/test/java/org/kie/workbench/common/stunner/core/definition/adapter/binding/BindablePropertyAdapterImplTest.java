@@ -24,7 +24,10 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -87,4 +90,19 @@ public class BindablePropertyAdapterImplTest {
         verify(functions, times(1)).setValue(eq(PROPERTY_1), eq("value"), eq("newValue1"));
         verify(functions, times(1)).setValue(eq(PROPERTY_2), eq("someValue"), eq("newValue2"));
     }
+
+    @Test
+    public void testGetAndSetValueUsingAccessors() {
+        BindableTestProperty1 property = new BindableTestProperty1();
+        tested.addBinding(BindableTestProperty1.class,
+                          "value",
+                          new BindableFieldAccessors()
+                                  .addGetter("value", pojo -> ((BindableTestProperty1) pojo).value)
+                                  .addSetter("value", (pojo, value) -> ((BindableTestProperty1) pojo).value = (String) value));
+        tested.setValue(property, "newValue");
+        assertEquals("newValue", property.value);
+        assertEquals("newValue", tested.getValue(property));
+        verify(functions, never()).setValue(any(), anyString(), any());
+        verify(functions, never()).getValue(any(), anyString());
+    }
 }
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.command.impl;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.core.TestingGraphInstanceBuilder;
+import org.kie.workbench.common.stunner.core.TestingGraphMockHandler;
+import org.kie.workbench.common.stunner.core.command.Command;
+import org.kie.workbench.common.stunner.core.command.CommandResult;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
+import org.kie.workbench.common.stunner.core.graph.command.GraphContentHashAware;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.view.ControlPoint;
+import org.kie.workbench.common.stunner.core.graph.content.view.MagnetConnection;
+import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
+import org.kie.workbench.common.stunner.core.rule.RuleViolation;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * Executes and undoes each of the graph commands that keep the content hash of the graph up to date, and checks that
+ * the hash matches a full computation after each step.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class GraphContentHashAwareCommandsTest {
+
+    private static final String NEW_NODE_UUID = "newNode";
+    private static final String NEW_EDGE_UUID = "newEdge";
+
+    private TestingGraphMockHandler graphTestHandler;
+    private TestingGraphInstanceBuilder.TestGraph4 graphHolder;
+    private GraphImpl<?> graph;
+
+    @Before
+    public void setup() {
+        graphTestHandler = new TestingGraphMockHandler();
+        graphHolder = TestingGraphInstanceBuilder.newGraph4(graphTestHandler);
+        graph = (GraphImpl<?>) graphHolder.graph;
+    }
+
+    @Test
+    public void testAddNode() {
+        assertExecuteAndUndo(new AddNodeCommand(newNode()));
+    }
+
+    @Test
+    public void testAddChildNode() {
+        assertExecuteAndUndo(new AddChildNodeCommand(graphHolder.parentNode,
+                                                     newNode(),
+                                                     new Point2D(10d, 10d)));
+    }
+
+    @Test
+    public void testAddDockedNode() {
+        assertExecuteAndUndo(new AddDockedNodeCommand(graphHolder.intermNode,
+                                                      newNode()));
+    }
+
+    @Test
+    public void testRegisterNode() {
+        assertExecuteAndUndo(new RegisterNodeCommand(newNode()));
+    }
+
+    @Test
+    public void testDeregisterNode() {
+        assertExecuteAndUndo(new DeregisterNodeCommand(graphHolder.endNode));
+    }
+
+    @Test
+    public void testSafeDeleteNode() {
+        assertExecuteAndUndo(new SafeDeleteNodeCommand(graphHolder.startNode));
+    }
+
+    @Test
+    public void testDeleteElements() {
+        assertExecuteAndUndo(new DeleteElementsCommand(Collections.singletonList(graphHolder.endNode.getUUID())));
+    }
+
+    @Test
+    public void testSetChildren() {
+        final Node node = newNode();
+        execute(new AddNodeCommand(node));
+        assertExecuteAndUndo(new SetChildrenCommand(graphHolder.parentNode,
+                                                    node));
+    }
+
+    @Test
+    public void testRemoveChildren() {
+        assertExecuteAndUndo(new RemoveChildrenCommand(graphHolder.parentNode,
+                                                       graphHolder.startNode));
+    }
+
+    @Test
+    public void testSetParentNode() {
+        assertExecuteAndUndo(new SetParentNodeCommand(graphHolder.parentNode,
+                                                      graphHolder.endNode));
+    }
+
+    @Test
+    public void testRemoveParent() {
+        execute(new SetParentNodeCommand(graphHolder.parentNode,
+                                         graphHolder.endNode));
+        assertExecuteAndUndo(new RemoveParentCommand(graphHolder.parentNode,
+                                                     graphHolder.endNode));
+    }
+
+    @Test
+    public void testDockNode() {
+        assertExecuteAndUndo(new DockNodeCommand(graphHolder.startNode,
+                                                 graphHolder.endNode));
+    }
+
+    @Test
+    public void testUnDockNode() {
+        assertExecuteAndUndo(new UnDockNodeCommand(graphHolder.intermNode,
+                                                   graphHolder.dockedNode));
+    }
+
+    @Test
+    public void testAddConnector() {
+        assertExecuteAndUndo(new AddConnectorCommand(graphHolder.startNode,
+                                                     graphTestHandler.newEdge(NEW_EDGE_UUID,
+                                                                              Optional.empty()),
+                                                     MagnetConnection.Builder.at(0d, 0d)));
+    }
+
+    @Test
+    public void testDeleteConnector() {
+        assertExecuteAndUndo(new DeleteConnectorCommand(graphHolder.edge1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSetConnectionSourceNode() {
+        assertExecuteAndUndo(new SetConnectionSourceNodeCommand(graphHolder.startNode,
+                                                                graphHolder.edge2,
+                                                                MagnetConnection.Builder.at(5d, 5d)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSetConnectionTargetNode() {
+        assertExecuteAndUndo(new SetConnectionTargetNodeCommand(graphHolder.endNode,
+                                                                graphHolder.edge1,
+                                                                MagnetConnection.Builder.at(5d, 5d)));
+    }
+
+    @Test
+    public void testAddControlPoint() {
+        assertExecuteAndUndo(new AddControlPointCommand(graphHolder.edge1.getUUID(),
+                                                        ControlPoint.build(10d, 10d),
+                                                        0));
+    }
+
+    @Test
+    public void testDeleteControlPoint() {
+        execute(new AddControlPointCommand(graphHolder.edge1.getUUID(),
+                                           ControlPoint.build(10d, 10d),
+                                           0));
+        assertExecuteAndUndo(new DeleteControlPointCommand(graphHolder.edge1.getUUID(),
+                                                           0));
+    }
+
+    @Test
+    public void testUpdateControlPointPosition() {
+        execute(new AddControlPointCommand(graphHolder.edge1.getUUID(),
+                                           ControlPoint.build(10d, 10d),
+                                           0));
+        assertExecuteAndUndo(new UpdateControlPointPositionCommand(graphHolder.edge1.getUUID(),
+                                                                   new ControlPoint[]{ControlPoint.build(20d, 20d)}));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUpdateElementPosition() {
+        assertExecuteAndUndo(new UpdateElementPositionCommand(graphHolder.startNode,
+                                                              new Point2D(50d, 50d)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUpdateElementPropertyValue() {
+        final NameBean definition = new NameBean();
+        final Object property = new Object();
+        ((View) graphHolder.startNode.getContent()).setDefinition(definition);
+        when(graphTestHandler.getDefinitionAdapter().getProperty(eq(definition), eq(NameBean.NAME))).thenReturn(Optional.of(property));
+        when(graphTestHandler.getPropertyAdapter().getValue(eq(property))).thenAnswer(invocation -> definition.name);
+        doAnswer(invocation -> definition.name = invocation.getArgument(1))
+                .when(graphTestHandler.getPropertyAdapter()).setValue(eq(property), any());
+        assertExecuteAndUndo(new UpdateElementPropertyValueCommand(graphHolder.startNode,
+                                                                   NameBean.NAME,
+                                                                   "newName"));
+    }
+
+    private void assertExecuteAndUndo(final Command<GraphCommandExecutionContext, RuleViolation> command) {
+        assertTrue(command instanceof GraphContentHashAware);
+        // Compute the content hash, so the command has to update it.
+        final int hash = graph.hashCode();
+
+        execute(command);
+        assertContentHash();
+        assertNotEquals(hash, graph.hashCode());
+
+        assertSuccess(command.undo(graphTestHandler.graphCommandExecutionContext));
+        assertContentHash();
+        assertEquals(hash, graph.hashCode());
+    }
+
+    private void assertContentHash() {
+        assertEquals(GraphUtils.computeGraphHashCode(graph),
+                     graph.hashCode());
+    }
+
+    private void execute(final Command<GraphCommandExecutionContext, RuleViolation> command) {
+        assertSuccess(command.execute(graphTestHandler.graphCommandExecutionContext));
+    }
+
+    private static void assertSuccess(final CommandResult<RuleViolation> result) {
+        assertNotEquals(CommandResult.Type.ERROR,
+                        result.getType());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node newNode() {
+        final Node<View<Object>, Edge> node = new NodeImpl<>(NEW_NODE_UUID);
+        node.setContent(new ViewImpl<>(graphTestHandler.newDef("def-" + NEW_NODE_UUID,
+                                                               Optional.empty()),
+                                       Bounds.create(0d, 0d, 10d, 10d)));
+        when(graphTestHandler.graphIndex.getNode(eq(NEW_NODE_UUID))).thenReturn(node);
+        when(graphTestHandler.graphIndex.get(eq(NEW_NODE_UUID))).thenReturn(node);
+        return node;
+    }
+
+    private static class NameBean {
+
+        private static final String NAME = "name";
+
+        private Object name = "name";
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(name);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof NameBean && Objects.equals(name, ((NameBean) o).name);
+        }
+    }
+}
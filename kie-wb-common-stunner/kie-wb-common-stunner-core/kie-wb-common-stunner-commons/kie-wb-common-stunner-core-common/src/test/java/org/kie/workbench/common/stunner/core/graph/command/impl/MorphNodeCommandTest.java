@@ -28,15 +28,20 @@ import org.kie.workbench.common.stunner.core.definition.morph.MorphDefinition;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.core.rule.RuleEvaluationContext;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -130,4 +135,43 @@ public class MorphNodeCommandTest extends AbstractGraphCommandTest {
         assertEquals(1, labels.size());
         assertTrue(labels.contains(CURRENT_DEFINITION_ID));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUpdateLabelsCount() {
+        labels.add(CURRENT_DEFINITION_ID);
+        graph.addNode(candidate);
+        final GraphImpl<?> graphImpl = (GraphImpl<?>) graph;
+        assertEquals(1, graphImpl.getLabelsCount().get(CURRENT_DEFINITION_ID).intValue());
+
+        tested.execute(graphCommandExecutionContext);
+        assertFalse(graphImpl.getLabelsCount().containsKey(CURRENT_DEFINITION_ID));
+        assertEquals(1, graphImpl.getLabelsCount().get(NEW_DEFINITION_ID).intValue());
+        assertEquals(1, graphImpl.getLabelsCount().get(NEW_DEFINITION_LABEL).intValue());
+
+        reset(content);
+        when(content.getDefinition()).thenReturn(NEW_DEFINITION);
+        tested.undo(graphCommandExecutionContext);
+        assertEquals(1, graphImpl.getLabelsCount().get(CURRENT_DEFINITION_ID).intValue());
+        assertFalse(graphImpl.getLabelsCount().containsKey(NEW_DEFINITION_ID));
+        assertFalse(graphImpl.getLabelsCount().containsKey(NEW_DEFINITION_LABEL));
+    }
+
+    @Test
+    public void testUpdateContentHash() {
+        final Object[] definition = {CURRENT_DEFINITION};
+        when(content.getDefinition()).thenAnswer(invocation -> definition[0]);
+        doAnswer(invocation -> definition[0] = invocation.getArgument(0)).when(content).setDefinition(any());
+        graph.addNode(candidate);
+        final GraphImpl<?> graphImpl = (GraphImpl<?>) graph;
+        final int hash = graphImpl.hashCode();
+
+        tested.execute(graphCommandExecutionContext);
+        assertEquals(GraphUtils.computeGraphHashCode(graphImpl), graphImpl.hashCode());
+        assertNotEquals(hash, graphImpl.hashCode());
+
+        tested.undo(graphCommandExecutionContext);
+        assertEquals(GraphUtils.computeGraphHashCode(graphImpl), graphImpl.hashCode());
+        assertEquals(hash, graphImpl.hashCode());
+    }
 }
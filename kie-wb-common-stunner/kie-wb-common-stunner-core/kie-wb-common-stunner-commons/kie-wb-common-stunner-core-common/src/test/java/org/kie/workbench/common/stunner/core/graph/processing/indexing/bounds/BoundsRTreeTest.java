@@ -0,0 +1,144 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.indexing.bounds;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.graph.processing.index.bounds.BoundsRTree;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BoundsRTreeTest {
+
+    private static final int SIZE = 1000;
+
+    private BoundsRTree<Integer> tree;
+    private double[][] rects;
+
+    @Before
+    public void setup() {
+        tree = new BoundsRTree<>();
+        final Random random = new Random(7);
+        rects = new double[SIZE][];
+        for (int i = 0; i < SIZE; i++) {
+            final double x = random.nextInt(5000);
+            final double y = random.nextInt(5000);
+            rects[i] = new double[]{x, y, x + 1 + random.nextInt(200), y + 1 + random.nextInt(200)};
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        assertTrue(tree.isEmpty());
+        assertNull(tree.getBounds());
+        final Set<Integer> found = new HashSet<>();
+        tree.search(10, 10, e -> found.add(e.getValue()));
+        assertTrue(found.isEmpty());
+    }
+
+    @Test
+    public void testLoadAndSearch() {
+        final List<BoundsRTree.Entry<Integer>> entries = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            entries.add(BoundsRTree.entry(i, rects[i][0], rects[i][1], rects[i][2], rects[i][3]));
+        }
+        tree.load(entries);
+        assertEquals(SIZE, tree.size());
+        assertSearchResults();
+        assertArrayEquals(computeBounds(), tree.getBounds(), 0d);
+    }
+
+    @Test
+    public void testInsertAndSearch() {
+        for (int i = 0; i < SIZE; i++) {
+            tree.insert(i, rects[i][0], rects[i][1], rects[i][2], rects[i][3]);
+        }
+        assertEquals(SIZE, tree.size());
+        assertSearchResults();
+        assertArrayEquals(computeBounds(), tree.getBounds(), 0d);
+    }
+
+    @Test
+    public void testUpdate() {
+        for (int i = 0; i < SIZE; i++) {
+            tree.insert(i, rects[i][0], rects[i][1], rects[i][2], rects[i][3]);
+        }
+        for (int i = 0; i < SIZE; i += 3) {
+            rects[i] = new double[]{rects[i][0] + 300, rects[i][1] - 300, rects[i][2] + 300, rects[i][3] - 300};
+            tree.update(i, rects[i][0], rects[i][1], rects[i][2], rects[i][3]);
+        }
+        assertEquals(SIZE, tree.size());
+        assertSearchResults();
+    }
+
+    @Test
+    public void testRemove() {
+        for (int i = 0; i < SIZE; i++) {
+            tree.insert(i, rects[i][0], rects[i][1], rects[i][2], rects[i][3]);
+        }
+        for (int i = 0; i < SIZE; i += 2) {
+            assertTrue(tree.remove(i));
+            rects[i] = null;
+        }
+        assertFalse(tree.remove(0));
+        assertEquals(SIZE / 2, tree.size());
+        assertSearchResults();
+        for (int i = 1; i < SIZE; i += 2) {
+            assertTrue(tree.remove(i));
+        }
+        assertTrue(tree.isEmpty());
+        assertNull(tree.getBounds());
+    }
+
+    private void assertSearchResults() {
+        for (int x = 0; x < 5200; x += 97) {
+            for (int y = 0; y < 5200; y += 89) {
+                final Set<Integer> expected = new HashSet<>();
+                for (int i = 0; i < SIZE; i++) {
+                    final double[] r = rects[i];
+                    if (null != r && x >= r[0] && x <= r[2] && y >= r[1] && y <= r[3]) {
+                        expected.add(i);
+                    }
+                }
+                final Set<Integer> actual = new HashSet<>();
+                tree.search(x, y, e -> actual.add(e.getValue()));
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
+    private double[] computeBounds() {
+        final double[] result = new double[]{Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+        for (double[] r : rects) {
+            result[0] = Math.min(result[0], r[0]);
+            result[1] = Math.min(result[1], r[1]);
+            result[2] = Math.max(result[2], r[2]);
+            result[3] = Math.max(result[3], r[3]);
+        }
+        return result;
+    }
+}
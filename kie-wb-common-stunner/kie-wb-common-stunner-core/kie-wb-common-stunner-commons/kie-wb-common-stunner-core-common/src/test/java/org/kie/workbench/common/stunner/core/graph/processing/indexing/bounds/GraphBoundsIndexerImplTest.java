@@ -23,6 +23,7 @@ import org.kie.workbench.common.stunner.core.TestingGraphInstanceBuilder;
 import org.kie.workbench.common.stunner.core.TestingGraphMockHandler;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.processing.index.bounds.GraphBoundsIndexerImpl;
@@ -127,4 +128,49 @@ public class GraphBoundsIndexerImplTest {
                      size[1],
                      0.001);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testOnNodeUpdated() {
+        final double[] size = GraphUtils.getNodeSize((View) graphInstanceParent.startNode.getContent());
+        assertNotNull(graphBoundsIndexerImpl.getAt(size[0] / 2,
+                                                   size[1] / 2));
+
+        ((View) graphInstanceParent.startNode.getContent()).setBounds(Bounds.create(1000,
+                                                                                   1000,
+                                                                                   1000 + size[0],
+                                                                                   1000 + size[1]));
+        graphBoundsIndexerImpl.onNodeUpdated(graphInstanceParent.startNode);
+        assertEquals(graphInstanceParent.startNode,
+                     graphBoundsIndexerImpl.getAt(1000 + (size[0] / 2),
+                                                  1000 + (size[1] / 2)));
+        final double[] trimmedBounds = graphBoundsIndexerImpl.getTrimmedBounds();
+        assertEquals(1000 + size[0],
+                     trimmedBounds[2],
+                     0.001);
+        assertEquals(1000 + size[1],
+                     trimmedBounds[3],
+                     0.001);
+    }
+
+    @Test
+    public void testOnNodeRemoved() {
+        final double[] size = GraphUtils.getNodeSize((View) graphInstanceParent.startNode.getContent());
+        graphBoundsIndexerImpl.getTrimmedBounds();
+        graphBoundsIndexerImpl.onNodeRemoved(graphInstanceParent.parentNode);
+        assertNull(graphBoundsIndexerImpl.getAt(size[0] / 2,
+                                                size[1] / 2));
+    }
+
+    @Test
+    public void testRebuildAfterSetRootUUID() {
+        final double[] size = GraphUtils.getNodeSize((View) graphInstanceParent.startNode.getContent());
+        graphBoundsIndexerImpl.setRootUUID(graphInstanceParent.parentNode.getUUID());
+        final double[] trimmedBounds = graphBoundsIndexerImpl.getTrimmedBounds();
+        assertEquals(size[0],
+                     trimmedBounds[2],
+                     0.001);
+        assertEquals(graphInstanceParent.parentNode,
+                     graphBoundsIndexerImpl.getAt(size[0] * 10,
+                                                  size[1] * 10));
+    }
+}
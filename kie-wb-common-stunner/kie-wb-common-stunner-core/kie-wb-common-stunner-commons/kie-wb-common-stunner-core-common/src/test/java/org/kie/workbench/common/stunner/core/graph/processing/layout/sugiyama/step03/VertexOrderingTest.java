@@ -18,6 +18,7 @@ package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.s
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import org.assertj.core.api.Assertions;
 import org.junit.Test;
@@ -415,4 +416,78 @@ public class VertexOrderingTest {
 
         assertEquals(0, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCrossingIgnoresEdgesToOtherLayers() {
+
+        /*
+         * 1 crossing, the edges to G (another layer) are not considered
+         * A   B   C
+         *   \   /
+         *     X
+         *   /   \
+         * D   E   F
+         */
+        final GraphLayerImpl top = new GraphLayerImpl(0);
+        top.addNewVertex("A");
+        top.addNewVertex("B");
+        top.addNewVertex("C");
+
+        final GraphLayerImpl bottom = new GraphLayerImpl(1);
+        bottom.addNewVertex("D");
+        bottom.addNewVertex("E");
+        bottom.addNewVertex("F");
+
+        final List<OrientedEdge> edges = new ArrayList<>();
+        edges.add(new OrientedEdgeImpl("A", "F"));
+        edges.add(new OrientedEdgeImpl("A", "G"));
+        edges.add(new OrientedEdgeImpl("C", "D"));
+        edges.add(new OrientedEdgeImpl("G", "C"));
+
+        final LayerCrossingCount cc = new LayerCrossingCount();
+        final int result = cc.crossing(edges, top, bottom);
+
+        assertEquals(1, result);
+    }
+
+    @Test
+    public void testCrossingMatchesPairwiseCount() {
+        final Random random = new Random(42);
+        final LayerCrossingCount cc = new LayerCrossingCount();
+
+        for (int i = 0; i < 100; i++) {
+            final GraphLayerImpl top = new GraphLayerImpl(0);
+            final GraphLayerImpl bottom = new GraphLayerImpl(1);
+            final int topSize = 1 + random.nextInt(15);
+            final int bottomSize = 1 + random.nextInt(15);
+            for (int j = 0; j < topSize; j++) {
+                top.addNewVertex("T" + j);
+            }
+            for (int j = 0; j < bottomSize; j++) {
+                bottom.addNewVertex("B" + j);
+            }
+
+            final List<OrientedEdge> edges = new ArrayList<>();
+            final int edgesCount = random.nextInt(40);
+            for (int j = 0; j < edgesCount; j++) {
+                edges.add(new OrientedEdgeImpl("T" + random.nextInt(topSize),
+                                               "B" + random.nextInt(bottomSize)));
+            }
+
+            int expected = 0;
+            for (int a = 0; a < edges.size(); a++) {
+                for (int b = a + 1; b < edges.size(); b++) {
+                    final int fromA = Integer.parseInt(edges.get(a).getFromVertexId().substring(1));
+                    final int toA = Integer.parseInt(edges.get(a).getToVertexId().substring(1));
+                    final int fromB = Integer.parseInt(edges.get(b).getFromVertexId().substring(1));
+                    final int toB = Integer.parseInt(edges.get(b).getToVertexId().substring(1));
+                    if ((fromA < fromB && toA > toB) || (fromA > fromB && toA < toB)) {
+                        expected++;
+                    }
+                }
+            }
+
+            assertEquals(expected, cc.crossing(edges, top, bottom));
+        }
+    }
+}
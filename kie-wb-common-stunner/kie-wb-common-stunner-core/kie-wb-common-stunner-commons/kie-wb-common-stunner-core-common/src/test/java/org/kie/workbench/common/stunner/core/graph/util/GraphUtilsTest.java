@@ -16,8 +16,12 @@
 
 package org.kie.workbench.common.stunner.core.graph.util;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.OptionalInt;
+import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -251,4 +255,64 @@ public class GraphUtilsTest {
         // Rollback connection changed.
         assertEquals(hashCode, GraphUtils.computeGraphHashCode(graph), 0d);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUpdateContentHash() {
+        final GraphImpl graph = (GraphImpl) graphInstance.graph;
+        final int hashCode = graph.hashCode();
+        assertEquals(GraphUtils.computeGraphHashCode(graph), hashCode);
+        // Change some node's bounds.
+        final View nodeContent = (View) graphInstance.startNode.getContent();
+        final Bounds bounds = nodeContent.getBounds();
+        nodeContent.setBounds(Bounds.create(1d, 1d, 123d, 123d));
+        GraphUtils.updateContentHash(graph, graphInstance.startNode);
+        assertNotEquals(hashCode, graph.hashCode());
+        assertEquals(GraphUtils.computeGraphHashCode(graph), graph.hashCode());
+        // Rollback node's bounds changed.
+        nodeContent.setBounds(bounds);
+        GraphUtils.updateContentHash(graph, graphInstance.startNode);
+        assertEquals(hashCode, graph.hashCode());
+        // Remove and add back some node.
+        graph.removeNode(graphInstance.startNode.getUUID());
+        assertNotEquals(hashCode, graph.hashCode());
+        assertEquals(GraphUtils.computeGraphHashCode(graph), graph.hashCode());
+        graph.addNode(graphInstance.startNode);
+        assertEquals(hashCode, graph.hashCode());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInvalidateContentHash() {
+        final GraphImpl graph = (GraphImpl) graphInstance.graph;
+        final int hashCode = graph.hashCode();
+        final View nodeContent = (View) graphInstance.startNode.getContent();
+        nodeContent.setBounds(Bounds.create(1d, 1d, 123d, 123d));
+        graph.invalidateContentHash();
+        assertNotEquals(hashCode, graph.hashCode());
+        assertEquals(GraphUtils.computeGraphHashCode(graph), graph.hashCode());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetLabelsCount() {
+        final GraphImpl graph = (GraphImpl) graphInstance.graph;
+        final Set<String> roles = new HashSet<>(Arrays.asList("label1", "all", "unused"));
+        final Map<String, Integer> labelsCount = GraphUtils.getLabelsCount(graph, roles);
+        assertEquals(GraphUtils.getLabelsCount(graph, e -> true, roles), labelsCount);
+        assertEquals(1, labelsCount.get("label1").intValue());
+        assertFalse(labelsCount.containsKey("unused"));
+        // Remove some node.
+        graph.removeNode(graphInstance.startNode.getUUID());
+        assertFalse(GraphUtils.getLabelsCount(graph, roles).containsKey("label1"));
+        assertEquals(GraphUtils.getLabelsCount(graph, e -> true, roles), GraphUtils.getLabelsCount(graph, roles));
+        // Add it back with some other labels.
+        graph.addNode(graphInstance.startNode);
+        final Set<String> previousLabels = new HashSet<>(graphInstance.startNode.getLabels());
+        graphInstance.startNode.getLabels().remove("label1");
+        graphInstance.startNode.getLabels().add("unused");
+        GraphUtils.updateLabelsCount(graph, graphInstance.startNode, previousLabels);
+        assertEquals(1, GraphUtils.getLabelsCount(graph, roles).get("unused").intValue());
+        assertEquals(GraphUtils.getLabelsCount(graph, e -> true, roles), GraphUtils.getLabelsCount(graph, roles));
+    }
 }
@@ -124,4 +124,19 @@ public class CachedRuleManagerTest {
         verify(containmentHandler, never()).evaluate(any(CanContain.class),
                                                      any(ContainmentContext.class));
     }
+
+    @Test
+    public void testEvaluateConnectionContextOnlyForRulesOfConnectorRole() {
+        final CanConnect otherConnectionRule = new CanConnect("conn2",
+                                                              "role2",
+                                                              Arrays.asList(new CanConnect.PermittedConnection("role1",
+                                                                                                               "role2")));
+        when(ruleSet.getRules()).thenReturn(Arrays.asList(containmentRule, connectionRule, otherConnectionRule));
+        tested.evaluate(ruleSet,
+                        connectionContext);
+        verify(connectionHandler, times(1)).evaluate(eq(connectionRule),
+                                                     eq(connectionContext));
+        verify(connectionHandler, never()).accepts(eq(otherConnectionRule),
+                                                   any(ConnectionContext.class));
+    }
 }
@@ -17,6 +17,9 @@
 package org.kie.workbench.common.stunner.core.rule.context.impl;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -76,6 +79,26 @@ public class StatefulGraphEvaluationStateTests {
         assertTrue(nodes.contains(someNewNode));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCountLabels() {
+        StatefulGraphEvaluationState.StatefulCardinalityState cardinalityState = tested.getCardinalityState();
+        NodeImpl someNewNode = new NodeImpl<>("someNewNodeUUID");
+        someNewNode.getLabels().add("someNewLabel");
+        someNewNode.getLabels().addAll(graphInstance.nodeA.getLabels());
+        cardinalityState.add(someNewNode);
+        cardinalityState.delete(graphInstance.nodeA);
+        cardinalityState.delete(graphInstance.startNode);
+        assertEquals(countLabels(cardinalityState.nodes(), null),
+                     cardinalityState.countLabels(null));
+        final Set<String> roleFilter = new HashSet<>(graphInstance.startNode.getLabels());
+        roleFilter.add("someNewLabel");
+        assertEquals(countLabels(cardinalityState.nodes(), roleFilter),
+                     cardinalityState.countLabels(roleFilter));
+        assertEquals(1,
+                     cardinalityState.countLabels(roleFilter).get("someNewLabel").intValue());
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testConnectorCardinalityState() {
@@ -158,4 +181,18 @@ public class StatefulGraphEvaluationStateTests {
         assertTrue(containmentState.getParents().isEmpty());
         assertTrue(dockingState.getDockedElements().isEmpty());
     }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Integer> countLabels(final Iterable<Node> nodes,
+                                                    final Set<String> roleFilter) {
+        final Map<String, Integer> result = new HashMap<>();
+        for (final Node node : nodes) {
+            for (final String label : (Set<String>) node.getLabels()) {
+                if (null == roleFilter || roleFilter.contains(label)) {
+                    result.put(label, result.getOrDefault(label, 0) + 1);
+                }
+            }
+        }
+        return result;
+    }
 }
@@ -56,6 +56,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -303,6 +304,55 @@ public class DiagramValidatorTest {
                                   any(Consumer.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testValidateDiagramWithSession() {
+        final TestingGraphInstanceBuilder.TestGraph1 graph1 = TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        when(diagram.getGraph()).thenReturn(graphTestHandler.graph);
+
+        //graph violation
+        RuleViolation ruleViolation = mock(RuleViolation.class);
+        when(ruleViolation.getViolationType()).thenReturn(Violation.Type.ERROR);
+        when(ruleViolation.getMessage()).thenReturn(RULE_VIOLATION);
+        when(graphTestHandler.getRuleManager().evaluate(any(),
+                                                        any())).thenReturn(new DefaultRuleViolations().addViolation(ruleViolation));
+
+        final GraphValidationSession session = tested.newSession(diagram);
+        final int invocations = mockingDetails(graphTestHandler.getRuleManager()).getInvocations().size();
+        tested.validate(diagram,
+                        session,
+                        violations -> assertElementError(violations,
+                                                         TestingGraphInstanceBuilder.INTERM_NODE_UUID));
+        final int firstEvaluations = mockingDetails(graphTestHandler.getRuleManager()).getInvocations().size() - invocations;
+
+        // Nothing has changed, so the rules are only evaluated again for the graph, but the violations are kept.
+        tested.validate(diagram,
+                        session,
+                        violations -> assertElementError(violations,
+                                                         TestingGraphInstanceBuilder.INTERM_NODE_UUID));
+        final int secondEvaluations = mockingDetails(graphTestHandler.getRuleManager()).getInvocations().size() - invocations - firstEvaluations;
+        assertTrue(secondEvaluations < firstEvaluations);
+
+        verify(modelValidator,
+               times(2)).validate(eq(graph1.startNode),
+                                  any(Consumer.class));
+        verify(modelValidator,
+               times(2)).validate(eq(graph1.intermNode),
+                                  any(Consumer.class));
+        verify(modelValidator,
+               times(2)).validate(eq(graph1.endNode),
+                                  any(Consumer.class));
+        verify(modelValidator,
+               times(2)).validate(eq(graph1.edge1),
+                                  any(Consumer.class));
+        verify(modelValidator,
+               times(2)).validate(eq(graph1.edge2),
+                                  any(Consumer.class));
+        verify(modelValidator,
+               times(2)).validate(eq(graphTestHandler.graph),
+                                  any(Consumer.class));
+    }
+
     private void assertNoErrors(final
                                 Collection<DiagramElementViolation<RuleViolation>> violations) {
         assertNotNull(violations);
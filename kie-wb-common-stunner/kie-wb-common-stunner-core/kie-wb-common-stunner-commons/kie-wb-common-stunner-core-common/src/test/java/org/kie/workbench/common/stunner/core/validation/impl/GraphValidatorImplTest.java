@@ -29,7 +29,9 @@ import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.definition.DefinitionSet;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.TreeWalkTraverseProcessorImpl;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.core.rule.RuleEvaluationContext;
 import org.kie.workbench.common.stunner.core.rule.RuleManager;
 import org.kie.workbench.common.stunner.core.rule.RuleSet;
@@ -54,7 +56,9 @@ import static org.kie.workbench.common.stunner.core.TestingGraphUtils.verifyCard
 import static org.kie.workbench.common.stunner.core.TestingGraphUtils.verifyConnection;
 import static org.kie.workbench.common.stunner.core.TestingGraphUtils.verifyConnectorCardinality;
 import static org.kie.workbench.common.stunner.core.TestingGraphUtils.verifyContainment;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -240,6 +244,118 @@ public class GraphValidatorImplTest {
                         });
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testValidateSessionOnlyEvaluatesChangedElements() {
+        final RuleManager ruleManager = graphTestHandler.getRuleManager();
+        final RuleSet ruleSet = graphTestHandler.ruleSet;
+        final Graph<DefinitionSet, Node> graph = graphTestHandler.graph;
+        final TestingGraphInstanceBuilder.TestGraph1 testGraph1 = TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        final GraphValidationSession session = tested.newSession(graph,
+                                                                 ruleSet);
+        session.validate(this::assertNoError);
+        verify(ruleManager,
+               times(testGraph1.evaluationsCount + 10)).evaluate(eq(ruleSet),
+                                                                 any(RuleEvaluationContext.class));
+        // Nothing changed, only the graph's cardinality is evaluated.
+        clearInvocations(ruleManager);
+        session.validate(this::assertNoError);
+        verify(ruleManager,
+               times(1)).evaluate(eq(ruleSet),
+                                  any(RuleEvaluationContext.class));
+        // Graph cardinality, containment for the edge2 nodes, and the edges of these nodes.
+        graphTestHandler.removeTargetConnection(testGraph1.edge2);
+        clearInvocations(ruleManager);
+        session.validate(ruleViolations -> {
+            assertEquals(1,
+                         ruleViolations.size());
+            assertTrue(ruleViolations.iterator().next() instanceof EmptyConnectionViolation);
+        });
+        verify(ruleManager,
+               times(8)).evaluate(eq(ruleSet),
+                                  any(RuleEvaluationContext.class));
+        assertEquals(1,
+                     session.getViolations(testGraph1.edge2.getUUID()).size());
+        assertTrue(session.getViolations(testGraph1.edge1.getUUID()).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testValidateSessionAfterInvalidate() {
+        final RuleManager ruleManager = graphTestHandler.getRuleManager();
+        final RuleSet ruleSet = graphTestHandler.ruleSet;
+        final Graph<DefinitionSet, Node> graph = graphTestHandler.graph;
+        TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        final GraphValidationSession session = tested.newSession(graph,
+                                                                 ruleSet);
+        session.validate(this::assertNoError);
+        clearInvocations(ruleManager);
+        session.invalidate();
+        session.validate(this::assertNoError);
+        verify(ruleManager,
+               times(10)).evaluate(eq(ruleSet),
+                                   any(RuleEvaluationContext.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testValidateSessionChangesOutsideCommands() {
+        final RuleManager ruleManager = graphTestHandler.getRuleManager();
+        final RuleSet ruleSet = graphTestHandler.ruleSet;
+        final Graph<DefinitionSet, Node> graph = graphTestHandler.graph;
+        final TestingGraphInstanceBuilder.TestGraph1 testGraph1 = TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        final GraphValidationSession session = tested.newSession(graph,
+                                                                 ruleSet);
+        session.validate(this::assertNoError);
+        // Not seen by the session, only the graph's cardinality is evaluated.
+        testGraph1.edge2.setTargetNode(null);
+        clearInvocations(ruleManager);
+        session.validate(this::assertNoError);
+        verify(ruleManager,
+               times(1)).evaluate(eq(ruleSet),
+                                  any(RuleEvaluationContext.class));
+        assertTrue(session.getViolations(testGraph1.edge2.getUUID()).isEmpty());
+        // Once marked as changed, the edge gets evaluated again.
+        session.markDirty(testGraph1.edge2);
+        session.validate(ruleViolations -> {
+            assertEquals(1,
+                         ruleViolations.size());
+            assertTrue(ruleViolations.iterator().next() instanceof EmptyConnectionViolation);
+        });
+        assertEquals(1,
+                     session.getViolations(testGraph1.edge2.getUUID()).size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testValidateSessionAfterInvalidateContentHash() {
+        final RuleManager ruleManager = graphTestHandler.getRuleManager();
+        final RuleSet ruleSet = graphTestHandler.ruleSet;
+        final Graph<DefinitionSet, Node> graph = graphTestHandler.graph;
+        TestingGraphInstanceBuilder.newGraph1(graphTestHandler);
+        final GraphValidationSession session = tested.newSession(graph,
+                                                                 ruleSet);
+        session.validate(this::assertNoError);
+        clearInvocations(ruleManager);
+        GraphUtils.invalidateContentHash(graph);
+        session.validate(this::assertNoError);
+        verify(ruleManager,
+               times(10)).evaluate(eq(ruleSet),
+                                   any(RuleEvaluationContext.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDisposeSession() {
+        final RuleSet ruleSet = graphTestHandler.ruleSet;
+        final GraphImpl graph = (GraphImpl) graphTestHandler.graph;
+        final GraphValidationSession session = tested.newSession(graph,
+                                                                 ruleSet);
+        verify(graph).addContentChangeListener(any(GraphImpl.ContentChangeListener.class));
+        session.dispose();
+        verify(graph).removeContentChangeListener(any(GraphImpl.ContentChangeListener.class));
+    }
+
     private void assertNoError(final Collection<RuleViolation> violations) {
         assertFalse(violations.stream()
                             .filter(v -> Violation.Type.ERROR.equals(v.getViolationType()))
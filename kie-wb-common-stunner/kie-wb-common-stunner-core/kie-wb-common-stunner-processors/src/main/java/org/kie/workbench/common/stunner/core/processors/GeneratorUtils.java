@@ -29,6 +29,7 @@ import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.ElementFilter;
@@ -255,6 +256,97 @@ public class GeneratorUtils extends org.uberfire.annotations.processors.Generato
         return null;
     }
 
+    /**
+     * Returns the source of a lambda that reads the given field of a bindable type through its getter, or
+     * <code>null</code> if the getter, or the getter of any intermediate field of a nested ("a.b") field, is not
+     * present. Intermediate null values result in a null value.
+     */
+    public static String getFieldGetterExpression(final TypeElement classElement,
+                                                  final String fieldPath,
+                                                  final ProcessingEnvironment processingEnvironment) {
+        final Types typeUtils = processingEnvironment.getTypeUtils();
+        final String[] fields = fieldPath.split("\\.");
+        final StringBuilder body = new StringBuilder();
+        String target = "((" + typeUtils.erasure(classElement.asType()) + ") pojo)";
+        TypeElement type = classElement;
+        for (int i = 0; i < fields.length; i++) {
+            final ExecutableElement getter = getGetter(type, fields[i], processingEnvironment);
+            if (null == getter) {
+                return null;
+            }
+            final String call = target + "." + getter.getSimpleName() + "()";
+            if (i == fields.length - 1) {
+                return fields.length == 1 ?
+                        "pojo -> " + call :
+                        "pojo -> {" + body + " return " + call + "; }";
+            }
+            final TypeMirror returnType = getter.getReturnType();
+            if (returnType.getKind() != TypeKind.DECLARED ||
+                    !((DeclaredType) returnType).asElement().getModifiers().contains(Modifier.PUBLIC)) {
+                return null;
+            }
+            final String value = "v" + i;
+            final String erasure = typeUtils.erasure(returnType).toString();
+            body.append(" final ").append(erasure).append(" ").append(value).append(" = ").append(call).append(";")
+                    .append(" if (null == ").append(value).append(") { return null; }");
+            target = value;
+            type = (TypeElement) ((DeclaredType) returnType).asElement();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the source of a lambda that writes the given field of a bindable type through its setter, or
+     * <code>null</code> if there is no single argument setter for it.
+     */
+    public static String getFieldSetterExpression(final TypeElement classElement,
+                                                  final String field,
+                                                  final ProcessingEnvironment processingEnvironment) {
+        final Types typeUtils = processingEnvironment.getTypeUtils();
+        final String setterName = "set" + capitalize(field);
+        for (final ExecutableElement method : getAccessibleMethods(classElement, processingEnvironment)) {
+            if (method.getSimpleName().contentEquals(setterName) && method.getParameters().size() == 1) {
+                final TypeMirror paramType = method.getParameters().get(0).asType();
+                final String paramTypeName = paramType.getKind().isPrimitive() ?
+                        typeUtils.boxedClass((PrimitiveType) paramType).getQualifiedName().toString() :
+                        typeUtils.erasure(paramType).toString();
+                return "(pojo, value) -> ((" + typeUtils.erasure(classElement.asType()) + ") pojo)." +
+                        setterName + "((" + paramTypeName + ") value)";
+            }
+        }
+        return null;
+    }
+
+    private static ExecutableElement getGetter(final TypeElement classElement,
+                                               final String field,
+                                               final ProcessingEnvironment processingEnvironment) {
+        final String getterName = "get" + capitalize(field);
+        final String booleanGetterName = "is" + capitalize(field);
+        for (final ExecutableElement method : getAccessibleMethods(classElement, processingEnvironment)) {
+            if (method.getParameters().isEmpty() &&
+                    method.getReturnType().getKind() != TypeKind.VOID &&
+                    (method.getSimpleName().contentEquals(getterName) || method.getSimpleName().contentEquals(booleanGetterName))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static List<ExecutableElement> getAccessibleMethods(final TypeElement classElement,
+                                                                final ProcessingEnvironment processingEnvironment) {
+        final List<ExecutableElement> result = new ArrayList<>();
+        for (final ExecutableElement method : ElementFilter.methodsIn(processingEnvironment.getElementUtils().getAllMembers(classElement))) {
+            if (method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC)) {
+                result.add(method);
+            }
+        }
+        return result;
+    }
+
+    private static String capitalize(final String s) {
+        return s.substring(0, 1).toUpperCase() + s.substring(1);
+    }
+
     private static String fqcnToSimpleName(final String fqcn) {
         int lastIndexOfDot = fqcn.lastIndexOf(46);
         return lastIndexOfDot != -1 ? fqcn.substring(lastIndexOfDot + 1) : fqcn;
@@ -24,9 +24,11 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.RoundEnvironment;
@@ -471,6 +473,9 @@ public class MainProcessor extends AbstractErrorAbsorbingProcessor {
             processingContext.getDefinitionAnnotations().getPropertyFieldNames().put(defintionClassName, propertyFieldNames);
             processingContext.getDefinitionAnnotations().getTypedPropertyFields().put(defintionClassName, typedPropertyFields);
             processingContext.getMetaPropertyTypesFields().put(defintionClassName, defMetaTypes);
+            processFieldGetters(classElement,
+                                defintionClassName,
+                                propertyFieldNames);
 
             // -- Morphing annotations --
             MorphBase morphBaseAnn = e.getAnnotation(MorphBase.class);
@@ -689,10 +694,49 @@ public class MainProcessor extends AbstractErrorAbsorbingProcessor {
                              ANNOTATION_PROPERTY_VALUE,
                              processingContext.getPropertyAnnotations().getValueFieldNames(),
                              true);
+            // Value field accessors, if any.
+            final String valueField = processingContext.getPropertyAnnotations().getValueFieldNames().get(propertyClassName);
+            final String getter = GeneratorUtils.getFieldGetterExpression(classElement, valueField, processingEnv);
+            final String setter = GeneratorUtils.getFieldSetterExpression(classElement, valueField, processingEnv);
+            if (null != getter) {
+                processingContext.getPropertyAnnotations().getValueFieldGetters().put(propertyClassName, getter);
+            }
+            if (null != setter) {
+                processingContext.getPropertyAnnotations().getValueFieldSetters().put(propertyClassName, setter);
+            }
         }
         return false;
     }
 
+    private void processFieldGetters(final TypeElement classElement,
+                                     final String definitionClassName,
+                                     final List<String> propertyFieldNames) {
+        final ProcessingDefinitionAnnotations annotations = processingContext.getDefinitionAnnotations();
+        final Set<String> fields = new LinkedHashSet<>();
+        Stream.of(annotations.getIdFieldNames(),
+                  annotations.getCategoryFieldNames(),
+                  annotations.getTitleFieldNames(),
+                  annotations.getDescriptionFieldNames(),
+                  annotations.getLabelsFieldNames())
+                .map(fieldNames -> fieldNames.get(definitionClassName))
+                .filter(Objects::nonNull)
+                .forEach(fields::add);
+        fields.addAll(propertyFieldNames);
+        final Map<String, String> getters = new LinkedHashMap<>();
+        for (String field : fields) {
+            final String getter = GeneratorUtils.getFieldGetterExpression(classElement, field, processingEnv);
+            if (null != getter) {
+                getters.put(field, getter);
+            } else {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                                                         "No getter found for field [" + field + "] " +
+                                                                 "of class [" + classElement.getSimpleName() + "], " +
+                                                                 "it will be accessed through data binding");
+            }
+        }
+        annotations.getFieldGetters().put(definitionClassName, getters);
+    }
+
     private boolean processFieldName(final TypeElement classElement,
                                      final String propertyClassName,
                                      final String annotation,
@@ -35,6 +35,7 @@ public class ProcessingDefinitionAnnotations {
     private final Map<String, String> descriptionFieldNames = new HashMap<>();
     private final Map<String, TypeConstructor> builderFieldNames = new HashMap<>();
     private final Map<String, String[]> shapeDefs = new HashMap<>();
+    private final Map<String, Map<String, String>> fieldGetters = new HashMap<>();
 
     public Map<String, String> getBaseTypes() {
         return baseTypes;
@@ -79,4 +80,8 @@ public class ProcessingDefinitionAnnotations {
     public Map<String, String[]> getShapeDefinitions() {
         return shapeDefs;
     }
+
+    public Map<String, Map<String, String>> getFieldGetters() {
+        return fieldGetters;
+    }
 }
@@ -22,8 +22,18 @@ import java.util.Map;
 public class ProcessingPropertyAnnotations {
 
     private final Map<String, String> valueFieldNames = new HashMap<>();
+    private final Map<String, String> valueFieldGetters = new HashMap<>();
+    private final Map<String, String> valueFieldSetters = new HashMap<>();
 
     public Map<String, String> getValueFieldNames() {
         return valueFieldNames;
     }
+
+    public Map<String, String> getValueFieldGetters() {
+        return valueFieldGetters;
+    }
+
+    public Map<String, String> getValueFieldSetters() {
+        return valueFieldSetters;
+    }
 }
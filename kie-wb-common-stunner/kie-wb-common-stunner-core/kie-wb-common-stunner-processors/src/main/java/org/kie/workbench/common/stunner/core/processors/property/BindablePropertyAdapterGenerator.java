@@ -46,6 +46,18 @@ public class BindablePropertyAdapterGenerator extends AbstractBindableAdapterGen
         addFields("valuePropNames",
                   root,
                   processingPropertyAnnotations.getValueFieldNames());
+        // Direct accessors for the value fields.
+        Map<String, String> valuePropAccessors = new HashMap<>();
+        processingPropertyAnnotations.getValueFieldNames().forEach((type, field) -> {
+            String getter = processingPropertyAnnotations.getValueFieldGetters().get(type);
+            String setter = processingPropertyAnnotations.getValueFieldSetters().get(type);
+            valuePropAccessors.put(type,
+                                   "new BindableFieldAccessors()" +
+                                           (null != getter ? ".addGetter(\"" + field + "\", " + getter + ")" : "") +
+                                           (null != setter ? ".addSetter(\"" + field + "\", " + setter + ")" : ""));
+        });
+        root.put("valuePropAccessors",
+                 valuePropAccessors);
         //Generate code
         return writeTemplate(packageName,
                              className,
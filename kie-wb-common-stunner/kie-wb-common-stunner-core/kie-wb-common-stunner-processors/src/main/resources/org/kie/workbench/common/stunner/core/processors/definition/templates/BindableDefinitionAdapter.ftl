@@ -28,6 +28,7 @@ import org.kie.workbench.common.stunner.core.definition.adapter.binding.Bindable
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableAdapterFunctions;
 import org.kie.workbench.common.stunner.core.definition.adapter.DefinitionAdapterWrapper;
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableDefinitionAdapterImpl;
+import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableFieldAccessors;
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.DefinitionAdapterBindings;
 import org.kie.workbench.common.stunner.core.i18n.StunnerTranslationService;
 
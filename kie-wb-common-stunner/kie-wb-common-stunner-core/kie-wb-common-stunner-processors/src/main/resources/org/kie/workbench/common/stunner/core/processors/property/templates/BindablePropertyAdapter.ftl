@@ -24,6 +24,7 @@ import javax.inject.Inject;
 
 import org.kie.workbench.common.stunner.core.definition.adapter.PropertyAdapterWrapper;
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableAdapterFunctions;
+import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableFieldAccessors;
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindablePropertyAdapter;
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindablePropertyAdapterImpl;
 import org.kie.workbench.common.stunner.core.i18n.StunnerTranslationService;
@@ -41,7 +42,7 @@ public class ${className} extends PropertyAdapterWrapper<Object, Object, Bindabl
     @PostConstruct
     public void init() {
         <#list valuePropNames as valuePropName>
-            adapter.addBinding(${valuePropName.className}.class, "${valuePropName.methodName}");
+            adapter.addBinding(${valuePropName.className}.class, "${valuePropName.methodName}", ${valuePropAccessors[valuePropName.className]});
         </#list>
     }
 
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.processors;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableFieldAccessors;
+
+import static com.google.testing.compile.Compiler.javac;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class GeneratorUtilsTest {
+
+    private static final String SAMPLE = "test.Sample";
+    private static final String SAMPLE_CHILD = "test.Sample$Child";
+    private static final String SAMPLE_ACCESSORS = "test.SampleAccessors";
+
+    private static final JavaFileObject SAMPLE_SOURCE = JavaFileObjects.forSourceLines(
+            SAMPLE,
+            "package test;",
+            "",
+            "import java.util.List;",
+            "",
+            "import org.jboss.errai.databinding.client.api.Bindable;",
+            "",
+            "@Bindable",
+            "public class Sample {",
+            "",
+            "    private String name;",
+            "    private int count;",
+            "    private boolean enabled;",
+            "    private List<String> items;",
+            "    private Child child;",
+            "    private Hidden hidden;",
+            "    private String unreadable;",
+            "",
+            "    public String getName() { return name; }",
+            "    public void setName(String name) { this.name = name; }",
+            "    public int getCount() { return count; }",
+            "    public void setCount(int count) { this.count = count; }",
+            "    public boolean isEnabled() { return enabled; }",
+            "    public void setEnabled(boolean enabled) { this.enabled = enabled; }",
+            "    public List<String> getItems() { return items; }",
+            "    public void setItems(List<String> items) { this.items = items; }",
+            "    public Child getChild() { return child; }",
+            "    public void setChild(Child child) { this.child = child; }",
+            "    public Hidden getHidden() { return hidden; }",
+            "",
+            "    public static class Child {",
+            "",
+            "        private String name;",
+            "        private Child child;",
+            "",
+            "        public String getName() { return name; }",
+            "        public void setName(String name) { this.name = name; }",
+            "        public Child getChild() { return child; }",
+            "        public void setChild(Child child) { this.child = child; }",
+            "    }",
+            "",
+            "    static class Hidden {",
+            "",
+            "        public String getName() { return \"hidden\"; }",
+            "    }",
+            "}");
+
+    private static final List<String> GETTER_FIELDS = Arrays.asList("name",
+                                                                    "count",
+                                                                    "enabled",
+                                                                    "items",
+                                                                    "child",
+                                                                    "child.name",
+                                                                    "child.child.name",
+                                                                    "hidden",
+                                                                    "hidden.name",
+                                                                    "unreadable");
+
+    private static final List<String> SETTER_FIELDS = Arrays.asList("name",
+                                                                    "count",
+                                                                    "enabled",
+                                                                    "items",
+                                                                    "child",
+                                                                    "hidden",
+                                                                    "unreadable");
+
+    private FieldAccessorsProcessor processor;
+    private Compilation compilation;
+    private BindableFieldAccessors accessors;
+    private ClassLoader classLoader;
+
+    @Before
+    public void setUp() throws Exception {
+        processor = new FieldAccessorsProcessor();
+        compilation = javac()
+                .withProcessors(processor)
+                .compile(SAMPLE_SOURCE);
+        CompilationSubject.assertThat(compilation).succeeded();
+        classLoader = new CompilationClassLoader(compilation);
+        accessors = (BindableFieldAccessors) classLoader.loadClass(SAMPLE_ACCESSORS).getField("ACCESSORS").get(null);
+    }
+
+    @Test
+    public void testGetFieldGetterExpression() {
+        assertEquals("pojo -> ((test.Sample) pojo).getName()",
+                     processor.getters.get("name"));
+        assertEquals("pojo -> ((test.Sample) pojo).isEnabled()",
+                     processor.getters.get("enabled"));
+        assertEquals("pojo -> {" +
+                             " final test.Sample.Child v0 = ((test.Sample) pojo).getChild(); if (null == v0) { return null; }" +
+                             " return v0.getName(); }",
+                     processor.getters.get("child.name"));
+        assertNotNull(processor.getters.get("child.child.name"));
+        assertNotNull(processor.getters.get("hidden"));
+        // Intermediate types which are not public.
+        assertNull(processor.getters.get("hidden.name"));
+        // Fields without getter, accessed through data binding.
+        assertNull(processor.getters.get("unreadable"));
+    }
+
+    @Test
+    public void testGetFieldSetterExpression() {
+        assertEquals("(pojo, value) -> ((test.Sample) pojo).setName((java.lang.String) value)",
+                     processor.setters.get("name"));
+        assertEquals("(pojo, value) -> ((test.Sample) pojo).setCount((java.lang.Integer) value)",
+                     processor.setters.get("count"));
+        assertEquals("(pojo, value) -> ((test.Sample) pojo).setItems((java.util.List) value)",
+                     processor.setters.get("items"));
+        // Fields without setter, accessed through data binding.
+        assertNull(processor.setters.get("hidden"));
+        assertNull(processor.setters.get("unreadable"));
+    }
+
+    @Test
+    public void testGetterAndSetter() throws Exception {
+        final Object sample = newInstance(SAMPLE);
+        final List<String> items = Collections.singletonList("item");
+        accessors.getSetter("name").accept(sample, "name1");
+        accessors.getSetter("items").accept(sample, items);
+        assertEquals("name1",
+                     accessors.getGetter("name").apply(sample));
+        assertSame(items,
+                   accessors.getGetter("items").apply(sample));
+    }
+
+    @Test
+    public void testPrimitiveBoxing() throws Exception {
+        final Object sample = newInstance(SAMPLE);
+        assertEquals(0,
+                     accessors.getGetter("count").apply(sample));
+        assertEquals(false,
+                     accessors.getGetter("enabled").apply(sample));
+        accessors.getSetter("count").accept(sample, 5);
+        accessors.getSetter("enabled").accept(sample, true);
+        assertEquals(5,
+                     accessors.getGetter("count").apply(sample));
+        assertEquals(true,
+                     accessors.getGetter("enabled").apply(sample));
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void testSetterCast() throws Exception {
+        accessors.getSetter("count").accept(newInstance(SAMPLE), "5");
+    }
+
+    @Test
+    public void testNestedGetterNullChain() throws Exception {
+        final Object sample = newInstance(SAMPLE);
+        assertNull(accessors.getGetter("child.name").apply(sample));
+        assertNull(accessors.getGetter("child.child.name").apply(sample));
+
+        final Object child = newInstance(SAMPLE_CHILD);
+        invoke(child, "setName", "child1");
+        accessors.getSetter("child").accept(sample, child);
+        assertEquals("child1",
+                     accessors.getGetter("child.name").apply(sample));
+        assertNull(accessors.getGetter("child.child.name").apply(sample));
+
+        final Object grandChild = newInstance(SAMPLE_CHILD);
+        invoke(grandChild, "setName", "child2");
+        invoke(child, "setChild", grandChild);
+        assertEquals("child2",
+                     accessors.getGetter("child.child.name").apply(sample));
+    }
+
+    @Test
+    public void testNoAccessors() {
+        assertNull(accessors.getGetter("hidden.name"));
+        assertNull(accessors.getGetter("unreadable"));
+        assertNull(accessors.getSetter("hidden"));
+        assertNull(accessors.getSetter("unreadable"));
+    }
+
+    private Object newInstance(final String className) throws Exception {
+        return classLoader.loadClass(className).newInstance();
+    }
+
+    private static void invoke(final Object target,
+                               final String methodName,
+                               final Object arg) throws Exception {
+        Arrays.stream(target.getClass().getMethods())
+                .filter(method -> method.getName().equals(methodName))
+                .findFirst()
+                .get()
+                .invoke(target, arg);
+    }
+
+    /**
+     * Generates a <code>test.SampleAccessors</code> class holding the accessors of the sample type, as the generated
+     * definition and property adapters do.
+     */
+    @SupportedAnnotationTypes("*")
+    private static class FieldAccessorsProcessor extends AbstractProcessor {
+
+        private final Map<String, String> getters = new LinkedHashMap<>();
+        private final Map<String, String> setters = new LinkedHashMap<>();
+        private boolean generated;
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(final Set<? extends TypeElement> annotations,
+                               final RoundEnvironment roundEnv) {
+            final TypeElement sample = processingEnv.getElementUtils().getTypeElement(SAMPLE);
+            if (generated || roundEnv.processingOver() || null == sample) {
+                return false;
+            }
+            generated = true;
+            final StringBuilder code = new StringBuilder("new BindableFieldAccessors()");
+            for (String field : GETTER_FIELDS) {
+                final String getter = GeneratorUtils.getFieldGetterExpression(sample, field, processingEnv);
+                getters.put(field, getter);
+                if (null != getter) {
+                    code.append(".addGetter(\"").append(field).append("\", ").append(getter).append(")");
+                }
+            }
+            for (String field : SETTER_FIELDS) {
+                final String setter = GeneratorUtils.getFieldSetterExpression(sample, field, processingEnv);
+                setters.put(field, setter);
+                if (null != setter) {
+                    code.append(".addSetter(\"").append(field).append("\", ").append(setter).append(")");
+                }
+            }
+            try (Writer writer = processingEnv.getFiler().createSourceFile(SAMPLE_ACCESSORS).openWriter()) {
+                writer.append("package test;\n")
+                        .append("import ").append(BindableFieldAccessors.class.getName()).append(";\n")
+                        .append("public class SampleAccessors {\n")
+                        .append("    public static final BindableFieldAccessors ACCESSORS = ").append(code).append(";\n")
+                        .append("}\n");
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Loads the classes compiled by the given compilation.
+     */
+    private static class CompilationClassLoader extends ClassLoader {
+
+        private final Compilation compilation;
+
+        private CompilationClassLoader(final Compilation compilation) {
+            super(GeneratorUtilsTest.class.getClassLoader());
+            this.compilation = compilation;
+        }
+
+        @Override
+        protected Class<?> findClass(final String name) throws ClassNotFoundException {
+            final int index = name.lastIndexOf('.');
+            final Optional<JavaFileObject> classFile = compilation.generatedFile(StandardLocation.CLASS_OUTPUT,
+                                                                                 name.substring(0, index),
+                                                                                 name.substring(index + 1) + ".class");
+            if (!classFile.isPresent()) {
+                throw new ClassNotFoundException(name);
+            }
+            try (InputStream in = classFile.get().openInputStream()) {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[4096];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+                final byte[] bytes = out.toByteArray();
+                return defineClass(name, bytes, 0, bytes.length);
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.processors;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+
+import javax.tools.JavaFileObject;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.google.testing.compile.Compiler.javac;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MainProcessorTest {
+
+    private static final String GENERATED_PACKAGE = "sample.definition.adapter.binding.";
+
+    private static final JavaFileObject DEFINITION_SET = JavaFileObjects.forSourceLines(
+            "sample.SampleSet",
+            "package sample;",
+            "",
+            "import org.jboss.errai.databinding.client.api.Bindable;",
+            "import org.kie.workbench.common.stunner.core.definition.annotation.DefinitionSet;",
+            "import org.kie.workbench.common.stunner.core.definition.annotation.Description;",
+            "import org.kie.workbench.common.stunner.core.factory.graph.GraphFactory;",
+            "",
+            "@Bindable",
+            "@DefinitionSet(graphFactory = GraphFactory.class, qualifier = SampleSet.Qualifier.class, definitions = {SampleNode.class})",
+            "public class SampleSet {",
+            "",
+            "    @Description",
+            "    public static final transient String description = \"Sample\";",
+            "",
+            "    public String getDescription() { return description; }",
+            "",
+            "    public @interface Qualifier {",
+            "    }",
+            "}");
+
+    private static final JavaFileObject DEFINITION = JavaFileObjects.forSourceLines(
+            "sample.SampleNode",
+            "package sample;",
+            "",
+            "import java.util.HashSet;",
+            "import java.util.Set;",
+            "",
+            "import org.jboss.errai.databinding.client.api.Bindable;",
+            "import org.kie.workbench.common.stunner.core.definition.annotation.Definition;",
+            "import org.kie.workbench.common.stunner.core.definition.annotation.Property;",
+            "import org.kie.workbench.common.stunner.core.definition.annotation.definition.Category;",
+            "import org.kie.workbench.common.stunner.core.definition.annotation.definition.Labels;",
+            "",
+            "@Bindable",
+            "@Definition",
+            "public class SampleNode {",
+            "",
+            "    @Category",
+            "    public static final transient String category = \"Nodes\";",
+            "",
+            "    @Labels",
+            "    private final Set<String> labels = new HashSet<>();",
+            "",
+            "    @Property",
+            "    private SampleName name = new SampleName();",
+            "",
+            "    @Property",
+            "    private SampleSize size = new SampleSize();",
+            "",
+            "    @Property",
+            "    private SampleGeneral general = new SampleGeneral();",
+            "",
+            "    @Property",
+            "    private SampleName documentation = new SampleName();",
+            "",
+            "    public String getCategory() { return category; }",
+            "    public Set<String> getLabels() { return labels; }",
+            "    public SampleName getName() { return name; }",
+            "    public SampleSize getSize() { return size; }",
+            "    public SampleGeneral getGeneral() { return general; }",
+            "}");
+
+    private static final JavaFileObject GENERAL = JavaFileObjects.forSourceLines(
+            "sample.SampleGeneral",
+            "package sample;",
+            "",
+            "import org.jboss.errai.databinding.client.api.Bindable;",
+            "import org.kie.workbench.common.stunner.core.definition.annotation.Property;",
+            "",
+            "@Bindable",
+            "public class SampleGeneral {",
+            "",
+            "    @Property",
+            "    private SampleName name = new SampleName();",
+            "",
+            "    public SampleName getName() { return name; }",
+            "}");
+
+    private static final JavaFileObject NAME_PROPERTY = JavaFileObjects.forSourceLines(
+            "sample.SampleName",
+            "package sample;",
+            "",
+            "import org.jboss.errai.databinding.client.api.Bindable;",
+            "import org.kie.workbench.common.stunner.core.definition.annotation.Property;",
+            "import org.kie.workbench.common.stunner.core.definition.annotation.property.Value;",
+            "",
+            "@Bindable",
+            "@Property",
+            "public class SampleName {",
+            "",
+            "    @Value",
+            "    private String value;",
+            "",
+            "    public String getValue() { return value; }",
+            "    public void setValue(String value) { this.value = value; }",
+            "}");
+
+    private static final JavaFileObject SIZE_PROPERTY = JavaFileObjects.forSourceLines(
+            "sample.SampleSize",
+            "package sample;",
+            "",
+            "import org.jboss.errai.databinding.client.api.Bindable;",
+            "import org.kie.workbench.common.stunner.core.definition.annotation.Property;",
+            "import org.kie.workbench.common.stunner.core.definition.annotation.property.Value;",
+            "",
+            "@Bindable",
+            "@Property",
+            "public class SampleSize {",
+            "",
+            "    @Value",
+            "    private Double value = 0d;",
+            "",
+            "    public double getValue() { return value; }",
+            "    public void setValue(double value) { this.value = value; }",
+            "}");
+
+    private Compilation compilation;
+
+    @Before
+    public void setUp() throws Exception {
+        resetProcessingContext();
+        compilation = javac()
+                .withProcessors(new MainProcessor())
+                .compile(DEFINITION_SET,
+                         DEFINITION,
+                         GENERAL,
+                         NAME_PROPERTY,
+                         SIZE_PROPERTY);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        resetProcessingContext();
+    }
+
+    @Test
+    public void testDefinitionFieldGetters() throws IOException {
+        final String adapter = getGeneratedSource("SampleSetDefinitionAdapterImpl");
+        assertTrue(adapter.contains(".addGetter(\"category\", pojo -> ((sample.SampleNode) pojo).getCategory())"));
+        assertTrue(adapter.contains(".addGetter(\"labels\", pojo -> ((sample.SampleNode) pojo).getLabels())"));
+        assertTrue(adapter.contains(".addGetter(\"name\", pojo -> ((sample.SampleNode) pojo).getName())"));
+        assertTrue(adapter.contains(".addGetter(\"size\", pojo -> ((sample.SampleNode) pojo).getSize())"));
+    }
+
+    @Test
+    public void testDefinitionNestedFieldGetters() throws IOException {
+        final String adapter = getGeneratedSource("SampleSetDefinitionAdapterImpl");
+        assertTrue(adapter.contains(".addGetter(\"general.name\", pojo -> {" +
+                                            " final sample.SampleGeneral v0 = ((sample.SampleNode) pojo).getGeneral();" +
+                                            " if (null == v0) { return null; }" +
+                                            " return v0.getName(); })"));
+    }
+
+    @Test
+    public void testDefinitionFieldWithoutGetter() throws IOException {
+        final String adapter = getGeneratedSource("SampleSetDefinitionAdapterImpl");
+        assertTrue(adapter.contains("\"documentation\""));
+        assertFalse(adapter.contains(".addGetter(\"documentation\""));
+        CompilationSubject.assertThat(compilation)
+                .hadNoteContaining("No getter found for field [documentation] of class [SampleNode], " +
+                                           "it will be accessed through data binding");
+    }
+
+    @Test
+    public void testPropertyValueAccessors() throws IOException {
+        final String adapter = getGeneratedSource("SampleSetPropertyAdapterImpl");
+        assertTrue(adapter.contains("new BindableFieldAccessors()" +
+                                            ".addGetter(\"value\", pojo -> ((sample.SampleName) pojo).getValue())" +
+                                            ".addSetter(\"value\", (pojo, value) -> ((sample.SampleName) pojo).setValue((java.lang.String) value))"));
+    }
+
+    @Test
+    public void testPropertyValueAccessorsBoxing() throws IOException {
+        final String adapter = getGeneratedSource("SampleSetPropertyAdapterImpl");
+        assertTrue(adapter.contains("new BindableFieldAccessors()" +
+                                            ".addGetter(\"value\", pojo -> ((sample.SampleSize) pojo).getValue())" +
+                                            ".addSetter(\"value\", (pojo, value) -> ((sample.SampleSize) pojo).setValue((java.lang.Double) value))"));
+    }
+
+    private String getGeneratedSource(final String className) throws IOException {
+        return compilation.generatedSourceFile(GENERATED_PACKAGE + className)
+                .get()
+                .getCharContent(true)
+                .toString();
+    }
+
+    /**
+     * The processing context is shared by all the processor instances, and allows a single definition set.
+     */
+    private static void resetProcessingContext() throws Exception {
+        final Field context = ProcessingContext.class.getDeclaredField("context");
+        context.setAccessible(true);
+        context.set(null, null);
+    }
+}
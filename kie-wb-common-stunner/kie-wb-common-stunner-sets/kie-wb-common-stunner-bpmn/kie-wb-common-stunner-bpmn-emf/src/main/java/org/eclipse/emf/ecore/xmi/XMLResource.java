@@ -252,14 +252,22 @@ public class XMLResource extends ResourceImpl {
                 throw new RuntimeException(e.getMessage());
             }
         }
+        return xmlSave.save(this, document, mergeSaveOptions(options), xmlDOMHandler);
+    }
+
+    public String saveToString(Map<?, ?> options) {
+        return createXMLSave().save(this, mergeSaveOptions(options));
+    }
+
+    private Map<?, ?> mergeSaveOptions(Map<?, ?> options) {
         if (defaultSaveOptions == null || defaultSaveOptions.isEmpty()) {
-            return xmlSave.save(this, document, options == null ? Collections.EMPTY_MAP : options, xmlDOMHandler);
+            return options == null ? Collections.EMPTY_MAP : options;
         } else if (options == null) {
-            return xmlSave.save(this, document, defaultSaveOptions, xmlDOMHandler);
+            return defaultSaveOptions;
         } else {
             Map<Object, Object> mergedOptions = new HashMap<Object, Object>(defaultSaveOptions);
             mergedOptions.putAll(options);
-            return xmlSave.save(this, document, mergedOptions, xmlDOMHandler);
+            return mergedOptions;
         }
     }
 
@@ -471,6 +479,18 @@ public class XMLResource extends ResourceImpl {
     }
 
     public final void load(Node node, Map<?, ?> options) throws IOException {
+        load(options, loadOptions -> doLoad(node, loadOptions));
+    }
+
+    /**
+     * Loads the resource from the given XML contents. The contents are
+     * tokenized as they are read, so no DOM document is built.
+     */
+    public final void load(String contents, Map<?, ?> options) throws IOException {
+        load(options, loadOptions -> doLoad(contents, loadOptions));
+    }
+
+    private void load(Map<?, ?> options, Loader loader) throws IOException {
         if (!isLoaded) {
             Notification notification = setLoaded(true);
             isLoading = true;
@@ -485,14 +505,14 @@ public class XMLResource extends ResourceImpl {
 
             try {
                 if (defaultLoadOptions == null || defaultLoadOptions.isEmpty()) {
-                    doLoad(node, options);
+                    loader.load(options);
                 } else if (options == null) {
-                    doLoad(node, defaultLoadOptions);
+                    loader.load(defaultLoadOptions);
                 } else {
                     Map<Object, Object> mergedOptions = new HashMap<Object, Object>(defaultLoadOptions);
                     mergedOptions.putAll(options);
 
-                    doLoad(node, mergedOptions);
+                    loader.load(mergedOptions);
                 }
             } finally {
                 isLoading = false;
@@ -516,6 +536,16 @@ public class XMLResource extends ResourceImpl {
         xmlLoad.load(this, node, options);
     }
 
+    public void doLoad(String contents, Map<?, ?> options) throws IOException {
+        XMLLoad xmlLoad = createXMLLoad();
+
+        if (options == null) {
+            options = Collections.EMPTY_MAP;
+        }
+
+        xmlLoad.load(this, contents, options);
+    }
+
     @Override
     protected void doSave(OutputStream outputStream, Map<?, ?> options) throws IOException {
         //super.doSave(outputStream, options);
@@ -527,4 +557,9 @@ public class XMLResource extends ResourceImpl {
         XmlMapper xmlMapper = new XmlMapper();
         xmlMapper.write(this, outputStream, options);
     }
+
+    private interface Loader {
+
+        void load(Map<?, ?> options) throws IOException;
+    }
 }
@@ -19,12 +19,9 @@ package org.eclipse.emf.ecore.xmi.map;
 import java.io.IOException;
 import java.util.Map;
 
-import com.google.gwt.xml.client.Document;
-import com.google.gwt.xml.client.XMLParser;
 import org.eclipse.emf.common.util.Callback;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.xmi.XMLResource;
-import org.eclipse.emf.ecore.xmi.resource.xml.XMLDOMHandler;
 
 public class XmlMapper extends AbstractMapper {
 
@@ -43,10 +40,8 @@ public class XmlMapper extends AbstractMapper {
                     XMLResource.OPTION_PROCESS_DANGLING_HREF_RECORD);
 */
 
-        Document document = XMLParser.parse(content);
-
         try {
-            ((XMLResource) resource).load(document, options);
+            ((XMLResource) resource).load(content, options);
             callback.onSuccess(resource);
         } catch (IOException e) {
             e.printStackTrace();
@@ -58,12 +53,6 @@ public class XmlMapper extends AbstractMapper {
     public String write(Resource resource,
                         Map<?, ?> options) {
 
-        XMLResource xmlResource = (XMLResource) resource;
-
-        Document document = XMLParser.createDocument();
-
-        xmlResource.save(document, options, new XMLDOMHandler());
-
-        return document.toString();
+        return ((XMLResource) resource).saveToString(options);
     }
 }
@@ -102,6 +102,28 @@ public class XMLLoad {
         handleErrors();
     }
 
+    /**
+     * Loads the resource by tokenizing the given XML contents, so the
+     * handler is fed directly without building a DOM document first.
+     */
+    public void load(XMLResource resource, String contents, Map<?, ?> options) throws IOException {
+        this.resource = resource;
+        this.options = options;
+        this.namespaceAware = Boolean.FALSE.equals(options.get(XMLResource.OPTION_USE_DEPRECATED_METHODS));
+        XMLHandler handler = makeDefaultHandler();
+
+        try {
+            new XMLStreamParser(contents, namespaceAware).parse(handler);
+        } catch (XMLParseException e) {
+            // reported as a fatal error by the parser
+        }
+
+        handler = null;
+        helper = null;
+
+        handleErrors();
+    }
+
     /**
      * Special case: traversing root element using namespaces in scope
      */
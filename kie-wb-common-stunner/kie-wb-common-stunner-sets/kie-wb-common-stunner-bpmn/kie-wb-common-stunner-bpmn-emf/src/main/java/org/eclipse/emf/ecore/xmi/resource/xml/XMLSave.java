@@ -20,7 +20,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -231,6 +230,33 @@ public class XMLSave {
         return gwtDocumentHandler.getDocument();
     }
 
+    /**
+     * Serializes the resource straight to a string, producing the same markup as
+     * {@link #save(XMLResource, Document, Map, XMLDOMHandler)} once the document is
+     * serialized by the browser, without building the DOM.
+     */
+    public String save(XMLResource resource, Map<?, ?> options) {
+        toDOM = false;
+        this.xmlResource = resource;
+
+        init(resource, options);
+        @SuppressWarnings("unchecked")
+        List<? extends EObject> contents = roots = (List<? extends EObject>) options.get(XMLResource.OPTION_ROOT_OBJECTS);
+        if (contents == null) {
+            contents = resource.getContents();
+        }
+        traverse(contents);
+        XMLString result = doc;
+
+        try {
+            endSave(contents);
+        } catch (Exception e) {
+            logError(e);
+        }
+        xmlResource = null;
+        return result.toString();
+    }
+
     protected void endSave(List<? extends EObject> contents) {
         if (extendedMetaData != null && contents.size() >= 1) {
             EObject root = contents.get(0);
@@ -329,70 +355,9 @@ public class XMLSave {
 
         // set serialization options
         if (!toDOM) {
-            declareXML = !Boolean.FALSE.equals(options.get(XMLResource.OPTION_DECLARE_XML));
-
-            if (options.get(XMLResource.OPTION_FLUSH_THRESHOLD) instanceof Integer) {
-                flushThreshold = (Integer) options.get(XMLResource.OPTION_FLUSH_THRESHOLD);
-            }
-
-            Integer lineWidth = (Integer) options.get(XMLResource.OPTION_LINE_WIDTH);
-            int effectiveLineWidth = lineWidth == null ? Integer.MAX_VALUE : lineWidth;
-            String publicId = null, systemId = null;
-            if (resource != null && Boolean.TRUE.equals(options.get(XMLResource.OPTION_SAVE_DOCTYPE))) {
-                publicId = resource.getPublicId();
-                systemId = resource.getSystemId();
-            }
-            if (useCache) {
-        /*doc = ConfigurationCache.INSTANCE.getPrinter();
-        doc.reset(publicId, systemId, effectiveLineWidth, temporaryFileName);
-        escape = Boolean.TRUE.equals(options.get(XMLResource.OPTION_SKIP_ESCAPE)) ? null : ConfigurationCache.INSTANCE.getEscape();*/
-            } else {
-                doc = new XMLString(effectiveLineWidth, publicId, systemId, temporaryFileName);
-                escape = Boolean.TRUE.equals(options.get(XMLResource.OPTION_SKIP_ESCAPE)) ? null : new Escape();
-            }
-
-            if (Boolean.FALSE.equals(options.get(XMLResource.OPTION_FORMATTED))) {
-                doc.setUnformatted(true);
-            }
-
-            escapeURI = Boolean.FALSE.equals(options.get(XMLResource.OPTION_SKIP_ESCAPE_URI)) ? escape : null;
-
-            if (options.containsKey(XMLResource.OPTION_ENCODING)) {
-                encoding = (String) options.get(XMLResource.OPTION_ENCODING);
-            } else if (resource != null) {
-                encoding = resource.getEncoding();
-            }
-
-            if (options.containsKey(XMLResource.OPTION_XML_VERSION)) {
-                xmlVersion = (String) options.get(XMLResource.OPTION_XML_VERSION);
-            } else if (resource != null) {
-                xmlVersion = resource.getXMLVersion();
-            }
-
-            if (escape != null) {
-                int maxSafeChar = MAX_UTF_MAPPABLE_CODEPOINT;
-                if (encoding != null) {
-                    if (encoding.equalsIgnoreCase("ASCII") || encoding.equalsIgnoreCase("US-ASCII")) {
-                        maxSafeChar = MAX_ASCII_MAPPABLE_CODEPOINT;
-                    } else if (encoding.equalsIgnoreCase("ISO-8859-1")) {
-                        maxSafeChar = MAX_LATIN1_MAPPABLE_CODEPOINT;
-                    }
-                }
-
-                escape.setMappingLimit(maxSafeChar);
-                if (!"1.0".equals(xmlVersion)) {
-                    escape.setAllowControlCharacters(true);
-                }
-
-                escape.setUseCDATA(Boolean.TRUE.equals(options.get(XMLResource.OPTION_ESCAPE_USING_CDATA)));
-            }
-
-            resourceEntityHandler = (ResourceEntityHandler) options.get(XMLResource.OPTION_RESOURCE_ENTITY_HANDLER);
-            if (resourceEntityHandler instanceof URIHandler && !options.containsKey(XMLResource.OPTION_URI_HANDLER)) {
-                Map<Object, Object> newOptions = new LinkedHashMap<Object, Object>(options);
-                newOptions.put(XMLResource.OPTION_URI_HANDLER, resourceEntityHandler);
-                options = newOptions;
-            }
+            // String serialization writes the markup the browser produces for the DOM serialization,
+            // so the declaration, formatting, encoding and entity options don't apply to it either.
+            doc = new XMLStreamWriter(new Escape());
         } else {
             // DOM serialization
             if (handler instanceof XMLDOMHandler) {
@@ -1329,7 +1294,8 @@ public class XMLSave {
     }
 
     protected void saveManyEmpty(EStructuralFeature f) {
-        doc.addAttribute(helper.getQName(f), "");
+        // The DOM serialization leaves the attribute value unset, which the browser writes as "null".
+        doc.addAttribute(helper.getQName(f), null);
     }
 
     protected void saveDataTypeMany(EObject o, EStructuralFeature f) {
@@ -1581,7 +1547,8 @@ public class XMLSave {
                 }
             }
             if (!toDOM) {
-                doc.startElement(helper.getQName(f));
+                helper.populateNameInfo(nameInfo, f);
+                doc.startElement(nameInfo.getNamespaceURI() + ":" + nameInfo.getQualifiedName());
             } else {
                 helper.populateNameInfo(nameInfo, f);
                 Element elem = getGwtDOMHandler().createElementNS(nameInfo.getNamespaceURI(), nameInfo.getNamespaceURI() + ":" + nameInfo.getQualifiedName());
@@ -2525,6 +2492,9 @@ public class XMLSave {
         protected final char[] GREATER = {'&', 'g', 't', ';'};
         protected final char[] QUOTE = {'&', 'q', 'u', 'o', 't', ';'};
         protected final char[] LINE_FEED = System.getProperty("line.separator", "\n").toCharArray();
+        protected final char[] MARKUP_TAB = {'&', '#', '9', ';'};
+        protected final char[] MARKUP_LF = {'&', '#', '1', '0', ';'};
+        protected final char[] MARKUP_CR = {'&', '#', '1', '3', ';'};
 
         public Escape() {
             value = new char[100];
@@ -2801,6 +2771,87 @@ public class XMLSave {
             return changed ? !useCDATA || cdataCloseBracket ? new String(value, 0, outputPos) : "<![CDATA[" + input + "]]>" : input;
         }
 
+        /*
+         *  Convert values as the browser serializes them for a DOM node:
+         *  & to &amp;
+         *  < to &lt;
+         *  > to &gt;
+         *  and for attribute values also:
+         *  " to &quot;
+         *  \t to &#9;
+         *  \n to &#10;
+         *  \r to &#13;
+         */
+        public String convertMarkup(String input, boolean isAttribute) {
+            boolean changed = false;
+            int inputLength = input.length();
+            grow(inputLength);
+            int outputPos = 0;
+            int inputPos = 0;
+            char ch;
+            while (inputLength-- > 0) {
+                ch = input.charAt(inputPos++);
+                switch (ch) {
+                    case '&': {
+                        outputPos = replaceChars(outputPos, AMP, inputLength);
+                        changed = true;
+                        break;
+                    }
+                    case '<': {
+                        outputPos = replaceChars(outputPos, LESS, inputLength);
+                        changed = true;
+                        break;
+                    }
+                    case '>': {
+                        outputPos = replaceChars(outputPos, GREATER, inputLength);
+                        changed = true;
+                        break;
+                    }
+                    case '"': {
+                        if (isAttribute) {
+                            outputPos = replaceChars(outputPos, QUOTE, inputLength);
+                            changed = true;
+                        } else {
+                            value[outputPos++] = ch;
+                        }
+                        break;
+                    }
+                    case '\t': {
+                        if (isAttribute) {
+                            outputPos = replaceChars(outputPos, MARKUP_TAB, inputLength);
+                            changed = true;
+                        } else {
+                            value[outputPos++] = ch;
+                        }
+                        break;
+                    }
+                    case '\n': {
+                        if (isAttribute) {
+                            outputPos = replaceChars(outputPos, MARKUP_LF, inputLength);
+                            changed = true;
+                        } else {
+                            value[outputPos++] = ch;
+                        }
+                        break;
+                    }
+                    case '\r': {
+                        if (isAttribute) {
+                            outputPos = replaceChars(outputPos, MARKUP_CR, inputLength);
+                            changed = true;
+                        } else {
+                            value[outputPos++] = ch;
+                        }
+                        break;
+                    }
+                    default: {
+                        value[outputPos++] = ch;
+                        break;
+                    }
+                }
+            }
+            return changed ? new String(value, 0, outputPos) : input;
+        }
+
         /*
          *  Convert:
          *  \n to line separator
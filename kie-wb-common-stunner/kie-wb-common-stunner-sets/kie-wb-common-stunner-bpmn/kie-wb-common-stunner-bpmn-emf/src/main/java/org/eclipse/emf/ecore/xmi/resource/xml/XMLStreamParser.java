@@ -0,0 +1,427 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.emf.ecore.xmi.resource.xml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.util.ExtendedMetaData;
+
+/**
+ * A pull tokenizer that reads an XML document straight from its string
+ * representation and reports it to an {@link XMLHandler}, so no intermediate
+ * DOM has to be built before the model is created.
+ * <p>
+ * The events produced are the same ones {@link XMLLoad} replays when it
+ * traverses a parsed DOM document: comments, the XML declaration and any
+ * markup outside the root element are skipped, character references and
+ * the predefined entities are expanded, and line ends are normalized as an
+ * XML parser would do. Malformed input is reported as a fatal error on the
+ * handler and stops the parsing.
+ */
+public class XMLStreamParser {
+
+    protected static final String CDATA = "CDATA";
+
+    protected final String contents;
+    protected final int length;
+    protected final boolean namespaceAware;
+    protected final AttributesImpl attributes = new AttributesImpl();
+    protected final List<String> elements = new ArrayList<String>();
+    protected final List<String> namespaces = new ArrayList<String>();
+    protected final List<Integer> namespaceMarks = new ArrayList<Integer>();
+    protected int position;
+
+    public XMLStreamParser(String contents, boolean namespaceAware) {
+        this.contents = contents;
+        this.length = contents.length();
+        this.namespaceAware = namespaceAware;
+    }
+
+    public void parse(XMLHandler handler) throws XMLParseException {
+        position = length > 0 && contents.charAt(0) == '\uFEFF' ? 1 : 0;
+        handler.startDocument();
+        boolean rootParsed = false;
+        skipWhitespace();
+        while (position < length) {
+            if (contents.charAt(position) != '<') {
+                fatalError(handler, "Content is not allowed outside the root element");
+            }
+            if (contents.startsWith("<?", position)) {
+                skipPast("?>", handler);
+            } else if (contents.startsWith("<!--", position)) {
+                skipPast("-->", handler);
+            } else if (contents.startsWith("<!DOCTYPE", position)) {
+                skipDoctype(handler);
+            } else if (rootParsed) {
+                fatalError(handler, "Markup is not allowed after the root element");
+            } else {
+                parseRoot(handler);
+                rootParsed = true;
+            }
+            skipWhitespace();
+        }
+        if (!rootParsed) {
+            fatalError(handler, "Premature end of file");
+        }
+        handler.endDocument();
+    }
+
+    protected void parseRoot(XMLHandler handler) throws XMLParseException {
+        do {
+            int start = position;
+            if (contents.charAt(position) != '<') {
+                position = contents.indexOf('<', position);
+                if (position < 0) {
+                    position = length;
+                    fatalError(handler, "Element '" + elements.get(elements.size() - 1) + "' is not closed");
+                }
+                characters(handler, decode(start, position, false, handler));
+            } else if (contents.startsWith("</", position)) {
+                parseEndElement(handler);
+            } else if (contents.startsWith("<!--", position)) {
+                skipPast("-->", handler);
+            } else if (contents.startsWith("<![CDATA[", position)) {
+                int end = contents.indexOf("]]>", position);
+                if (end < 0) {
+                    fatalError(handler, "CDATA section is not closed");
+                }
+                characters(handler, normalizeLineEnds(contents.substring(position + 9, end)));
+                position = end + 3;
+            } else if (contents.startsWith("<?", position)) {
+                parseProcessingInstruction(handler);
+            } else if (contents.startsWith("<!", position)) {
+                fatalError(handler, "Unexpected markup");
+            } else {
+                parseStartElement(handler);
+            }
+        } while (!elements.isEmpty() && position < length);
+        if (!elements.isEmpty()) {
+            fatalError(handler, "Element '" + elements.get(elements.size() - 1) + "' is not closed");
+        }
+    }
+
+    protected void parseStartElement(XMLHandler handler) throws XMLParseException {
+        position++;
+        String qname = parseName(handler);
+        attributes.clear();
+        namespaceMarks.add(namespaces.size());
+        boolean empty = false;
+        while (true) {
+            boolean separated = skipWhitespace() > 0;
+            if (position >= length) {
+                fatalError(handler, "Element '" + qname + "' is not closed");
+            }
+            char c = contents.charAt(position);
+            if (c == '>') {
+                position++;
+                break;
+            }
+            if (c == '/') {
+                if (!contents.startsWith("/>", position)) {
+                    fatalError(handler, "Element '" + qname + "' is not closed");
+                }
+                position += 2;
+                empty = true;
+                break;
+            }
+            if (!separated) {
+                fatalError(handler, "Whitespace is required between attributes");
+            }
+            parseAttribute(handler);
+        }
+
+        // Attribute namespaces are resolved once all the declarations of
+        // the element are known, since these can follow the attributes.
+        for (int i = 0, size = attributes.getLength(); i < size; i++) {
+            String attrName = attributes.getQName(i);
+            if (!isNamespaceDeclaration(attrName)) {
+                int index = attrName.indexOf(':');
+                String uri = index < 0 ? "" : getNamespaceURI(attrName.substring(0, index), handler);
+                attributes.setURI(i, uri);
+            }
+        }
+
+        String uri = getNamespaceURI(getPrefix(qname), handler);
+        String localName = getLocalName(qname);
+        elements.add(qname);
+        handler.startElement(uri, localName, qname, attributes);
+        if (empty) {
+            endElement(handler, uri, localName, qname);
+        }
+    }
+
+    protected void parseAttribute(XMLHandler handler) throws XMLParseException {
+        String name = parseName(handler);
+        skipWhitespace();
+        if (position >= length || contents.charAt(position) != '=') {
+            fatalError(handler, "Attribute '" + name + "' has no value");
+        }
+        position++;
+        skipWhitespace();
+        char quote = position < length ? contents.charAt(position) : 0;
+        if (quote != '"' && quote != '\'') {
+            fatalError(handler, "Value of attribute '" + name + "' is not quoted");
+        }
+        int start = position + 1;
+        int end = contents.indexOf(quote, start);
+        if (end < 0) {
+            fatalError(handler, "Value of attribute '" + name + "' is not closed");
+        }
+        String value = decode(start, end, true, handler);
+        position = end + 1;
+        if (attributes.getIndex(name) >= 0) {
+            fatalError(handler, "Attribute '" + name + "' is duplicated");
+        }
+
+        if (isNamespaceDeclaration(name)) {
+            String prefix = name.length() == ExtendedMetaData.XMLNS_PREFIX.length() ? "" : name.substring(ExtendedMetaData.XMLNS_PREFIX.length() + 1);
+            namespaces.add(prefix);
+            namespaces.add(value);
+            if (namespaceAware) {
+                handler.startPrefixMapping(prefix, value);
+                return;
+            }
+            attributes.addAttribute("", "", name, CDATA, value);
+        } else {
+            attributes.addAttribute("", getLocalName(name), name, CDATA, value);
+        }
+    }
+
+    protected void parseEndElement(XMLHandler handler) throws XMLParseException {
+        position += 2;
+        String qname = parseName(handler);
+        skipWhitespace();
+        if (position >= length || contents.charAt(position) != '>') {
+            fatalError(handler, "End tag '" + qname + "' is not closed");
+        }
+        position++;
+        String expected = elements.get(elements.size() - 1);
+        if (!expected.equals(qname)) {
+            fatalError(handler, "Element '" + expected + "' must be terminated by the matching end tag, found '" + qname + "'");
+        }
+        endElement(handler, getNamespaceURI(getPrefix(qname), handler), getLocalName(qname), qname);
+    }
+
+    protected void endElement(XMLHandler handler, String uri, String localName, String qname) {
+        handler.endElement(uri, localName, qname);
+        elements.remove(elements.size() - 1);
+        int mark = namespaceMarks.remove(namespaceMarks.size() - 1);
+        while (namespaces.size() > mark) {
+            namespaces.remove(namespaces.size() - 1);
+        }
+    }
+
+    protected void parseProcessingInstruction(XMLHandler handler) throws XMLParseException {
+        position += 2;
+        String target = parseName(handler);
+        int end = contents.indexOf("?>", position);
+        if (end < 0) {
+            fatalError(handler, "Processing instruction '" + target + "' is not closed");
+        }
+        skipWhitespace();
+        String data = contents.substring(Math.min(position, end), end);
+        position = end + 2;
+        handler.processingInstruction(target, data);
+    }
+
+    protected String parseName(XMLHandler handler) throws XMLParseException {
+        int start = position;
+        while (position < length && isNameChar(contents.charAt(position))) {
+            position++;
+        }
+        if (position == start) {
+            fatalError(handler, "A name was expected");
+        }
+        return contents.substring(start, position);
+    }
+
+    protected void skipDoctype(XMLHandler handler) throws XMLParseException {
+        int depth = 0;
+        for (position += 9; position < length; position++) {
+            char c = contents.charAt(position);
+            if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            } else if (c == '>' && depth == 0) {
+                position++;
+                return;
+            }
+        }
+        fatalError(handler, "Document type declaration is not closed");
+    }
+
+    protected void skipPast(String terminator, XMLHandler handler) throws XMLParseException {
+        int end = contents.indexOf(terminator, position + 2);
+        if (end < 0) {
+            position = length;
+            fatalError(handler, "'" + terminator + "' was expected");
+        }
+        position = end + terminator.length();
+    }
+
+    protected int skipWhitespace() {
+        int start = position;
+        while (position < length && isWhitespace(contents.charAt(position))) {
+            position++;
+        }
+        return position - start;
+    }
+
+    /**
+     * Returns the text between the given offsets with its references
+     * expanded and its line ends normalized. Whitespace characters of
+     * attribute values are also normalized to spaces, as for any CDATA
+     * attribute.
+     */
+    protected String decode(int start, int end, boolean attribute, XMLHandler handler) throws XMLParseException {
+        StringBuilder result = null;
+        int last = start;
+        for (int i = start; i < end; i++) {
+            char c = contents.charAt(i);
+            if (c == '&' || c == '\r' || (attribute && (c == '\n' || c == '\t' || c == '<'))) {
+                if (result == null) {
+                    result = new StringBuilder(end - start);
+                }
+                result.append(contents, last, i);
+                if (c == '&') {
+                    int semicolon = contents.indexOf(';', i);
+                    if (semicolon < 0 || semicolon >= end) {
+                        fatalError(handler, "Reference is not terminated by ';'", i);
+                    }
+                    appendReference(result, contents.substring(i + 1, semicolon), i, handler);
+                    i = semicolon;
+                } else if (c == '<') {
+                    fatalError(handler, "Attribute values must not contain '<'", i);
+                } else {
+                    if (c == '\r' && i + 1 < end && contents.charAt(i + 1) == '\n') {
+                        i++;
+                    }
+                    result.append(attribute ? ' ' : '\n');
+                }
+                last = i + 1;
+            }
+        }
+        if (result == null) {
+            return contents.substring(start, end);
+        }
+        result.append(contents, last, end);
+        return result.toString();
+    }
+
+    protected void appendReference(StringBuilder result, String reference, int offset, XMLHandler handler) throws XMLParseException {
+        if ("lt".equals(reference)) {
+            result.append('<');
+        } else if ("gt".equals(reference)) {
+            result.append('>');
+        } else if ("amp".equals(reference)) {
+            result.append('&');
+        } else if ("quot".equals(reference)) {
+            result.append('"');
+        } else if ("apos".equals(reference)) {
+            result.append('\'');
+        } else if (reference.length() > 1 && reference.charAt(0) == '#') {
+            int codePoint = -1;
+            try {
+                codePoint = reference.charAt(1) == 'x'
+                        ? Integer.parseInt(reference.substring(2), 16)
+                        : Integer.parseInt(reference.substring(1));
+            } catch (NumberFormatException e) {
+                // Reported below.
+            }
+            if (codePoint < 0 || codePoint > 0x10FFFF) {
+                fatalError(handler, "Invalid character reference '&" + reference + ";'", offset);
+            }
+            if (codePoint >= 0x10000) {
+                codePoint -= 0x10000;
+                result.append((char) (0xD800 + (codePoint >> 10)));
+                result.append((char) (0xDC00 + (codePoint & 0x3FF)));
+            } else {
+                result.append((char) codePoint);
+            }
+        } else {
+            fatalError(handler, "The entity '" + reference + "' was referenced, but not declared", offset);
+        }
+    }
+
+    protected String normalizeLineEnds(String text) {
+        return text.indexOf('\r') < 0 ? text : text.replace("\r\n", "\n").replace('\r', '\n');
+    }
+
+    protected void characters(XMLHandler handler, String text) {
+        if (!text.isEmpty()) {
+            char[] chars = text.toCharArray();
+            handler.characters(chars, 0, chars.length);
+        }
+    }
+
+    protected String getNamespaceURI(String prefix, XMLHandler handler) throws XMLParseException {
+        for (int i = namespaces.size() - 2; i >= 0; i -= 2) {
+            if (namespaces.get(i).equals(prefix)) {
+                return namespaces.get(i + 1);
+            }
+        }
+        if (prefix.isEmpty()) {
+            return "";
+        }
+        if (ExtendedMetaData.XML_PREFIX.equals(prefix)) {
+            return ExtendedMetaData.XML_URI;
+        }
+        fatalError(handler, "The prefix '" + prefix + "' is not bound");
+        return null;
+    }
+
+    protected void fatalError(XMLHandler handler, String message) throws XMLParseException {
+        fatalError(handler, message, position);
+    }
+
+    protected void fatalError(XMLHandler handler, String message, int offset) throws XMLParseException {
+        int line = 1;
+        int column = 1;
+        for (int i = 0, end = Math.min(offset, length); i < end; i++) {
+            if (contents.charAt(i) == '\n') {
+                line++;
+                column = 1;
+            } else {
+                column++;
+            }
+        }
+        handler.fatalError(new XMIException(message, handler.getLocation(), line, column));
+        throw new XMLParseException();
+    }
+
+    protected static boolean isNamespaceDeclaration(String name) {
+        return name.startsWith(ExtendedMetaData.XMLNS_PREFIX) && (name.length() == ExtendedMetaData.XMLNS_PREFIX.length() || name.charAt(ExtendedMetaData.XMLNS_PREFIX.length()) == ':');
+    }
+
+    protected static String getPrefix(String qname) {
+        int index = qname.indexOf(':');
+        return index < 0 ? "" : qname.substring(0, index);
+    }
+
+    protected static String getLocalName(String qname) {
+        return qname.substring(qname.indexOf(':') + 1);
+    }
+
+    protected static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\t' || c == '\r';
+    }
+
+    protected static boolean isNameChar(char c) {
+        return !isWhitespace(c) && c != '>' && c != '/' && c != '=' && c != '<' && c != '"' && c != '\'' && c != '?';
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.emf.ecore.xmi.resource.xml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.xmi.util.GwtDOMHandler;
+import org.eclipse.emf.ecore.xmi.util.XMLString;
+
+/**
+ * An {@link XMLString} that appends the serialized document straight to its
+ * buffer, writing the same markup the browser produces when the DOM built by
+ * {@link GwtDOMHandler} is turned into a string.
+ * <p>
+ * That means no XML declaration and no formatting, element names resolved as
+ * {@link GwtDOMHandler#createElementNS(String, String)} does, text starting
+ * with a CDATA marker written as a CDATA section, attributes set twice on the
+ * same element keeping their first position, and the serializer escaping
+ * rules applied to raw text and attribute values. The attributes of the root
+ * element are kept aside until the document is complete, so the namespace
+ * declarations collected while saving are appended after them.
+ */
+public class XMLStreamWriter extends XMLString {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final XMLSave.Escape escape;
+    protected final List<String> names = new ArrayList<String>();
+    protected final List<String> attributeNames = new ArrayList<String>();
+    protected final List<String> attributeValues = new ArrayList<String>();
+    protected final List<String> rootAttributeNames = new ArrayList<String>();
+    protected final List<String> rootAttributeValues = new ArrayList<String>();
+    protected final StringBuilder attributeContent = new StringBuilder();
+    protected String attributeName;
+    protected Object rootMark;
+    protected boolean rootOpen;
+    protected boolean startTagOpen;
+    protected int openElements;
+
+    public XMLStreamWriter(XMLSave.Escape escape) {
+        super(Integer.MAX_VALUE);
+        this.escape = escape;
+    }
+
+    @Override
+    public void startElement(String name) {
+        names.add(name == null ? null : GwtDOMHandler.getTagName(name));
+        if (name != null) {
+            closeStartTag();
+            add("<");
+            add(names.get(names.size() - 1));
+            if (rootMark == null) {
+                rootMark = super.mark();
+                rootOpen = true;
+            }
+            openElements++;
+            startTagOpen = true;
+        }
+    }
+
+    @Override
+    public void endElement() {
+        String name = names.remove(names.size() - 1);
+        if (name != null) {
+            boolean root = isRoot();
+            if (startTagOpen) {
+                if (!root) {
+                    writeAttributes(attributeNames, attributeValues);
+                }
+                add("/>");
+                startTagOpen = false;
+            } else {
+                add("</");
+                add(name);
+                add(">");
+            }
+            openElements--;
+            rootOpen = rootOpen && !root;
+        }
+    }
+
+    @Override
+    public void endEmptyElement() {
+        endElement();
+    }
+
+    @Override
+    public void endContentElement(String content) {
+        addText(content);
+        endElement();
+    }
+
+    @Override
+    public void saveNilElement(String name) {
+        startElement(name);
+        addAttribute(XMLSave.XSI_NIL, "true");
+        endElement();
+    }
+
+    @Override
+    public void saveDataValueElement(String name, String content) {
+        startElement(name);
+        addText(content);
+        endElement();
+    }
+
+    @Override
+    public void addAttribute(String name, String value) {
+        List<String> attributeNames;
+        List<String> attributeValues;
+        if (startTagOpen && !isRoot()) {
+            attributeNames = this.attributeNames;
+            attributeValues = this.attributeValues;
+        } else if (isRoot() || openElements == 0 && rootMark != null) {
+            attributeNames = rootAttributeNames;
+            attributeValues = rootAttributeValues;
+        } else {
+            throw new IllegalStateException("The attribute '" + name + "' cannot be added after the element content.");
+        }
+        String attributeValue = String.valueOf(value);
+        int index = attributeNames.indexOf(name);
+        if (index > -1) {
+            attributeValues.set(index, attributeValue);
+        } else {
+            attributeNames.add(name);
+            attributeValues.add(attributeValue);
+        }
+    }
+
+    @Override
+    public void addAttributeNS(String prefix, String localName, String value) {
+        addAttribute(prefix + ":" + localName, value);
+    }
+
+    @Override
+    public void startAttribute(String name) {
+        attributeName = name;
+        attributeContent.setLength(0);
+    }
+
+    @Override
+    public void addAttributeContent(String content) {
+        attributeContent.append(content);
+    }
+
+    @Override
+    public void endAttribute() {
+        addAttribute(attributeName, attributeContent.toString());
+        attributeName = null;
+    }
+
+    @Override
+    public void addText(String newString) {
+        String text = String.valueOf(newString);
+        if (GwtDOMHandler.isCData(text)) {
+            addCDATA(text);
+        } else {
+            closeStartTag();
+            add(escape.convertMarkup(text, false));
+        }
+    }
+
+    @Override
+    public void addCDATA(String newString) {
+        closeStartTag();
+        add("<![CDATA[");
+        add(GwtDOMHandler.isCData(newString) ? GwtDOMHandler.removeCData(newString) : newString);
+        add("]]>");
+    }
+
+    @Override
+    public void addComment(String newString) {
+        closeStartTag();
+        add("<!--");
+        add(newString);
+        add("-->");
+    }
+
+    @Override
+    public void addProcessingInstruction(String target, String data) {
+        closeStartTag();
+        add("<?");
+        add(String.valueOf(target));
+        add(" ");
+        add(String.valueOf(data));
+        add("?>");
+    }
+
+    /**
+     * Returns the mark of the root attributes; they are written once the document is complete.
+     */
+    @Override
+    public Object mark() {
+        return rootMark;
+    }
+
+    @Override
+    public void resetToMark(Object mark) {
+        // Attributes added once the root element is complete belong to it.
+    }
+
+    @Override
+    public int getLength() {
+        writeRootAttributes();
+        return super.getLength();
+    }
+
+    @Override
+    public int getChars(char[] destination, int position) {
+        writeRootAttributes();
+        return super.getChars(destination, position);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[getLength()];
+        getChars(chars, 0);
+        return new String(chars);
+    }
+
+    protected boolean isRoot() {
+        return rootOpen && openElements == 1;
+    }
+
+    protected void closeStartTag() {
+        if (startTagOpen) {
+            if (!isRoot()) {
+                writeAttributes(attributeNames, attributeValues);
+            }
+            add(">");
+            startTagOpen = false;
+        }
+    }
+
+    protected void writeRootAttributes() {
+        if (!rootAttributeNames.isEmpty()) {
+            super.resetToMark(rootMark);
+            writeAttributes(rootAttributeNames, rootAttributeValues);
+        }
+    }
+
+    protected void writeAttributes(List<String> names, List<String> values) {
+        for (int i = 0, size = names.size(); i < size; i++) {
+            add(" ");
+            add(names.get(i));
+            add("=\"");
+            add(escape.convertMarkup(values.get(i), true));
+            add("\"");
+        }
+        names.clear();
+        values.clear();
+    }
+}
@@ -67,19 +67,7 @@ public class GwtDOMHandler {
 
     public Element createElementNS(final String namespaceURI,
                                    final String qualifiedName) {
-        String tagName = qualifiedName;
-        int i = qualifiedName.lastIndexOf(':');
-        if (i > -1) {
-            String[] qn = new String[]{qualifiedName.substring(0, i), qualifiedName.substring(i + 1)};
-            i = qn[0].lastIndexOf(':');
-            if (i > -1) {
-                // TODO: Kogito - Check this workaround
-                logError("[WORKAROUND APPLIED]: Fixing NS '" + qualifiedName + "'");
-                qn[0] = qn[0].substring(i + 1);
-            }
-            tagName = qn[0] + ":" + qn[1];
-        }
-        return document.createElement(tagName);
+        return document.createElement(getTagName(qualifiedName));
     }
 
     public Attr createAttributeNS(final String namespaceURI,
@@ -117,11 +105,31 @@ public class GwtDOMHandler {
         return document;
     }
 
-    private static String removeCData(final String data) {
+    /**
+     * Returns the tag name used for an element created with the given qualified name.
+     * Shared with the string serialization, so both produce the same element names.
+     */
+    public static String getTagName(final String qualifiedName) {
+        String tagName = qualifiedName;
+        int i = qualifiedName.lastIndexOf(':');
+        if (i > -1) {
+            String[] qn = new String[]{qualifiedName.substring(0, i), qualifiedName.substring(i + 1)};
+            i = qn[0].lastIndexOf(':');
+            if (i > -1) {
+                // TODO: Kogito - Check this workaround
+                logError("[WORKAROUND APPLIED]: Fixing NS '" + qualifiedName + "'");
+                qn[0] = qn[0].substring(i + 1);
+            }
+            tagName = qn[0] + ":" + qn[1];
+        }
+        return tagName;
+    }
+
+    public static String removeCData(final String data) {
         return data.substring(9, data.length() - 3);
     }
 
-    private static boolean isCData(final String data) {
+    public static boolean isCData(final String data) {
         return data.startsWith(CDATA_START);
     }
 
@@ -23,10 +23,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import bpsim.BpsimPackage;
-import com.google.gwt.core.client.GWT;
-import com.google.gwt.xml.client.Document;
 import com.google.gwt.xml.client.Node;
-import com.google.gwt.xml.client.XMLParser;
 import org.eclipse.bpmn2.Bpmn2Package;
 import org.eclipse.bpmn2.di.BpmnDiPackage;
 import org.eclipse.dd.dc.DcPackage;
@@ -74,9 +71,7 @@ public class Bpmn2Resource extends XMLResourceImpl {
     }
 
     public void load(String contents) throws IOException {
-        XMLParser parser = createParser();
-        Document doc = parser.parse(contents);
-        load(doc);
+        super.load(contents, createLoadOptions());
     }
 
     public String toBPMN2() throws IOException {
@@ -105,11 +100,7 @@ public class Bpmn2Resource extends XMLResourceImpl {
         };
     }
 
-    XMLParser createParser() {
-        return GWT.create(XMLParser.class);
-    }
-
-    Map<Object, Object> createSaveOptions() {
+    public Map<Object, Object> createSaveOptions() {
         final Map<Object, Object> options = createDefaultOptions();
         options.put(XMLResource.OPTION_DECLARE_XML, true);
         options.put(XMLResource.OPTION_ELEMENT_HANDLER, new ElementHandler(true));
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.emf.ecore.xmi.resource.xml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class XMLStreamParserTest {
+
+    private XMLHandler handler;
+    private List<String> events;
+
+    @Before
+    public void setUp() {
+        handler = mock(XMLHandler.class);
+        events = new ArrayList<>();
+        doAnswer(invocation -> events.add("startDocument")).when(handler).startDocument();
+        doAnswer(invocation -> events.add("endDocument")).when(handler).endDocument();
+        doAnswer(invocation -> {
+            Attributes attributes = invocation.getArgument(3);
+            StringBuilder event = new StringBuilder("start " + invocation.getArgument(0) + " " + invocation.getArgument(1) + " " + invocation.getArgument(2));
+            for (int i = 0; i < attributes.getLength(); i++) {
+                event.append(" ").append(attributes.getQName(i)).append("=").append(attributes.getValue(i));
+            }
+            return events.add(event.toString());
+        }).when(handler).startElement(anyString(), anyString(), anyString(), any(Attributes.class));
+        doAnswer(invocation -> events.add("end " + invocation.getArgument(2))).when(handler).endElement(anyString(), anyString(), anyString());
+        doAnswer(invocation -> events.add("text " + new String((char[]) invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2))))
+                .when(handler).characters(any(char[].class), anyInt(), anyInt());
+        doAnswer(invocation -> events.add("pi " + invocation.getArgument(0) + " " + invocation.getArgument(1))).when(handler).processingInstruction(anyString(), anyString());
+        doAnswer(invocation -> events.add("prefix " + invocation.getArgument(0) + "=" + invocation.getArgument(1))).when(handler).startPrefixMapping(anyString(), anyString());
+    }
+
+    @Test
+    public void testParseElements() throws Exception {
+        parse("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                      "<!-- header -->\n" +
+                      "<a:root xmlns:a=\"urn:a\" id=\"r\"><child name='c'/><a:other>text</a:other></a:root>\n",
+              false);
+
+        assertEquals(Arrays.asList("startDocument",
+                                   "start urn:a root a:root xmlns:a=urn:a id=r",
+                                   "start  child child name=c",
+                                   "end child",
+                                   "start urn:a other a:other",
+                                   "text text",
+                                   "end a:other",
+                                   "end a:root",
+                                   "endDocument"),
+                     events);
+    }
+
+    @Test
+    public void testParseNamespaceAware() throws Exception {
+        parse("<root xmlns=\"urn:default\" xmlns:b=\"urn:b\" b:id=\"r\"/>", true);
+
+        assertEquals(Arrays.asList("startDocument",
+                                   "prefix =urn:default",
+                                   "prefix b=urn:b",
+                                   "start urn:default root root b:id=r",
+                                   "end root",
+                                   "endDocument"),
+                     events);
+    }
+
+    @Test
+    public void testParseReferencesAndLineEnds() throws Exception {
+        parse("<root value=\"a&amp;b&#10;c\nd\">&lt;&#x41;&gt;\r\n&quot;&apos;<![CDATA[<&amp;>]]><?target some data?></root>", false);
+
+        assertEquals(Arrays.asList("startDocument",
+                                   "start  root root value=a&b\nc d",
+                                   "text <A>\n\"'",
+                                   "text <&amp;>",
+                                   "pi target some data",
+                                   "end root",
+                                   "endDocument"),
+                     events);
+    }
+
+    @Test
+    public void testParseSkipsDoctypeAndComments() throws Exception {
+        parse("<!DOCTYPE root [<!ELEMENT root ANY>]><root><!-- comment --></root><!-- trailer -->", false);
+
+        assertEquals(Arrays.asList("startDocument",
+                                   "start  root root",
+                                   "end root",
+                                   "endDocument"),
+                     events);
+    }
+
+    @Test
+    public void testParseMismatchedEndTag() {
+        assertFatalError("<root>\n<child></root>", "Element 'child' must be terminated by the matching end tag, found 'root'", 2, 15);
+    }
+
+    @Test
+    public void testParseUnclosedElement() {
+        assertFatalError("<root><child/>", "Element 'root' is not closed", 1, 15);
+    }
+
+    @Test
+    public void testParseUndeclaredEntity() {
+        assertFatalError("<root>&nbsp;</root>", "The entity 'nbsp' was referenced, but not declared", 1, 7);
+    }
+
+    @Test
+    public void testParseUnboundPrefix() {
+        assertFatalError("<a:root/>", "The prefix 'a' is not bound", 1, 10);
+    }
+
+    private void parse(String contents, boolean namespaceAware) throws XMLParseException {
+        new XMLStreamParser(contents, namespaceAware).parse(handler);
+    }
+
+    private void assertFatalError(String contents, String message, int line, int column) {
+        try {
+            parse(contents, false);
+            fail("The contents should not be parsed");
+        } catch (XMLParseException e) {
+            ArgumentCaptor<XMIException> error = ArgumentCaptor.forClass(XMIException.class);
+            verify(handler).fatalError(error.capture());
+            assertTrue(error.getValue().getMessage().startsWith(message));
+            assertEquals(line, error.getValue().getLine());
+            assertEquals(column, error.getValue().getColumn());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.emf.ecore.xmi.resource.xml;
+
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class XMLStreamWriterTest {
+
+    private XMLStreamWriter tested;
+
+    @Before
+    public void setup() {
+        tested = new XMLStreamWriter(new XMLSave.Escape());
+    }
+
+    @Test
+    public void testEmptyElements() {
+        tested.startElement("root");
+        tested.startElement("child");
+        tested.addAttribute("id", "c1");
+        tested.endEmptyElement();
+        tested.startElement("text");
+        tested.addText("");
+        tested.endElement();
+        tested.endElement();
+        assertEquals("<root><child id=\"c1\"/><text></text></root>", tested.toString());
+    }
+
+    @Test
+    public void testRootAttributesWithNamespaces() {
+        tested.startElement("bpmn2:definitions");
+        Object mark = tested.mark();
+        tested.addAttribute("id", "d1");
+        tested.startElement("bpmn2:process");
+        tested.addAttribute("id", "p1");
+        tested.endElement();
+        tested.endElement();
+        tested.resetToMark(mark);
+        tested.addAttributeNS("xmlns", "bpmn2", "http://www.omg.org/spec/BPMN/20100524/MODEL");
+        assertEquals("<bpmn2:definitions id=\"d1\" xmlns:bpmn2=\"http://www.omg.org/spec/BPMN/20100524/MODEL\">" +
+                             "<bpmn2:process id=\"p1\"/></bpmn2:definitions>",
+                     tested.toString());
+    }
+
+    @Test
+    public void testDocumentRoot() {
+        tested.startElement(null);
+        tested.startElement("root");
+        tested.addAttribute("id", "r1");
+        tested.endElement();
+        tested.endElement();
+        tested.addAttribute("xmlns:q", "http://q");
+        assertEquals("<root id=\"r1\" xmlns:q=\"http://q\"/>", tested.toString());
+    }
+
+    @Test
+    public void testAttributeReplaced() {
+        tested.startElement("root");
+        tested.startElement("child");
+        tested.addAttribute("a", "1");
+        tested.addAttribute("b", "2");
+        tested.addAttribute("a", "3");
+        tested.addAttribute("c", null);
+        tested.endElement();
+        tested.endElement();
+        assertEquals("<root><child a=\"3\" b=\"2\" c=\"null\"/></root>", tested.toString());
+    }
+
+    @Test
+    public void testEscaping() {
+        tested.startElement("root");
+        tested.startElement("child");
+        tested.addAttribute("a", "x & y < z > \"w\"\t\n\r'");
+        tested.addText("x & y < z > \"w\"\t\n'");
+        tested.endElement();
+        tested.endElement();
+        assertEquals("<root><child a=\"x &amp; y &lt; z &gt; &quot;w&quot;&#9;&#10;&#13;'\">" +
+                             "x &amp; y &lt; z &gt; \"w\"\t\n'</child></root>",
+                     tested.toString());
+    }
+
+    @Test
+    public void testCDATA() {
+        tested.startElement("root");
+        tested.startElement("script");
+        tested.addText("<![CDATA[if (a < b && c) {}]]>");
+        tested.endElement();
+        tested.startElement("expression");
+        tested.addCDATA("a > b");
+        tested.endElement();
+        tested.endElement();
+        assertEquals("<root><script><![CDATA[if (a < b && c) {}]]></script>" +
+                             "<expression><![CDATA[a > b]]></expression></root>",
+                     tested.toString());
+    }
+
+    @Test
+    public void testNodes() {
+        tested.startElement("root");
+        tested.addComment(" comment ");
+        tested.addProcessingInstruction("target", "data");
+        tested.saveNilElement("nil");
+        tested.saveDataValueElement("value", "1 < 2");
+        tested.startElement("content");
+        tested.endContentElement("text");
+        tested.endElement();
+        assertEquals("<root><!-- comment --><?target data?><nil xsi:nil=\"true\"/>" +
+                             "<value>1 &lt; 2</value><content>text</content></root>",
+                     tested.toString());
+    }
+
+    @Test
+    public void testNamespacedElementName() {
+        tested.startElement("http://www.jboss.org/drools:drools:metaData");
+        tested.endElement();
+        assertEquals("<drools:metaData/>", tested.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAttributeAfterContent() {
+        tested.startElement("root");
+        tested.startElement("child");
+        tested.addText("text");
+        tested.addAttribute("a", "1");
+    }
+}
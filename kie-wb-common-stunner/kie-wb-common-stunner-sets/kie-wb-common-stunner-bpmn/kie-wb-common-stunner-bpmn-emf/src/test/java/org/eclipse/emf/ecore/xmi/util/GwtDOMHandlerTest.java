@@ -131,8 +131,20 @@ public class GwtDOMHandlerTest {
         verify(document, times(1)).createProcessingInstruction(eq("target"), eq("data"));
     }
 
-    // TODO: Kogito - @Test
+    @Test
     public void testCreateElementNS() {
+        Element element = mock(Element.class);
+        when(document.createElement(eq("drools:metaData"))).thenReturn(element);
+        Element result = tested.createElementNS("http://www.jboss.org/drools", "http://www.jboss.org/drools:drools:metaData");
+        assertEquals(element, result);
+        verify(document, times(1)).createElement(eq("drools:metaData"));
+    }
+
+    @Test
+    public void testGetTagName() {
+        assertEquals("definitions", GwtDOMHandler.getTagName("definitions"));
+        assertEquals("bpmn2:definitions", GwtDOMHandler.getTagName("bpmn2:definitions"));
+        assertEquals("drools:metaData", GwtDOMHandler.getTagName("http://www.jboss.org/drools:drools:metaData"));
     }
 
     @Test
@@ -20,8 +20,6 @@ import java.util.ArrayList;
 import java.util.Map;
 
 import bpsim.BpsimPackage;
-import com.google.gwt.xml.client.Document;
-import com.google.gwt.xml.client.XMLParser;
 import com.google.gwtmockito.GwtMockitoTestRunner;
 import org.eclipse.bpmn2.Bpmn2Package;
 import org.eclipse.bpmn2.di.BpmnDiPackage;
@@ -35,15 +33,17 @@ import org.jboss.drools.DroolsPackage;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 @RunWith(GwtMockitoTestRunner.class)
 public class Bpmn2ResourceTest {
@@ -56,13 +56,13 @@ public class Bpmn2ResourceTest {
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     public void testLoad() throws Exception {
-        XMLParser p = mock(XMLParser.class);
-        when(tested.createParser()).thenReturn(p);
-        Document doc = mock(Document.class);
-        when(p.parse(eq("someContent"))).thenReturn(doc);
+        doNothing().when(tested).doLoad(eq("someContent"), anyMap());
         tested.load("someContent");
-        verify(tested, times(1)).load(eq(doc));
+        ArgumentCaptor<Map> options = ArgumentCaptor.forClass(Map.class);
+        verify(tested, times(1)).doLoad(eq("someContent"), options.capture());
+        assertCreateLoadOptions(options.getValue());
     }
 
     @Test
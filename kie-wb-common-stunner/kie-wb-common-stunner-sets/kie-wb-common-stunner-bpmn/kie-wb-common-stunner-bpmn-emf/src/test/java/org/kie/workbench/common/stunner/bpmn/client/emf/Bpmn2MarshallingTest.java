@@ -16,12 +16,18 @@
 
 package org.kie.workbench.common.stunner.bpmn.client.emf;
 
+import java.io.IOException;
+
 import com.google.gwt.junit.client.GWTTestCase;
+import com.google.gwt.xml.client.XMLParser;
 import org.eclipse.bpmn2.DocumentRoot;
 import org.eclipse.bpmn2.FlowElement;
 import org.eclipse.bpmn2.Process;
 import org.eclipse.bpmn2.StartEvent;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.xmi.resource.xml.XMLDOMHandler;
+import org.eclipse.jbpm.Bpmn2Resource;
+import org.eclipse.jbpm.Bpmn2ResourceFactory;
 import org.junit.Test;
 
 import static org.kie.workbench.common.stunner.bpmn.client.emf.Bpmn2Marshalling.marshall;
@@ -79,6 +85,25 @@ public class Bpmn2MarshallingTest extends GWTTestCase {
         assertEquals(SOME_PROCESS, raw);
     }
 
+    @Test
+    public void testMarshallAsDOMSerialization() throws IOException {
+        for (String process : new String[]{SOME_PROCESS, SOME_PROCESS_WITH_COMMENTS, SOME_PROCESS_WITH_SCRIPTS}) {
+            Bpmn2Resource resource = Bpmn2ResourceFactory.getInstance().create();
+            resource.load(process);
+            String dom = resource.save(XMLParser.createDocument(), resource.createSaveOptions(), new XMLDOMHandler()).toString();
+            String raw = resource.saveToString(resource.createSaveOptions());
+            assertEquals(dom, raw);
+        }
+    }
+
+    @Test
+    public void testMarshallRoundTrip() {
+        for (String process : new String[]{SOME_PROCESS, SOME_PROCESS_WITH_COMMENTS, SOME_PROCESS_WITH_SCRIPTS}) {
+            String raw = marshall(unmarshall(process));
+            assertEquals(raw, marshall(unmarshall(raw)));
+        }
+    }
+
     public static Process getProcess(DocumentRoot docRoot) {
         return (Process) docRoot.getDefinitions().getRootElements().stream()
                 .filter(p -> p instanceof Process)
@@ -169,6 +194,46 @@ public class Bpmn2MarshallingTest extends GWTTestCase {
             "</bpmn2:relationship>" +
             "</bpmn2:definitions>";
 
+    private static final String SOME_PROCESS_WITH_SCRIPTS = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+            "<bpmn2:definitions" +
+            " id=\"_GUUj8KUCEemjtN0xRqbezg\"" +
+            " exporter=\"jBPM Process Modeler\"" +
+            " exporterVersion=\"2.0\"" +
+            " targetNamespace=\"http://www.omg.org/bpmn20\"" +
+            " xmlns:bpmn2=\"http://www.omg.org/spec/BPMN/20100524/MODEL\"" +
+            " xmlns:bpmndi=\"http://www.omg.org/spec/BPMN/20100524/DI\"" +
+            " xmlns:dc=\"http://www.omg.org/spec/DD/20100524/DC\"" +
+            " xmlns:drools=\"http://www.jboss.org/drools\">" +
+            "<bpmn2:process id=\"test.process1\" drools:packageName=\"com.myspace.test\" drools:version=\"1.0\" name=\"process &amp; &lt;scripts&gt; &quot;1&quot;\" isExecutable=\"true\">" +
+            "<bpmn2:documentation><![CDATA[Checks that a < b && b > c]]></bpmn2:documentation>" +
+            "<bpmn2:startEvent id=\"_B801DDDE-29E9-41C2-BF36-0045EA55F573\">" +
+            "<bpmn2:outgoing>_3A4A6B1C-49B5-4A4E-8E7B-41D3B4A1E8C1</bpmn2:outgoing>" +
+            "</bpmn2:startEvent>" +
+            "<bpmn2:scriptTask id=\"_5AC4C1B7-8E4B-4F1C-9C7E-1B9E2A3E0F10\" name=\"Task &amp; &quot;script&quot;\" scriptFormat=\"http://www.java.com/java\">" +
+            "<bpmn2:extensionElements>" +
+            "<drools:metaData name=\"elementname\">" +
+            "<drools:metaValue><![CDATA[Task & \"script\"]]></drools:metaValue>" +
+            "</drools:metaData>" +
+            "<drools:onEntry-script scriptFormat=\"http://www.java.com/java\">" +
+            "<drools:script><![CDATA[if (a < b && b > c) { System.out.println(\"a & c\"); }]]></drools:script>" +
+            "</drools:onEntry-script>" +
+            "</bpmn2:extensionElements>" +
+            "<bpmn2:incoming>_3A4A6B1C-49B5-4A4E-8E7B-41D3B4A1E8C1</bpmn2:incoming>" +
+            "<bpmn2:script><![CDATA[kcontext.setVariable(\"x\", 1 < 2 && 3 > 2);]]></bpmn2:script>" +
+            "</bpmn2:scriptTask>" +
+            "<bpmn2:sequenceFlow id=\"_3A4A6B1C-49B5-4A4E-8E7B-41D3B4A1E8C1\" sourceRef=\"_B801DDDE-29E9-41C2-BF36-0045EA55F573\" targetRef=\"_5AC4C1B7-8E4B-4F1C-9C7E-1B9E2A3E0F10\">" +
+            "<bpmn2:conditionExpression xsi:type=\"bpmn2:tFormalExpression\" language=\"http://www.java.com/java\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"><![CDATA[return a < b;]]></bpmn2:conditionExpression>" +
+            "</bpmn2:sequenceFlow>" +
+            "</bpmn2:process>" +
+            "<!-- Scripts &amp; escaped attributes -->" +
+            "<bpmndi:BPMNDiagram id=\"_GUUj8aUCEemjtN0xRqbezg\">" +
+            "<bpmndi:BPMNPlane id=\"_GUUj8qUCEemjtN0xRqbezg\" bpmnElement=\"test.process1\">" +
+            "<bpmndi:BPMNShape id=\"shape__B801DDDE-29E9-41C2-BF36-0045EA55F573\" bpmnElement=\"_B801DDDE-29E9-41C2-BF36-0045EA55F573\">" +
+            "<dc:Bounds height=\"56\" width=\"56\" x=\"100\" y=\"100\"/>" +
+            "</bpmndi:BPMNShape>" +
+            "</bpmndi:BPMNPlane>" +
+            "</bpmndi:BPMNDiagram>" +
+            "</bpmn2:definitions>";
 
     @Override
     public String getModuleName() {
@@ -120,6 +120,7 @@ public class BPMNDiagramEditor {
 
     private void close() {
         commands.clear();
+        validator.invalidate();
         docksClose();
         stunnerEditor.close();
     }
@@ -146,6 +146,7 @@ public class BPMNDiagramEditorTest {
     public void testOnClose() {
         tested.onClose();
         verify(commands, times(1)).clear();
+        verify(validator, times(1)).invalidate();
         verify(diagramPropertiesDock, times(1)).close();
         verify(diagramPreviewAndExplorerDock, times(1)).close();
         verify(stunnerEditor, times(1)).close();
@@ -211,6 +212,7 @@ public class BPMNDiagramEditorTest {
         final String path = "/project/src/main/resources/diagrams/process.bpmn";
         tested.setContent(path, "");
         verify(commands, times(2)).clear();
+        verify(validator, times(2)).invalidate();
     }
 
     @Test
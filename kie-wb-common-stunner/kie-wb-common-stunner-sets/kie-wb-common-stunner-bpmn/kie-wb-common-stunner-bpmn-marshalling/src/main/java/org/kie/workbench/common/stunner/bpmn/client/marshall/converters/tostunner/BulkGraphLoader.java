@@ -0,0 +1,154 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.client.marshall.converters.tostunner;
+
+import java.util.List;
+
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.command.impl.UpdateElementPositionCommand;
+import org.kie.workbench.common.stunner.core.graph.content.HasControlPoints;
+import org.kie.workbench.common.stunner.core.graph.content.definition.DefinitionSet;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
+import org.kie.workbench.common.stunner.core.graph.content.view.Connection;
+import org.kie.workbench.common.stunner.core.graph.content.view.ControlPoint;
+import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
+import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
+import org.kie.workbench.common.stunner.core.util.UUID;
+
+/**
+ * Writes nodes, parent/child and dock relationships and connections straight into the graph.
+ * <p>
+ * It performs the same structural changes as the graph commands issued by {@link GraphBuilder}
+ * (e.g. `AddChildNodeCommand`, `AddDockedNodeCommand`, `AddConnectorCommand`), but without
+ * going through the command manager, so no rule evaluation, command events or index updates
+ * take place for each element. It is meant for trusted input, such as a just parsed process.
+ * <p>
+ * As the graph does not track the changes done this way, {@link #complete()} must be called once
+ * the graph has been completely built.
+ */
+public class BulkGraphLoader {
+
+    private final Graph<DefinitionSet, Node> graph;
+
+    public BulkGraphLoader(Graph<DefinitionSet, Node> graph) {
+        this.graph = graph;
+    }
+
+    public void clear() {
+        graph.clear();
+    }
+
+    /**
+     * Discards the content hash and the labels count of the graph, so both get computed again,
+     * in a single pass, on their next lookup.
+     */
+    public void complete() {
+        if (graph instanceof GraphImpl) {
+            ((GraphImpl) graph).invalidateLabelsCount();
+        }
+        GraphUtils.invalidateContentHash(graph);
+    }
+
+    public void addNode(Node node) {
+        graph.addNode(node);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void addChildNode(Node<?, Edge> parent, Node<?, Edge> candidate) {
+        graph.addNode(candidate);
+        Edge<Child, Node> edge = new EdgeImpl<>(UUID.uuid());
+        edge.setContent(new Child());
+        connect(parent, edge, candidate);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void addDockedNode(Node<?, Edge> parent, Node<?, Edge> candidate) {
+        graph.addNode(candidate);
+        Edge<Dock, Node> edge = new EdgeImpl<>(UUID.uuid());
+        edge.setContent(new Dock());
+        connect(parent, edge, candidate);
+    }
+
+    public void updatePosition(Node<? extends View<?>, ?> node, Point2D position) {
+        node.getContent().setBounds(UpdateElementPositionCommand.computeCandidateBounds(node, position));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void addConnector(Edge<? extends View<?>, Node> edge,
+                             Node<?, Edge> source,
+                             Connection sourceConnection,
+                             List<Point2D> controlPoints,
+                             Node<?, Edge> target,
+                             Connection targetConnection) {
+        ViewConnector content = (ViewConnector) edge.getContent();
+
+        Node<?, Edge> lastSource = edge.getSourceNode();
+        if (null != lastSource) {
+            lastSource.getOutEdges().remove(edge);
+        }
+        if (null != source) {
+            source.getOutEdges().add(edge);
+        }
+        edge.setSourceNode(source);
+        content.setSourceConnection(sourceConnection);
+
+        for (int i = 0; i < controlPoints.size(); i++) {
+            addControlPoint(content, ControlPoint.build(controlPoints.get(i)), i);
+        }
+
+        Node<?, Edge> lastTarget = edge.getTargetNode();
+        if (null != lastTarget) {
+            lastTarget.getInEdges().remove(edge);
+        }
+        if (null != target) {
+            target.getInEdges().add(edge);
+        }
+        edge.setTargetNode(target);
+        content.setTargetConnection(targetConnection);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void connect(Node<?, Edge> parent, Edge edge, Node<?, Edge> candidate) {
+        edge.setSourceNode(parent);
+        edge.setTargetNode(candidate);
+        parent.getOutEdges().add(edge);
+        candidate.getInEdges().add(edge);
+    }
+
+    private static void addControlPoint(HasControlPoints edgeControlPoints, ControlPoint controlPoint, int index) {
+        ControlPoint[] current = edgeControlPoints.getControlPoints();
+        int size = null == current ? 0 : current.length;
+        ControlPoint[] cps = new ControlPoint[size + 1];
+        for (int i = 0; i < size + 1; i++) {
+            if (i < index) {
+                cps[i] = current[i];
+            } else if (i == index) {
+                cps[i] = controlPoint;
+            } else {
+                cps[i] = current[i - 1];
+            }
+        }
+        edgeControlPoints.setControlPoints(cps);
+    }
+}
@@ -21,7 +21,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import bpsim.BPSimDataType;
@@ -37,6 +37,7 @@ import org.eclipse.bpmn2.di.BPMNDiagram;
 import org.eclipse.bpmn2.di.BPMNEdge;
 import org.eclipse.bpmn2.di.BPMNPlane;
 import org.eclipse.bpmn2.di.BPMNShape;
+import org.eclipse.dd.di.DiagramElement;
 import org.eclipse.emf.ecore.util.FeatureMap;
 import org.kie.workbench.common.stunner.bpmn.client.marshall.MarshallingRequest.Mode;
 import org.kie.workbench.common.stunner.bpmn.workitem.WorkItemDefinition;
@@ -55,12 +56,18 @@ import org.kie.workbench.common.stunner.bpmn.workitem.WorkItemDefinition;
  * <p>
  * <em>signal</em> concern is due to a bug in current Eclipse BPMN2 implementation,
  * which is outdated w.r.t. upstream.
+ * <p>
+ * Shapes and edges are indexed by the id of their BPMN element when the resolver is
+ * created, so that converters can look them up once per element in constant time.
+ * The diagram must not be changed afterwards, a new resolver is needed otherwise.
  */
 public class DefinitionResolver {
 
     static final double DEFAULT_RESOLUTION = 112.5d;
 
-    private final Map<String, Signal> signals;
+    private final Map<String, Signal> signals = new HashMap<>();
+    private final Map<String, BPMNShape> shapes = new HashMap<>();
+    private final Map<String, BPMNEdge> edges = new HashMap<>();
     private final Map<String, ElementParameters> simulationParameters;
     private final Collection<WorkItemDefinition> workItemDefinitions;
     private final Definitions definitions;
@@ -76,14 +83,14 @@ public class DefinitionResolver {
             boolean jbpm,
             Mode mode) {
         this.definitions = definitions;
-        this.signals = initSignals(definitions);
+        this.process = initRootElements(definitions);
         this.simulationParameters = initSimulationParameters(definitions);
         this.workItemDefinitions = workItemDefinitions;
-        this.process = findProcess();
         this.diagram = findDiagram();
         this.resolutionFactor = calculateResolutionFactor(diagram);
         this.jbpm = jbpm;
         this.mode = mode;
+        indexDiagramElements();
     }
 
     public DefinitionResolver(Definitions definitions,
@@ -156,14 +163,19 @@ public class DefinitionResolver {
         return Optional.ofNullable(simulationParameters.get(id));
     }
 
-    private Map<String, Signal> initSignals(Definitions definitions) {
-        Map<String, Signal> signals = new HashMap<>();
+    private Process initRootElements(Definitions definitions) {
+        Process process = null;
         for (RootElement el : definitions.getRootElements()) {
             if (el instanceof Signal) {
                 signals.put(el.getId(), (Signal) el);
+            } else if (el instanceof Process && process == null) {
+                process = (Process) el;
             }
         }
-        return signals;
+        if (process == null) {
+            throw new NoSuchElementException("No process found in the definitions.");
+        }
+        return process;
     }
 
     @SuppressWarnings("unchecked")
@@ -195,49 +207,38 @@ public class DefinitionResolver {
         return simulationParameters;
     }
 
-    private Process findProcess() {
-        return (Process) definitions.getRootElements().stream()
-                .filter(el -> el instanceof Process)
-                .findFirst().get();
-    }
-
     private BPMNDiagram findDiagram() {
         return definitions.getDiagrams().get(0);
     }
 
     public BPMNShape getShape(String elementId) {
-        return definitions.getDiagrams().stream()
-                .map(BPMNDiagram::getPlane)
-                .map(plane -> getShape(plane, elementId))
-                .filter(Objects::nonNull)
-                .findFirst().orElse(null);
+        return shapes.get(elementId);
     }
 
-    private static BPMNShape getShape(BPMNPlane plane, String elementId) {
-        return plane.getPlaneElement().stream()
-                .filter(dia -> dia instanceof BPMNShape)
-                .map(shape -> (BPMNShape) shape)
-                .filter(shape -> shape.getBpmnElement().getId().equals(elementId))
-                .findFirst().orElse(null);
+    public BPMNEdge getEdge(String elementId) {
+        return edges.get(elementId);
     }
 
-    public BPMNEdge getEdge(String elementId) {
-        return definitions.getDiagrams().stream()
-                .map(BPMNDiagram::getPlane)
-                .map(plane -> getEdge(plane, elementId))
-                .filter(Objects::nonNull)
-                .findFirst().orElse(null);
-    }
-
-    private static BPMNEdge getEdge(BPMNPlane plane, String elementId) {
-        return plane.getPlaneElement().stream()
-                .filter(dia -> dia instanceof BPMNEdge)
-                .map(edge -> (BPMNEdge) edge)
-                .filter(edge -> edge.getBpmnElement() != null)
-                .filter(edge -> edge.getBpmnElement().getId() != null)
-                .filter(edge -> edge.getBpmnElement().getId().equals(elementId))
-
-                .findFirst().orElse(null);
+    private void indexDiagramElements() {
+        for (BPMNDiagram diagram : definitions.getDiagrams()) {
+            BPMNPlane plane = diagram.getPlane();
+            if (plane == null) {
+                continue;
+            }
+            for (DiagramElement element : plane.getPlaneElement()) {
+                if (element instanceof BPMNShape) {
+                    BPMNShape shape = (BPMNShape) element;
+                    if (shape.getBpmnElement() != null && shape.getBpmnElement().getId() != null) {
+                        shapes.putIfAbsent(shape.getBpmnElement().getId(), shape);
+                    }
+                } else if (element instanceof BPMNEdge) {
+                    BPMNEdge edge = (BPMNEdge) element;
+                    if (edge.getBpmnElement() != null && edge.getBpmnElement().getId() != null) {
+                        edges.putIfAbsent(edge.getBpmnElement().getId(), edge);
+                    }
+                }
+            }
+        }
     }
 
     static double calculateResolutionFactor(final BPMNDiagram diagram) {
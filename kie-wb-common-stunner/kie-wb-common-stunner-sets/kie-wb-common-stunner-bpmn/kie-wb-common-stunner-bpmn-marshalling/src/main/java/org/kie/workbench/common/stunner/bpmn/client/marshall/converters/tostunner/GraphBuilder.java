@@ -34,6 +34,7 @@ import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.DirectGraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandManager;
+import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
 import org.kie.workbench.common.stunner.core.graph.command.impl.AddChildNodeCommand;
 import org.kie.workbench.common.stunner.core.graph.command.impl.AddDockedNodeCommand;
 import org.kie.workbench.common.stunner.core.graph.command.impl.AddNodeCommand;
@@ -69,6 +70,11 @@ import org.kie.workbench.common.stunner.core.rule.RuleViolation;
  * once all the conversions have took place: it traverses the entire directed graph described by the `BPMNNode`s
  * starting from the "root node", which represents the root of the diagram, and visiting
  * the parent/child relations in each BPMNNode and the `BPMNEdge` they may contain.
+ * <p>
+ * When created in <em>bulk</em> mode, the same changes are written straight into the graph
+ * by a {@link BulkGraphLoader} instead of issuing a command for each node and edge.
+ * In that case no rules are evaluated while building, and the content hash and the labels count
+ * of the graph are computed again once it has been built.
  */
 public class GraphBuilder {
 
@@ -76,6 +82,7 @@ public class GraphBuilder {
     private final GraphCommandFactory commandFactory;
     private final GraphCommandManager commandManager;
     private final Graph<DefinitionSet, Node> graph;
+    private final BulkGraphLoader bulkLoader;
 
     public GraphBuilder(
             Graph<DefinitionSet, Node> graph,
@@ -84,6 +91,23 @@ public class GraphBuilder {
             RuleManager ruleManager,
             GraphCommandFactory commandFactory,
             GraphCommandManager commandManager) {
+        this(graph,
+             definitionManager,
+             typedFactoryManager,
+             ruleManager,
+             commandFactory,
+             commandManager,
+             false);
+    }
+
+    public GraphBuilder(
+            Graph<DefinitionSet, Node> graph,
+            DefinitionManager definitionManager,
+            TypedFactoryManager typedFactoryManager,
+            RuleManager ruleManager,
+            GraphCommandFactory commandFactory,
+            GraphCommandManager commandManager,
+            boolean bulk) {
         this.graph = graph;
         this.executionContext = new DirectGraphCommandExecutionContext(
                 definitionManager,
@@ -91,6 +115,7 @@ public class GraphBuilder {
                 new MapIndexBuilder().build(graph));
         this.commandFactory = commandFactory;
         this.commandManager = commandManager;
+        this.bulkLoader = bulk ? new BulkGraphLoader(graph) : null;
     }
 
     /**
@@ -129,6 +154,13 @@ public class GraphBuilder {
             this.addChildNode(current);
             current.getEdges().forEach(this::addEdge);
         }
+        if (isBulk()) {
+            bulkLoader.complete();
+        }
+    }
+
+    private boolean isBulk() {
+        return null != bulkLoader;
     }
 
     // make sure that docked nodes are processed *after* its siblings
@@ -145,7 +177,12 @@ public class GraphBuilder {
         return prioritized;
     }
 
+    @SuppressWarnings("unchecked")
     private void addDockedNode(Node parent, Node candidate) {
+        if (isBulk()) {
+            bulkLoader.addDockedNode(parent, candidate);
+            return;
+        }
         AddDockedNodeCommand addNodeCommand = commandFactory.addDockedNode(parent, candidate);
         execute(addNodeCommand);
     }
@@ -174,7 +211,12 @@ public class GraphBuilder {
         return Point2D.create(xFactor, yFactor);
     }
 
+    @SuppressWarnings("unchecked")
     private void addChildNode(Node<? extends View, ?> parent, Node<? extends View, ?> child) {
+        if (isBulk()) {
+            bulkLoader.addChildNode((Node) parent, (Node) child);
+            return;
+        }
         AddChildNodeCommand addChildNodeCommand = commandFactory.addChildNode(parent, child);
         execute(addChildNodeCommand);
     }
@@ -196,13 +238,22 @@ public class GraphBuilder {
         updatePosition(node, coords);
     }
 
+    @SuppressWarnings("unchecked")
     private void updatePosition(Node node, Point2D position) {
+        if (isBulk()) {
+            bulkLoader.updatePosition(node, position);
+            return;
+        }
         UpdateElementPositionCommand updateElementPositionCommand =
                 commandFactory.updatePosition(node, position);
         execute(updateElementPositionCommand);
     }
 
     private void addNode(Node node) {
+        if (isBulk()) {
+            bulkLoader.addNode(node);
+            return;
+        }
         AddNodeCommand addNodeCommand = commandFactory.addNode(node);
         execute(addNodeCommand);
     }
@@ -215,6 +266,10 @@ public class GraphBuilder {
             List<Point2D> controlPoints,
             Node target,
             Connection targetConnection) {
+        if (isBulk()) {
+            bulkLoader.addConnector(edge, source, sourceConnection, controlPoints, target, targetConnection);
+            return;
+        }
         final DeferredCompositeCommand.Builder<GraphCommandExecutionContext, RuleViolation> commandBuilder =
                 new DeferredCompositeCommand.Builder<>();
         addConnector(commandBuilder, source, edge, sourceConnection);
@@ -253,6 +308,10 @@ public class GraphBuilder {
     }
 
     private CommandResult<RuleViolation> clearGraph() {
+        if (isBulk()) {
+            bulkLoader.clear();
+            return GraphCommandResultBuilder.SUCCESS;
+        }
         return commandManager.execute(executionContext, commandFactory.clearGraph());
     }
 
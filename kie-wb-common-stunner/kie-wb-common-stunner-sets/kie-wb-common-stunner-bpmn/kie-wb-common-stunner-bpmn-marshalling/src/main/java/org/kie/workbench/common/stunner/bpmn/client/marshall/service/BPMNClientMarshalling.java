@@ -133,8 +133,8 @@ public class BPMNClientMarshalling {
 
         // the root node contains all of the information
         // needed to build the entire graph (including parent/child relationships)
-        // thus, we can now walk the graph to issue all the commands
-        // to draw it on our canvas
+        // thus, we can now walk the graph and write it in bulk,
+        // as the input has just been parsed there is no need to issue a command per element
         final Diagram<Graph<DefinitionSet, Node>, Metadata> diagram =
                 typedFactoryManager.newDiagram(
                         definitionResolver.getDefinitions().getId(),
@@ -148,7 +148,8 @@ public class BPMNClientMarshalling {
                         typedFactoryManager,
                         ruleManager,
                         commandFactory,
-                        commandManager);
+                        commandManager,
+                        true);
         graphBuilder.render(diagramRoot);
 
         return graph;
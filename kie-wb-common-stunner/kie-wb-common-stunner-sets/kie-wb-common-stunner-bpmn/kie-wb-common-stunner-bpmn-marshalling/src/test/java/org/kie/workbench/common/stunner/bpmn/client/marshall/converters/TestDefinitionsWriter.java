@@ -36,22 +36,23 @@ import static org.kie.workbench.common.stunner.bpmn.client.marshall.converters.f
 
 public class TestDefinitionsWriter {
 
-    private final DefinitionResolver definitionResolver;
+    private final Definitions definitions;
     private BPMNPlane bpmnPlane;
 
     public TestDefinitionsWriter() {
-        Definitions definitions = bpmn2.createDefinitions();
+        definitions = bpmn2.createDefinitions();
         definitions.getRootElements().add(bpmn2.createProcess());
         BPMNDiagram bpmnDiagram = di.createBPMNDiagram();
         bpmnPlane = di.createBPMNPlane();
         bpmnDiagram.setPlane(bpmnPlane);
         definitions.getDiagrams().add(bpmnDiagram);
-
-        this.definitionResolver = new DefinitionResolver(definitions, Collections.emptyList());
     }
 
+    /**
+     * Returns a resolver for the definitions written so far.
+     */
     public DefinitionResolver getDefinitionResolver() {
-        return definitionResolver;
+        return new DefinitionResolver(definitions, Collections.emptyList());
     }
 
     public FlowNode mockNode(String id, Bounds bounds) {
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.client.marshall.converters.tostunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.definition.DefinitionSet;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
+import org.kie.workbench.common.stunner.core.graph.content.view.Connection;
+import org.kie.workbench.common.stunner.core.graph.content.view.ControlPoint;
+import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnectorImpl;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkGraphLoaderTest {
+
+    @Mock
+    private Connection sourceConnection;
+
+    @Mock
+    private Connection targetConnection;
+
+    private Graph<DefinitionSet, Node> graph;
+    private Node<View<Object>, Edge> parent;
+    private Node<View<Object>, Edge> child;
+
+    private BulkGraphLoader tested;
+
+    @Before
+    public void setUp() {
+        graph = GraphImpl.build("graph");
+        parent = newNode("parent", Bounds.create(10, 10, 110, 60));
+        child = newNode("child", Bounds.create(0, 0, 20, 30));
+        tested = new BulkGraphLoader(graph);
+    }
+
+    @Test
+    public void testAddChildNode() {
+        tested.addNode(parent);
+        tested.addChildNode(parent, child);
+
+        assertEquals(child, graph.getNode("child"));
+        assertEquals(1, parent.getOutEdges().size());
+        final Edge edge = parent.getOutEdges().get(0);
+        assertTrue(edge.getContent() instanceof Child);
+        assertEquals(parent, edge.getSourceNode());
+        assertEquals(child, edge.getTargetNode());
+        assertEquals(Collections.singletonList(edge), child.getInEdges());
+    }
+
+    @Test
+    public void testAddDockedNode() {
+        tested.addNode(parent);
+        tested.addDockedNode(parent, child);
+
+        assertEquals(child, graph.getNode("child"));
+        final Edge edge = parent.getOutEdges().get(0);
+        assertTrue(edge.getContent() instanceof Dock);
+        assertEquals(Collections.singletonList(edge), child.getInEdges());
+    }
+
+    @Test
+    public void testUpdatePositionKeepsSize() {
+        tested.updatePosition(child, Point2D.create(5, 7));
+
+        final Bounds bounds = child.getContent().getBounds();
+        assertEquals(5, bounds.getX(), 0d);
+        assertEquals(7, bounds.getY(), 0d);
+        assertEquals(20, bounds.getWidth(), 0d);
+        assertEquals(30, bounds.getHeight(), 0d);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAddConnector() {
+        final Edge<ViewConnector<Object>, Node> edge = new EdgeImpl<>("edge");
+        edge.setContent(new ViewConnectorImpl<>(new Object(), Bounds.create()));
+
+        tested.addConnector((Edge) edge,
+                            parent,
+                            sourceConnection,
+                            Arrays.asList(Point2D.create(1, 2), Point2D.create(3, 4)),
+                            child,
+                            targetConnection);
+
+        assertEquals(parent, edge.getSourceNode());
+        assertEquals(child, edge.getTargetNode());
+        assertTrue(parent.getOutEdges().contains(edge));
+        assertTrue(child.getInEdges().contains(edge));
+        assertEquals(sourceConnection, edge.getContent().getSourceConnection().get());
+        assertEquals(targetConnection, edge.getContent().getTargetConnection().get());
+        assertArrayEquals(new ControlPoint[]{ControlPoint.build(1, 2), ControlPoint.build(3, 4)},
+                          edge.getContent().getControlPoints());
+    }
+
+    @Test
+    public void testClear() {
+        tested.addNode(parent);
+        tested.clear();
+
+        assertFalse(graph.nodes().iterator().hasNext());
+    }
+
+    @Test
+    public void testComplete() {
+        final GraphImpl<DefinitionSet> graphImpl = (GraphImpl<DefinitionSet>) graph;
+        tested.addNode(parent);
+        // Both get tracked from now on.
+        graphImpl.hashCode();
+        graphImpl.getLabelsCount();
+        tested.addChildNode(parent, child);
+        child.getLabels().add("label");
+        final Edge edge = parent.getOutEdges().get(0);
+        assertFalse(graphImpl.getElementHashes().containsKey(edge.getUUID()));
+        assertFalse(graphImpl.getLabelsCount().containsKey("label"));
+
+        tested.complete();
+
+        assertTrue(graphImpl.getElementHashes().containsKey(edge.getUUID()));
+        assertEquals(1, graphImpl.getLabelsCount().get("label").intValue());
+    }
+
+    private static Node<View<Object>, Edge> newNode(final String uuid,
+                                                    final Bounds bounds) {
+        final Node<View<Object>, Edge> node = new NodeImpl<>(uuid);
+        node.setContent(new ViewImpl<>(new Object(), bounds));
+        return node;
+    }
+}
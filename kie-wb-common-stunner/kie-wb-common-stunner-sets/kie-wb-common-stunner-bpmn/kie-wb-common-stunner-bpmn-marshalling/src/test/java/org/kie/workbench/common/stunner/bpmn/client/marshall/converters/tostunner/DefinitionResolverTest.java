@@ -29,6 +29,8 @@ import org.eclipse.bpmn2.Definitions;
 import org.eclipse.bpmn2.ExtensionAttributeValue;
 import org.eclipse.bpmn2.Process;
 import org.eclipse.bpmn2.Relationship;
+import org.eclipse.bpmn2.SequenceFlow;
+import org.eclipse.bpmn2.Task;
 import org.eclipse.bpmn2.di.BPMNDiagram;
 import org.eclipse.bpmn2.di.BPMNEdge;
 import org.eclipse.bpmn2.di.BPMNPlane;
@@ -44,6 +46,9 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstunner.Factories.bpmn2;
+import static org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstunner.Factories.di;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -114,6 +119,7 @@ public class DefinitionResolverTest {
         when(shape.getBpmnElement()).thenReturn(bpmnElement);
         when(bpmnElement.getId()).thenReturn(ID);
         planeElements.add(shape);
+        definitionResolver = new DefinitionResolver(definitions, Collections.emptyList());
         assertEquals(shape, definitionResolver.getShape(ID));
     }
 
@@ -124,6 +130,7 @@ public class DefinitionResolverTest {
         when(edge.getBpmnElement()).thenReturn(bpmnElement);
         when(bpmnElement.getId()).thenReturn(ID);
         planeElements.add(edge);
+        definitionResolver = new DefinitionResolver(definitions, Collections.emptyList());
         assertEquals(edge, definitionResolver.getEdge(ID));
     }
 
@@ -150,4 +157,60 @@ public class DefinitionResolverTest {
 
         assertEquals(parameter, definitionResolver.resolveSimulationParameters(elementRef).get());
     }
+
+    @Test
+    public void testGetShapeAndEdgeNotFound() {
+        assertNull(definitionResolver.getShape(ID));
+        assertNull(definitionResolver.getEdge(ID));
+    }
+
+    @Test
+    public void testGetShapeAndEdgeOnLargeDiagram() {
+        final int size = 5000;
+        Definitions definitions = bpmn2.createDefinitions();
+        Process process = bpmn2.createProcess();
+        definitions.getRootElements().add(process);
+        BPMNDiagram bpmnDiagram = di.createBPMNDiagram();
+        BPMNPlane bpmnPlane = di.createBPMNPlane();
+        bpmnDiagram.setPlane(bpmnPlane);
+        definitions.getDiagrams().add(bpmnDiagram);
+
+        List<BPMNShape> shapes = new ArrayList<>(size);
+        List<BPMNEdge> edges = new ArrayList<>(size);
+        Task previous = null;
+        for (int i = 0; i < size; i++) {
+            Task task = bpmn2.createTask();
+            task.setId("task" + i);
+            process.getFlowElements().add(task);
+            BPMNShape shape = di.createBPMNShape();
+            shape.setBpmnElement(task);
+            bpmnPlane.getPlaneElement().add(shape);
+            shapes.add(shape);
+
+            if (previous != null) {
+                SequenceFlow flow = bpmn2.createSequenceFlow();
+                flow.setId("flow" + i);
+                flow.setSourceRef(previous);
+                flow.setTargetRef(task);
+                process.getFlowElements().add(flow);
+                BPMNEdge edge = di.createBPMNEdge();
+                edge.setBpmnElement(flow);
+                bpmnPlane.getPlaneElement().add(edge);
+                edges.add(edge);
+            }
+            previous = task;
+        }
+
+        DefinitionResolver resolver = new DefinitionResolver(definitions, Collections.emptyList());
+
+        // Each lookup is a hash lookup, so resolving the whole diagram is linear in its size.
+        for (int i = 0; i < size; i++) {
+            assertEquals(shapes.get(i), resolver.getShape("task" + i));
+        }
+        for (int i = 1; i < size; i++) {
+            assertEquals(edges.get(i - 1), resolver.getEdge("flow" + i));
+        }
+        assertNull(resolver.getShape("flow1"));
+        assertNull(resolver.getEdge("task0"));
+    }
 }
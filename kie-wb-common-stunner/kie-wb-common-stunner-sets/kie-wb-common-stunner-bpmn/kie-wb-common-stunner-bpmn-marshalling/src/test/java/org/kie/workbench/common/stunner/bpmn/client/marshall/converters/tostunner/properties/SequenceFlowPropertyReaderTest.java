@@ -47,7 +47,6 @@ public class SequenceFlowPropertyReaderTest {
     @Test
     public void getConnectionsNoWaypoints() {
         TestDefinitionsWriter d = new TestDefinitionsWriter();
-        PropertyReaderFactory factory = new PropertyReaderFactory(d.getDefinitionResolver());
 
         Bounds sourceBounds = boundsOf(10, 10, 50, 50);
         FlowNode source = d.mockNode(SOURCE_ID, sourceBounds);
@@ -57,6 +56,7 @@ public class SequenceFlowPropertyReaderTest {
 
         SequenceFlow el = d.sequenceFlowOf(SEQ_ID, source, target, noWaypoints);
 
+        PropertyReaderFactory factory = new PropertyReaderFactory(d.getDefinitionResolver());
         SequenceFlowPropertyReader p = factory.of(el);
 
         // this is inferred from behavior of the old marshallers
@@ -72,7 +72,6 @@ public class SequenceFlowPropertyReaderTest {
     @Test
     public void getConnectionsWithWaypoints() {
         TestDefinitionsWriter d = new TestDefinitionsWriter();
-        PropertyReaderFactory factory = new PropertyReaderFactory(d.getDefinitionResolver());
 
         Bounds sourceBounds = boundsOf(10, 10, 50, 50);
         FlowNode source = d.mockNode(SOURCE_ID, sourceBounds);
@@ -84,6 +83,7 @@ public class SequenceFlowPropertyReaderTest {
 
         SequenceFlow el = d.sequenceFlowOf(SEQ_ID, source, target, waypoints);
 
+        PropertyReaderFactory factory = new PropertyReaderFactory(d.getDefinitionResolver());
         SequenceFlowPropertyReader p = factory.of(el);
 
         Connection sourceConnection = p.getSourceConnection();
@@ -98,7 +98,6 @@ public class SequenceFlowPropertyReaderTest {
     @Test
     public void get1Waypoint() {
         TestDefinitionsWriter d = new TestDefinitionsWriter();
-        PropertyReaderFactory factory = new PropertyReaderFactory(d.getDefinitionResolver());
 
         Bounds sourceBounds = boundsOf(10, 10, 50, 50);
         FlowNode source = d.mockNode(SOURCE_ID, sourceBounds);
@@ -113,6 +112,7 @@ public class SequenceFlowPropertyReaderTest {
 
         SequenceFlow el = d.sequenceFlowOf(SEQ_ID, source, target, waypoints);
 
+        PropertyReaderFactory factory = new PropertyReaderFactory(d.getDefinitionResolver());
         SequenceFlowPropertyReader p = factory.of(el);
         List<Point2D> controlPoints = p.getControlPoints();
         List<Point2D> expected =
@@ -125,7 +125,6 @@ public class SequenceFlowPropertyReaderTest {
     @Test
     public void get2Waypoints() {
         TestDefinitionsWriter d = new TestDefinitionsWriter();
-        PropertyReaderFactory factory = new PropertyReaderFactory(d.getDefinitionResolver());
 
         Bounds sourceBounds = boundsOf(10, 10, 50, 50);
         FlowNode source = d.mockNode(SOURCE_ID, sourceBounds);
@@ -142,6 +141,7 @@ public class SequenceFlowPropertyReaderTest {
 
         SequenceFlow el = d.sequenceFlowOf(SEQ_ID, source, target, waypoints);
 
+        PropertyReaderFactory factory = new PropertyReaderFactory(d.getDefinitionResolver());
         SequenceFlowPropertyReader p = factory.of(el);
         List<Point2D> controlPoints = p.getControlPoints();
         List<Point2D> expected = asList(
@@ -18,6 +18,7 @@ package com.ait.lienzo.client.core.animation;
 import com.ait.lienzo.client.core.animation.AnimationScheduler.AnimationCallback;
 import com.ait.lienzo.client.core.shape.Layer;
 import com.ait.lienzo.tools.client.collection.NFastArrayList;
+import elemental2.dom.DomGlobal;
 import elemental2.dom.HTMLElement;
 import jsinterop.base.Js;
 
@@ -29,6 +30,14 @@ public final class LayerRedrawManager {
 
     private NFastArrayList<Layer> m_layers = new NFastArrayList<>();
 
+    private double m_last_frame_time = 0;
+
+    private double m_average_frame_time = 0;
+
+    private long m_frames = 0L;
+
+    private static final double FRAME_TIME_SMOOTHING = 0.1;
+
     public static final LayerRedrawManager get() {
         return INSTANCE;
     }
@@ -42,9 +51,12 @@ public final class LayerRedrawManager {
 
                 m_layers = new NFastArrayList<Layer>();
 
+                final double start = DomGlobal.performance.now();
+
                 for (int i = 0; i < size; i++) {
-                    list.get(i).unBatchScheduled().draw();
+                    list.get(i).unBatchScheduled().drawBatch();
                 }
+                onFrameDrawn(DomGlobal.performance.now() - start);
             }
         };
     }
@@ -59,6 +71,35 @@ public final class LayerRedrawManager {
         return layer;
     }
 
+    /**
+     * Returns the time, in milliseconds, spent drawing the layers on the last redraw frame.
+     */
+    public final double getLastFrameTime() {
+        return m_last_frame_time;
+    }
+
+    /**
+     * Returns an exponential moving average of the time, in milliseconds, spent drawing the layers per redraw frame.
+     */
+    public final double getAverageFrameTime() {
+        return m_average_frame_time;
+    }
+
+    /**
+     * Returns the number of redraw frames performed so far.
+     */
+    public final long getFrameCount() {
+        return m_frames;
+    }
+
+    private void onFrameDrawn(final double time) {
+        m_last_frame_time = time;
+
+        m_average_frame_time = (m_frames == 0L) ? time : (m_average_frame_time + (FRAME_TIME_SMOOTHING * (time - m_average_frame_time)));
+
+        m_frames++;
+    }
+
     private void kick(HTMLElement layerElement) {
         if (!m_layers.isEmpty()) {
             AnimationScheduler.get().requestAnimationFrame(m_redraw, Js.uncheckedCast(layerElement));
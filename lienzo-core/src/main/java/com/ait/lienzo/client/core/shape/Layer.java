@@ -28,10 +28,13 @@ import com.ait.lienzo.client.core.shape.storage.IStorageEngine;
 import com.ait.lienzo.client.core.shape.storage.PrimitiveFastArrayStorageEngine;
 import com.ait.lienzo.client.core.style.Style;
 import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.client.core.types.BoundingPoints;
 import com.ait.lienzo.client.core.types.ColorKeyRotor;
 import com.ait.lienzo.client.core.types.ImageDataPixelColor;
 import com.ait.lienzo.client.core.types.OnLayerAfterDraw;
 import com.ait.lienzo.client.core.types.OnLayerBeforeDraw;
+import com.ait.lienzo.client.core.types.Point2D;
+import com.ait.lienzo.client.core.types.Shadow;
 import com.ait.lienzo.client.core.types.Transform;
 import com.ait.lienzo.shared.core.types.DataURLType;
 import com.ait.lienzo.shared.core.types.LayerClearMode;
@@ -77,6 +80,22 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
 
     private boolean transformable = true;
 
+    private boolean m_full_draw = false;
+
+    private boolean m_lazy_selection = false;
+
+    private boolean m_selection_stale = false;
+
+    private NFastArrayList<BoundingBox> m_dirty_regions = null;
+
+    private NFastArrayList<BoundingBox> m_draw_regions = null;
+
+    private static final int MAX_DIRTY_REGIONS = 16;
+
+    private static final double DIRTY_REGION_PADDING = 2;
+
+    private static final double PICK_TOLERANCE = 8;
+
     private final ColorKeyRotor m_c_rotor = new ColorKeyRotor();
 
     private final NFastStringMap<Shape<?>> m_shape_color_map = new NFastStringMap<>();
@@ -153,6 +172,25 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
         return null;
     }
 
+    /**
+     * Sets whether the {@link SelectionLayer} is rendered lazily. When enabled, drawing this layer only marks
+     * the selection layer as stale, and {@link #findShapeAtPoint(int, int)} renders the color keys of the
+     * primitives whose bounding boxes contain the point, clipped to the pixels around it, before reading it.
+     * This saves a full offscreen render per frame for animations and bulk edits.
+     *
+     * @param lazy
+     * @return Layer
+     */
+    public Layer setLazySelectionLayer(final boolean lazy) {
+        m_lazy_selection = lazy;
+
+        return this;
+    }
+
+    public boolean isLazySelectionLayer() {
+        return m_lazy_selection;
+    }
+
     /**
      * Looks at the {@link SelectionLayer} and attempts to find a {@link Shape} whose alpha
      * channel is 255.
@@ -166,6 +204,11 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
             final SelectionLayer selection = getSelectionLayer();
 
             if (null != selection) {
+                if (m_selection_stale) {
+                    // The selection layer is refreshed as a whole on the next draw.
+
+                    pickSelectionAt(selection, x, y);
+                }
                 final ImageDataPixelColor rgba = selection.getContext().getImageDataPixelColor(x, y);// x,y is adjusted to canvas coordinates in event dispatch
 
                 if (null != rgba) {
@@ -553,9 +596,30 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
         return draw(getContext());
     }
 
+    /**
+     * Draws the layer once a scheduled batch is due, as done by the {@link LayerRedrawManager}. If only dirty
+     * regions have been batched since the previous one, just these regions get cleared and redrawn, otherwise
+     * the whole layer gets redrawn as {@link #draw()} does.
+     *
+     * @return Layer
+     */
+    public Layer drawBatch() {
+        m_draw_regions = takeDirtyRegions();
+
+        draw();
+
+        m_draw_regions = null;
+
+        return this;
+    }
+
     public Layer draw(Context2D context) {
+        final NFastArrayList<BoundingBox> regions = (context == getContext()) ? m_draw_regions : null;
+
+        m_draw_regions = null;
+
         if (LienzoCore.IS_CANVAS_SUPPORTED) {
-            if (isClearLayerBeforeDraw()) {
+            if ((isClearLayerBeforeDraw()) && (null == regions)) {
                 clear();
             }
             if (isVisible()) {
@@ -572,12 +636,22 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
                     if ((isTransformable()) && (null != viewport)) {
                         transform = viewport.getTransform();
                     }
+                    final NFastArrayList<BoundingBox> device = (null != regions) ? toDeviceRegions(regions, transform) : null;
+
                     context.save();
 
+                    if (null != device) {
+                        clipAndClear(context, device);
+                    }
                     if (null != transform) {
                         context.transform(transform);
                     }
-                    final BoundingBox bbox = getStorageBounds();
+                    BoundingBox full = getStorageBounds();
+
+                    if ((null == full) && (null != viewport) && getStorageEngine().isSpatiallyIndexed()) {
+                        full = getVisibleBounds(viewport, transform);
+                    }
+                    final BoundingBox bbox = (null != regions) ? union(regions) : full;
 
                     IPathClipper vclp = null;
 
@@ -602,13 +676,27 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
                     }
                     final SelectionLayer selection = getSelectionLayer();
 
-                    if (null != selection) {
-                        selection.clear();
+                    if ((null != selection) && (m_lazy_selection) && (false == isShowSelectionLayer())) {
+                        m_selection_stale = true;
+                    } else if (null != selection) {
+                        // A stale selection layer can't be fixed by a partial redraw, so redraw it all.
+
+                        final NFastArrayList<BoundingBox> sdevice = m_selection_stale ? null : device;
 
+                        final BoundingBox sbbox = m_selection_stale ? full : bbox;
+
+                        m_selection_stale = false;
+
+                        if (null == sdevice) {
+                            selection.clear();
+                        }
                         context = selection.getContext();
 
                         context.save();
 
+                        if (null != sdevice) {
+                            clipAndClear(context, sdevice);
+                        }
                         if (null != transform) {
                             context.transform(transform);
                         }
@@ -618,7 +706,7 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
                         if ((null != lclp) && (lclp.isActive())) {
                             lclp.clip(context);
                         }
-                        drawWithTransforms(context, 1, bbox);
+                        drawWithTransforms(context, 1, sbbox);
 
                         context.restore();
                     }
@@ -628,6 +716,175 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
         return this;
     }
 
+    /**
+     * Renders the color keys around the given canvas point on the selection layer. Only the top level
+     * primitives whose bounding boxes contain the point (in layer coordinates) are rendered, and the
+     * rendering is clipped to the pixels around the point.
+     */
+    private void pickSelectionAt(final SelectionLayer selection, final int x, final int y) {
+        Transform transform = null;
+
+        final Viewport viewport = getViewport();
+
+        if ((isTransformable()) && (null != viewport)) {
+            transform = viewport.getTransform();
+        }
+        final Point2D point = new Point2D(x, y);
+
+        double tolerance = PICK_TOLERANCE;
+
+        if ((null != transform) && (false == transform.isIdentity())) {
+            if (Math.abs(transform.getDeterminant()) <= Double.MIN_VALUE) {
+                return;
+            }
+            transform.getInverse().transform(point, point);
+
+            tolerance = tolerance / Math.max(Math.sqrt(Math.abs(transform.getDeterminant())), Double.MIN_VALUE);
+        }
+        final BoundingBox bbox = BoundingBox.fromDoubles(point.getX() - tolerance, point.getY() - tolerance, point.getX() + tolerance, point.getY() + tolerance);
+
+        final NFastArrayList<IPrimitive<?>> list = getChildNodes(bbox);
+
+        final int size = list.size();
+
+        final Context2D context = selection.getContext();
+
+        context.save();
+
+        context.beginPath();
+
+        context.rect(x - 1, y - 1, 3, 3);
+
+        context.clip();
+
+        context.clearRect(x - 1, y - 1, 3, 3);
+
+        if (null != transform) {
+            context.transform(transform);
+        }
+        if (null != viewport) {
+            final IPathClipper vclp = viewport.getPathClipper();
+
+            if ((null != vclp) && (vclp.isActive())) {
+                vclp.clip(context);
+            }
+        }
+        final IPathClipper lclp = getPathClipper();
+
+        if ((null != lclp) && (lclp.isActive())) {
+            lclp.clip(context);
+        }
+        for (int i = 0; i < size; i++) {
+            final IPrimitive<?> prim = list.get(i);
+
+            final BoundingPoints points = prim.getBoundingPoints();
+
+            if ((null == points) || points.getBoundingBox().intersects(bbox)) {
+                prim.drawWithTransforms(context, 1, bbox);
+            }
+        }
+        context.restore();
+    }
+
+    /**
+     * Returns the pending dirty regions and resets them, or null if the whole layer has to be redrawn.
+     */
+    private NFastArrayList<BoundingBox> takeDirtyRegions() {
+        final NFastArrayList<BoundingBox> regions = m_dirty_regions;
+
+        final boolean full = m_full_draw;
+
+        m_dirty_regions = null;
+
+        m_full_draw = false;
+
+        if ((full) || (null == regions) || (regions.isEmpty()) || (false == isClearLayerBeforeDraw())) {
+            return null;
+        }
+        return regions;
+    }
+
+    /**
+     * Converts the given regions, in layer coordinates, to padded and pixel aligned regions in canvas coordinates.
+     */
+    private static NFastArrayList<BoundingBox> toDeviceRegions(final NFastArrayList<BoundingBox> regions, final Transform transform) {
+        final NFastArrayList<BoundingBox> device = new NFastArrayList<>();
+
+        final int size = regions.size();
+
+        for (int i = 0; i < size; i++) {
+            final BoundingBox region = regions.get(i);
+
+            final Point2D[] corners = new Point2D[]{new Point2D(region.getMinX(), region.getMinY()), new Point2D(region.getMaxX(), region.getMinY()), new Point2D(region.getMinX(), region.getMaxY()), new Point2D(region.getMaxX(), region.getMaxY())};
+
+            if (null != transform) {
+                for (final Point2D corner : corners) {
+                    transform.transform(corner, corner);
+                }
+            }
+            final BoundingBox bbox = BoundingBox.fromArrayOfPoint2D(corners);
+
+            device.add(BoundingBox.fromDoubles(Math.floor(bbox.getMinX() - DIRTY_REGION_PADDING), Math.floor(bbox.getMinY() - DIRTY_REGION_PADDING), Math.ceil(bbox.getMaxX() + DIRTY_REGION_PADDING), Math.ceil(bbox.getMaxY() + DIRTY_REGION_PADDING)));
+        }
+        return device;
+    }
+
+    private static void clipAndClear(final Context2D context, final NFastArrayList<BoundingBox> device) {
+        final int size = device.size();
+
+        context.beginPath();
+
+        for (int i = 0; i < size; i++) {
+            final BoundingBox region = device.get(i);
+
+            context.rect(region.getX(), region.getY(), region.getWidth(), region.getHeight());
+        }
+        context.clip();
+
+        for (int i = 0; i < size; i++) {
+            final BoundingBox region = device.get(i);
+
+            context.clearRect(region.getX(), region.getY(), region.getWidth(), region.getHeight());
+        }
+    }
+
+    private static BoundingBox union(final NFastArrayList<BoundingBox> regions) {
+        final BoundingBox bbox = new BoundingBox();
+
+        final int size = regions.size();
+
+        for (int i = 0; i < size; i++) {
+            bbox.addBoundingBox(regions.get(i));
+        }
+        // Pad the same way as the cleared area, so that primitives touching the region border get redrawn.
+
+        return pad(bbox, DIRTY_REGION_PADDING);
+    }
+
+    /**
+     * Returns the area of this layer, in layer coordinates, that is visible through the given viewport.
+     */
+    static BoundingBox getVisibleBounds(final Viewport viewport, final Transform transform) {
+        final double width = viewport.getWidth();
+
+        final double height = viewport.getHeight();
+
+        if ((null == transform) || transform.isIdentity()) {
+            return BoundingBox.fromDoubles(0, 0, width, height);
+        }
+        if (Math.abs(transform.getDeterminant()) <= Double.MIN_VALUE) {
+            return null;
+        }
+        final Transform inverse = transform.getInverse();
+
+        final Point2D[] corners = new Point2D[]{new Point2D(0, 0), new Point2D(width, 0), new Point2D(0, height), new Point2D(width, height)};
+
+        for (final Point2D corner : corners) {
+            inverse.transform(corner, corner);
+        }
+        return BoundingBox.fromArrayOfPoint2D(corners);
+    }
+
     /**
      * Performs batch updates to the Layer, that is, drawing is deferred till the next AnimationFrame,
      * to cut down on redraws on rapid event dispatch.
@@ -636,9 +893,105 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
      */
     @Override
     public Layer batch() {
+        m_full_draw = true;
+
         return LayerRedrawManager.get().schedule(this);
     }
 
+    /**
+     * Performs a batch update limited to the given region, in layer coordinates. On the next
+     * AnimationFrame only the union of the dirty regions is cleared and redrawn, both on the
+     * scene and on the selection canvas, unless a full redraw has been requested as well.
+     *
+     * @param region the area to redraw, in layer coordinates
+     * @return Layer
+     */
+    public Layer batch(final BoundingBox region) {
+        if ((null == region) || (false == region.isValid())) {
+            return batch();
+        }
+        if (null == m_dirty_regions) {
+            m_dirty_regions = new NFastArrayList<>();
+        }
+        if (m_dirty_regions.size() < MAX_DIRTY_REGIONS) {
+            m_dirty_regions.add(BoundingBox.fromBoundingBox(region));
+        } else {
+            // Too many regions, just keep growing the last one.
+
+            m_dirty_regions.get(MAX_DIRTY_REGIONS - 1).addBoundingBox(region);
+        }
+        return LayerRedrawManager.get().schedule(this);
+    }
+
+    /**
+     * Performs a batch update for a primitive that changed, by redrawing both
+     * its previous and its current area, including its stroke and shadow. For
+     * groups, the area contains all of their children, and it's padded by the
+     * widest stroke and shadow of any of them.
+     *
+     * @param primitive the primitive that changed
+     * @param previous  the computed bounding box of the primitive before the change, in layer coordinates
+     * @return Layer
+     */
+    public Layer batch(final IPrimitive<?> primitive, final BoundingBox previous) {
+        final BoundingPoints points = primitive.getComputedBoundingPoints();
+
+        if ((null == previous) || (null == points)) {
+            return batch();
+        }
+        final double padding = getDrawPadding(primitive);
+
+        batch(pad(previous, padding));
+
+        return batch(pad(points.getBoundingBox(), padding));
+    }
+
+    /**
+     * Returns how far the primitive can be drawn outside of its bounding box, due to its stroke and its shadow, or
+     * the ones of its children.
+     */
+    private static double getDrawPadding(final IPrimitive<?> primitive) {
+        final Shape<?> shape = primitive.asShape();
+
+        if (null != shape) {
+            return getDrawPadding(shape);
+        }
+        final GroupOf<IPrimitive<?>, ?> group = primitive.asGroupOf();
+
+        double padding = 0;
+
+        if (null != group) {
+            final NFastArrayList<IPrimitive<?>> children = group.getChildNodes();
+
+            final int size = children.size();
+
+            for (int i = 0; i < size; i++) {
+                padding = Math.max(padding, getDrawPadding(children.get(i)));
+            }
+        }
+        return padding;
+    }
+
+    /**
+     * Returns how far the shape can be drawn outside of its bounding box, due to its stroke and its shadow.
+     */
+    private static double getDrawPadding(final Shape<?> shape) {
+        double padding = shape.getStrokeWidth();
+
+        final Shadow shadow = shape.getShadow();
+
+        if (null != shadow) {
+            final Point2D offset = shadow.getOffset();
+
+            padding += Math.max(Math.abs(offset.getX()), Math.abs(offset.getY())) + shadow.getBlur();
+        }
+        return padding;
+    }
+
+    private static BoundingBox pad(final BoundingBox bbox, final double padding) {
+        return BoundingBox.fromDoubles(bbox.getMinX() - padding, bbox.getMinY() - padding, bbox.getMaxX() + padding, bbox.getMaxY() + padding);
+    }
+
     /**
      * Sets whether this object is visible.
      *
@@ -72,6 +72,7 @@ import com.ait.lienzo.client.core.event.NodeTouchMoveHandler;
 import com.ait.lienzo.client.core.event.NodeTouchStartEvent;
 import com.ait.lienzo.client.core.event.NodeTouchStartHandler;
 import com.ait.lienzo.client.core.shape.guides.IGuidePrimitive;
+import com.ait.lienzo.client.core.shape.storage.IStorageEngine;
 import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.client.core.types.BoundingPoints;
 import com.ait.lienzo.client.core.types.DragBounds;
@@ -236,11 +237,13 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     public final T setX(final double x) {
         this.x = x;
+        refreshStorage();
         return cast();
     }
 
     public final T setY(final double y) {
         this.y = y;
+        refreshStorage();
         return cast();
     }
 
@@ -494,9 +497,32 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     @Override
     public T refresh() {
+        refreshStorage();
         return cast();
     }
 
+    /**
+     * Notifies the parent's storage engine, if it's a spatially indexed one, that the bounds of this node may have changed.
+     * Only the direct parent is notified, so nested changes must be reported to the top level container.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public final void refreshStorage() {
+        if (null == m_parent) {
+            return;
+        }
+        final ContainerNode<?, ?> container = m_parent.asContainerNode();
+
+        if (null == container) {
+            return;
+        }
+        final IStorageEngine storage = container.getStorageEngine();
+
+        if ((null == storage) || (false == storage.isSpatiallyIndexed())) {
+            return;
+        }
+        storage.refresh(this);
+    }
+
     protected void setParent(final Node<?> parent) {
         m_parent = parent;
     }
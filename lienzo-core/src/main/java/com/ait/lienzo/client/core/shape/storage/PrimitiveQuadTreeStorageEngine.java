@@ -0,0 +1,253 @@
+/*
+   Copyright (c) 2021 Ahome' Innovation Technologies. All rights reserved.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.ait.lienzo.client.core.shape.IPrimitive;
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.client.core.types.BoundingPoints;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
+
+/**
+ * A storage engine that indexes the bounding boxes of its primitives in a {@link QuadTree}, so that
+ * {@link #getChildren(BoundingBox)} only returns the primitives that intersect the given bounds, in drawing order.
+ * <p>
+ * Primitives report location changes through {@link #refresh(IPrimitive)}, which only marks them as dirty; dirty
+ * primitives are re-indexed on the next bounded query. Changes that are not reported automatically (e.g. a shape
+ * being resized, or the children of a group being moved) must be reported by calling {@link #refresh(IPrimitive)}
+ * for the affected top level primitive, or {@link #refresh()} to re-index everything.
+ * <p>
+ * The bounds are expressed in the coordinate space of the container, so this engine is meant to be used by
+ * {@link com.ait.lienzo.client.core.shape.Layer} instances, which get the visible viewport area as bounds.
+ */
+public class PrimitiveQuadTreeStorageEngine extends AbstractStorageEngine<IPrimitive<?>> {
+
+    private final NFastArrayList<IPrimitive<?>> m_list = new NFastArrayList<>();
+
+    private final QuadTree<IPrimitive<?>> m_tree = new QuadTree<>();
+
+    private final List<IPrimitive<?>> m_unbounded = new ArrayList<>();
+
+    private final Map<IPrimitive<?>, Integer> m_order = new HashMap<>();
+
+    private final Set<IPrimitive<?>> m_dirty = new HashSet<>();
+
+    private boolean m_reorder = false;
+
+    private int m_next = 0;
+
+    public PrimitiveQuadTreeStorageEngine() {
+        super(StorageEngineType.PRIMITIVE_QUADTREE_STORAGE_ENGINE);
+    }
+
+    protected PrimitiveQuadTreeStorageEngine(final Object node) {
+        super(StorageEngineType.PRIMITIVE_QUADTREE_STORAGE_ENGINE, node);
+    }
+
+    @Override
+    public int size() {
+        return m_list.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return m_list.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        m_list.clear();
+
+        m_tree.clear();
+
+        m_unbounded.clear();
+
+        m_order.clear();
+
+        m_dirty.clear();
+
+        m_reorder = false;
+
+        m_next = 0;
+    }
+
+    @Override
+    public boolean contains(final IPrimitive<?> item) {
+        return m_order.containsKey(item);
+    }
+
+    @Override
+    public void add(final IPrimitive<?> item) {
+        if (contains(item)) {
+            return;
+        }
+        m_list.add(item);
+
+        m_order.put(item, m_next++);
+
+        index(item);
+    }
+
+    @Override
+    public void remove(final IPrimitive<?> item) {
+        if (null == m_order.remove(item)) {
+            return;
+        }
+        m_list.remove(item);
+
+        unindex(item);
+
+        m_dirty.remove(item);
+    }
+
+    @Override
+    public void refresh(final IPrimitive<?> item) {
+        if (contains(item)) {
+            m_dirty.add(item);
+        }
+    }
+
+    @Override
+    public void refresh() {
+        m_dirty.clear();
+
+        m_tree.clear();
+
+        m_unbounded.clear();
+
+        final int size = m_list.size();
+
+        for (int i = 0; i < size; i++) {
+            index(m_list.get(i));
+        }
+    }
+
+    @Override
+    public NFastArrayList<IPrimitive<?>> getChildren() {
+        return m_list;
+    }
+
+    @Override
+    public NFastArrayList<IPrimitive<?>> getChildren(final BoundingBox bounds) {
+        if ((null == bounds) || (false == bounds.isValid())) {
+            return m_list;
+        }
+        flush();
+
+        final List<IPrimitive<?>> found = new ArrayList<>(m_unbounded);
+
+        m_tree.query(bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY(), found::add);
+
+        found.sort((a, b) -> Integer.compare(m_order.get(a), m_order.get(b)));
+
+        final NFastArrayList<IPrimitive<?>> result = new NFastArrayList<>();
+
+        for (int i = 0; i < found.size(); i++) {
+            result.add(found.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isSpatiallyIndexed() {
+        return true;
+    }
+
+    @Override
+    public void moveUp(final IPrimitive<?> item) {
+        m_list.moveUp(item);
+
+        m_reorder = true;
+    }
+
+    @Override
+    public void moveDown(final IPrimitive<?> item) {
+        m_list.moveDown(item);
+
+        m_reorder = true;
+    }
+
+    @Override
+    public void moveToTop(final IPrimitive<?> item) {
+        m_list.moveToTop(item);
+
+        m_reorder = true;
+    }
+
+    @Override
+    public void moveToBottom(final IPrimitive<?> item) {
+        m_list.moveToBottom(item);
+
+        m_reorder = true;
+    }
+
+    private void flush() {
+        if (false == m_dirty.isEmpty()) {
+            for (final IPrimitive<?> item : m_dirty) {
+                unindex(item);
+
+                index(item);
+            }
+            m_dirty.clear();
+        }
+        if (m_reorder) {
+            final int size = m_list.size();
+
+            for (int i = 0; i < size; i++) {
+                m_order.put(m_list.get(i), i);
+            }
+            m_next = size;
+
+            m_reorder = false;
+        }
+    }
+
+    private void index(final IPrimitive<?> item) {
+        final BoundingPoints points = item.getBoundingPoints();
+
+        final BoundingBox bbox = (null != points) ? points.getBoundingBox() : null;
+
+        if ((null != bbox) && isIndexable(bbox)) {
+            m_tree.insert(item, bbox.getMinX(), bbox.getMinY(), bbox.getMaxX(), bbox.getMaxY());
+        } else {
+            m_unbounded.add(item);
+        }
+    }
+
+    private void unindex(final IPrimitive<?> item) {
+        if (false == m_tree.remove(item)) {
+            m_unbounded.remove(item);
+        }
+    }
+
+    private static boolean isIndexable(final BoundingBox bbox) {
+        // Degenerated boxes, such as the ones for straight lines, are indexed too; empty or infinite ones are not.
+
+        return isFinite(bbox.getMinX()) && isFinite(bbox.getMinY()) && isFinite(bbox.getMaxX()) && isFinite(bbox.getMaxY())
+                && (bbox.getMinX() <= bbox.getMaxX()) && (bbox.getMinY() <= bbox.getMaxY());
+    }
+
+    private static boolean isFinite(final double value) {
+        return (false == Double.isNaN(value)) && (false == Double.isInfinite(value));
+    }
+}
@@ -0,0 +1,288 @@
+/*
+   Copyright (c) 2021 Ahome' Innovation Technologies. All rights reserved.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A region quadtree (MX-CIF) of axis aligned rectangles.
+ * <p>
+ * Every item is stored in the smallest quadrant that fully contains it, so an item is only ever stored once.
+ * The root quadrant grows on demand, so no world bounds have to be known in advance.
+ *
+ * @param <M> the type of the indexed items
+ */
+public final class QuadTree<M> {
+
+    static final int MAX_ITEMS = 8;
+
+    static final double MIN_SIZE = 16;
+
+    static final double INITIAL_SIZE = 1024;
+
+    private final Map<M, Item<M>> m_items = new HashMap<>();
+
+    private Quad<M> m_root;
+
+    public int size() {
+        return m_items.size();
+    }
+
+    public boolean isEmpty() {
+        return m_items.isEmpty();
+    }
+
+    public boolean contains(final M value) {
+        return m_items.containsKey(value);
+    }
+
+    public void clear() {
+        m_items.clear();
+
+        m_root = null;
+    }
+
+    /**
+     * Indexes the value with the given bounds, replacing its previous bounds if it was already indexed.
+     * Bounds must be finite.
+     */
+    public void insert(final M value, final double minx, final double miny, final double maxx, final double maxy) {
+        if (false == (isFinite(minx) && isFinite(miny) && isFinite(maxx) && isFinite(maxy))) {
+            throw new IllegalArgumentException("QuadTree bounds must be finite");
+        }
+        remove(value);
+
+        final Item<M> item = new Item<>(value, minx, miny, maxx, maxy);
+
+        m_items.put(value, item);
+
+        if (null == m_root) {
+            final double size = Math.max(INITIAL_SIZE, Math.max(maxx - minx, maxy - miny) * 2);
+
+            m_root = new Quad<>(minx - (size / 4), miny - (size / 4), size);
+        }
+        while (false == m_root.contains(item)) {
+            grow(item);
+        }
+        m_root.insert(item);
+    }
+
+    public boolean remove(final M value) {
+        final Item<M> item = m_items.remove(value);
+
+        if (null == item) {
+            return false;
+        }
+        item.quad.items.remove(item);
+
+        item.quad = null;
+
+        return true;
+    }
+
+    public void query(final double minx, final double miny, final double maxx, final double maxy, final Consumer<M> consumer) {
+        if (null != m_root) {
+            m_root.query(minx, miny, maxx, maxy, consumer);
+        }
+    }
+
+    private void grow(final Item<M> item) {
+        final Quad<M> root = m_root;
+
+        final double size = root.size * 2;
+
+        // Grow toward the item, keeping the old root as one of the quadrants of the new one.
+
+        final boolean left = item.minx < root.x;
+
+        final boolean up = item.miny < root.y;
+
+        final double x = left ? root.x - root.size : root.x;
+
+        final double y = up ? root.y - root.size : root.y;
+
+        final Quad<M> grown = new Quad<>(x, y, size);
+
+        grown.children = newQuads();
+
+        grown.children[(left ? 1 : 0) + (up ? 2 : 0)] = root;
+
+        m_root = grown;
+    }
+
+    private static boolean isFinite(final double value) {
+        return (false == Double.isNaN(value)) && (false == Double.isInfinite(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <M> Quad<M>[] newQuads() {
+        return new Quad[4];
+    }
+
+    private static final class Item<M> {
+
+        private final M value;
+
+        private final double minx;
+
+        private final double miny;
+
+        private final double maxx;
+
+        private final double maxy;
+
+        private Quad<M> quad;
+
+        private Item(final M value, final double minx, final double miny, final double maxx, final double maxy) {
+            this.value = value;
+            this.minx = minx;
+            this.miny = miny;
+            this.maxx = maxx;
+            this.maxy = maxy;
+        }
+    }
+
+    private static final class Quad<M> {
+
+        private final double x;
+
+        private final double y;
+
+        private final double size;
+
+        private final List<Item<M>> items = new ArrayList<>();
+
+        private Quad<M>[] children;
+
+        private Quad(final double x, final double y, final double size) {
+            this.x = x;
+            this.y = y;
+            this.size = size;
+        }
+
+        private boolean contains(final Item<M> item) {
+            return (item.minx >= x) && (item.miny >= y) && (item.maxx <= x + size) && (item.maxy <= y + size);
+        }
+
+        private boolean intersects(final double minx, final double miny, final double maxx, final double maxy) {
+            return (minx <= x + size) && (maxx >= x) && (miny <= y + size) && (maxy >= y);
+        }
+
+        private int quadrantOf(final Item<M> item) {
+            final double half = size / 2;
+
+            final double mx = x + half;
+
+            final double my = y + half;
+
+            final int col;
+
+            if (item.maxx <= mx) {
+                col = 0;
+            } else if (item.minx >= mx) {
+                col = 1;
+            } else {
+                return -1;
+            }
+            if (item.maxy <= my) {
+                return col;
+            } else if (item.miny >= my) {
+                return col + 2;
+            }
+            return -1;
+        }
+
+        private Quad<M> child(final int quadrant) {
+            if (null == children) {
+                children = newQuads();
+            }
+            Quad<M> child = children[quadrant];
+
+            if (null == child) {
+                final double half = size / 2;
+
+                child = new Quad<>(x + ((quadrant % 2) * half), y + ((quadrant / 2) * half), half);
+
+                children[quadrant] = child;
+            }
+            return child;
+        }
+
+        private void insert(final Item<M> item) {
+            if ((null != children) || ((items.size() >= MAX_ITEMS) && (size / 2 >= MIN_SIZE))) {
+                final int quadrant = quadrantOf(item);
+
+                if (quadrant >= 0) {
+                    final boolean split = (null == children);
+
+                    child(quadrant).insert(item);
+
+                    if (split) {
+                        redistribute();
+                    }
+                    return;
+                }
+            }
+            items.add(item);
+
+            item.quad = this;
+        }
+
+        private void redistribute() {
+            final List<Item<M>> stay = new ArrayList<>();
+
+            for (final Item<M> item : new ArrayList<>(items)) {
+                final int quadrant = quadrantOf(item);
+
+                if (quadrant >= 0) {
+                    child(quadrant).insert(item);
+                } else {
+                    stay.add(item);
+                }
+            }
+            items.clear();
+
+            items.addAll(stay);
+        }
+
+        private void query(final double minx, final double miny, final double maxx, final double maxy, final Consumer<M> consumer) {
+            if (false == intersects(minx, miny, maxx, maxy)) {
+                return;
+            }
+            for (int i = 0; i < items.size(); i++) {
+                final Item<M> item = items.get(i);
+
+                if ((minx <= item.maxx) && (maxx >= item.minx) && (miny <= item.maxy) && (maxy >= item.miny)) {
+                    consumer.accept(item.value);
+                }
+            }
+            if (null != children) {
+                for (int i = 0; i < 4; i++) {
+                    final Quad<M> child = children[i];
+
+                    if (null != child) {
+                        child.query(minx, miny, maxx, maxy, consumer);
+                    }
+                }
+            }
+        }
+    }
+}
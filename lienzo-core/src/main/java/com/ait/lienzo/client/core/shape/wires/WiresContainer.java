@@ -27,6 +27,8 @@ import com.ait.lienzo.client.core.event.NodeDragStartHandler;
 import com.ait.lienzo.client.core.shape.Group;
 import com.ait.lienzo.client.core.shape.IContainer;
 import com.ait.lienzo.client.core.shape.IPrimitive;
+import com.ait.lienzo.client.core.shape.Layer;
+import com.ait.lienzo.client.core.shape.Node;
 import com.ait.lienzo.client.core.shape.wires.event.WiresDragEndEvent;
 import com.ait.lienzo.client.core.shape.wires.event.WiresDragEndHandler;
 import com.ait.lienzo.client.core.shape.wires.event.WiresDragMoveEvent;
@@ -111,10 +113,26 @@ public class WiresContainer {
 
     public WiresContainer setLocation(final Point2D p) {
         getGroup().setLocation(p);
+        if (!(getGroup().getParent() instanceof Layer)) {
+            // The group reports its own location to the layer, but not to the one of its top level container.
+            refreshBounds();
+        }
         shapeMoved();
         return this;
     }
 
+    /**
+     * Reports the bounds of this container, as they may have changed, to the layer's storage engine, if it's a
+     * spatially indexed one. Nested containers report the bounds of their top level group, the one the layer keeps.
+     */
+    public void refreshBounds() {
+        Node<?> node = getGroup();
+        while ((null != node.getParent()) && !(node.getParent() instanceof Layer)) {
+            node = node.getParent();
+        }
+        node.refreshStorage();
+    }
+
     public Point2D getLocation() {
         return getGroup().getLocation();
     }
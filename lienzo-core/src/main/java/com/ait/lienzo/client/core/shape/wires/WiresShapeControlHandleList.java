@@ -274,6 +274,8 @@ public class WiresShapeControlHandleList implements IControlHandleList {
 
         // Layout content whilst resizing
         m_wires_shape.getLayoutHandler().requestLayout(m_wires_shape);
+
+        m_wires_shape.refreshBounds();
     }
 
     private Point2DArray getControlPointsArray() {
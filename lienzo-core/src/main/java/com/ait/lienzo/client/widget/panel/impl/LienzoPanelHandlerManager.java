@@ -43,6 +43,7 @@ import com.ait.lienzo.client.core.shape.IPrimitive;
 import com.ait.lienzo.client.core.shape.Node;
 import com.ait.lienzo.client.core.shape.Shape;
 import com.ait.lienzo.client.core.shape.Viewport;
+import com.ait.lienzo.client.core.types.BoundingPoints;
 import com.ait.lienzo.client.widget.DragContext;
 import com.ait.lienzo.client.widget.panel.LienzoPanel;
 import com.ait.lienzo.gwtlienzo.event.shared.EventHandler;
@@ -615,6 +616,10 @@ public final class LienzoPanelHandlerManager {
     }
 
     private final void doDragMove(int x, int y, final MouseEvent mouseEvent, final TouchEvent touchEvent) {
+        // Unless drag move handlers may change other nodes, only the previous and the new area of the node get redrawn.
+
+        final BoundingPoints previous = ((DragMode.DRAG_LAYER != m_drag_mode) && (false == m_dragging_dispatch_move)) ? m_drag_node.getComputedBoundingPoints() : null;
+
         m_dragContext.dragUpdate(x, y);
 
         if (m_dragging_dispatch_move) {
@@ -624,6 +629,8 @@ public final class LienzoPanelHandlerManager {
             m_viewport.getDragLayer().draw();
 
             m_dragContext.drawNodeWithTransforms(m_viewport.getDragLayer().getContext());
+        } else if (null != previous) {
+            m_drag_node.getLayer().batch(m_drag_node, previous.getBoundingBox());
         } else {
             m_drag_node.getLayer().batch();
         }
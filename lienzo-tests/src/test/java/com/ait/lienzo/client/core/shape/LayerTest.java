@@ -0,0 +1,360 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ait.lienzo.client.core.Context2D;
+import com.ait.lienzo.client.core.shape.Layer.SelectionLayer;
+import com.ait.lienzo.client.core.shape.wires.WiresShape;
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.client.core.types.ImageDataPixelColor;
+import com.ait.lienzo.client.core.types.Point2D;
+import com.ait.lienzo.client.core.types.Transform;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class LayerTest {
+
+    @Mock
+    private Context2D context;
+
+    @Mock
+    private Viewport viewport;
+
+    private Layer layer;
+
+    @Before
+    public void setup() {
+        layer = spy(new Layer());
+        layer.setListening(false);
+        doReturn(context).when(layer).getContext();
+        doNothing().when(layer).clear();
+        // Keep the batches from being scheduled, the tests draw them.
+        doReturn(true).when(layer).isBatchScheduled();
+        when(viewport.getWidth()).thenReturn(800);
+        when(viewport.getHeight()).thenReturn(600);
+    }
+
+    @Test
+    public void testDrawBatchRedrawsDirtyRegions() {
+        layer.batch(BoundingBox.fromDoubles(10, 10, 20, 20));
+        layer.batch(BoundingBox.fromDoubles(100, 50, 150, 60));
+        layer.drawBatch();
+
+        verify(layer, never()).clear();
+        // Padded and pixel aligned.
+        verify(context, times(2)).rect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(context).rect(8, 8, 14, 14);
+        verify(context).rect(98, 48, 54, 14);
+        verify(context).clearRect(8, 8, 14, 14);
+        verify(context).clearRect(98, 48, 54, 14);
+        verify(context).clip();
+    }
+
+    @Test
+    public void testDrawBatchCollapsesExtraDirtyRegions() {
+        for (int i = 0; i < 20; i++) {
+            layer.batch(BoundingBox.fromDoubles(i * 10, 0, (i * 10) + 5, 5));
+        }
+        layer.drawBatch();
+
+        verify(layer, never()).clear();
+        verify(context, times(16)).rect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(context).rect(-2, -2, 9, 9);
+        // The last region grows to contain the regions beyond the maximum.
+        verify(context).rect(148, -2, 49, 9);
+    }
+
+    @Test
+    public void testDrawBatchWithFullBatch() {
+        layer.batch(BoundingBox.fromDoubles(10, 10, 20, 20));
+        layer.batch();
+        layer.drawBatch();
+
+        verify(layer).clear();
+        verify(context, never()).rect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(context, never()).clip();
+    }
+
+    @Test
+    public void testDrawBatchWithInvalidRegion() {
+        layer.batch(new BoundingBox());
+        layer.drawBatch();
+
+        verify(layer).clear();
+        verify(context, never()).rect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    public void testDrawBatchWithoutClearingLayer() {
+        layer.setClearLayerBeforeDraw(false);
+        layer.batch(BoundingBox.fromDoubles(10, 10, 20, 20));
+        layer.drawBatch();
+
+        verify(context, never()).rect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(context, never()).clip();
+    }
+
+    @Test
+    public void testDrawBatchResetsDirtyRegions() {
+        layer.batch(BoundingBox.fromDoubles(10, 10, 20, 20));
+        layer.drawBatch();
+        verify(layer, never()).clear();
+
+        layer.drawBatch();
+        verify(layer).clear();
+        verify(context, times(1)).rect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    public void testDrawIgnoresDirtyRegions() {
+        layer.batch(BoundingBox.fromDoubles(10, 10, 20, 20));
+        layer.draw();
+
+        verify(layer).clear();
+        verify(context, never()).rect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    public void testBatchShape() {
+        final Rectangle rectangle = new Rectangle(10, 10).setX(50).setY(50).setStrokeWidth(2);
+        layer.add(rectangle);
+        final BoundingBox previous = rectangle.getComputedBoundingPoints().getBoundingBox();
+        rectangle.setX(100);
+        layer.batch(rectangle, previous);
+        layer.drawBatch();
+
+        verify(layer, never()).clear();
+        verify(context, times(2)).clearRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        // Padded by the stroke width, then as any other region.
+        verify(context).clearRect(46, 46, 18, 18);
+        verify(context).clearRect(96, 46, 18, 18);
+    }
+
+    @Test
+    public void testBatchEmptyGroup() {
+        final Group group = new Group();
+        layer.add(group);
+        layer.batch(group, BoundingBox.fromDoubles(10, 10, 20, 20));
+        layer.drawBatch();
+
+        // An empty group has no bounds, so the whole layer gets redrawn.
+        verify(layer).clear();
+        verify(context, never()).rect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    public void testBatchWiresShapeDrag() {
+        final MultiPath path = new MultiPath().rect(0, 0, 100, 50);
+        path.setStrokeWidth(4);
+        final WiresShape shape = new WiresShape(path);
+        final Group group = shape.getGroup();
+        group.setX(50).setY(50);
+        layer.add(group);
+        final BoundingBox previous = group.getComputedBoundingPoints().getBoundingBox();
+        // As dragging the group does.
+        group.setX(300);
+        final BoundingBox current = group.getComputedBoundingPoints().getBoundingBox();
+        layer.batch(group, previous);
+        layer.drawBatch();
+
+        verify(layer, never()).clear();
+        verify(context, times(2)).clearRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        // Padded by the stroke width of the path, then as any other region.
+        verifyClearRect(previous, 4 + 2);
+        verifyClearRect(current, 4 + 2);
+    }
+
+    @Test
+    public void testGetVisibleBounds() {
+        assertBounds(0, 0, 800, 600, Layer.getVisibleBounds(viewport, null));
+        assertBounds(0, 0, 800, 600, Layer.getVisibleBounds(viewport, new Transform()));
+    }
+
+    @Test
+    public void testGetVisibleBoundsTranslated() {
+        assertBounds(-100, 50, 700, 650, Layer.getVisibleBounds(viewport, new Transform().translate(100, -50)));
+    }
+
+    @Test
+    public void testGetVisibleBoundsScaled() {
+        assertBounds(0, 0, 400, 300, Layer.getVisibleBounds(viewport, new Transform().scale(2)));
+        assertBounds(-50, -25, 350, 275, Layer.getVisibleBounds(viewport, new Transform().scale(2).translate(50, 25)));
+    }
+
+    @Test
+    public void testGetVisibleBoundsRotated() {
+        // The corners of the rotated viewport, the bounds contain all of them.
+        assertBounds(0, -800, 600, 0, Layer.getVisibleBounds(viewport, new Transform().rotate(Math.PI / 2)));
+    }
+
+    @Test
+    public void testGetVisibleBoundsNotInvertible() {
+        assertNull(Layer.getVisibleBounds(viewport, new Transform().scaleWithXY(0, 1)));
+    }
+
+    private void verifyClearRect(final BoundingBox bbox, final double padding) {
+        final double x = Math.floor(bbox.getMinX() - padding);
+        final double y = Math.floor(bbox.getMinY() - padding);
+        verify(context).clearRect(x, y, Math.ceil(bbox.getMaxX() + padding) - x, Math.ceil(bbox.getMaxY() + padding) - y);
+    }
+
+    private static void assertBounds(final double minX, final double minY, final double maxX, final double maxY, final BoundingBox bounds) {
+        assertEquals(minX, bounds.getMinX(), 0.0001);
+        assertEquals(minY, bounds.getMinY(), 0.0001);
+        assertEquals(maxX, bounds.getMaxX(), 0.0001);
+        assertEquals(maxY, bounds.getMaxY(), 0.0001);
+    }
+
+    @Test
+    public void testFindShapeAtPointLazyAndEager() {
+        assertFindShapeAtPoint(new Transform());
+    }
+
+    @Test
+    public void testFindShapeAtPointLazyAndEagerTransformed() {
+        assertFindShapeAtPoint(new Transform().translate(-35, 20).scale(1.5));
+    }
+
+    @Test
+    public void testFindShapeAtPointLazyDoesNotDrawSelection() {
+        final SelectionFixture fixture = new SelectionFixture(true, new Transform(), 55, 55);
+        fixture.layer.draw();
+
+        verify(fixture.selection, never()).clear();
+        assertEquals(0, fixture.selectionDraws);
+        assertEquals(fixture.rectangles.get(1), fixture.layer.findShapeAtPoint(55, 55));
+        // Only the shapes around the point are drawn.
+        assertEquals(2, fixture.selectionDraws);
+    }
+
+    private static void assertFindShapeAtPoint(final Transform transform) {
+        for (int x = 0; x < 300; x += 7) {
+            for (int y = 0; y < 200; y += 7) {
+                assertEquals("Shape at [" + x + ", " + y + "]", findShapeAtPoint(false, transform, x, y), findShapeAtPoint(true, transform, x, y));
+            }
+        }
+        // Overlapping shapes, the top one is found.
+        final Point2D point = new Point2D(55, 55);
+        transform.transform(point, point);
+        assertEquals(1, findShapeAtPoint(true, transform, (int) point.getX(), (int) point.getY()));
+    }
+
+    /**
+     * Returns the index of the shape found at the given point, or -1 if none.
+     */
+    private static int findShapeAtPoint(final boolean lazy, final Transform transform, final int x, final int y) {
+        final SelectionFixture fixture = new SelectionFixture(lazy, transform, x, y);
+        fixture.layer.draw();
+        return fixture.rectangles.indexOf(fixture.layer.findShapeAtPoint(x, y));
+    }
+
+    /**
+     * A layer of overlapping rectangles, whose selection layer only keeps track of the topmost shape drawn at a
+     * given canvas point, by its bounding box.
+     */
+    private static class SelectionFixture {
+
+        private final Layer layer = spy(new Layer());
+
+        private final SelectionLayer selection = mock(SelectionLayer.class);
+
+        private final Context2D selectionContext = mock(Context2D.class);
+
+        private final List<Shape<?>> rectangles = new ArrayList<>();
+
+        private Shape<?> top = null;
+
+        private int selectionDraws = 0;
+
+        @SuppressWarnings("unchecked")
+        private SelectionFixture(final boolean lazy, final Transform transform, final int x, final int y) {
+            final Viewport viewport = mock(Viewport.class);
+            when(viewport.getTransform()).thenReturn(transform);
+            doReturn(viewport).when(layer).getViewport();
+            doReturn(mock(Context2D.class)).when(layer).getContext();
+            doNothing().when(layer).clear();
+            doReturn(selection).when(layer).getSelectionLayer();
+            when(selection.getContext()).thenReturn(selectionContext);
+            when(selectionContext.isSelection()).thenReturn(true);
+            doAnswer(invocation -> top = null).when(selection).clear();
+            doAnswer(invocation -> {
+                final double cx = invocation.getArgument(0);
+                final double cy = invocation.getArgument(1);
+                final double cw = invocation.getArgument(2);
+                final double ch = invocation.getArgument(3);
+                if ((x >= cx) && (y >= cy) && (x < cx + cw) && (y < cy + ch)) {
+                    top = null;
+                }
+                return null;
+            }).when(selectionContext).clearRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+            when(selectionContext.getImageDataPixelColor(anyInt(), anyInt())).thenAnswer(invocation -> {
+                final ImageDataPixelColor rgba = mock(ImageDataPixelColor.class);
+                when(rgba.getA()).thenReturn((null != top) ? 255 : 0);
+                when(rgba.toBrowserRGB()).thenReturn((null != top) ? top.getColorKey() : null);
+                return rgba;
+            });
+            layer.setLazySelectionLayer(lazy);
+
+            addRectangle(20, 20, 60, 60, transform, x, y);
+            addRectangle(50, 50, 60, 40, transform, x, y);
+            addRectangle(150, 30, 80, 120, transform, x, y);
+            addRectangle(160, 100, 20, 20, transform, x, y);
+        }
+
+        private void addRectangle(final double rx, final double ry, final double width, final double height, final Transform transform, final int x, final int y) {
+            final Rectangle rectangle = spy(new Rectangle(width, height).setX(rx).setY(ry));
+            doAnswer(invocation -> {
+                if (((Context2D) invocation.getArgument(0)).isSelection()) {
+                    selectionDraws++;
+                    final BoundingBox bbox = rectangle.getBoundingPoints().getBoundingBox();
+                    final Point2D min = new Point2D(bbox.getMinX(), bbox.getMinY());
+                    final Point2D max = new Point2D(bbox.getMaxX(), bbox.getMaxY());
+                    transform.transform(min, min);
+                    transform.transform(max, max);
+                    if ((x >= min.getX()) && (y >= min.getY()) && (x < max.getX()) && (y < max.getY())) {
+                        top = rectangle;
+                    }
+                }
+                return null;
+            }).when(rectangle).drawWithTransforms(any(Context2D.class), anyDouble(), any());
+            layer.add(rectangle);
+            rectangles.add(rectangle);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2021 Ahome' Innovation Technologies. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.ait.lienzo.client.core.shape.IPrimitive;
+import com.ait.lienzo.client.core.shape.Layer;
+import com.ait.lienzo.client.core.shape.Rectangle;
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class PrimitiveQuadTreeStorageEngineTest {
+
+    private static final int SIZE = 300;
+
+    private PrimitiveQuadTreeStorageEngine storage;
+
+    private Layer layer;
+
+    private List<Rectangle> rectangles;
+
+    private Random random;
+
+    @Before
+    public void setUp() {
+        storage = new PrimitiveQuadTreeStorageEngine();
+        // The layer sets itself as the parent of the rectangles, so location changes get reported to the storage.
+        layer = new Layer(storage);
+        random = new Random(7);
+        rectangles = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            final Rectangle rectangle = new Rectangle(1 + random.nextInt(200), 1 + random.nextInt(200));
+            rectangle.setX(random.nextInt(8000) - 4000).setY(random.nextInt(8000) - 4000);
+            layer.add(rectangle);
+            rectangles.add(rectangle);
+        }
+    }
+
+    @Test
+    public void testAdd() {
+        assertEquals(SIZE, storage.size());
+        assertTrue(storage.isSpatiallyIndexed());
+        assertTrue(storage.contains(rectangles.get(0)));
+        assertQueries();
+    }
+
+    @Test
+    public void testAddTwice() {
+        storage.add(rectangles.get(0));
+        assertEquals(SIZE, storage.size());
+        assertQueries();
+    }
+
+    @Test
+    public void testMove() {
+        for (int i = 0; i < SIZE; i += 2) {
+            rectangles.get(i).setX(random.nextInt(12000) - 6000);
+        }
+        for (int i = 0; i < SIZE; i += 3) {
+            rectangles.get(i).setY(random.nextInt(12000) - 6000);
+        }
+        assertQueries();
+    }
+
+    @Test
+    public void testResize() {
+        for (int i = 0; i < SIZE; i += 2) {
+            final Rectangle rectangle = rectangles.get(i);
+            rectangle.setWidth(1 + random.nextInt(2000)).setHeight(1 + random.nextInt(2000));
+            // Resizes are not reported by the shapes.
+            storage.refresh(rectangle);
+        }
+        assertQueries();
+    }
+
+    @Test
+    public void testRefreshAll() {
+        for (int i = 0; i < SIZE; i += 2) {
+            rectangles.get(i).setWidth(1 + random.nextInt(2000));
+        }
+        storage.refresh();
+        assertQueries();
+    }
+
+    @Test
+    public void testRemove() {
+        for (int i = 0; i < SIZE; i += 2) {
+            final Rectangle rectangle = rectangles.get(i);
+            layer.remove(rectangle);
+            assertFalse(storage.contains(rectangle));
+        }
+        assertEquals(SIZE / 2, storage.size());
+        assertQueries();
+    }
+
+    @Test
+    public void testMoveAndRemove() {
+        final Rectangle rectangle = rectangles.get(0);
+        rectangle.setX(10000);
+        layer.remove(rectangle);
+        assertQueries();
+        assertTrue(storage.getChildren(BoundingBox.fromDoubles(9000, -5000, 11000, 5000)).isEmpty());
+    }
+
+    @Test
+    public void testReorder() {
+        for (int i = 0; i < SIZE; i += 5) {
+            layer.getStorageEngine().moveToTop(rectangles.get(i));
+            layer.getStorageEngine().moveDown(rectangles.get(i + 1));
+            layer.getStorageEngine().moveToBottom(rectangles.get(i + 2));
+        }
+        assertQueries();
+    }
+
+    @Test
+    public void testClear() {
+        storage.clear();
+        assertTrue(storage.isEmpty());
+        assertTrue(storage.getChildren(BoundingBox.fromDoubles(-10000, -10000, 10000, 10000)).isEmpty());
+    }
+
+    @Test
+    public void testGetChildrenWithoutBounds() {
+        assertSame(storage.getChildren(), storage.getChildren(null));
+        assertSame(storage.getChildren(), storage.getChildren(new BoundingBox()));
+    }
+
+    private void assertQueries() {
+        for (int k = 0; k < 200; k++) {
+            final double x = random.nextInt(14000) - 7000;
+            final double y = random.nextInt(14000) - 7000;
+            final BoundingBox bounds = BoundingBox.fromDoubles(x, y, x + random.nextInt(3000), y + random.nextInt(3000));
+            assertEquals(findByBounds(bounds), toList(storage.getChildren(bounds)));
+        }
+    }
+
+    /**
+     * The brute force oracle: all the primitives intersecting the bounds, in drawing order.
+     */
+    private List<IPrimitive<?>> findByBounds(final BoundingBox bounds) {
+        final List<IPrimitive<?>> found = new ArrayList<>();
+        final NFastArrayList<IPrimitive<?>> list = storage.getChildren();
+        for (int i = 0; i < list.size(); i++) {
+            final IPrimitive<?> primitive = list.get(i);
+            final BoundingBox bbox = primitive.getBoundingPoints().getBoundingBox();
+            if ((bounds.getMinX() <= bbox.getMaxX()) && (bounds.getMaxX() >= bbox.getMinX())
+                    && (bounds.getMinY() <= bbox.getMaxY()) && (bounds.getMaxY() >= bbox.getMinY())) {
+                found.add(primitive);
+            }
+        }
+        return found;
+    }
+
+    private static List<IPrimitive<?>> toList(final NFastArrayList<IPrimitive<?>> list) {
+        final List<IPrimitive<?>> result = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            result.add(list.get(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Ahome' Innovation Technologies. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.storage;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class QuadTreeTest {
+
+    private static final int SIZE = 2000;
+
+    private QuadTree<Integer> tree;
+
+    private double[][] rects;
+
+    private Random random;
+
+    @Before
+    public void setUp() {
+        tree = new QuadTree<>();
+        random = new Random(11);
+        rects = new double[SIZE][];
+        for (int i = 0; i < SIZE; i++) {
+            final double x = random.nextInt(20000) - 10000;
+            final double y = random.nextInt(20000) - 10000;
+            rects[i] = new double[]{x, y, x + random.nextInt(300), y + random.nextInt(300)};
+            tree.insert(i, rects[i][0], rects[i][1], rects[i][2], rects[i][3]);
+        }
+    }
+
+    @Test
+    public void testQuery() {
+        assertEquals(SIZE, tree.size());
+        assertQueries();
+    }
+
+    @Test
+    public void testReinsert() {
+        for (int i = 0; i < SIZE; i += 3) {
+            final double x = random.nextInt(40000) - 20000;
+            final double y = random.nextInt(2000);
+            rects[i] = new double[]{x, y, x + 50, y};
+            tree.insert(i, x, y, x + 50, y);
+        }
+        assertEquals(SIZE, tree.size());
+        assertQueries();
+    }
+
+    @Test
+    public void testRemove() {
+        for (int i = 0; i < SIZE; i += 2) {
+            assertTrue(tree.remove(i));
+            rects[i] = null;
+        }
+        assertFalse(tree.remove(0));
+        assertFalse(tree.contains(0));
+        assertTrue(tree.contains(1));
+        assertEquals(SIZE / 2, tree.size());
+        assertQueries();
+    }
+
+    @Test
+    public void testClear() {
+        tree.clear();
+        assertTrue(tree.isEmpty());
+        final Set<Integer> found = new HashSet<>();
+        tree.query(-20000, -20000, 20000, 20000, found::add);
+        assertTrue(found.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInfiniteBounds() {
+        tree.insert(-1, 0, 0, Double.POSITIVE_INFINITY, 10);
+    }
+
+    private void assertQueries() {
+        for (int k = 0; k < 500; k++) {
+            final double x = random.nextInt(44000) - 22000;
+            final double y = random.nextInt(24000) - 12000;
+            final double w = random.nextInt(3000);
+            final double h = random.nextInt(3000);
+            final Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < SIZE; i++) {
+                final double[] r = rects[i];
+                if ((null != r) && (x <= r[2]) && (x + w >= r[0]) && (y <= r[3]) && (y + h >= r[1])) {
+                    expected.add(i);
+                }
+            }
+            final Set<Integer> actual = new HashSet<>();
+            tree.query(x, y, x + w, y + h, actual::add);
+            assertEquals(expected, actual);
+        }
+    }
+}
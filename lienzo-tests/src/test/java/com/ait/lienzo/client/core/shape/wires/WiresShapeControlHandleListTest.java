@@ -357,6 +357,7 @@ public class WiresShapeControlHandleListTest {
         tested.refresh();
         verify(magnetsControl).shapeChanged();
         verify(tested).resize(10.0, 12.0, true);
+        verify(shape).refreshBounds();
     }
 
     private void setCPLocations(final double x0, final double y0, final double x1, final double y1, final double x2, final double y2, final double x3, final double y3) {
@@ -23,8 +23,10 @@ import com.ait.lienzo.client.core.event.NodeMouseDownHandler;
 import com.ait.lienzo.client.core.event.NodeMouseUpHandler;
 import com.ait.lienzo.client.core.shape.Group;
 import com.ait.lienzo.client.core.shape.IPrimitive;
+import com.ait.lienzo.client.core.shape.Layer;
 import com.ait.lienzo.client.core.shape.MultiPath;
 import com.ait.lienzo.client.core.shape.Rectangle;
+import com.ait.lienzo.client.core.shape.storage.IStorageEngine;
 import com.ait.lienzo.client.core.shape.wires.event.WiresResizeEndEvent;
 import com.ait.lienzo.client.core.shape.wires.event.WiresResizeEndHandler;
 import com.ait.lienzo.client.core.shape.wires.event.WiresResizeStartEvent;
@@ -121,6 +123,31 @@ public class WiresShapeTest {
         verify(group).setEventPropagationMode(FIRST_ANCESTOR);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSetLocationRefreshesStorage() {
+        final IStorageEngine<IPrimitive<?>> storage = mock(IStorageEngine.class);
+        when(storage.isSpatiallyIndexed()).thenReturn(true);
+        final Layer layer = new Layer(storage);
+        layer.add(group);
+        tested.setLocation(new Point2D(500, 500));
+        verify(storage, times(2)).refresh(group);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSetLocationRefreshesTopLevelStorage() {
+        final IStorageEngine<IPrimitive<?>> storage = mock(IStorageEngine.class);
+        when(storage.isSpatiallyIndexed()).thenReturn(true);
+        final Layer layer = new Layer(storage);
+        final Group parentGroup = new Group();
+        layer.add(parentGroup);
+        parentGroup.add(group);
+        tested.setLocation(new Point2D(500, 500));
+        verify(storage).refresh(parentGroup);
+        verify(storage, never()).refresh(group);
+    }
+
     @Test
     public void testSetDraggable() {
         tested.setDraggable(false);
@@ -3,6 +3,7 @@ package org.kie.lienzo.client.util;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import com.ait.lienzo.client.core.animation.LayerRedrawManager;
 import elemental2.core.JsArray;
 import elemental2.dom.DomGlobal;
 import elemental2.dom.HTMLDivElement;
@@ -19,7 +20,7 @@ public class FPSCounter {
     private boolean enabled;
 
     private static final BiConsumer<HTMLDivElement, Integer> TEXT_DISPLAYER =
-            (text, fps) -> text.textContent = "FPS [ " + fps + " ]";
+            (text, fps) -> text.textContent = "FPS [ " + fps + " ] - Draw [ " + formatFrameTime() + " ms/frame ]";
 
     public static FPSCounter toElement(Consumer<HTMLElement> textElement) {
         HTMLDivElement text = BaseExample.createText("");
@@ -30,7 +31,11 @@ public class FPSCounter {
     }
 
     public static FPSCounter toConsole(Console console) {
-        return new FPSCounter(fps -> console.log("FPS = " + fps));
+        return new FPSCounter(fps -> console.log("FPS = " + fps + ", Draw = " + formatFrameTime() + " ms/frame"));
+    }
+
+    private static String formatFrameTime() {
+        return String.valueOf(Math.round(LayerRedrawManager.get().getAverageFrameTime() * 100) / 100d);
     }
 
     public FPSCounter(Consumer<Integer> fps) {
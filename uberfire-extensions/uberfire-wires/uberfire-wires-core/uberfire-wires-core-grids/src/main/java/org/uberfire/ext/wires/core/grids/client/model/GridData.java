@@ -135,6 +135,33 @@ public interface GridData {
      */
     int getRowCount();
 
+    /**
+     * Returns the y-offset of the row at the specified index, relative to the first row.
+     * @param rowIndex The index of the row. The row count returns the height of all rows.
+     * @return
+     */
+    double getRowOffset(final int rowIndex);
+
+    /**
+     * Returns the heights of all rows, indexed by row. The returned array must not be modified.
+     * @return
+     */
+    double[] getRowHeights();
+
+    /**
+     * Returns the index of the specified row, as {@link List#indexOf(Object)} on {@link #getRows()} would.
+     * @param row
+     * @return The index of the row or -1 if the row is not in the grid.
+     */
+    int indexOfRow(final GridRow row);
+
+    /**
+     * Returns the index of the first row whose bottom edge is at or below the specified y-offset, relative to the first row.
+     * @param offset
+     * @return The index of the row; the last row if the offset is below all rows or -1 if there are no rows.
+     */
+    int getRowIndex(final double offset);
+
     /**
      * Returns the number of rows in the grid's header.
      * @return The number of rows in the header; greater than zero.
@@ -41,6 +41,16 @@ public interface GridRow {
      */
     double peekHeight();
 
+    /**
+     * Returns whether the height of the row only changes through {@link #setHeight(double)}, {@link #expand()} or
+     * {@link #reset()}; in which case it can be cached by the grid to calculate row offsets. Rows whose height is
+     * derived from their content should not be cached.
+     * @return true if the height can be cached.
+     */
+    default boolean isHeightCacheable() {
+        return false;
+    }
+
     /**
      * Returns the cells within the row. This is an sparse map of column index to value.
      * Empty cells do not have an entry within the map. Empty cells should be considered
@@ -23,7 +23,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
-import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
@@ -51,6 +50,7 @@ public class BaseGridData implements GridData {
 
     protected BaseGridDataIndexManager indexManager = new BaseGridDataIndexManager(this);
     protected BaseGridDataSelectionsManager selectionsManager = new BaseGridDataSelectionsManager(this);
+    protected BaseGridDataRowOffsetsManager rowOffsetsManager = new BaseGridDataRowOffsetsManager(this);
     private int visibleWidth;
     private int visibleHeight;
     private int previousVisibleWidth;
@@ -123,20 +123,12 @@ public class BaseGridData implements GridData {
 
         //Destroy column related cell
         for (GridRow row : rows) {
-            ((BaseGridRow) row).deleteCell(index);
-            //Shift all cells according to the removed one
-            final Map<Integer, GridCell<?>> clone = new TreeMap<>(row.getCells());
-            for (Map.Entry<Integer, GridCell<?>> e : clone.entrySet()) {
-                if (e.getKey() > index) {
-                    ((BaseGridRow) row).deleteCell(e.getKey());
-                    ((BaseGridRow) row).setCell(e.getKey() - 1,
-                                                e.getValue());
-                }
-            }
+            ((BaseGridRow) row).deleteColumn(index);
         }
 
         internalRefreshWidth(true, OptionalDouble.empty());
 
+        indexManager.onDeleteColumn(index);
         selectionsManager.onDeleteColumn(index);
     }
 
@@ -198,6 +190,8 @@ public class BaseGridData implements GridData {
     @Override
     public void appendRow(final GridRow row) {
         this.rows.add(row);
+
+        rowOffsetsManager.onRowsChanged();
     }
 
     @Override
@@ -208,6 +202,7 @@ public class BaseGridData implements GridData {
 
         indexManager.onInsertRow(rowIndex);
         selectionsManager.onInsertRow(rowIndex);
+        rowOffsetsManager.onRowsChanged();
     }
 
     @Override
@@ -231,11 +226,12 @@ public class BaseGridData implements GridData {
                                       maxRowIndex);
 
         for (int _rowIndex = minRowIndex; _rowIndex <= maxRowIndex; _rowIndex++) {
-            rows.remove(minRowIndex);
+            rowOffsetsManager.onRowDeleted(rows.remove(minRowIndex));
         }
 
         indexManager.onDeleteRow(range);
         selectionsManager.onDeleteRow(range);
+        rowOffsetsManager.onRowsChanged();
 
         return range;
     }
@@ -281,6 +277,7 @@ public class BaseGridData implements GridData {
                                 oldBlockExtent);
         selectionsManager.onMoveRows(rows,
                                      oldBlockExtent);
+        rowOffsetsManager.onRowsChanged();
     }
 
     @Override
@@ -288,6 +285,26 @@ public class BaseGridData implements GridData {
         return rows.size();
     }
 
+    @Override
+    public double getRowOffset(final int rowIndex) {
+        return rowOffsetsManager.getRowOffset(rowIndex);
+    }
+
+    @Override
+    public double[] getRowHeights() {
+        return rowOffsetsManager.getRowHeights();
+    }
+
+    @Override
+    public int indexOfRow(final GridRow row) {
+        return rowOffsetsManager.indexOfRow(row);
+    }
+
+    @Override
+    public int getRowIndex(final double offset) {
+        return rowOffsetsManager.getRowIndex(offset);
+    }
+
     @Override
     public int getHeaderRowCount() {
         int headerRowCount = this.headerRowCount;
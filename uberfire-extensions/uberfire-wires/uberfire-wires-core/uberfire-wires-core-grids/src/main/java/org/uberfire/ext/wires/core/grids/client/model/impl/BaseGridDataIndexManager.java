@@ -16,7 +16,9 @@
 
 package org.uberfire.ext.wires.core.grids.client.model.impl;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.uberfire.ext.wires.core.grids.client.model.GridCell;
 import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
@@ -24,12 +26,18 @@ import org.uberfire.ext.wires.core.grids.client.model.GridData;
 import org.uberfire.ext.wires.core.grids.client.model.GridRow;
 
 /**
- * Helper class that manages "merge" and "group" meta-data following different mutations to {@link GridData}
+ * Helper class that manages "merge" and "group" meta-data following different mutations to {@link GridData}.
+ * Whilst no rows are collapsed the merged blocks of each column are also held in a {@link MergedCellRuns} index so
+ * that setting cells and inserting, deleting or moving rows only re-index the blocks adjacent to the change.
  */
 public class BaseGridDataIndexManager {
 
     private final GridData gridData;
 
+    //Merged blocks keyed by column index. Columns without an entry have no merged blocks.
+    private Map<Integer, MergedCellRuns> columnRuns = new HashMap<>();
+    private boolean hasCollapsedRows = false;
+
     public BaseGridDataIndexManager(final GridData gridData) {
         this.gridData = gridData;
     }
@@ -45,13 +53,34 @@ public class BaseGridDataIndexManager {
     //Update all merge meta-data
     private void fullIndex() {
         final List<GridColumn<?>> columns = gridData.getColumns();
+        columnRuns = new HashMap<>();
         for (int columnIndex = 0; columnIndex < columns.size(); columnIndex++) {
-            indexColumn(columnIndex);
+            columnRuns.put(columns.get(columnIndex).getIndex(),
+                           indexColumnRuns(columnIndex));
+        }
+        for (GridRow row : gridData.getRows()) {
+            updateRowMergedCells(row);
         }
+        hasCollapsedRows = false;
     }
 
     //Update merge meta-data for a single column
     public void indexColumn(final int columnIndex) {
+        final MergedCellRuns runs = indexColumnRuns(columnIndex);
+        for (int run = 0; run < runs.size(); run++) {
+            for (int rowIndex = runs.getStart(run); rowIndex < runs.getEnd(run); rowIndex++) {
+                updateRowMergedCells(gridData.getRow(rowIndex));
+            }
+        }
+        if (columnIndex < gridData.getColumnCount()) {
+            columnRuns.put(gridData.getColumns().get(columnIndex).getIndex(),
+                           runs);
+        }
+    }
+
+    //Update the merged cell counts of a single column, without updating the rows, returning its merged blocks
+    private MergedCellRuns indexColumnRuns(final int columnIndex) {
+        final MergedCellRuns runs = new MergedCellRuns();
         final List<GridRow> rows = gridData.getRows();
         for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
             final GridCell<?> currentRowCell = gridData.getCell(rowIndex,
@@ -77,23 +106,19 @@ public class BaseGridDataIndexManager {
 
             //Update merge meta-data
             if (maxRowIndex - rowIndex > 1) {
-                for (int i = rowIndex; i < maxRowIndex; i++) {
-                    final GridRow row = rows.get(i);
+                for (int i = rowIndex + 1; i < maxRowIndex; i++) {
                     final GridCell<?> cell = gridData.getCell(i,
                                                               columnIndex);
                     ((BaseGridCell) cell).setMergedCellCount(0);
-                    updateRowMergedCells(row);
                 }
-
-                final GridRow row = rows.get(rowIndex);
-                final GridCell<?> cell = gridData.getCell(rowIndex,
-                                                          columnIndex);
-                ((BaseGridCell) cell).setMergedCellCount(maxRowIndex - rowIndex);
-                updateRowMergedCells(row);
+                ((BaseGridCell) currentRowCell).setMergedCellCount(maxRowIndex - rowIndex);
+                runs.add(rowIndex,
+                         maxRowIndex);
 
                 rowIndex = maxRowIndex - 1;
             }
         }
+        return runs;
     }
 
     //Clear all merge meta-data
@@ -102,6 +127,22 @@ public class BaseGridDataIndexManager {
         for (GridRow row : rows) {
             row.reset();
         }
+        columnRuns = new HashMap<>();
+        hasCollapsedRows = false;
+    }
+
+    public void onDeleteColumn(final int columnIndex) {
+        final Map<Integer, MergedCellRuns> shiftedColumnRuns = new HashMap<>();
+        for (Map.Entry<Integer, MergedCellRuns> e : columnRuns.entrySet()) {
+            if (e.getKey() < columnIndex) {
+                shiftedColumnRuns.put(e.getKey(),
+                                      e.getValue());
+            } else if (e.getKey() > columnIndex) {
+                shiftedColumnRuns.put(e.getKey() - 1,
+                                      e.getValue());
+            }
+        }
+        columnRuns = shiftedColumnRuns;
     }
 
     public void onInsertRow(final int rowIndex) {
@@ -109,6 +150,17 @@ public class BaseGridDataIndexManager {
             return;
         }
         final List<GridColumn<?>> columns = gridData.getColumns();
+        if (!hasCollapsedRows) {
+            for (GridColumn<?> column : columns) {
+                final int _columnIndex = column.getIndex();
+                getMergedCellRuns(_columnIndex).onInsertRows(rowIndex,
+                                                             1);
+                updateMergeMetaDataIncrementally(rowIndex,
+                                                 rowIndex,
+                                                 _columnIndex);
+            }
+            return;
+        }
         for (int columnIndex = 0; columnIndex < columns.size(); columnIndex++) {
             final GridColumn<?> column = columns.get(columnIndex);
             final int _columnIndex = column.getIndex();
@@ -130,6 +182,17 @@ public class BaseGridDataIndexManager {
         final int minRowIndex = range.getMinRowIndex();
         final int maxRowIndex = range.getMaxRowIndex();
         final List<GridColumn<?>> columns = gridData.getColumns();
+        if (!hasCollapsedRows) {
+            for (GridColumn<?> column : columns) {
+                final int _columnIndex = column.getIndex();
+                getMergedCellRuns(_columnIndex).onDeleteRows(minRowIndex,
+                                                             maxRowIndex - minRowIndex + 1);
+                updateMergeMetaDataIncrementally(minRowIndex,
+                                                 minRowIndex - 1,
+                                                 _columnIndex);
+            }
+            return;
+        }
         for (int _rowIndex = minRowIndex; _rowIndex <= maxRowIndex; _rowIndex++) {
             for (int columnIndex = 0; columnIndex < columns.size(); columnIndex++) {
                 final GridColumn<?> column = columns.get(columnIndex);
@@ -181,6 +244,12 @@ public class BaseGridDataIndexManager {
     public void onSetCell(final GridData.Range range,
                           final int columnIndex) {
         final int minRowIndex = range.getMinRowIndex();
+        if (!hasCollapsedRows) {
+            updateMergeMetaDataIncrementally(minRowIndex,
+                                             range.getMaxRowIndex(),
+                                             columnIndex);
+            return;
+        }
         updateMergeMetaData(minRowIndex,
                             columnIndex);
     }
@@ -189,6 +258,12 @@ public class BaseGridDataIndexManager {
                              final int columnIndex) {
         final int minRowIndex = range.getMinRowIndex();
         final int maxRowIndex = range.getMaxRowIndex();
+        if (!hasCollapsedRows) {
+            updateMergeMetaDataIncrementally(minRowIndex,
+                                             maxRowIndex,
+                                             columnIndex);
+            return;
+        }
         for (int i = minRowIndex; i <= maxRowIndex; i++) {
             final GridRow row = gridData.getRow(i);
             updateRowMergedCells(row);
@@ -251,6 +326,9 @@ public class BaseGridDataIndexManager {
                                                          maxRowIndex,
                                                          _columnIndex);
         }
+
+        //Collapsed blocks are split by the meta-data rather than by cell values, so are not indexed incrementally
+        hasCollapsedRows = true;
     }
 
     private void updateMergeMetaDataOnCollapseTopSplitRows(final int minRowIndex,
@@ -537,6 +615,18 @@ public class BaseGridDataIndexManager {
                                         maxRowIndex,
                                         _columnIndex);
         }
+
+        for (GridRow row : rows) {
+            if (row.isCollapsed()) {
+                return;
+            }
+        }
+        hasCollapsedRows = false;
+        columnRuns = new HashMap<>();
+        for (GridColumn<?> column : columns) {
+            columnRuns.put(column.getIndex(),
+                           readMergedCellRuns(column.getIndex()));
+        }
     }
 
     private void updateMergeMetaDataOnExpand(final int expandMinRowIndex,
@@ -595,6 +685,28 @@ public class BaseGridDataIndexManager {
         final int newBlockStart = rows.indexOf(rowsMoved.get(0));
         final int newBlockEnd = rows.indexOf(rowsMoved.get(rowsMoved.size() - 1));
 
+        if (!hasCollapsedRows) {
+            final int oldBlockStart = oldBlockExtent.getMinRowIndex();
+            final int blockSize = newBlockEnd - newBlockStart + 1;
+            final int oldBlockGap = oldBlockStart > newBlockStart ? oldBlockStart + blockSize : oldBlockStart;
+            for (GridColumn<?> column : columns) {
+                final int _columnIndex = column.getIndex();
+                final MergedCellRuns runs = getMergedCellRuns(_columnIndex);
+                runs.onDeleteRows(oldBlockStart,
+                                  blockSize);
+                runs.onInsertRows(newBlockStart,
+                                  blockSize);
+                //The moved rows are re-indexed first as the runs index treats them as part of any run they were moved into
+                updateMergeMetaDataIncrementally(newBlockStart,
+                                                 newBlockEnd,
+                                                 _columnIndex);
+                updateMergeMetaDataIncrementally(oldBlockGap,
+                                                 oldBlockGap - 1,
+                                                 _columnIndex);
+            }
+            return;
+        }
+
         boolean isCollapsedBlock = false;
         for (GridRow rowMoved : rowsMoved) {
             if (rowMoved.isCollapsed()) {
@@ -692,6 +804,187 @@ public class BaseGridDataIndexManager {
                             blockEnd + 1);
     }
 
+    //Update merge meta-data for a column following changes to the cells of rows minRowIndex to maxRowIndex, inclusive.
+    //An empty range (maxRowIndex < minRowIndex) re-indexes the blocks either side of rows deleted at minRowIndex.
+    //Other rows are visited a block at a time as each block of the runs index holds equal cells.
+    private void updateMergeMetaDataIncrementally(final int minRowIndex,
+                                                  final int maxRowIndex,
+                                                  final int columnIndex) {
+        final MergedCellRuns runs = getMergedCellRuns(columnIndex);
+        final int rowCount = gridData.getRowCount();
+
+        //Find the first row of the block preceding the changed rows and any equal blocks before it
+        int fromRow = Math.min(minRowIndex,
+                               rowCount);
+        if (fromRow > 0) {
+            fromRow = getBlockStart(runs,
+                                    fromRow - 1,
+                                    minRowIndex,
+                                    maxRowIndex);
+        }
+        while (fromRow > 0 && isMergeable(fromRow - 1,
+                                          fromRow,
+                                          columnIndex)) {
+            fromRow = getBlockStart(runs,
+                                    fromRow - 1,
+                                    minRowIndex,
+                                    maxRowIndex);
+        }
+
+        //Find the row following the block after the changed rows and any equal blocks after it
+        int toRow = Math.min(Math.max(minRowIndex,
+                                      maxRowIndex + 1),
+                             rowCount);
+        if (toRow < rowCount) {
+            toRow = getBlockEnd(runs,
+                                toRow,
+                                minRowIndex,
+                                maxRowIndex);
+        }
+        while (toRow > 0 && toRow < rowCount && isMergeable(toRow - 1,
+                                                            toRow,
+                                                            columnIndex)) {
+            toRow = getBlockEnd(runs,
+                                toRow,
+                                minRowIndex,
+                                maxRowIndex);
+        }
+
+        //Merge adjacent blocks with equal cells
+        final MergedCellRuns mergedRuns = new MergedCellRuns();
+        int runStart = fromRow;
+        for (int blockStart = fromRow; blockStart < toRow; blockStart = getBlockEnd(runs,
+                                                                                    blockStart,
+                                                                                    minRowIndex,
+                                                                                    maxRowIndex)) {
+            if (blockStart > runStart && !isMergeable(blockStart - 1,
+                                                      blockStart,
+                                                      columnIndex)) {
+                if (blockStart - runStart > 1) {
+                    mergedRuns.add(runStart,
+                                   blockStart);
+                }
+                runStart = blockStart;
+            }
+        }
+        if (toRow - runStart > 1) {
+            mergedRuns.add(runStart,
+                           toRow);
+        }
+
+        //Update merge meta-data. Rows within a block, other than its first, remain within the same merged block.
+        int run = 0;
+        for (int blockStart = fromRow; blockStart < toRow; blockStart = getBlockEnd(runs,
+                                                                                    blockStart,
+                                                                                    minRowIndex,
+                                                                                    maxRowIndex)) {
+            while (run < mergedRuns.size() && mergedRuns.getEnd(run) <= blockStart) {
+                run++;
+            }
+            int mergedCellCount = 1;
+            if (run < mergedRuns.size() && mergedRuns.getStart(run) <= blockStart) {
+                mergedCellCount = mergedRuns.getStart(run) == blockStart ? mergedRuns.getEnd(run) - blockStart : 0;
+            }
+            updateMergedCellCount(blockStart,
+                                  columnIndex,
+                                  mergedCellCount,
+                                  blockStart >= minRowIndex && blockStart <= maxRowIndex);
+        }
+
+        runs.replace(fromRow,
+                     toRow,
+                     mergedRuns);
+    }
+
+    //First row of the block containing a row. Changed rows are blocks of their own.
+    private int getBlockStart(final MergedCellRuns runs,
+                              final int rowIndex,
+                              final int minRowIndex,
+                              final int maxRowIndex) {
+        if (rowIndex >= minRowIndex && rowIndex <= maxRowIndex) {
+            return rowIndex;
+        }
+        final int run = runs.indexOf(rowIndex);
+        if (run < 0) {
+            return rowIndex;
+        }
+        final int start = runs.getStart(run);
+        return rowIndex > maxRowIndex && start <= maxRowIndex ? Math.max(minRowIndex, maxRowIndex + 1) : start;
+    }
+
+    //Row following the block starting at a row. Changed rows are blocks of their own.
+    private int getBlockEnd(final MergedCellRuns runs,
+                            final int rowIndex,
+                            final int minRowIndex,
+                            final int maxRowIndex) {
+        if (rowIndex >= minRowIndex && rowIndex <= maxRowIndex) {
+            return rowIndex + 1;
+        }
+        final int run = runs.indexOf(rowIndex);
+        if (run < 0) {
+            return rowIndex + 1;
+        }
+        final int end = Math.min(runs.getEnd(run),
+                                 gridData.getRowCount());
+        return rowIndex < minRowIndex && end > minRowIndex ? minRowIndex : end;
+    }
+
+    private boolean isMergeable(final int rowIndex,
+                                final int nextRowIndex,
+                                final int columnIndex) {
+        final GridCell<?> cell = gridData.getRow(rowIndex).getCells().get(columnIndex);
+        final GridCell<?> nextCell = gridData.getRow(nextRowIndex).getCells().get(columnIndex);
+        return cell != null && nextCell != null && nextCell.equals(cell);
+    }
+
+    private void updateMergedCellCount(final int rowIndex,
+                                       final int columnIndex,
+                                       final int mergedCellCount,
+                                       final boolean isCellChanged) {
+        final GridRow row = gridData.getRow(rowIndex);
+        final BaseGridCell cell = ((BaseGridCell) row.getCells().get(columnIndex));
+        final boolean wasMerged = cell != null && cell.isMerged();
+        if (cell != null) {
+            cell.setMergedCellCount(mergedCellCount);
+        }
+        final boolean isMerged = cell != null && cell.isMerged();
+        if (isMerged) {
+            ((BaseGridRow) row).setHasMergedCells(true);
+        } else if (row.isMerged() && (wasMerged || isCellChanged)) {
+            updateRowMergedCells(row);
+        }
+    }
+
+    private MergedCellRuns getMergedCellRuns(final int columnIndex) {
+        MergedCellRuns runs = columnRuns.get(columnIndex);
+        if (runs == null) {
+            runs = new MergedCellRuns();
+            columnRuns.put(columnIndex,
+                           runs);
+        }
+        return runs;
+    }
+
+    //Read the merged blocks of a column from its merge meta-data
+    private MergedCellRuns readMergedCellRuns(final int columnIndex) {
+        final MergedCellRuns runs = new MergedCellRuns();
+        final int rowCount = gridData.getRowCount();
+        int rowIndex = 0;
+        while (rowIndex < rowCount) {
+            final GridCell<?> cell = gridData.getRow(rowIndex).getCells().get(columnIndex);
+            final int mergedCellCount = cell == null ? 1 : cell.getMergedCellCount();
+            if (mergedCellCount > 1) {
+                runs.add(rowIndex,
+                         Math.min(rowIndex + mergedCellCount,
+                                  rowCount));
+                rowIndex = rowIndex + mergedCellCount;
+            } else {
+                rowIndex++;
+            }
+        }
+        return runs;
+    }
+
     private int findMinRowIndex(final int rowIndex,
                                 final int columnIndex,
                                 final int minRowIndex,
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.uberfire.ext.wires.core.grids.client.model.impl;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.uberfire.ext.wires.core.grids.client.model.GridData;
+import org.uberfire.ext.wires.core.grids.client.model.GridRow;
+
+/**
+ * Helper class that maintains the prefix sums of row heights following different mutations to {@link GridData}.
+ * The sums are rebuilt lazily when rows have been inserted, deleted or moved or when the height of one of the grid's
+ * {@link BaseGridRow}s has changed; the rows notify the managers of the grids they have been added to. Grids containing
+ * rows whose height cannot be cached (see {@link GridRow#isHeightCacheable()}) have their sums rebuilt on every access.
+ * The index of each row is also kept, and rebuilt lazily when rows have been inserted, deleted or moved.
+ */
+public class BaseGridDataRowOffsetsManager {
+
+    private final GridData gridData;
+
+    private double[] rowHeights = new double[0];
+    private double[] rowOffsets = new double[]{0};
+    private boolean isValid = false;
+    private Map<GridRow, Integer> rowIndexes = new IdentityHashMap<>();
+    private int rowIndexesRowCount;
+    private boolean isRowIndexesValid = false;
+
+    public BaseGridDataRowOffsetsManager(final GridData gridData) {
+        this.gridData = gridData;
+    }
+
+    public void onRowsChanged() {
+        isValid = false;
+        isRowIndexesValid = false;
+    }
+
+    public void onRowDeleted(final GridRow row) {
+        if (row instanceof BaseGridRow) {
+            ((BaseGridRow) row).removeRowOffsetsManager(this);
+        }
+    }
+
+    void onRowHeightChanged() {
+        isValid = false;
+    }
+
+    /**
+     * Returns the y-offset of the row at the given index, relative to the first row.
+     * @param rowIndex The index of the row. The row count returns the height of all rows.
+     * @return
+     */
+    public double getRowOffset(final int rowIndex) {
+        refresh();
+        return rowOffsets[Math.max(0, Math.min(rowIndex, rowHeights.length))];
+    }
+
+    /**
+     * Returns the heights of all rows. The array is replaced, not updated, when heights change and must not be modified.
+     * @return
+     */
+    public double[] getRowHeights() {
+        refresh();
+        return rowHeights;
+    }
+
+    /**
+     * Returns the index of the first row whose bottom edge is at or below the given y-offset, relative to the first row.
+     * @param offset
+     * @return The index of the row; the last row if the offset is below all rows or -1 if there are no rows.
+     */
+    public int getRowIndex(final double offset) {
+        refresh();
+        return getRowIndex(rowOffsets,
+                           offset);
+    }
+
+    /**
+     * Returns the index of the first row whose bottom edge is at or below the given y-offset, from the given prefix
+     * sums of row heights.
+     * @param rowOffsets The y-offsets of all rows, followed by the height of all rows.
+     * @param offset
+     * @return The index of the row; the last row if the offset is below all rows or -1 if there are no rows.
+     */
+    public static int getRowIndex(final double[] rowOffsets,
+                                  final double offset) {
+        int min = 0;
+        int max = rowOffsets.length - 2;
+        while (min < max) {
+            final int mid = (min + max) >>> 1;
+            if (rowOffsets[mid + 1] < offset) {
+                min = mid + 1;
+            } else {
+                max = mid;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the index of the given row, as {@link java.util.List#indexOf(Object)} on the grid's rows would.
+     * @param row
+     * @return The index of the row or -1 if the row is not in the grid.
+     */
+    public int indexOfRow(final GridRow row) {
+        final int rowCount = gridData.getRowCount();
+        if (!isRowIndexesValid || rowCount != rowIndexesRowCount) {
+            rowIndexes = new IdentityHashMap<>();
+            for (int rowIndex = rowCount - 1; rowIndex >= 0; rowIndex--) {
+                rowIndexes.put(gridData.getRow(rowIndex),
+                               rowIndex);
+            }
+            rowIndexesRowCount = rowCount;
+            isRowIndexesValid = true;
+        }
+        final Integer rowIndex = rowIndexes.get(row);
+        if (rowIndex != null && rowIndex < rowCount && gridData.getRow(rowIndex) == row) {
+            return rowIndex;
+        }
+        //Rows equal to, but not the same as, one in the grid
+        return gridData.getRows().indexOf(row);
+    }
+
+    private void refresh() {
+        final int rowCount = gridData.getRowCount();
+        if (isValid && rowCount == rowHeights.length) {
+            return;
+        }
+        final double[] heights = new double[rowCount];
+        final double[] offsets = new double[rowCount + 1];
+        boolean isCacheable = true;
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            final GridRow row = gridData.getRow(rowIndex);
+            heights[rowIndex] = row.getHeight();
+            offsets[rowIndex + 1] = offsets[rowIndex] + heights[rowIndex];
+            isCacheable = isCacheable && row.isHeightCacheable();
+            if (row instanceof BaseGridRow) {
+                ((BaseGridRow) row).addRowOffsetsManager(this);
+            }
+        }
+        this.rowHeights = heights;
+        this.rowOffsets = offsets;
+        this.isValid = isCacheable;
+    }
+}
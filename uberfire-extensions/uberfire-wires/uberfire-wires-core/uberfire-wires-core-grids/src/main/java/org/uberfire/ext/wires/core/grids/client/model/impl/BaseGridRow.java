@@ -15,10 +15,11 @@
  */
 package org.uberfire.ext.wires.core.grids.client.model.impl;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Stack;
+import java.util.TreeMap;
 
 import org.uberfire.ext.wires.core.grids.client.model.GridCell;
 import org.uberfire.ext.wires.core.grids.client.model.GridRow;
@@ -29,11 +30,18 @@ import org.uberfire.ext.wires.core.grids.client.model.GridRow;
 public class BaseGridRow implements GridRow {
 
     protected double height = 20.0;
-    protected Map<Integer, GridCell<?>> cells = new HashMap<Integer, GridCell<?>>();
+    protected Map<Integer, GridCell<?>> cells = new GridRowCells();
+
+    private Map<Integer, GridCell<?>> unmodifiableCells;
+    private Map<Integer, GridCell<?>> unmodifiableCellsSource;
 
     private boolean hasMergedCells = false;
-    private Stack<Double> heights = new Stack<Double>();
+    //Heights of the row before each level of collapse; the height it was created with is held separately
+    private double initialHeight;
+    private double[] collapsedHeights;
     private int collapseLevel = 0;
+    //Row offsets of the grids containing this row, to be invalidated when its height changes
+    private List<BaseGridDataRowOffsetsManager> rowOffsetsManagers;
 
     public BaseGridRow() {
         this(20);
@@ -41,12 +49,16 @@ public class BaseGridRow implements GridRow {
 
     public BaseGridRow(final double height) {
         this.height = height;
-        this.heights.push(height);
+        this.initialHeight = height;
     }
 
     @Override
     public Map<Integer, GridCell<?>> getCells() {
-        return Collections.unmodifiableMap(cells);
+        if (unmodifiableCellsSource != cells) {
+            unmodifiableCells = Collections.unmodifiableMap(cells);
+            unmodifiableCellsSource = cells;
+        }
+        return unmodifiableCells;
     }
 
     @Override
@@ -56,12 +68,17 @@ public class BaseGridRow implements GridRow {
 
     @Override
     public void setHeight(final double height) {
-        this.height = height;
+        updateHeight(height);
     }
 
     @Override
     public double peekHeight() {
-        return heights.peek();
+        return collapseLevel == 0 ? initialHeight : collapsedHeights[collapseLevel - 1];
+    }
+
+    @Override
+    public boolean isHeightCacheable() {
+        return true;
     }
 
     @Override
@@ -76,8 +93,18 @@ public class BaseGridRow implements GridRow {
 
     @Override
     public void collapse() {
-        collapseLevel++;
-        heights.push(height);
+        if (collapsedHeights == null) {
+            collapsedHeights = new double[2];
+        } else if (collapseLevel == collapsedHeights.length) {
+            final double[] heights = new double[collapseLevel * 2];
+            System.arraycopy(collapsedHeights,
+                             0,
+                             heights,
+                             0,
+                             collapseLevel);
+            collapsedHeights = heights;
+        }
+        collapsedHeights[collapseLevel++] = height;
         for (GridCell<?> cell : cells.values()) {
             cell.collapse();
         }
@@ -89,7 +116,7 @@ public class BaseGridRow implements GridRow {
             return;
         }
         collapseLevel--;
-        height = heights.pop();
+        updateHeight(collapsedHeights[collapseLevel]);
         for (GridCell<?> cell : cells.values()) {
             cell.expand();
         }
@@ -99,14 +126,36 @@ public class BaseGridRow implements GridRow {
     public void reset() {
         collapseLevel = 0;
         hasMergedCells = false;
-        height = heights.firstElement();
-        heights.clear();
-        heights.push(height);
+        updateHeight(initialHeight);
         for (GridCell<?> cell : cells.values()) {
             cell.reset();
         }
     }
 
+    private void updateHeight(final double height) {
+        if (this.height != height && rowOffsetsManagers != null) {
+            for (BaseGridDataRowOffsetsManager rowOffsetsManager : rowOffsetsManagers) {
+                rowOffsetsManager.onRowHeightChanged();
+            }
+        }
+        this.height = height;
+    }
+
+    void addRowOffsetsManager(final BaseGridDataRowOffsetsManager rowOffsetsManager) {
+        if (rowOffsetsManagers == null) {
+            rowOffsetsManagers = new ArrayList<>(1);
+        } else if (rowOffsetsManagers.contains(rowOffsetsManager)) {
+            return;
+        }
+        rowOffsetsManagers.add(rowOffsetsManager);
+    }
+
+    void removeRowOffsetsManager(final BaseGridDataRowOffsetsManager rowOffsetsManager) {
+        if (rowOffsetsManagers != null) {
+            rowOffsetsManagers.remove(rowOffsetsManager);
+        }
+    }
+
     //This is not part of the GridCell interface as we don't want to expose this for general use
     @SuppressWarnings("unchecked")
     void setCell(final int columnIndex,
@@ -120,6 +169,24 @@ public class BaseGridRow implements GridRow {
         cells.remove(columnIndex);
     }
 
+    //This is not part of the GridCell interface as we don't want to expose this for general use
+    void deleteColumn(final int columnIndex) {
+        if (cells instanceof GridRowCells) {
+            ((GridRowCells) cells).deleteColumn(columnIndex);
+            return;
+        }
+        //Shift all cells according to the removed one
+        cells.remove(columnIndex);
+        final Map<Integer, GridCell<?>> clone = new TreeMap<>(cells);
+        for (Map.Entry<Integer, GridCell<?>> e : clone.entrySet()) {
+            if (e.getKey() > columnIndex) {
+                cells.remove(e.getKey());
+                cells.put(e.getKey() - 1,
+                          e.getValue());
+            }
+        }
+    }
+
     //This is not part of the GridCell interface as we don't want to expose this for general use
     void setHasMergedCells(final boolean hasMergedCells) {
         this.hasMergedCells = hasMergedCells;
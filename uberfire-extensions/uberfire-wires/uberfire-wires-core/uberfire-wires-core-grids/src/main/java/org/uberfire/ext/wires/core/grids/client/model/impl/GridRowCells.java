@@ -0,0 +1,191 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.uberfire.ext.wires.core.grids.client.model.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.uberfire.ext.wires.core.grids.client.model.GridCell;
+
+/**
+ * The cells of a {@link BaseGridRow}, keyed by column index. Column indexes are dense so cells are held in an array
+ * indexed by column index rather than a hashed map of boxed keys. Deleting a column shifts the cells of the
+ * following columns down in a single copy.
+ */
+class GridRowCells extends AbstractMap<Integer, GridCell<?>> {
+
+    private static final GridCell<?>[] EMPTY = new GridCell<?>[0];
+
+    //Stands in for null cells, which can be set like any other, so they can be told apart from empty elements
+    private static final GridCell<?> NULL_CELL = new BaseGridCell<>(null);
+
+    private GridCell<?>[] cells = EMPTY;
+    private int size = 0;
+    private Set<Map.Entry<Integer, GridCell<?>>> entrySet;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return element(key) != null;
+    }
+
+    @Override
+    public GridCell<?> get(final Object key) {
+        return unmask(element(key));
+    }
+
+    @Override
+    public GridCell<?> put(final Integer key,
+                           final GridCell<?> cell) {
+        final int columnIndex = key;
+        if (columnIndex < 0) {
+            throw new IllegalArgumentException("Column index must not be negative: " + columnIndex);
+        }
+        ensureCapacity(columnIndex + 1);
+        final GridCell<?> previous = cells[columnIndex];
+        cells[columnIndex] = cell == null ? NULL_CELL : cell;
+        if (previous == null) {
+            size++;
+        }
+        return unmask(previous);
+    }
+
+    @Override
+    public GridCell<?> remove(final Object key) {
+        final GridCell<?> previous = element(key);
+        if (previous != null) {
+            cells[(Integer) key] = null;
+            size--;
+        }
+        return unmask(previous);
+    }
+
+    @Override
+    public void clear() {
+        cells = EMPTY;
+        size = 0;
+    }
+
+    /**
+     * Removes the cell for a column and shifts the cells of all following columns down by one.
+     * @param columnIndex
+     */
+    void deleteColumn(final int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= cells.length) {
+            return;
+        }
+        if (cells[columnIndex] != null) {
+            size--;
+        }
+        System.arraycopy(cells,
+                         columnIndex + 1,
+                         cells,
+                         columnIndex,
+                         cells.length - columnIndex - 1);
+        cells[cells.length - 1] = null;
+    }
+
+    @Override
+    public Set<Map.Entry<Integer, GridCell<?>>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private GridCell<?> element(final Object key) {
+        if (!(key instanceof Integer)) {
+            return null;
+        }
+        final int columnIndex = (Integer) key;
+        return columnIndex >= 0 && columnIndex < cells.length ? cells[columnIndex] : null;
+    }
+
+    private static GridCell<?> unmask(final GridCell<?> cell) {
+        return cell == NULL_CELL ? null : cell;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= cells.length) {
+            return;
+        }
+        final GridCell<?>[] newCells = new GridCell<?>[Math.max(capacity,
+                                                                cells.length + (cells.length >> 1))];
+        System.arraycopy(cells,
+                         0,
+                         newCells,
+                         0,
+                         cells.length);
+        cells = newCells;
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<Integer, GridCell<?>>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Map.Entry<Integer, GridCell<?>>> iterator() {
+            return new Iterator<Map.Entry<Integer, GridCell<?>>>() {
+
+                private int next = advance(0);
+                private int last = -1;
+
+                @Override
+                public boolean hasNext() {
+                    return next < cells.length;
+                }
+
+                @Override
+                public Map.Entry<Integer, GridCell<?>> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    last = next;
+                    next = advance(next + 1);
+                    return new AbstractMap.SimpleImmutableEntry<>(last,
+                                                                  unmask(cells[last]));
+                }
+
+                @Override
+                public void remove() {
+                    if (last < 0) {
+                        throw new IllegalStateException();
+                    }
+                    GridRowCells.this.remove(last);
+                    last = -1;
+                }
+
+                private int advance(int columnIndex) {
+                    while (columnIndex < cells.length && cells[columnIndex] == null) {
+                        columnIndex++;
+                    }
+                    return columnIndex;
+                }
+            };
+        }
+    }
+}
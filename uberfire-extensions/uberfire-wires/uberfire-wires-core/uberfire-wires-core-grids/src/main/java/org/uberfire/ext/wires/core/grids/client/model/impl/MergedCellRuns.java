@@ -0,0 +1,160 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.uberfire.ext.wires.core.grids.client.model.impl;
+
+/**
+ * Run-length index of the merged blocks of a single column. Each run is a range of rows, from its start (inclusive)
+ * to its end (exclusive), whose cells are merged. Runs are held sorted and non-overlapping in primitive arrays so the
+ * run containing a row can be found with a binary search.
+ */
+class MergedCellRuns {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] starts = new int[INITIAL_CAPACITY];
+    private int[] ends = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    int size() {
+        return size;
+    }
+
+    int getStart(final int run) {
+        return starts[run];
+    }
+
+    int getEnd(final int run) {
+        return ends[run];
+    }
+
+    /**
+     * Returns the index of the run containing the given row.
+     * @param rowIndex
+     * @return The index of the run or -1 if the row is not part of any run.
+     */
+    int indexOf(final int rowIndex) {
+        final int run = lastRunStartingAtOrBefore(rowIndex);
+        return run >= 0 && ends[run] > rowIndex ? run : -1;
+    }
+
+    /**
+     * Appends a run. Runs must be added in row order.
+     * @param start The first row of the run.
+     * @param end The row following the last row of the run.
+     */
+    void add(final int start,
+             final int end) {
+        ensureCapacity(size + 1);
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    /**
+     * Shifts the runs following rows inserted at the given index. A run spanning the index grows to contain them.
+     * @param rowIndex
+     * @param count
+     */
+    void onInsertRows(final int rowIndex,
+                      final int count) {
+        for (int run = size - 1; run >= 0 && ends[run] > rowIndex; run--) {
+            if (starts[run] >= rowIndex) {
+                starts[run] += count;
+            }
+            ends[run] += count;
+        }
+    }
+
+    /**
+     * Shifts the runs following rows deleted at the given index. Runs spanning the deleted rows shrink, or are
+     * removed if all of their rows have been deleted.
+     * @param rowIndex
+     * @param count
+     */
+    void onDeleteRows(final int rowIndex,
+                      final int count) {
+        int write = Math.max(0,
+                             lastRunStartingAtOrBefore(rowIndex));
+        for (int run = write; run < size; run++) {
+            int start = starts[run];
+            int end = ends[run];
+            if (end > rowIndex) {
+                start = start < rowIndex ? start : Math.max(rowIndex, start - count);
+                end = Math.max(rowIndex, end - count);
+            }
+            if (end > start) {
+                starts[write] = start;
+                ends[write] = end;
+                write++;
+            }
+        }
+        size = write;
+    }
+
+    /**
+     * Replaces the runs between the given rows with those of another index.
+     * @param fromRow The first row of the range being replaced. No run may span it.
+     * @param toRow The row following the last row of the range being replaced. No run may span it.
+     * @param runs Runs lying between fromRow and toRow.
+     */
+    void replace(final int fromRow,
+                 final int toRow,
+                 final MergedCellRuns runs) {
+        int first = lastRunStartingAtOrBefore(fromRow);
+        if (first < 0 || ends[first] <= fromRow) {
+            first++;
+        }
+        int last = first;
+        while (last < size && starts[last] < toRow) {
+            last++;
+        }
+        final int newSize = size - (last - first) + runs.size;
+        ensureCapacity(newSize);
+        System.arraycopy(starts, last, starts, first + runs.size, size - last);
+        System.arraycopy(ends, last, ends, first + runs.size, size - last);
+        System.arraycopy(runs.starts, 0, starts, first, runs.size);
+        System.arraycopy(runs.ends, 0, ends, first, runs.size);
+        size = newSize;
+    }
+
+    private int lastRunStartingAtOrBefore(final int rowIndex) {
+        int min = 0;
+        int max = size - 1;
+        while (min <= max) {
+            final int mid = (min + max) >>> 1;
+            if (starts[mid] <= rowIndex) {
+                min = mid + 1;
+            } else {
+                max = mid - 1;
+            }
+        }
+        return max;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= starts.length) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity,
+                                         starts.length * 2);
+        final int[] newStarts = new int[newCapacity];
+        final int[] newEnds = new int[newCapacity];
+        System.arraycopy(starts, 0, newStarts, 0, size);
+        System.arraycopy(ends, 0, newEnds, 0, size);
+        starts = newStarts;
+        ends = newEnds;
+    }
+}
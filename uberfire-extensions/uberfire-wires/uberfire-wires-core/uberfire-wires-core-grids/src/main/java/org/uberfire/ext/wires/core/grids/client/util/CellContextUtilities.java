@@ -46,7 +46,7 @@ public class CellContextUtilities {
         final double clipMinY = getClipMinY(gridWidget);
 
         final double blockCellWidth = column.getWidth();
-        final double blockCellHeight = ri.getAllRowHeights().get(uiRowIndex);
+        final double blockCellHeight = ri.getAllRowHeights()[uiRowIndex];
 
         return new GridBodyCellEditContext(cellX,
                                            cellY,
@@ -157,13 +157,13 @@ public class GridWidgetDnDMouseDownHandler implements NodeMouseDownHandler {
 
         final Bounds bounds = renderingInformation.getBounds();
         final GridRow row = activeGridRows.get(0);
-        final int rowIndex = view.getModel().getRows().indexOf(row);
-        final List<Double> allRowHeights = renderingInformation.getAllRowHeights();
+        final int rowIndex = view.getModel().indexOfRow(row);
+        final double[] allRowHeights = renderingInformation.getAllRowHeights();
         final double rowOffsetY = rendererHelper.getRowOffset(rowIndex, allRowHeights) + view.getRenderer().getHeaderHeight();
 
         final double highlightWidth = Math.min(bounds.getX() + bounds.getWidth() - view.getComputedLocation().getX(),
                                                view.getWidth());
-        final double highlightHeight = allRowHeights.get(rowIndex);
+        final double highlightHeight = allRowHeights[rowIndex];
 
         final GridWidgetDnDProxy highlight = state.getEventColumnHighlight();
         highlight.setWidth(highlightWidth);
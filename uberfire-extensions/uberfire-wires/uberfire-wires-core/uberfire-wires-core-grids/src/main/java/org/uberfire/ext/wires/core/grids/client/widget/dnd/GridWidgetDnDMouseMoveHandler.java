@@ -340,7 +340,7 @@ public class GridWidgetDnDMouseMoveHandler implements NodeMouseMoveHandler {
 
         final GridData gridModel = view.getModel();
         final GridRenderer renderer = view.getRenderer();
-        final List<Double> allRowHeights = renderingInformation.getAllRowHeights();
+        final double[] allRowHeights = renderingInformation.getAllRowHeights();
 
         //Get row index
         if (gridModel.getRowCount() == 0) {
@@ -349,7 +349,7 @@ public class GridWidgetDnDMouseMoveHandler implements NodeMouseMoveHandler {
         double rowHeight;
         int uiRowIndex = 0;
         double offsetY = cy - renderer.getHeaderHeight();
-        while ((rowHeight = allRowHeights.get(uiRowIndex)) < offsetY) {
+        while ((rowHeight = allRowHeights[uiRowIndex]) < offsetY) {
             offsetY = offsetY - rowHeight;
             uiRowIndex++;
         }
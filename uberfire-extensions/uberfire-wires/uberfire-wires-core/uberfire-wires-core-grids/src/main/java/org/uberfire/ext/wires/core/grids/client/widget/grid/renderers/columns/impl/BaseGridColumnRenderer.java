@@ -36,6 +36,7 @@ import org.uberfire.ext.wires.core.grids.client.widget.context.GridHeaderColumnR
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.columns.GridColumnRenderer;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.GridRenderer;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.impl.BaseGridRendererHelper;
+import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.impl.GridCellPrimitivePool;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.themes.GridRendererTheme;
 
 public abstract class BaseGridColumnRenderer<T> implements GridColumnRenderer<T> {
@@ -278,6 +279,41 @@ public abstract class BaseGridColumnRenderer<T> implements GridColumnRenderer<T>
         return g;
     }
 
+    /**
+     * Return the <code>Group</code> holding the <b>cell</b> data. The <code>Text</code> is provided by the
+     * {@link GridRendererTheme} or, if the {@link GridRenderer} pools primitives, re-used from a previous render.
+     *
+     * @param cell
+     * @param context
+     * @param isPlaceHolder true if the value is the cell's placeholder
+     * @param value         the String to show
+     * @return
+     */
+    protected Group internalRenderCell(final GridCell<T> cell,
+                                       final GridBodyCellRenderContext context,
+                                       final boolean isPlaceHolder,
+                                       final String value) {
+        if (value == null) {
+            return null;
+        }
+
+        final GridRenderer renderer = context.getRenderer();
+        final GridCellPrimitivePool cellPrimitivePool = renderer.getCellPrimitivePool();
+        if (cellPrimitivePool == null) {
+            final GridRendererTheme theme = renderer.getTheme();
+            return internalRenderCell(cell,
+                                      context,
+                                      isPlaceHolder ? theme.getPlaceholderText() : theme.getBodyText(),
+                                      value);
+        }
+
+        return cellPrimitivePool.getTextGroup(context,
+                                              isPlaceHolder,
+                                              value,
+                                              context.getCellWidth() / 2,
+                                              context.getCellHeight() / 2);
+    }
+
     protected boolean isToReturnNull(final GridCell<T> cell) {
         return cell == null || cell.getValue() == null || (cell.getValue().getValue() == null && cell.getValue().getPlaceHolder() == null);
     }
@@ -48,15 +48,15 @@ public class ColumnRenderingStrategyFlattened {
         final double clipMinX = context.getClipMinX();
         final int minVisibleRowIndex = context.getMinVisibleRowIndex();
         final int maxVisibleRowIndex = context.getMaxVisibleRowIndex();
-        final List<Double> allRowHeights = renderingInformation.getAllRowHeights();
-        final List<Double> visibleRowOffsets = renderingInformation.getVisibleRowOffsets();
+        final double[] allRowHeights = renderingInformation.getAllRowHeights();
+        final double[] visibleRowOffsets = renderingInformation.getVisibleRowOffsets();
         final boolean isFloating = context.isFloating();
         final GridData model = context.getModel();
         final Transform transform = context.getTransform();
         final GridRenderer renderer = context.getRenderer();
         final GridRendererTheme theme = renderer.getTheme();
         final double columnWidth = column.getWidth();
-        final double columnHeight = visibleRowOffsets.get(maxVisibleRowIndex - minVisibleRowIndex) - visibleRowOffsets.get(0) + allRowHeights.get(maxVisibleRowIndex);
+        final double columnHeight = visibleRowOffsets[maxVisibleRowIndex - minVisibleRowIndex] - visibleRowOffsets[0] + allRowHeights[maxVisibleRowIndex];
 
         final List<GridRenderer.RendererCommand> commands = new ArrayList<>();
 
@@ -69,7 +69,7 @@ public class ColumnRenderingStrategyFlattened {
                     if (rowIndex == 0) {
                         continue;
                     }
-                    final double y = visibleRowOffsets.get(rowIndex - minVisibleRowIndex) - visibleRowOffsets.get(0);
+                    final double y = visibleRowOffsets[rowIndex - minVisibleRowIndex] - visibleRowOffsets[0];
                     bodyGrid.M(x, y + 0.5)
                             .L(x + columnWidth, y + 0.5);
                 }
@@ -92,10 +92,10 @@ public class ColumnRenderingStrategyFlattened {
                 columnGroup.setX(x);
                 final int columnIndex = model.getColumns().indexOf(column);
                 for (int rowIndex = minVisibleRowIndex; rowIndex <= maxVisibleRowIndex; rowIndex++) {
-                    final double y = visibleRowOffsets.get(rowIndex - minVisibleRowIndex) - visibleRowOffsets.get(0);
-                    final double rowHeight = allRowHeights.get(rowIndex);
+                    final double y = visibleRowOffsets[rowIndex - minVisibleRowIndex] - visibleRowOffsets[0];
+                    final double rowHeight = allRowHeights[rowIndex];
                     final GridBodyCellRenderContext cellContext = new GridBodyCellRenderContext(absoluteColumnX,
-                                                                                                absoluteGridY + renderer.getHeaderHeight() + visibleRowOffsets.get(rowIndex - minVisibleRowIndex),
+                                                                                                absoluteGridY + renderer.getHeaderHeight() + visibleRowOffsets[rowIndex - minVisibleRowIndex],
                                                                                                 columnWidth,
                                                                                                 rowHeight,
                                                                                                 clipMinY,
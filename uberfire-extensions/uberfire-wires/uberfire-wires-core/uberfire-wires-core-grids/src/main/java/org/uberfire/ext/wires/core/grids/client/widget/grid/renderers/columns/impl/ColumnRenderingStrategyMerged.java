@@ -55,15 +55,15 @@ public class ColumnRenderingStrategyMerged {
         final double clipMinX = context.getClipMinX();
         final int minVisibleRowIndex = context.getMinVisibleRowIndex();
         final int maxVisibleRowIndex = context.getMaxVisibleRowIndex();
-        final List<Double> allRowHeights = renderingInformation.getAllRowHeights();
-        final List<Double> visibleRowOffsets = renderingInformation.getVisibleRowOffsets();
+        final double[] allRowHeights = renderingInformation.getAllRowHeights();
+        final double[] visibleRowOffsets = renderingInformation.getVisibleRowOffsets();
         final boolean isFloating = context.isFloating();
         final GridData model = context.getModel();
         final Transform transform = context.getTransform();
         final GridRenderer renderer = context.getRenderer();
         final GridRendererTheme theme = renderer.getTheme();
         final double columnWidth = column.getWidth();
-        final double columnHeight = visibleRowOffsets.get(maxVisibleRowIndex - minVisibleRowIndex) - visibleRowOffsets.get(0) + allRowHeights.get(maxVisibleRowIndex);
+        final double columnHeight = visibleRowOffsets[maxVisibleRowIndex - minVisibleRowIndex] - visibleRowOffsets[0] + allRowHeights[maxVisibleRowIndex];
         final int columnIndex = model.getColumns().indexOf(column);
 
         final List<GridRenderer.RendererCommand> commands = new ArrayList<>();
@@ -74,7 +74,7 @@ public class ColumnRenderingStrategyMerged {
                 //- horizontal
                 final MultiPath bodyGrid = theme.getBodyGridLine();
                 for (int rowIndex = minVisibleRowIndex; rowIndex <= maxVisibleRowIndex; rowIndex++) {
-                    final double y = visibleRowOffsets.get(rowIndex - minVisibleRowIndex) - visibleRowOffsets.get(0);
+                    final double y = visibleRowOffsets[rowIndex - minVisibleRowIndex] - visibleRowOffsets[0];
                     final GridRow row = model.getRow(rowIndex);
 
                     if (!row.isMerged()) {
@@ -129,7 +129,7 @@ public class ColumnRenderingStrategyMerged {
                         break;
                     }
 
-                    final double y = visibleRowOffsets.get(rowIndex - minVisibleRowIndex) - visibleRowOffsets.get(0);
+                    final double y = visibleRowOffsets[rowIndex - minVisibleRowIndex] - visibleRowOffsets[0];
                     final GridRow row = model.getRow(rowIndex);
                     final GridCell<?> cell = model.getCell(rowIndex,
                                                            columnIndex);
@@ -146,7 +146,7 @@ public class ColumnRenderingStrategyMerged {
 
                     if (isCollapsedCellMixedValue) {
                         final Group mixedValueGroup = renderMergedCellMixedValueHighlight(columnWidth,
-                                                                                          allRowHeights.get(rowIndex));
+                                                                                          allRowHeights[rowIndex]);
                         mixedValueGroup.setX(0).setY(y).setListening(true);
                         columnGroup.add(mixedValueGroup);
                     }
@@ -162,7 +162,7 @@ public class ColumnRenderingStrategyMerged {
                                                                       columnIndex);
                         if (nextRowCell != null) {
                             final Group gt = renderGroupedCellToggle(columnWidth,
-                                                                     allRowHeights.get(rowIndex),
+                                                                     allRowHeights[rowIndex],
                                                                      nextRowCell.isCollapsed());
                             gt.setX(0).setY(y);
                             columnGroup.add(gt);
@@ -175,7 +175,7 @@ public class ColumnRenderingStrategyMerged {
                                                                 allRowHeights,
                                                                 cell);
                         final GridBodyCellRenderContext cellContext = new GridBodyCellRenderContext(absoluteColumnX,
-                                                                                                    absoluteGridY + renderer.getHeaderHeight() + visibleRowOffsets.get(rowIndex - minVisibleRowIndex),
+                                                                                                    absoluteGridY + renderer.getHeaderHeight() + visibleRowOffsets[rowIndex - minVisibleRowIndex],
                                                                                                     columnWidth,
                                                                                                     cellHeight,
                                                                                                     clipMinY,
@@ -201,7 +201,7 @@ public class ColumnRenderingStrategyMerged {
                         GridCell<?> _cell = cell;
                         while (_cell.getMergedCellCount() == 0) {
                             _rowIndex--;
-                            _y = _y - allRowHeights.get(_rowIndex);
+                            _y = _y - allRowHeights[_rowIndex];
                             _cell = model.getCell(_rowIndex,
                                                   columnIndex);
                         }
@@ -305,11 +305,11 @@ public class ColumnRenderingStrategyMerged {
     }
 
     protected static double getCellHeight(final int rowIndex,
-                                          final List<Double> allRowHeights,
+                                          final double[] allRowHeights,
                                           final GridCell<?> cell) {
         double height = 0.0;
         for (int iRowIndex = rowIndex; iRowIndex < rowIndex + cell.getMergedCellCount(); iRowIndex++) {
-            height = height + allRowHeights.get(iRowIndex);
+            height = height + allRowHeights[iRowIndex];
         }
         return height;
     }
@@ -16,11 +16,8 @@
 package org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.columns.impl;
 
 import com.ait.lienzo.client.core.shape.Group;
-import com.ait.lienzo.client.core.shape.Text;
 import org.uberfire.ext.wires.core.grids.client.model.GridCell;
 import org.uberfire.ext.wires.core.grids.client.widget.context.GridBodyCellRenderContext;
-import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.GridRenderer;
-import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.themes.GridRendererTheme;
 
 public class IntegerColumnRenderer extends BaseGridColumnRenderer<Integer> {
 
@@ -31,23 +28,18 @@ public class IntegerColumnRenderer extends BaseGridColumnRenderer<Integer> {
             return null;
         }
 
-        final GridRenderer renderer = context.getRenderer();
-        final GridRendererTheme theme = renderer.getTheme();
+        final boolean isPlaceHolder = isPlaceHolderToBeShown(cell);
+        final String value;
 
-        Text text;
-        String value;
-
-        if (isPlaceHolderToBeShown(cell)) {
-            text = theme.getPlaceholderText();
+        if (isPlaceHolder) {
             value = cell.getValue().getPlaceHolder();
         } else {
-            text = theme.getBodyText();
             value = cell.getValue() != null ? Integer.toString(cell.getValue().getValue()) : null;
         }
 
         return internalRenderCell(cell,
                                   context,
-                                  text,
+                                  isPlaceHolder,
                                   value);
     }
 }
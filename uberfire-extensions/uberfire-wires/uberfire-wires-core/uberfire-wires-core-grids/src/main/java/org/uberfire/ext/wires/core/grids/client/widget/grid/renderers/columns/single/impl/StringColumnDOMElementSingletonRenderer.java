@@ -23,6 +23,7 @@ import org.uberfire.ext.wires.core.grids.client.widget.context.GridBodyCellRende
 import org.uberfire.ext.wires.core.grids.client.widget.dom.impl.TextBoxDOMElement;
 import org.uberfire.ext.wires.core.grids.client.widget.dom.single.impl.TextBoxSingletonDOMElementFactory;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.GridRenderer;
+import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.impl.GridCellPrimitivePool;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.themes.GridRendererTheme;
 
 public class StringColumnDOMElementSingletonRenderer extends BaseGridColumnSingletonDOMElementRenderer<String, TextBox, TextBoxDOMElement> {
@@ -39,8 +40,16 @@ public class StringColumnDOMElementSingletonRenderer extends BaseGridColumnSingl
         }
 
         final GridRenderer renderer = context.getRenderer();
-        final GridRendererTheme theme = renderer.getTheme();
+        final GridCellPrimitivePool cellPrimitivePool = renderer.getCellPrimitivePool();
+        if (cellPrimitivePool != null) {
+            return cellPrimitivePool.getTextGroup(context,
+                                                  false,
+                                                  cell.getValue().getValue(),
+                                                  context.getCellWidth() / 2,
+                                                  context.getCellHeight() / 2);
+        }
 
+        final GridRendererTheme theme = renderer.getTheme();
         final Group g = new Group();
         final Text t = theme.getBodyText()
                 .setText(cell.getValue().getValue())
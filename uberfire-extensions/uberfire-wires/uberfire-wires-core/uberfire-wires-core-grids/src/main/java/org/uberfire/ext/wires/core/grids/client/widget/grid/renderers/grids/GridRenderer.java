@@ -26,6 +26,7 @@ import org.uberfire.ext.wires.core.grids.client.widget.context.GridBodyRenderCon
 import org.uberfire.ext.wires.core.grids.client.widget.context.GridBoundaryRenderContext;
 import org.uberfire.ext.wires.core.grids.client.widget.context.GridHeaderRenderContext;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.impl.BaseGridRendererHelper;
+import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.impl.GridCellPrimitivePool;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.impl.SelectedRange;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.themes.GridRendererTheme;
 
@@ -243,4 +244,13 @@ public interface GridRenderer {
      * @param columnRenderingConstraint
      */
     void setColumnRenderConstraint(final BiFunction<Boolean, GridColumn<?>, Boolean> columnRenderingConstraint);
+
+    /**
+     * Returns the pool of primitives column renderers can use to render the content of body cells. Primitives are
+     * re-used between renders of the GridWidget rather than being created afresh each time.
+     * @return The pool or null if primitives are not pooled.
+     */
+    default GridCellPrimitivePool getCellPrimitivePool() {
+        return null;
+    }
 }
@@ -65,6 +65,8 @@ public class BaseGridRenderer implements GridRenderer {
 
     protected BiFunction<Boolean, GridColumn<?>, Boolean> columnRenderingConstraint = (isSelectionLayer, gridColumn) -> !isSelectionLayer;
 
+    private final GridCellPrimitivePool cellPrimitivePool = new GridCellPrimitivePool();
+
     public BaseGridRenderer(final GridRendererTheme theme) {
         setTheme(theme);
     }
@@ -87,6 +89,12 @@ public class BaseGridRenderer implements GridRenderer {
     @Override
     public void setTheme(final GridRendererTheme theme) {
         this.theme = Objects.requireNonNull(theme, "theme");
+        this.cellPrimitivePool.clear();
+    }
+
+    @Override
+    public GridCellPrimitivePool getCellPrimitivePool() {
+        return cellPrimitivePool;
     }
 
     @Override
@@ -349,10 +357,12 @@ public class BaseGridRenderer implements GridRenderer {
         final GridRenderer renderer = context.getRenderer();
 
         final BaseGridRendererHelper.RenderingBlockInformation floatingBlockInformation = renderingInformation.getFloatingBlockInformation();
-        final List<Double> allRowHeights = renderingInformation.getAllRowHeights();
-        final List<Double> visibleRowOffsets = renderingInformation.getVisibleRowOffsets();
+        final double[] allRowHeights = renderingInformation.getAllRowHeights();
+        final double[] visibleRowOffsets = renderingInformation.getVisibleRowOffsets();
+
+        final double columnHeight = visibleRowOffsets[maxVisibleRowIndex - minVisibleRowIndex] - visibleRowOffsets[0] + allRowHeights[maxVisibleRowIndex];
 
-        final double columnHeight = visibleRowOffsets.get(maxVisibleRowIndex - minVisibleRowIndex) - visibleRowOffsets.get(0) + allRowHeights.get(maxVisibleRowIndex);
+        cellPrimitivePool.setMinVisibleRowIndex(minVisibleRowIndex);
 
         //Column backgrounds
         double cx = 0;
@@ -572,14 +582,14 @@ public class BaseGridRenderer implements GridRenderer {
     void setCellHighlightSize(final Rectangle rectangle,
                               final GridData model,
                               final GridColumn<?> column,
-                              final List<Double> allRowHeights,
+                              final double[] allRowHeights,
                               final int rowIndex) {
 
         final double width = column.getWidth();
         rectangle.setWidth(width);
 
         final int mergedCellsCount = getMergedCellsCount(model, rowIndex);
-        rectangle.setHeight(allRowHeights.get(rowIndex) * mergedCellsCount);
+        rectangle.setHeight(allRowHeights[rowIndex] * mergedCellsCount);
     }
 
     int getMergedCellsCount(final GridData model,
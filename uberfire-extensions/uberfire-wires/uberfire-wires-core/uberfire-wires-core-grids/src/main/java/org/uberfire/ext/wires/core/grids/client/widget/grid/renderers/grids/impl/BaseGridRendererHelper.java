@@ -25,6 +25,7 @@ import org.uberfire.ext.wires.core.grids.client.model.Bounds;
 import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
 import org.uberfire.ext.wires.core.grids.client.model.GridData;
 import org.uberfire.ext.wires.core.grids.client.model.GridRow;
+import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridDataRowOffsetsManager;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.GridWidget;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.GridRenderer;
 import org.uberfire.ext.wires.core.grids.client.widget.layer.GridLayer;
@@ -40,6 +41,11 @@ public class BaseGridRendererHelper {
 
     private final GridWidget view;
 
+    //Row heights read from the model by the last call to getRenderingInformation() and their prefix sums. Rows
+    //whose height cannot be cached make the model rebuild its sums on every access, so they are read once per render.
+    private double[] renderedRowHeights = new double[0];
+    private double[] renderedRowOffsets = new double[]{0};
+
     public BaseGridRendererHelper(final GridWidget view) {
         this.view = Objects.requireNonNull(view, "view");
     }
@@ -101,7 +107,7 @@ public class BaseGridRendererHelper {
      */
     public double getRowOffset(final GridRow row) {
         final GridData model = view.getModel();
-        final int rowIndex = model.getRows().indexOf(row);
+        final int rowIndex = model.indexOfRow(row);
         return getRowOffset(rowIndex);
     }
 
@@ -111,27 +117,38 @@ public class BaseGridRendererHelper {
      * @return
      */
     public double getRowOffset(final int rowIndex) {
-        double rowOffset = 0;
         final GridData model = view.getModel();
-        for (int i = 0; i < rowIndex; i++) {
-            final GridRow row = model.getRow(i);
-            rowOffset = rowOffset + row.getHeight();
-        }
-        return rowOffset;
+        return model.getRowOffset(rowIndex);
     }
 
+    /**
+     * Get the y-offset for a given Row, from the given row heights.
+     * @param row The GridRow.
+     * @param rowHeights The heights of all rows.
+     * @return
+     */
     public double getRowOffset(final GridRow row,
-                               final List<Double> rowHeights) {
+                               final double[] rowHeights) {
         final GridData model = view.getModel();
-        final int rowIndex = model.getRows().indexOf(row);
+        final int rowIndex = model.indexOfRow(row);
         return getRowOffset(rowIndex, rowHeights);
     }
 
+    /**
+     * Get the y-offset for a given Row index, from the given row heights. The offset is read from the prefix sums
+     * calculated by {@link #getRenderingInformation()} if the heights are those of the {@link RenderingInformation}.
+     * @param rowIndex The index of the GridRow.
+     * @param rowHeights The heights of all rows.
+     * @return
+     */
     public double getRowOffset(final int rowIndex,
-                               final List<Double> rowHeights) {
+                               final double[] rowHeights) {
+        if (rowHeights == renderedRowHeights) {
+            return renderedRowOffsets[Math.max(0, Math.min(rowIndex, rowHeights.length))];
+        }
         double rowOffset = 0;
         for (int i = 0; i < rowIndex; i++) {
-            rowOffset = rowOffset + rowHeights.get(i);
+            rowOffset = rowOffset + rowHeights[i];
         }
         return rowOffset;
     }
@@ -163,14 +180,10 @@ public class BaseGridRendererHelper {
         final List<GridColumn<?>> bodyColumns = new ArrayList<>();
         final List<GridColumn<?>> floatingColumns = new ArrayList<>();
 
-        double viewHeight = 0;
-        final int rowCount = model.getRowCount();
-        final List<Double> rowHeights = new ArrayList<>();
-        for (GridRow row : model.getRows()) {
-            final double rowHeight = row.getHeight();
-            viewHeight = viewHeight + rowHeight;
-            rowHeights.add(rowHeight);
-        }
+        final double[] rowHeights = model.getRowHeights();
+        final double[] rowOffsets = getRowOffsets(rowHeights);
+        final int rowCount = rowHeights.length;
+        final double viewHeight = rowOffsets[rowCount];
 
         final double vpX = bounds.getX();
         final double vpY = bounds.getY();
@@ -216,21 +229,18 @@ public class BaseGridRendererHelper {
         long currentTimeMillis = log(LOGGER, " - Pre- identify rows to render");
 
         int minVisibleRowIndex = 0;
-        if (model.getRowCount() > 0) {
-            double clipTop = vpY - view.getComputedLocation().getY() - (isFloatingHeader ? 0.0 : renderer.getHeaderHeight());
-            while (rowHeights.get(minVisibleRowIndex) < clipTop && minVisibleRowIndex < rowCount - 1) {
-                clipTop = clipTop - rowHeights.get(minVisibleRowIndex);
-                minVisibleRowIndex++;
-            }
+        if (rowCount > 0) {
+            final double clipTop = vpY - view.getComputedLocation().getY() - (isFloatingHeader ? 0.0 : renderer.getHeaderHeight());
+            minVisibleRowIndex = BaseGridDataRowOffsetsManager.getRowIndex(rowOffsets,
+                                                                           clipTop);
         }
 
         int maxVisibleRowIndex = minVisibleRowIndex;
-        if (model.getRowCount() > 0) {
-            double clipBottom = vpY - view.getComputedLocation().getY() - renderer.getHeaderHeight() + vpHeight - getRowOffset(minVisibleRowIndex, rowHeights);
-            while (rowHeights.get(maxVisibleRowIndex) < clipBottom && maxVisibleRowIndex < rowCount - 1) {
-                clipBottom = clipBottom - rowHeights.get(maxVisibleRowIndex);
-                maxVisibleRowIndex++;
-            }
+        if (rowCount > 0) {
+            final double clipBottom = vpY - view.getComputedLocation().getY() - renderer.getHeaderHeight() + vpHeight;
+            maxVisibleRowIndex = Math.max(minVisibleRowIndex,
+                                          BaseGridDataRowOffsetsManager.getRowIndex(rowOffsets,
+                                                                                    clipBottom));
         }
         log(LOGGER, " - Post- identify rows to render", currentTimeMillis);
 
@@ -282,7 +292,7 @@ public class BaseGridRendererHelper {
         log(LOGGER, " - Post- identify columns to render", currentTimeMillis);
 
         //Construct details of Floating and Body blocks
-        double visibleRowOffset = getRowOffset(minVisibleRowIndex, rowHeights);
+        double visibleRowOffset = rowOffsets[minVisibleRowIndex];
         final double bodyOffsetY = visibleRowOffset + renderer.getHeaderHeight();
         final double offsetX = (bodyColumns.size() > 0 ? getColumnOffset(bodyColumns.get(0)) : 0);
         final double floatingOffsetX = getFloatingColumnOffset();
@@ -299,17 +309,15 @@ public class BaseGridRendererHelper {
                                                                                                  getWidth(floatingColumns));
 
         // Construct "row offsets". The row offsets are based from zero; for each row to be rendered.
-        // The minVisibleRowIndex corresponds to index zero and maxVisibleRowIndex corresponds to visibleRowOffsets.size() - 1.
+        // The minVisibleRowIndex corresponds to index zero and maxVisibleRowIndex corresponds to visibleRowOffsets.length - 1.
         // This is useful to calculate the Y co-ordinate of each Row's top. It is calculated once and passed to
         // each column as an optimisation to prevent each column from recalculating the same values.
         currentTimeMillis = log(LOGGER, " - Pre- calculate row offsets");
 
-        final List<Double> visibleRowOffsets = new ArrayList<>();
-        if (model.getRowCount() > 0) {
-            for (int rowIndex = minVisibleRowIndex; rowIndex <= maxVisibleRowIndex; rowIndex++) {
-                visibleRowOffsets.add(visibleRowOffset);
-                visibleRowOffset = visibleRowOffset + rowHeights.get(rowIndex);
-            }
+        final double[] visibleRowOffsets = new double[rowCount > 0 ? maxVisibleRowIndex - minVisibleRowIndex + 1 : 0];
+        for (int i = 0; i < visibleRowOffsets.length; i++) {
+            visibleRowOffsets[i] = visibleRowOffset;
+            visibleRowOffset = visibleRowOffset + rowHeights[minVisibleRowIndex + i];
         }
         log(LOGGER, " - Post- calculate row offsets", currentTimeMillis);
 
@@ -336,6 +344,18 @@ public class BaseGridRendererHelper {
                                         headerRowsYOffset);
     }
 
+    private double[] getRowOffsets(final double[] rowHeights) {
+        if (rowHeights != renderedRowHeights) {
+            final double[] rowOffsets = new double[rowHeights.length + 1];
+            for (int i = 0; i < rowHeights.length; i++) {
+                rowOffsets[i + 1] = rowOffsets[i] + rowHeights[i];
+            }
+            renderedRowHeights = rowHeights;
+            renderedRowOffsets = rowOffsets;
+        }
+        return renderedRowOffsets;
+    }
+
     /**
      * Get information about a column corresponding to a grid-relative x-coordinate. This method never returns null.
      * It returns a ColumnInformation object representing the column corresponding to the grid-relative x-coordinate;
@@ -492,8 +512,8 @@ public class BaseGridRendererHelper {
         private final RenderingBlockInformation floatingBlockInformation;
         private final int minVisibleRowIndex;
         private final int maxVisibleRowIndex;
-        private final List<Double> allRowHeights;
-        private final List<Double> visibleRowOffsets;
+        private final double[] allRowHeights;
+        private final double[] visibleRowOffsets;
         private final boolean isFixedHeader;
         private final boolean isFloatingHeader;
         private final int headerRowCount;
@@ -507,8 +527,8 @@ public class BaseGridRendererHelper {
                                     final RenderingBlockInformation floatingBlockInformation,
                                     final int minVisibleRowIndex,
                                     final int maxVisibleRowIndex,
-                                    final List<Double> allRowHeights,
-                                    final List<Double> visibleRowOffsets,
+                                    final double[] allRowHeights,
+                                    final double[] visibleRowOffsets,
                                     final boolean isFixedHeader,
                                     final boolean isFloatingHeader,
                                     final int headerRowCount,
@@ -555,12 +575,20 @@ public class BaseGridRendererHelper {
             return maxVisibleRowIndex;
         }
 
-        public List<Double> getAllRowHeights() {
-            return Collections.unmodifiableList(allRowHeights);
+        /**
+         * The heights of all rows, indexed by row. The array is shared with the GridData and must not be modified.
+         * @return
+         */
+        public double[] getAllRowHeights() {
+            return allRowHeights;
         }
 
-        public List<Double> getVisibleRowOffsets() {
-            return Collections.unmodifiableList(visibleRowOffsets);
+        /**
+         * The y-offsets of the visible rows; index zero corresponds to the minimum visible row. The array must not be modified.
+         * @return
+         */
+        public double[] getVisibleRowOffsets() {
+            return visibleRowOffsets;
         }
 
         public boolean isFixedHeader() {
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.ait.lienzo.client.core.shape.Group;
+import com.ait.lienzo.client.core.shape.Text;
+import org.uberfire.ext.wires.core.grids.client.widget.context.GridBodyCellRenderContext;
+import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.themes.GridRendererTheme;
+
+/**
+ * Pool of the primitives used to render the text content of body cells. A GridWidget is re-rendered from scratch
+ * whenever it is scrolled or panned; rather than creating a new {@link Group} and {@link Text} for every visible
+ * cell on each render the primitives are retained for each column and visible row "slot" (i.e. the row index
+ * relative to the first visible row) and updated in place. A slot only has its primitives replaced when the
+ * {@link GridRendererTheme} or kind of text (body or placeholder) changes.
+ */
+public class GridCellPrimitivePool {
+
+    private final Map<Integer, List<TextCell>> columns = new HashMap<>();
+
+    private int minVisibleRowIndex = 0;
+
+    /**
+     * Sets the index of the first visible row. Slots of subsequently rendered cells are relative to this row.
+     * @param minVisibleRowIndex
+     */
+    public void setMinVisibleRowIndex(final int minVisibleRowIndex) {
+        this.minVisibleRowIndex = minVisibleRowIndex;
+    }
+
+    /**
+     * Returns a {@link Group} containing a {@link Text} for the cell being rendered. The Group is detached from any
+     * previous parent and is only valid until the same cell slot is next rendered.
+     * @param context The context of the cell being rendered.
+     * @param isPlaceHolder true if the text is a placeholder.
+     * @param value The text to show.
+     * @param textX The x-coordinate of the text relative to the cell.
+     * @param textY The y-coordinate of the text relative to the cell.
+     * @return
+     */
+    public Group getTextGroup(final GridBodyCellRenderContext context,
+                              final boolean isPlaceHolder,
+                              final String value,
+                              final double textX,
+                              final double textY) {
+        final GridRendererTheme theme = context.getRenderer().getTheme();
+        final int slot = context.getRowIndex() - minVisibleRowIndex;
+        if (slot < 0) {
+            return new TextCell(theme,
+                                isPlaceHolder).update(value,
+                                                      textX,
+                                                      textY);
+        }
+
+        final List<TextCell> slots = columns.computeIfAbsent(context.getColumnIndex(),
+                                                             (columnIndex) -> new ArrayList<>());
+        while (slots.size() <= slot) {
+            slots.add(null);
+        }
+        TextCell textCell = slots.get(slot);
+        if (textCell == null || textCell.theme != theme || textCell.isPlaceHolder != isPlaceHolder) {
+            textCell = new TextCell(theme,
+                                    isPlaceHolder);
+            slots.set(slot,
+                      textCell);
+        }
+        return textCell.update(value,
+                               textX,
+                               textY);
+    }
+
+    /**
+     * Releases all pooled primitives.
+     */
+    public void clear() {
+        columns.clear();
+    }
+
+    private static class TextCell {
+
+        private final GridRendererTheme theme;
+        private final boolean isPlaceHolder;
+        private final Group group = new Group();
+        private final Text text;
+
+        private String value;
+        private double textX = Double.NaN;
+        private double textY = Double.NaN;
+
+        private TextCell(final GridRendererTheme theme,
+                         final boolean isPlaceHolder) {
+            this.theme = theme;
+            this.isPlaceHolder = isPlaceHolder;
+            this.text = isPlaceHolder ? theme.getPlaceholderText() : theme.getBodyText();
+            this.text.setListening(false);
+            this.group.add(text);
+        }
+
+        private Group update(final String value,
+                             final double textX,
+                             final double textY) {
+            group.removeFromParent();
+            if (!Objects.equals(this.value, value)) {
+                this.value = value;
+                text.setText(value);
+            }
+            if (this.textX != textX) {
+                this.textX = textX;
+                text.setX(textX);
+            }
+            if (this.textY != textY) {
+                this.textY = textY;
+                text.setY(textY);
+            }
+            return group;
+        }
+    }
+}
@@ -543,13 +543,13 @@ public class BaseCellSelectionManager implements CellSelectionManager {
     private double getCellHeight(final int uiRowIndex,
                                  final int uiColumnIndex,
                                  final RenderingInformation renderingInformation) {
-        final List<Double> allRowHeights = renderingInformation.getAllRowHeights();
+        final double[] allRowHeights = renderingInformation.getAllRowHeights();
         final GridCell<?> cell = gridModel.getCell(uiRowIndex, uiColumnIndex);
         if (cell == null) {
-            return allRowHeights.get(uiRowIndex);
+            return allRowHeights[uiRowIndex];
         }
         if (cell.getMergedCellCount() == 1) {
-            return allRowHeights.get(uiRowIndex);
+            return allRowHeights[uiRowIndex];
         } else if (cell.getMergedCellCount() > 1) {
             return getMergedCellHeight(uiRowIndex,
                                        uiColumnIndex,
@@ -565,10 +565,10 @@ public class BaseCellSelectionManager implements CellSelectionManager {
                                        final int uiColumnIndex,
                                        final RenderingInformation renderingInformation) {
         double height = 0;
-        final List<Double> allRowHeights = renderingInformation.getAllRowHeights();
+        final double[] allRowHeights = renderingInformation.getAllRowHeights();
         final GridCell<?> cell = gridModel.getCell(uiRowIndex, uiColumnIndex);
         for (int i = uiRowIndex; i < uiRowIndex + cell.getMergedCellCount(); i++) {
-            height = height + allRowHeights.get(i);
+            height = height + allRowHeights[i];
         }
         return height;
     }
@@ -576,7 +576,7 @@ public class BaseCellSelectionManager implements CellSelectionManager {
     private double getClippedMergedCellHeight(final int uiRowIndex,
                                               final int uiColumnIndex,
                                               final RenderingInformation renderingInformation) {
-        final List<Double> allRowHeights = renderingInformation.getAllRowHeights();
+        final double[] allRowHeights = renderingInformation.getAllRowHeights();
         final GridCell<?> cell = gridModel.getCell(uiRowIndex, uiColumnIndex);
         GridCell<?> _cell = cell;
         int _uiRowIndex = uiRowIndex;
@@ -587,7 +587,7 @@ public class BaseCellSelectionManager implements CellSelectionManager {
         }
         double height = 0;
         for (int i = _uiRowIndex; i < _uiRowIndex + _cell.getMergedCellCount(); i++) {
-            height = height + allRowHeights.get(i);
+            height = height + allRowHeights[i];
         }
         return height;
     }
@@ -32,6 +32,7 @@ import com.ait.lienzo.client.core.shape.IPrimitive;
 import com.ait.lienzo.client.core.shape.Layer;
 import com.ait.lienzo.client.core.shape.Line;
 import com.ait.lienzo.client.core.shape.Viewport;
+import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.client.core.types.Point2DArray;
 import com.ait.lienzo.client.core.types.Transform;
@@ -163,6 +164,12 @@ public class DefaultGridLayer extends Layer implements GridLayer,
         return batch(REDRAW);
     }
 
+    @Override
+    public Layer batch(final BoundingBox region) {
+        //Rendering depends on the GridWidgets and their connectors, so always redraw the whole Layer.
+        return batch();
+    }
+
     @Override
     public Layer batch(final GridLayerRedrawManager.PrioritizedCommand command) {
         GridLayerRedrawManager.get().schedule(command);
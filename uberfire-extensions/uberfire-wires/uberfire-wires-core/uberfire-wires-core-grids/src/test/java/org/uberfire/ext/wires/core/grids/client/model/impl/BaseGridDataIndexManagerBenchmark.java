@@ -0,0 +1,131 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.uberfire.ext.wires.core.grids.client.model.impl;
+
+import java.util.Random;
+
+/**
+ * Compares the cost of re-indexing the merged cells of a large grid following cell and row mutations with the cost
+ * of a full re-index. Merged blocks are ten times taller in each column than in the previous one. It is not run as
+ * part of the build; run its main method from the test class-path. The grid size and number of mutations can be
+ * passed as arguments.
+ */
+public class BaseGridDataIndexManagerBenchmark extends BaseGridTest {
+
+    private static final int COLUMN_COUNT = 5;
+    private static final int BLOCK_SIZE = 10;
+
+    public static void main(final String[] args) {
+        final int rowCount = args.length > 0 ? Integer.parseInt(args[0]) : 50000;
+        final int mutationCount = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        final BaseGridDataIndexManagerBenchmark benchmark = new BaseGridDataIndexManagerBenchmark();
+        //Warm up
+        benchmark.run(rowCount / 10,
+                      mutationCount);
+        benchmark.run(rowCount,
+                      mutationCount);
+    }
+
+    private void run(final int rowCount,
+                     final int mutationCount) {
+        final Random random = new Random(0);
+        constructGridData(false,
+                          COLUMN_COUNT,
+                          rowCount);
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            int blockSize = BLOCK_SIZE;
+            for (int columnIndex = 0; columnIndex < COLUMN_COUNT; columnIndex++) {
+                gridData.setCellValue(rowIndex,
+                                      columnIndex,
+                                      new BaseGridCellValue<>("v" + (rowIndex / blockSize)));
+                blockSize = blockSize * BLOCK_SIZE;
+            }
+        }
+
+        final long fullIndex = time(() -> {
+            gridData.setMerged(false);
+            gridData.setMerged(true);
+        });
+
+        final long setCell = time(() -> {
+            for (int i = 0; i < mutationCount; i++) {
+                gridData.setCellValue(random.nextInt(rowCount),
+                                      0,
+                                      new BaseGridCellValue<>("v" + random.nextInt(rowCount / BLOCK_SIZE)));
+            }
+        });
+
+        final long insertRow = time(() -> {
+            for (int i = 0; i < mutationCount; i++) {
+                final int rowIndex = random.nextInt(gridData.getRowCount());
+                gridData.insertRow(rowIndex,
+                                   new BaseGridRow());
+                gridData.setCellValue(rowIndex,
+                                      0,
+                                      gridData.getCell(rowIndex + 1,
+                                                       0).getValue());
+            }
+        });
+
+        final long moveRow = time(() -> {
+            for (int i = 0; i < mutationCount; i++) {
+                gridData.moveRowTo(random.nextInt(gridData.getRowCount()),
+                                   gridData.getRow(random.nextInt(gridData.getRowCount())));
+            }
+        });
+
+        final long deleteRow = time(() -> {
+            for (int i = 0; i < mutationCount; i++) {
+                gridData.deleteRow(random.nextInt(gridData.getRowCount()));
+            }
+        });
+
+        System.out.println("Rows: " + rowCount + ", columns: " + COLUMN_COUNT + ", mutations: " + mutationCount);
+        System.out.println("  full re-index: " + fullIndex + " ms");
+        report("setCellValue",
+               setCell,
+               mutationCount,
+               fullIndex);
+        report("insertRow",
+               insertRow,
+               mutationCount,
+               fullIndex);
+        report("moveRowTo",
+               moveRow,
+               mutationCount,
+               fullIndex);
+        report("deleteRow",
+               deleteRow,
+               mutationCount,
+               fullIndex);
+    }
+
+    private static long time(final Runnable runnable) {
+        final long start = System.nanoTime();
+        runnable.run();
+        return (System.nanoTime() - start) / 1000000;
+    }
+
+    private static void report(final String mutation,
+                               final long total,
+                               final int mutationCount,
+                               final long fullIndex) {
+        final double perMutation = (double) total / mutationCount;
+        System.out.println("  " + mutation + ": " + total + " ms, " + perMutation + " ms each, "
+                                   + (perMutation > 0 ? fullIndex / perMutation : Double.POSITIVE_INFINITY) + "x faster than a full re-index");
+    }
+}
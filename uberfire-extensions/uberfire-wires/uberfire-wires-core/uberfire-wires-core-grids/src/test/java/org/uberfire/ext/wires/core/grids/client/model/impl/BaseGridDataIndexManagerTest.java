@@ -0,0 +1,180 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.uberfire.ext.wires.core.grids.client.model.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.uberfire.ext.wires.core.grids.client.model.GridCell;
+import org.uberfire.ext.wires.core.grids.client.model.GridRow;
+
+import static org.junit.Assert.assertEquals;
+
+public class BaseGridDataIndexManagerTest extends BaseGridTest {
+
+    @Test
+    public void testMoveMergedBlockHeadOutOfBlock() {
+        constructGridData(1, 4);
+        setColumnValues(0, "a", "a", "b", "b");
+
+        gridData.moveRowTo(3,
+                           gridRows[0]);
+
+        assertGridIndexes(gridData,
+                          new boolean[]{false, true, true, false},
+                          new boolean[]{false, false, false, false},
+                          new Expected[][]{
+                                  {Expected.build(false, 1, "a")},
+                                  {Expected.build(true, 2, "b")},
+                                  {Expected.build(true, 0, "b")},
+                                  {Expected.build(false, 1, "a")}
+                          });
+    }
+
+    @Test
+    public void testDeleteRowsJoiningMergedBlocks() {
+        constructGridData(1, 5);
+        setColumnValues(0, "a", "a", "b", "a", "a");
+
+        gridData.deleteRow(2);
+
+        assertGridIndexes(gridData,
+                          new boolean[]{true, true, true, true},
+                          new boolean[]{false, false, false, false},
+                          new Expected[][]{
+                                  {Expected.build(true, 4, "a")},
+                                  {Expected.build(true, 0, "a")},
+                                  {Expected.build(true, 0, "a")},
+                                  {Expected.build(true, 0, "a")}
+                          });
+    }
+
+    @Test
+    public void testInsertRowSplittingMergedBlock() {
+        constructGridData(2, 4);
+        setColumnValues(0, "a", "a", "a", "a");
+        setColumnValues(1, "b", "b", "c", "c");
+
+        final BaseGridRow row = new BaseGridRow();
+        row.setCell(0, new BaseGridCell<>(new BaseGridCellValue<>("z")));
+        row.setCell(1, new BaseGridCell<>(new BaseGridCellValue<>("b")));
+        gridData.insertRow(2,
+                           row);
+
+        assertGridIndexes(gridData,
+                          new boolean[]{true, true, true, true, true},
+                          new boolean[]{false, false, false, false, false},
+                          new Expected[][]{
+                                  {Expected.build(true, 2, "a"), Expected.build(true, 3, "b")},
+                                  {Expected.build(true, 0, "a"), Expected.build(true, 0, "b")},
+                                  {Expected.build(false, 1, "z"), Expected.build(true, 0, "b")},
+                                  {Expected.build(true, 2, "a"), Expected.build(true, 2, "c")},
+                                  {Expected.build(true, 0, "a"), Expected.build(true, 0, "c")}
+                          });
+    }
+
+    @Test
+    public void testMutationsMatchFullIndex() {
+        final Random random = new Random(0);
+        constructGridData(3, 30);
+        for (int rowIndex = 0; rowIndex < gridData.getRowCount(); rowIndex++) {
+            for (int columnIndex = 0; columnIndex < gridData.getColumnCount(); columnIndex++) {
+                gridData.setCellValue(rowIndex,
+                                      columnIndex,
+                                      new BaseGridCellValue<>(random.nextBoolean() ? "a" : "b"));
+            }
+        }
+
+        for (int mutation = 0; mutation < 500; mutation++) {
+            final int rowCount = gridData.getRowCount();
+            final int rowIndex = random.nextInt(rowCount);
+            final int columnIndex = random.nextInt(gridData.getColumnCount());
+            switch (random.nextInt(6)) {
+                case 0:
+                    final BaseGridRow row = new BaseGridRow();
+                    row.setCell(columnIndex, new BaseGridCell<>(new BaseGridCellValue<>("a")));
+                    gridData.insertRow(rowIndex,
+                                       row);
+                    break;
+                case 1:
+                    if (rowCount > 10) {
+                        gridData.deleteRow(rowIndex);
+                    }
+                    break;
+                case 2:
+                    final int blockSize = 1 + random.nextInt(Math.min(3, rowCount - rowIndex));
+                    final int index = random.nextInt(rowCount - blockSize + 1);
+                    final List<GridRow> rows = new ArrayList<>(gridData.getRows().subList(rowIndex,
+                                                                                          rowIndex + blockSize));
+                    gridData.moveRowsTo(index > rowIndex ? index + blockSize - 1 : index,
+                                        rows);
+                    break;
+                case 3:
+                    gridData.deleteCell(rowIndex,
+                                        columnIndex);
+                    break;
+                default:
+                    gridData.setCellValue(rowIndex,
+                                          columnIndex,
+                                          new BaseGridCellValue<>(random.nextBoolean() ? "a" : "b"));
+            }
+
+            assertMatchesFullIndex("Mutation " + mutation);
+        }
+    }
+
+    private void setColumnValues(final int columnIndex,
+                                 final String... values) {
+        for (int rowIndex = 0; rowIndex < values.length; rowIndex++) {
+            gridData.setCellValue(rowIndex,
+                                  columnIndex,
+                                  new BaseGridCellValue<>(values[rowIndex]));
+        }
+    }
+
+    private void assertMatchesFullIndex(final String message) {
+        final int rowCount = gridData.getRowCount();
+        final int columnCount = gridData.getColumnCount();
+        final boolean[] rowMergeStates = new boolean[rowCount];
+        final int[][] mergedCellCounts = new int[rowCount][columnCount];
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            rowMergeStates[rowIndex] = gridData.getRow(rowIndex).isMerged();
+            for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+                final GridCell<?> cell = gridData.getCell(rowIndex,
+                                                          columnIndex);
+                mergedCellCounts[rowIndex][columnIndex] = cell == null ? -1 : cell.getMergedCellCount();
+            }
+        }
+
+        gridData.setMerged(false);
+        gridData.setMerged(true);
+
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            assertEquals(message + ", Row[" + rowIndex + "] isMerged()",
+                         gridData.getRow(rowIndex).isMerged(),
+                         rowMergeStates[rowIndex]);
+            for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+                final GridCell<?> cell = gridData.getCell(rowIndex,
+                                                          columnIndex);
+                assertEquals(message + ", Cell[" + columnIndex + ", " + rowIndex + "] getMergedCellCount()",
+                             cell == null ? -1 : cell.getMergedCellCount(),
+                             mergedCellCounts[rowIndex][columnIndex]);
+            }
+        }
+    }
+}
@@ -38,6 +38,7 @@ import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.columns.Gr
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
@@ -485,6 +486,171 @@ public class BaseGridDataTest {
         assertEquals(minWidth, column4.getWidth(), 0.1);
     }
 
+    @Test
+    public void testGetRowOffset() {
+        baseGridData.appendRow(new BaseGridRow(10.0));
+        baseGridData.appendRow(new BaseGridRow(20.0));
+        baseGridData.appendRow(new BaseGridRow(30.0));
+
+        assertEquals(0.0, baseGridData.getRowOffset(0), 0.0);
+        assertEquals(10.0, baseGridData.getRowOffset(1), 0.0);
+        assertEquals(30.0, baseGridData.getRowOffset(2), 0.0);
+        assertEquals(60.0, baseGridData.getRowOffset(3), 0.0);
+        assertEquals(60.0, baseGridData.getRowOffset(4), 0.0);
+        assertEquals(0.0, baseGridData.getRowOffset(-1), 0.0);
+    }
+
+    @Test
+    public void testGetRowOffsetFollowingRowMutations() {
+        final BaseGridRow row0 = new BaseGridRow(10.0);
+        final BaseGridRow row1 = new BaseGridRow(20.0);
+        final BaseGridRow row2 = new BaseGridRow(30.0);
+        baseGridData.appendRow(row0);
+        baseGridData.appendRow(row1);
+        assertEquals(30.0, baseGridData.getRowOffset(2), 0.0);
+
+        baseGridData.insertRow(0, row2);
+        assertEquals(30.0, baseGridData.getRowOffset(1), 0.0);
+        assertEquals(40.0, baseGridData.getRowOffset(2), 0.0);
+
+        baseGridData.moveRowTo(2, row2);
+        assertEquals(10.0, baseGridData.getRowOffset(1), 0.0);
+        assertEquals(30.0, baseGridData.getRowOffset(2), 0.0);
+
+        row1.setHeight(50.0);
+        assertEquals(60.0, baseGridData.getRowOffset(2), 0.0);
+
+        baseGridData.deleteRow(0);
+        assertEquals(50.0, baseGridData.getRowOffset(1), 0.0);
+        assertEquals(80.0, baseGridData.getRowOffset(2), 0.0);
+    }
+
+    @Test
+    public void testGetRowOffsetWithRowsWhoseHeightIsNotCacheable() {
+        final double[] height = {10.0};
+        baseGridData.appendRow(new BaseGridRow(10.0) {
+            @Override
+            public double getHeight() {
+                return height[0];
+            }
+
+            @Override
+            public boolean isHeightCacheable() {
+                return false;
+            }
+        });
+        baseGridData.appendRow(new BaseGridRow(20.0));
+        assertEquals(10.0, baseGridData.getRowOffset(1), 0.0);
+
+        height[0] = 40.0;
+        assertEquals(40.0, baseGridData.getRowOffset(1), 0.0);
+        assertEquals(60.0, baseGridData.getRowOffset(2), 0.0);
+    }
+
+    @Test
+    public void testGetRowHeights() {
+        baseGridData.appendRow(new BaseGridRow(10.0));
+        baseGridData.appendRow(new BaseGridRow(20.0));
+
+        assertThat(baseGridData.getRowHeights()).containsExactly(10.0, 20.0);
+    }
+
+    @Test
+    public void testGetRowIndex() {
+        assertEquals(-1, baseGridData.getRowIndex(0.0));
+
+        baseGridData.appendRow(new BaseGridRow(10.0));
+        baseGridData.appendRow(new BaseGridRow(20.0));
+        baseGridData.appendRow(new BaseGridRow(30.0));
+
+        assertEquals(0, baseGridData.getRowIndex(-5.0));
+        assertEquals(0, baseGridData.getRowIndex(0.0));
+        assertEquals(0, baseGridData.getRowIndex(10.0));
+        assertEquals(1, baseGridData.getRowIndex(10.5));
+        assertEquals(1, baseGridData.getRowIndex(30.0));
+        assertEquals(2, baseGridData.getRowIndex(45.0));
+        assertEquals(2, baseGridData.getRowIndex(100.0));
+    }
+
+    @Test
+    public void testGetRowOffsetIsOnlyInvalidatedByRowsOfTheGrid() {
+        final BaseGridData otherGridData = new BaseGridData();
+        final BaseGridRow row = new BaseGridRow(10.0);
+        final BaseGridRow otherRow = new BaseGridRow(20.0);
+        baseGridData.appendRow(row);
+        otherGridData.appendRow(otherRow);
+        final double[] rowHeights = baseGridData.getRowHeights();
+        final double[] otherRowHeights = otherGridData.getRowHeights();
+
+        otherRow.setHeight(40.0);
+        assertSame(rowHeights, baseGridData.getRowHeights());
+        assertNotSame(otherRowHeights, otherGridData.getRowHeights());
+        assertEquals(40.0, otherGridData.getRowOffset(1), 0.0);
+
+        row.setHeight(30.0);
+        assertNotSame(rowHeights, baseGridData.getRowHeights());
+        assertEquals(30.0, baseGridData.getRowOffset(1), 0.0);
+    }
+
+    @Test
+    public void testGetRowOffsetIsNotInvalidatedByDeletedRows() {
+        final BaseGridRow row0 = new BaseGridRow(10.0);
+        final BaseGridRow row1 = new BaseGridRow(20.0);
+        baseGridData.appendRow(row0);
+        baseGridData.appendRow(row1);
+        baseGridData.getRowHeights();
+
+        baseGridData.deleteRow(0);
+        final double[] rowHeights = baseGridData.getRowHeights();
+
+        row0.setHeight(50.0);
+        assertSame(rowHeights, baseGridData.getRowHeights());
+        assertEquals(20.0, baseGridData.getRowOffset(1), 0.0);
+    }
+
+    @Test
+    public void testGetRowOffsetWithRowInSeveralGrids() {
+        final BaseGridData otherGridData = new BaseGridData();
+        final BaseGridRow row = new BaseGridRow(10.0);
+        baseGridData.appendRow(row);
+        otherGridData.appendRow(row);
+        assertEquals(10.0, baseGridData.getRowOffset(1), 0.0);
+        assertEquals(10.0, otherGridData.getRowOffset(1), 0.0);
+
+        row.setHeight(30.0);
+        assertEquals(30.0, baseGridData.getRowOffset(1), 0.0);
+        assertEquals(30.0, otherGridData.getRowOffset(1), 0.0);
+    }
+
+    @Test
+    public void testIndexOfRow() {
+        final BaseGridRow row0 = new BaseGridRow(10.0);
+        final BaseGridRow row1 = new BaseGridRow(20.0);
+        final BaseGridRow row2 = new BaseGridRow(30.0);
+        assertEquals(-1, baseGridData.indexOfRow(row0));
+
+        baseGridData.appendRow(row0);
+        baseGridData.appendRow(row1);
+        assertEquals(0, baseGridData.indexOfRow(row0));
+        assertEquals(1, baseGridData.indexOfRow(row1));
+        assertEquals(-1, baseGridData.indexOfRow(row2));
+
+        baseGridData.insertRow(0, row2);
+        assertEquals(0, baseGridData.indexOfRow(row2));
+        assertEquals(1, baseGridData.indexOfRow(row0));
+        assertEquals(2, baseGridData.indexOfRow(row1));
+
+        baseGridData.moveRowTo(2, row2);
+        assertEquals(0, baseGridData.indexOfRow(row0));
+        assertEquals(1, baseGridData.indexOfRow(row1));
+        assertEquals(2, baseGridData.indexOfRow(row2));
+
+        baseGridData.deleteRow(0);
+        assertEquals(-1, baseGridData.indexOfRow(row0));
+        assertEquals(0, baseGridData.indexOfRow(row1));
+        assertEquals(1, baseGridData.indexOfRow(row2));
+    }
+
     static class CustomGridCell<T> extends BaseGridCell<T> {
 
         public CustomGridCell(final GridCellValue<T> value) {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.uberfire.ext.wires.core.grids.client.model.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+import java.util.TreeMap;
+
+import org.uberfire.ext.wires.core.grids.client.model.GridCell;
+
+/**
+ * Reports the heap used by the rows of a large grid, excluding the cells themselves, and the time taken to delete a
+ * column. The {@link HashMap} and {@link Stack} previously used by {@link BaseGridRow} are measured alongside for
+ * comparison. It is not run as part of the build; run its main method from the test class-path. The number of rows and
+ * columns can be passed as arguments.
+ */
+public class BaseGridRowFootprintBenchmark {
+
+    //Keeps everything being measured reachable until it has been measured
+    private static final List<Object> RETAINED = new ArrayList<>();
+
+    public static void main(final String[] args) {
+        final int rowCount = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        final int columnCount = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        final GridCell<?>[][] cells = new GridCell<?>[rowCount][columnCount];
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+                cells[rowIndex][columnIndex] = new BaseGridCell<>(new BaseGridCellValue<>(rowIndex + ":" + columnIndex));
+            }
+        }
+
+        final long[] hashMapRows = measureHashMapRows(cells);
+        final long[] baseGridRows = measureBaseGridRows(cells);
+
+        System.out.println("Rows: " + rowCount + ", columns: " + columnCount + " (excluding cells)");
+        System.out.println("  HashMap rows: " + hashMapRows[0] / 1024 + " KB, delete column: " + hashMapRows[1] + " ms");
+        System.out.println("  BaseGridRow:  " + baseGridRows[0] / 1024 + " KB, delete column: " + baseGridRows[1] + " ms");
+    }
+
+    private static long[] measureHashMapRows(final GridCell<?>[][] cells) {
+        final long baseline = usedMemory();
+        final List<Map<Integer, GridCell<?>>> rows = new ArrayList<>();
+        for (GridCell<?>[] rowCells : cells) {
+            final Map<Integer, GridCell<?>> row = new HashMap<>();
+            for (int columnIndex = 0; columnIndex < rowCells.length; columnIndex++) {
+                row.put(columnIndex,
+                        rowCells[columnIndex]);
+            }
+            final Stack<Double> heights = new Stack<>();
+            heights.push(20.0);
+            rows.add(row);
+            RETAINED.add(heights);
+        }
+        RETAINED.add(rows);
+        final long footprint = usedMemory() - baseline;
+
+        final long deleteColumn = time(() -> {
+            for (Map<Integer, GridCell<?>> row : rows) {
+                row.remove(0);
+                final Map<Integer, GridCell<?>> clone = new TreeMap<>(row);
+                for (Map.Entry<Integer, GridCell<?>> e : clone.entrySet()) {
+                    row.remove(e.getKey());
+                    row.put(e.getKey() - 1,
+                            e.getValue());
+                }
+            }
+        });
+        RETAINED.clear();
+        return new long[]{footprint, deleteColumn};
+    }
+
+    private static long[] measureBaseGridRows(final GridCell<?>[][] cells) {
+        final long baseline = usedMemory();
+        final List<BaseGridRow> rows = new ArrayList<>();
+        for (GridCell<?>[] rowCells : cells) {
+            final BaseGridRow row = new BaseGridRow();
+            for (int columnIndex = 0; columnIndex < rowCells.length; columnIndex++) {
+                row.setCell(columnIndex,
+                            rowCells[columnIndex]);
+            }
+            rows.add(row);
+        }
+        RETAINED.add(rows);
+        final long footprint = usedMemory() - baseline;
+
+        final long deleteColumn = time(() -> {
+            for (BaseGridRow row : rows) {
+                row.deleteColumn(0);
+            }
+        });
+        RETAINED.clear();
+        return new long[]{footprint, deleteColumn};
+    }
+
+    private static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long time(final Runnable runnable) {
+        final long start = System.nanoTime();
+        runnable.run();
+        return (System.nanoTime() - start) / 1000000;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.uberfire.ext.wires.core.grids.client.model.impl;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.uberfire.ext.wires.core.grids.client.model.GridCell;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class GridRowCellsTest {
+
+    private GridRowCells cells;
+
+    private GridCell<?> cell0;
+    private GridCell<?> cell2;
+    private GridCell<?> cell5;
+
+    @Before
+    public void setup() {
+        cells = new GridRowCells();
+        cell0 = new BaseGridCell<>(new BaseGridCellValue<>("0"));
+        cell2 = new BaseGridCell<>(new BaseGridCellValue<>("2"));
+        cell5 = new BaseGridCell<>(new BaseGridCellValue<>("5"));
+        cells.put(0, cell0);
+        cells.put(2, cell2);
+        cells.put(5, cell5);
+    }
+
+    @Test
+    public void testGet() {
+        assertEquals(3, cells.size());
+        assertEquals(cell0, cells.get(0));
+        assertNull(cells.get(1));
+        assertEquals(cell2, cells.get(2));
+        assertEquals(cell5, cells.get(5));
+        assertNull(cells.get(6));
+        assertNull(cells.get(-1));
+        assertNull(cells.get("0"));
+    }
+
+    @Test
+    public void testPutReplacesCell() {
+        final GridCell<?> cell = new BaseGridCell<>(new BaseGridCellValue<>("x"));
+
+        assertEquals(cell2, cells.put(2, cell));
+        assertEquals(3, cells.size());
+        assertEquals(cell, cells.get(2));
+    }
+
+    @Test
+    public void testPutNullCell() {
+        assertNull(cells.put(1, null));
+
+        assertEquals(4, cells.size());
+        assertTrue(cells.containsKey(1));
+        assertNull(cells.get(1));
+
+        assertNull(cells.remove(1));
+        assertEquals(3, cells.size());
+        assertFalse(cells.containsKey(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPutNegativeColumnIndex() {
+        cells.put(-1, cell0);
+    }
+
+    @Test
+    public void testRemove() {
+        assertEquals(cell2, cells.remove(2));
+        assertNull(cells.remove(2));
+        assertNull(cells.remove(10));
+
+        assertEquals(2, cells.size());
+        assertFalse(cells.containsKey(2));
+    }
+
+    @Test
+    public void testIterationIsInColumnOrder() {
+        final Iterator<Map.Entry<Integer, GridCell<?>>> iterator = cells.entrySet().iterator();
+
+        assertEntry(iterator.next(), 0, cell0);
+        assertEntry(iterator.next(), 2, cell2);
+        assertEntry(iterator.next(), 5, cell5);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        final Iterator<Map.Entry<Integer, GridCell<?>>> iterator = cells.entrySet().iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(2, cells.size());
+        assertFalse(cells.containsKey(2));
+        assertEntry(iterator.next(), 5, cell5);
+    }
+
+    @Test
+    public void testEqualsHashMap() {
+        final Map<Integer, GridCell<?>> expected = new HashMap<>();
+        expected.put(0, cell0);
+        expected.put(2, cell2);
+        expected.put(5, cell5);
+
+        assertEquals(expected, cells);
+        assertEquals(expected.hashCode(), cells.hashCode());
+    }
+
+    @Test
+    public void testDeleteColumnWithCell() {
+        cells.deleteColumn(2);
+
+        assertEquals(2, cells.size());
+        assertEquals(cell0, cells.get(0));
+        assertNull(cells.get(2));
+        assertEquals(cell5, cells.get(4));
+        assertNull(cells.get(5));
+    }
+
+    @Test
+    public void testDeleteColumnWithoutCell() {
+        cells.deleteColumn(1);
+
+        assertEquals(3, cells.size());
+        assertEquals(cell0, cells.get(0));
+        assertEquals(cell2, cells.get(1));
+        assertEquals(cell5, cells.get(4));
+    }
+
+    @Test
+    public void testDeleteColumnBeyondCells() {
+        cells.deleteColumn(10);
+
+        assertEquals(3, cells.size());
+        assertEquals(cell5, cells.get(5));
+    }
+
+    @Test
+    public void testClear() {
+        cells.clear();
+
+        assertEquals(0, cells.size());
+        assertNull(cells.get(0));
+        assertFalse(cells.entrySet().iterator().hasNext());
+    }
+
+    private static void assertEntry(final Map.Entry<Integer, GridCell<?>> entry,
+                                    final int columnIndex,
+                                    final GridCell<?> cell) {
+        assertEquals(columnIndex, (int) entry.getKey());
+        assertEquals(cell, entry.getValue());
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.uberfire.ext.wires.core.grids.client.model.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MergedCellRunsTest {
+
+    private MergedCellRuns runs;
+
+    @Before
+    public void setup() {
+        runs = new MergedCellRuns();
+        runs.add(2, 5);
+        runs.add(5, 7);
+        runs.add(10, 20);
+    }
+
+    @Test
+    public void testIndexOf() {
+        assertEquals(-1, runs.indexOf(0));
+        assertEquals(-1, runs.indexOf(1));
+        assertEquals(0, runs.indexOf(2));
+        assertEquals(0, runs.indexOf(4));
+        assertEquals(1, runs.indexOf(5));
+        assertEquals(1, runs.indexOf(6));
+        assertEquals(-1, runs.indexOf(7));
+        assertEquals(-1, runs.indexOf(9));
+        assertEquals(2, runs.indexOf(10));
+        assertEquals(2, runs.indexOf(19));
+        assertEquals(-1, runs.indexOf(20));
+    }
+
+    @Test
+    public void testAddGrowsCapacity() {
+        final MergedCellRuns runs = new MergedCellRuns();
+        for (int run = 0; run < 100; run++) {
+            runs.add(run * 3, run * 3 + 2);
+        }
+
+        assertEquals(100, runs.size());
+        assertEquals(99, runs.indexOf(298));
+        assertEquals(-1, runs.indexOf(299));
+    }
+
+    @Test
+    public void testOnInsertRowsBeforeRuns() {
+        runs.onInsertRows(0, 2);
+
+        assertRuns(4, 7, 7, 9, 12, 22);
+    }
+
+    @Test
+    public void testOnInsertRowsWithinRun() {
+        runs.onInsertRows(12, 3);
+
+        assertRuns(2, 5, 5, 7, 10, 23);
+    }
+
+    @Test
+    public void testOnInsertRowsBetweenRuns() {
+        runs.onInsertRows(7, 1);
+
+        assertRuns(2, 5, 5, 7, 11, 21);
+    }
+
+    @Test
+    public void testOnInsertRowsAfterRuns() {
+        runs.onInsertRows(20, 1);
+
+        assertRuns(2, 5, 5, 7, 10, 20);
+    }
+
+    @Test
+    public void testOnDeleteRowsBeforeRuns() {
+        runs.onDeleteRows(0, 2);
+
+        assertRuns(0, 3, 3, 5, 8, 18);
+    }
+
+    @Test
+    public void testOnDeleteRowsWithinRun() {
+        runs.onDeleteRows(12, 3);
+
+        assertRuns(2, 5, 5, 7, 10, 17);
+    }
+
+    @Test
+    public void testOnDeleteRowsSpanningRuns() {
+        runs.onDeleteRows(4, 2);
+
+        assertRuns(2, 4, 4, 5, 8, 18);
+    }
+
+    @Test
+    public void testOnDeleteRowsRemovingRun() {
+        runs.onDeleteRows(5, 4);
+
+        assertRuns(2, 5, 6, 16);
+    }
+
+    @Test
+    public void testReplace() {
+        final MergedCellRuns replacement = new MergedCellRuns();
+        replacement.add(3, 4);
+        replacement.add(4, 9);
+
+        runs.replace(2, 9, replacement);
+
+        assertRuns(3, 4, 4, 9, 10, 20);
+    }
+
+    @Test
+    public void testReplaceWithFewerRuns() {
+        runs.replace(0, 10, new MergedCellRuns());
+
+        assertRuns(10, 20);
+    }
+
+    @Test
+    public void testReplaceWithMoreRuns() {
+        final MergedCellRuns replacement = new MergedCellRuns();
+        replacement.add(7, 8);
+        replacement.add(8, 9);
+
+        runs.replace(7, 10, replacement);
+
+        assertRuns(2, 5, 5, 7, 7, 8, 8, 9, 10, 20);
+    }
+
+    private void assertRuns(final int... expected) {
+        assertEquals(expected.length / 2, runs.size());
+        for (int run = 0; run < runs.size(); run++) {
+            assertEquals(expected[run * 2], runs.getStart(run));
+            assertEquals(expected[run * 2 + 1], runs.getEnd(run));
+        }
+    }
+}
@@ -147,7 +147,7 @@ public class CellContextUtilitiesTest {
     @Test
     public void testMakeCellRenderContextOneRow() {
         final List<GridColumn<?>> allColumns = new ArrayList<>();
-        final List<Double> allRowHeights = Collections.singletonList(row1.getHeight());
+        final double[] allRowHeights = new double[]{row1.getHeight()};
         final GridColumn<?> uiColumn1 = mockGridColumn(25.0);
         final GridColumn<?> uiColumn2 = mockGridColumn(60.0);
         final GridColumn<?> uiColumn3 = mockGridColumn(100.0);
@@ -221,7 +221,7 @@ public class CellContextUtilitiesTest {
 
     private void setupThreeRowGrid() {
         final List<GridColumn<?>> allColumns = new ArrayList<>();
-        final List<Double> allRowHeights = Collections.nCopies(3, row1.getHeight());
+        final double[] allRowHeights = new double[]{row1.getHeight(), row1.getHeight(), row1.getHeight()};
         final GridColumn<?> uiColumn1 = mockGridColumn(25.0);
         final GridColumn<?> uiColumn2 = mockGridColumn(60.0);
         final GridColumn<?> uiColumn3 = mockGridColumn(100.0);
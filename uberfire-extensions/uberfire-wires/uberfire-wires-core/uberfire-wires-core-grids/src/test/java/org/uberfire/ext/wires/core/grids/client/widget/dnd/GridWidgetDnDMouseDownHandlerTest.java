@@ -273,7 +273,7 @@ public class GridWidgetDnDMouseDownHandlerTest {
         when(state.getActiveGridColumns()).thenReturn(Collections.singletonList(uiColumn));
 
         when(rendererHelper.getRenderingInformation()).thenReturn(renderingInformation);
-        when(rendererHelper.getRowOffset(anyInt(), any(List.class))).thenCallRealMethod();
+        when(rendererHelper.getRowOffset(anyInt(), any(double[].class))).thenCallRealMethod();
         when(renderingInformation.getBounds()).thenReturn(bounds);
         when(gridWidget.getHeader()).thenReturn(gridWidgetHeader);
         when(gridWidget.getHeight()).thenReturn(GRID_HEIGHT);
@@ -302,7 +302,7 @@ public class GridWidgetDnDMouseDownHandlerTest {
 
         when(rendererHelper.getRenderingInformation()).thenReturn(renderingInformation);
         when(renderingInformation.getBounds()).thenReturn(bounds);
-        when(renderingInformation.getAllRowHeights()).thenReturn(Collections.singletonList(ROW_HEIGHT));
+        when(renderingInformation.getAllRowHeights()).thenReturn(new double[]{ROW_HEIGHT});
         when(gridWidget.getModel()).thenReturn(gridData);
         when(gridWidget.getHeader()).thenReturn(gridWidgetHeader);
         when(gridWidget.getWidth()).thenReturn(GRID_WIDTH);
@@ -159,16 +159,8 @@ public class GridWidgetDnDMouseMoveHandlerTest {
                                                                                                                                                                     0.0),
                                                                                                                0,
                                                                                                                2,
-                                                                                                               new ArrayList<Double>() {{
-                                                                                                                   add(20.0);
-                                                                                                                   add(20.0);
-                                                                                                                   add(20.0);
-                                                                                                               }},
-                                                                                                               new ArrayList<Double>() {{
-                                                                                                                   add(20.0);
-                                                                                                                   add(40.0);
-                                                                                                                   add(60.0);
-                                                                                                               }},
+                                                                                                               new double[]{20.0, 20.0, 20.0},
+                                                                                                               new double[]{20.0, 40.0, 60.0},
                                                                                                                false,
                                                                                                                false,
                                                                                                                2,
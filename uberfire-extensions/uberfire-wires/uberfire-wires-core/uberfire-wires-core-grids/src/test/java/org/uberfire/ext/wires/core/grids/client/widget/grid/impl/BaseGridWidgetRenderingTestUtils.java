@@ -15,7 +15,6 @@
  */
 package org.uberfire.ext.wires.core.grids.client.widget.grid.impl;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -64,9 +63,11 @@ public class BaseGridWidgetRenderingTestUtils {
                                                                 final int headerRowCount,
                                                                 final double headerRowHeight,
                                                                 final double headerRowsHeight) {
-        final List<Double> rowHeights = new ArrayList<>();
+        final double[] rowHeights = new double[rowOffsets.size()];
+        final double[] visibleRowOffsets = new double[rowOffsets.size()];
         for (int rowIndex = 0; rowIndex < rowOffsets.size(); rowIndex++) {
-            rowHeights.add(20.0);
+            rowHeights[rowIndex] = 20.0;
+            visibleRowOffsets[rowIndex] = rowOffsets.get(rowIndex);
         }
         return new RenderingInformation(mock(Bounds.class),
                                         model.getColumns(),
@@ -83,7 +84,7 @@ public class BaseGridWidgetRenderingTestUtils {
                                         0,
                                         rowOffsets.size() - 1,
                                         rowHeights,
-                                        rowOffsets,
+                                        visibleRowOffsets,
                                         false,
                                         false,
                                         headerRowCount,
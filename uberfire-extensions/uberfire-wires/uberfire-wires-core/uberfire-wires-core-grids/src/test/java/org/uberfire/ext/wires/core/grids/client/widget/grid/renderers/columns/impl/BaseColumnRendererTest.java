@@ -40,14 +40,19 @@ import org.uberfire.ext.wires.core.grids.client.widget.context.GridHeaderColumnR
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.columns.GridColumnRenderer;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.GridRenderer;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.impl.BaseGridRendererHelper;
+import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.impl.GridCellPrimitivePool;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.themes.GridRendererTheme;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -115,6 +120,12 @@ public abstract class BaseColumnRendererTest<T, R extends GridColumnRenderer<T>>
     @Mock
     protected IPathClipper boundingBoxPathClipper;
 
+    @Mock
+    private GridCellPrimitivePool cellPrimitivePool;
+
+    @Mock
+    private Group pooledGroup;
+
     protected R renderer;
 
     protected String PLACEHOLDER = "PLACEHOLDER";
@@ -200,6 +211,31 @@ public abstract class BaseColumnRendererTest<T, R extends GridColumnRenderer<T>>
         verify(placeHolderText, times(1)).setText(eq(PLACEHOLDER));
     }
 
+    @Test
+    public void testRenderingWithCellPrimitivePool() {
+        doReturn(cellValue).when(cell).getValue();
+        doReturn(getValueToRender()).when(cellValue).getValue();
+        when(gridRenderer.getCellPrimitivePool()).thenReturn(cellPrimitivePool);
+        when(cellPrimitivePool.getTextGroup(eq(context), eq(false), anyString(), anyDouble(), anyDouble())).thenReturn(pooledGroup);
+
+        assertSame(pooledGroup,
+                   renderer.renderCell(cell, context));
+        verify(theme, never()).getBodyText();
+    }
+
+    @Test
+    public void testRenderingPlaceHolderWithCellPrimitivePool() {
+        doReturn(cellValue).when(cell).getValue();
+        doReturn(null).when(cellValue).getValue();
+        doReturn(PLACEHOLDER).when(cellValue).getPlaceHolder();
+        when(gridRenderer.getCellPrimitivePool()).thenReturn(cellPrimitivePool);
+        when(cellPrimitivePool.getTextGroup(eq(context), eq(true), eq(PLACEHOLDER), anyDouble(), anyDouble())).thenReturn(pooledGroup);
+
+        assertSame(pooledGroup,
+                   renderer.renderCell(cell, context));
+        verify(theme, never()).getPlaceholderText();
+    }
+
     @Test
     public void testRenderHeader() {
         final List<GridRenderer.RendererCommand> commands = renderer.renderHeader(Collections.singletonList(headerMetaData),
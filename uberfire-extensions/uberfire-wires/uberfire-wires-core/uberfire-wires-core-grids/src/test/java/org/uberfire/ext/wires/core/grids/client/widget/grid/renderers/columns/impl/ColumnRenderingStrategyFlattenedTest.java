@@ -16,9 +16,7 @@
 
 package org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.columns.impl;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.function.BiFunction;
 
@@ -142,9 +140,9 @@ public class ColumnRenderingStrategyFlattenedTest {
 
         doReturn(multiPath).when(gridRendererTheme).getBodyGridLine();
 
-        doReturn(Arrays.asList(0d,
-                               ROW_HEIGHT,
-                               ROW_HEIGHT * 2d)).when(renderingInformation).getVisibleRowOffsets();
+        doReturn(new double[]{0d,
+                              ROW_HEIGHT,
+                              ROW_HEIGHT * 2d}).when(renderingInformation).getVisibleRowOffsets();
 
         doReturn(COLUMN_WIDTH).when(column).getWidth();
         doReturn(gridColumnRenderer).when(column).getColumnRenderer();
@@ -174,7 +172,7 @@ public class ColumnRenderingStrategyFlattenedTest {
     @Test
     @SuppressWarnings("unchecked")
     public void testRenderNotSelectionLayer() {
-        final List<Double> allRowHeights = new ArrayList<>(Collections.nCopies(3, ROW_HEIGHT));
+        final double[] allRowHeights = new double[]{ROW_HEIGHT, ROW_HEIGHT, ROW_HEIGHT};
         final GridRenderer.GridRendererContext rendererContext = mock(GridRenderer.GridRendererContext.class);
         final Group group = mock(Group.class);
         doReturn(false).when(rendererContext).isSelectionLayer();
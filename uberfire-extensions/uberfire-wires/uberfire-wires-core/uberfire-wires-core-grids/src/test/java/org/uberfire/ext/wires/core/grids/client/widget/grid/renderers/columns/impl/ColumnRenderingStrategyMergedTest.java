@@ -16,7 +16,6 @@
 
 package org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.columns.impl;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -138,7 +137,7 @@ public class ColumnRenderingStrategyMergedTest {
         when(gridRenderer.getTheme()).thenReturn(gridRendererTheme);
         when(gridRendererTheme.getBodyGridLine()).thenReturn(multiPath);
         when(columnRenderingConstraint.apply(false, gridColumn)).thenReturn(true);
-        when(renderingInformation.getVisibleRowOffsets()).thenReturn(Arrays.asList(0d, ROW_HEIGHT, ROW_HEIGHT * 2d));
+        when(renderingInformation.getVisibleRowOffsets()).thenReturn(new double[]{0d, ROW_HEIGHT, ROW_HEIGHT * 2d});
         when(boundingBoxPathClipperFactory.newClipper(anyDouble(), anyDouble(), anyDouble(), anyDouble())).thenReturn(pathClipper);
 
         when(gridColumn.getWidth()).thenReturn(COLUMN_WIDTH);
@@ -151,14 +150,16 @@ public class ColumnRenderingStrategyMergedTest {
     @Test
     public void testGetCellHeightCells3() {
         doReturn(3).when(gridCell).getMergedCellCount();
-        final List<Double> allRowHeights = new ArrayList<>(Collections.nCopies(3, BaseGridWidgetRenderingTestUtils.HEADER_ROW_HEIGHT));
+        final double[] allRowHeights = new double[3];
+        Arrays.fill(allRowHeights, BaseGridWidgetRenderingTestUtils.HEADER_ROW_HEIGHT);
         assertThat(ColumnRenderingStrategyMerged.getCellHeight(0, allRowHeights, gridCell)).isEqualTo(BaseGridWidgetRenderingTestUtils.HEADER_ROW_HEIGHT * 3);
     }
 
     @Test
     public void testGetCellHeightCells4() {
         doReturn(4).when(gridCell).getMergedCellCount();
-        final List<Double> allRowHeights = new ArrayList<>(Collections.nCopies(4, BaseGridWidgetRenderingTestUtils.HEADER_ROW_HEIGHT));
+        final double[] allRowHeights = new double[4];
+        Arrays.fill(allRowHeights, BaseGridWidgetRenderingTestUtils.HEADER_ROW_HEIGHT);
         assertThat(ColumnRenderingStrategyMerged.getCellHeight(0, allRowHeights, gridCell)).isEqualTo(BaseGridWidgetRenderingTestUtils.HEADER_ROW_HEIGHT * 4);
     }
 
@@ -387,7 +388,7 @@ public class ColumnRenderingStrategyMergedTest {
         when(cellGroup.setX(anyDouble())).thenReturn(cellGroup);
         when(cellGroup.setY(anyDouble())).thenReturn(cellGroup);
 
-        final List<Double> allRowHeights = new ArrayList<>(Collections.nCopies(3, ROW_HEIGHT));
+        final double[] allRowHeights = new double[]{ROW_HEIGHT, ROW_HEIGHT, ROW_HEIGHT};
         final GridRenderer.GridRendererContext rendererContext = mock(GridRenderer.GridRendererContext.class);
         final Group group = mock(Group.class);
         doReturn(false).when(rendererContext).isSelectionLayer();
@@ -498,7 +499,7 @@ public class ColumnRenderingStrategyMergedTest {
         when(cellGroup.setX(anyDouble())).thenReturn(cellGroup);
         when(cellGroup.setY(anyDouble())).thenReturn(cellGroup);
 
-        final List<Double> allRowHeights = new ArrayList<>(Collections.nCopies(3, ROW_HEIGHT));
+        final double[] allRowHeights = new double[]{ROW_HEIGHT, ROW_HEIGHT, ROW_HEIGHT};
         final GridRenderer.GridRendererContext rendererContext = mock(GridRenderer.GridRendererContext.class);
         final Group group = mock(Group.class);
         doReturn(false).when(rendererContext).isSelectionLayer();
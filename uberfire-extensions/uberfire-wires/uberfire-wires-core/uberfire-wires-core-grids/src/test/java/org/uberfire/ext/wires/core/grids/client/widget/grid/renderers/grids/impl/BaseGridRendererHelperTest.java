@@ -158,9 +158,19 @@ public class BaseGridRendererHelperTest {
         assertThat(helper.getRowOffset(2)).isEqualTo(uiRow1.getHeight() + uiRow2.getHeight());
     }
 
+    @Test
+    public void testGetRowOffsetWithIndexAfterHeightChange() {
+        assertThat(helper.getRowOffset(2)).isEqualTo(uiRow1.getHeight() + uiRow2.getHeight());
+
+        uiRow1.setHeight(uiRow1.getHeight() * 2);
+
+        assertThat(helper.getRowOffset(1)).isEqualTo(uiRow1.getHeight());
+        assertThat(helper.getRowOffset(2)).isEqualTo(uiRow1.getHeight() + uiRow2.getHeight());
+    }
+
     @Test
     public void testGetRowOffsetWithObjectAndExplicitRowHeights() {
-        final List<Double> allRowHeights = new ArrayList<>(Arrays.asList(uiRow1.getHeight(), uiRow2.getHeight(), uiRow3.getHeight()));
+        final double[] allRowHeights = new double[]{uiRow1.getHeight(), uiRow2.getHeight(), uiRow3.getHeight()};
         assertThat(helper.getRowOffset(uiRow1, allRowHeights)).isEqualTo(0.0);
         assertThat(helper.getRowOffset(uiRow2, allRowHeights)).isEqualTo(uiRow1.getHeight());
         assertThat(helper.getRowOffset(uiRow3, allRowHeights)).isEqualTo(uiRow1.getHeight() + uiRow2.getHeight());
@@ -168,10 +178,19 @@ public class BaseGridRendererHelperTest {
 
     @Test
     public void testGetRowOffsetWithIndexAndExplicitRowHeights() {
-        final List<Double> allRowHeights = new ArrayList<>(Arrays.asList(uiRow1.getHeight(), uiRow2.getHeight(), uiRow3.getHeight()));
+        final double[] allRowHeights = new double[]{uiRow1.getHeight(), uiRow2.getHeight(), uiRow3.getHeight()};
+        assertThat(helper.getRowOffset(0, allRowHeights)).isEqualTo(0.0);
+        assertThat(helper.getRowOffset(1, allRowHeights)).isEqualTo(uiRow1.getHeight());
+        assertThat(helper.getRowOffset(2, allRowHeights)).isEqualTo(uiRow1.getHeight() + uiRow2.getHeight());
+    }
+
+    @Test
+    public void testGetRowOffsetWithIndexAndModelRowHeights() {
+        final double[] allRowHeights = uiModel.getRowHeights();
         assertThat(helper.getRowOffset(0, allRowHeights)).isEqualTo(0.0);
         assertThat(helper.getRowOffset(1, allRowHeights)).isEqualTo(uiRow1.getHeight());
         assertThat(helper.getRowOffset(2, allRowHeights)).isEqualTo(uiRow1.getHeight() + uiRow2.getHeight());
+        assertThat(helper.getRowOffset(uiRow3, allRowHeights)).isEqualTo(uiRow1.getHeight() + uiRow2.getHeight());
     }
 
     @Test
@@ -384,6 +403,55 @@ public class BaseGridRendererHelperTest {
                                 -gridWidgetLocationX);
     }
 
+    @Test
+    public void testGetRenderingInformation_VisibleRowsOfLargeGrid() {
+        for (int i = 0; i < 1000; i++) {
+            uiModel.appendRow(new BaseGridRow());
+        }
+        final double gridWidgetLocationY = -(HEADER_HEIGHT + uiRow1.getHeight() * 500 + 5);
+        when(gridWidget.isSelected()).thenReturn(false);
+        when(gridLayer.getVisibleBounds()).thenReturn(new BaseBounds(0, 0, BOUNDS_WIDTH, BOUNDS_HEIGHT));
+        when(gridWidget.getComputedLocation()).thenReturn(new Point2D(0, gridWidgetLocationY));
+
+        final BaseGridRendererHelper.RenderingInformation renderingInformation = helper.getRenderingInformation();
+        assertThat(renderingInformation).isNotNull();
+        assertThat(renderingInformation.getMinVisibleRowIndex()).isEqualTo(500);
+        assertThat(renderingInformation.getMaxVisibleRowIndex()).isEqualTo(550);
+        assertThat(renderingInformation.getAllRowHeights()).hasSize(uiModel.getRowCount());
+        assertThat(renderingInformation.getVisibleRowOffsets()).hasSize(51);
+        assertThat(renderingInformation.getVisibleRowOffsets()[0]).isEqualTo(uiRow1.getHeight() * 500);
+        assertThat(renderingInformation.getVisibleRowOffsets()[50]).isEqualTo(uiRow1.getHeight() * 550);
+        assertThat(renderingInformation.getBodyBlockInformation().getBodyY()).isEqualTo(HEADER_HEIGHT + uiRow1.getHeight() * 500);
+    }
+
+    @Test
+    public void testGetRenderingInformation_NonCacheableRowHeightsReadOncePerRender() {
+        final List<NonCacheableGridRow> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final NonCacheableGridRow row = new NonCacheableGridRow();
+            uiModel.appendRow(row);
+            rows.add(row);
+        }
+        final double gridWidgetLocationY = -(HEADER_HEIGHT + uiRow1.getHeight() * 500 + 5);
+        when(gridWidget.isSelected()).thenReturn(false);
+        when(gridLayer.getVisibleBounds()).thenReturn(new BaseBounds(0, 0, BOUNDS_WIDTH, BOUNDS_HEIGHT));
+        when(gridWidget.getComputedLocation()).thenReturn(new Point2D(0, gridWidgetLocationY));
+
+        for (int render = 0; render < 2; render++) {
+            rows.forEach(row -> row.heightCount = 0);
+
+            final BaseGridRendererHelper.RenderingInformation renderingInformation = helper.getRenderingInformation();
+            final double[] allRowHeights = renderingInformation.getAllRowHeights();
+            final int minVisibleRowIndex = renderingInformation.getMinVisibleRowIndex();
+            assertThat(minVisibleRowIndex).isEqualTo(500);
+            assertThat(renderingInformation.getMaxVisibleRowIndex()).isEqualTo(550);
+            assertThat(helper.getRowOffset(minVisibleRowIndex, allRowHeights)).isEqualTo(uiRow1.getHeight() * 500);
+            assertThat(helper.getRowOffset(rows.get(600), allRowHeights)).isEqualTo(uiRow1.getHeight() * 603);
+
+            rows.forEach(row -> assertThat(row.heightCount).isEqualTo(1));
+        }
+    }
+
     private void assertRenderingInformation(final BaseGridRendererHelper.RenderingInformation renderingInformation,
                                             final boolean expectedIsFixedHeader,
                                             final boolean expectedIsFloatingHeader,
@@ -402,8 +470,8 @@ public class BaseGridRendererHelperTest {
         assertThat(renderingInformation.getAllColumns()).containsSequence(expectedAllColumns);
         assertThat(renderingInformation.getMinVisibleRowIndex()).isEqualTo(expectedMinVisibleRowIndex);
         assertThat(renderingInformation.getMaxVisibleRowIndex()).isEqualTo(expectedMaxVisibleRowIndex);
-        assertThat(renderingInformation.getAllRowHeights()).containsSequence(expectedAllRowHeights);
-        assertThat(renderingInformation.getVisibleRowOffsets()).containsSequence(expectedVisibleRowOffsets);
+        assertThat(renderingInformation.getAllRowHeights()).containsSequence(toArray(expectedAllRowHeights));
+        assertThat(renderingInformation.getVisibleRowOffsets()).containsSequence(toArray(expectedVisibleRowOffsets));
         assertThat(renderingInformation.getHeaderRowCount()).isEqualTo(expectedHeaderRowCount);
         assertThat(renderingInformation.getHeaderRowHeight()).isEqualTo(expectedHeaderRowHeight);
         assertThat(renderingInformation.getHeaderRowsHeight()).isEqualTo(expectedHeaderRowsHeight);
@@ -433,4 +501,24 @@ public class BaseGridRendererHelperTest {
         assertThat(columnInformation.getUiColumnIndex()).isEqualTo(expectedUiColumnIndex);
         assertThat(columnInformation.getOffsetX()).isEqualTo(expectedOffsetX);
     }
+
+    private static class NonCacheableGridRow extends BaseGridRow {
+
+        private int heightCount;
+
+        @Override
+        public double getHeight() {
+            heightCount++;
+            return super.getHeight();
+        }
+
+        @Override
+        public boolean isHeightCacheable() {
+            return false;
+        }
+    }
+
+    private static double[] toArray(final List<Double> values) {
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
 }
@@ -248,7 +248,7 @@ public class BaseGridRendererNonSelectionLayerTest extends BaseGridRendererTest
 
         assertRenderedRectangle(rectangleCaptor.getValue(),
                                 column.getWidth(),
-                                ri.getVisibleRowOffsets().get(2) + HEADER_ROW_HEIGHT);
+                                ri.getVisibleRowOffsets()[2] + HEADER_ROW_HEIGHT);
     }
 
     @Test
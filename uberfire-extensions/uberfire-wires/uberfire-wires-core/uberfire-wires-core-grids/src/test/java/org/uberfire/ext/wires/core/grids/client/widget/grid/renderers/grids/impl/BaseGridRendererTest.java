@@ -17,7 +17,6 @@
 package org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.impl;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -155,12 +154,13 @@ public abstract class BaseGridRendererTest {
     public void testMakeCellHighlight() {
         final int rowIndex = 1;
         final int visibleRowIndex = 2;
-        final List<Double> allRowHeights = new ArrayList<>();
+        final double[] allRowHeights = new double[0];
         final GridData model = mock(GridData.class);
         final GridRendererTheme theme = mock(GridRendererTheme.class);
         final Rectangle rectangle = mock(Rectangle.class);
         when(theme.getHighlightedCellBackground()).thenReturn(rectangle);
         when(rectangle.setListening(false)).thenReturn(rectangle);
+        when(renderingInformation.getAllRowHeights()).thenReturn(allRowHeights);
         renderer.setTheme(theme);
 
         doNothing().when(renderer).setCellHighlightX(rectangle, context, rendererHelper);
@@ -262,7 +262,7 @@ public abstract class BaseGridRendererTest {
         when(model.getRow(rowIndex)).thenReturn(row);
         doReturn(1).when(renderer).getMergedCellsCount(model, rowIndex);
 
-        renderer.setCellHighlightSize(rectangle, model, column, Collections.nCopies(5, height), rowIndex);
+        renderer.setCellHighlightSize(rectangle, model, column, new double[]{height, height, height, height, height}, rowIndex);
 
         verify(rectangle).setWidth(width);
         verify(rectangle).setHeight(height);
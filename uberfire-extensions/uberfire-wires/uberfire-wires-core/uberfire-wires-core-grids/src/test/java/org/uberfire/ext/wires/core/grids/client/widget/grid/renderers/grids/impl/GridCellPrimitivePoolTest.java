@@ -0,0 +1,188 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.impl;
+
+import com.ait.lienzo.client.core.shape.Group;
+import com.ait.lienzo.client.core.shape.Node;
+import com.ait.lienzo.client.core.shape.Text;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.uberfire.ext.wires.core.grids.client.widget.context.GridBodyCellRenderContext;
+import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.GridRenderer;
+import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.themes.GridRendererTheme;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class GridCellPrimitivePoolTest {
+
+    @Mock
+    private GridRenderer renderer;
+
+    @Mock
+    private GridRendererTheme theme;
+
+    @Mock
+    private Text bodyText1;
+
+    @Mock
+    private Text bodyText2;
+
+    @Mock
+    private Text placeHolderText;
+
+    private GridCellPrimitivePool pool;
+
+    @Before
+    public void setup() {
+        pool = new GridCellPrimitivePool();
+
+        when(renderer.getTheme()).thenReturn(theme);
+        when(theme.getBodyText()).thenReturn(bodyText1, bodyText2);
+        when(theme.getPlaceholderText()).thenReturn(placeHolderText);
+        when(bodyText1.asNode()).thenReturn(mock(Node.class));
+        when(bodyText2.asNode()).thenReturn(mock(Node.class));
+        when(placeHolderText.asNode()).thenReturn(mock(Node.class));
+    }
+
+    @Test
+    public void testTextGroupReusedForSameSlot() {
+        final Group g1 = pool.getTextGroup(makeContext(0, 0), false, "a", 10, 20);
+
+        assertEquals(1, g1.getChildNodes().size());
+        assertEquals(bodyText1, g1.getChildNodes().get(0));
+        verify(bodyText1).setText("a");
+        verify(bodyText1).setX(10);
+        verify(bodyText1).setY(20);
+
+        final Group g2 = pool.getTextGroup(makeContext(0, 0), false, "b", 10, 20);
+
+        assertSame(g1, g2);
+        verify(theme, times(1)).getBodyText();
+        verify(bodyText1).setText("b");
+        verify(bodyText1, times(1)).setX(10);
+        verify(bodyText1, times(1)).setY(20);
+    }
+
+    @Test
+    public void testTextGroupReusedForSameSlotFollowingScroll() {
+        pool.setMinVisibleRowIndex(0);
+        final Group g1 = pool.getTextGroup(makeContext(2, 0), false, "a", 10, 20);
+
+        pool.setMinVisibleRowIndex(1);
+        final Group g2 = pool.getTextGroup(makeContext(3, 0), false, "a", 10, 20);
+
+        assertSame(g1, g2);
+        verify(bodyText1, times(1)).setText("a");
+    }
+
+    @Test
+    public void testTextGroupsForDifferentSlots() {
+        final Group g1 = pool.getTextGroup(makeContext(0, 0), false, "a", 10, 20);
+        final Group g2 = pool.getTextGroup(makeContext(1, 0), false, "a", 10, 20);
+        final Group g3 = pool.getTextGroup(makeContext(0, 1), false, "a", 10, 20);
+
+        assertNotSame(g1, g2);
+        assertNotSame(g1, g3);
+        assertNotSame(g2, g3);
+    }
+
+    @Test
+    public void testTextGroupReplacedForPlaceHolder() {
+        final Group g1 = pool.getTextGroup(makeContext(0, 0), false, "a", 10, 20);
+        final Group g2 = pool.getTextGroup(makeContext(0, 0), true, "placeholder", 10, 20);
+
+        assertNotSame(g1, g2);
+        assertEquals(placeHolderText, g2.getChildNodes().get(0));
+        verify(placeHolderText).setText("placeholder");
+    }
+
+    @Test
+    public void testTextGroupReplacedForTheme() {
+        final Group g1 = pool.getTextGroup(makeContext(0, 0), false, "a", 10, 20);
+
+        final GridRendererTheme newTheme = mock(GridRendererTheme.class);
+        final Text newText = mock(Text.class);
+        when(newText.asNode()).thenReturn(mock(Node.class));
+        when(newTheme.getBodyText()).thenReturn(newText);
+        when(renderer.getTheme()).thenReturn(newTheme);
+
+        final Group g2 = pool.getTextGroup(makeContext(0, 0), false, "a", 10, 20);
+
+        assertNotSame(g1, g2);
+        assertEquals(newText, g2.getChildNodes().get(0));
+    }
+
+    @Test
+    public void testTextGroupRemovedFromPreviousParent() {
+        final Group parent = new Group();
+        final Group g1 = pool.getTextGroup(makeContext(0, 0), false, "a", 10, 20);
+        parent.add(g1);
+
+        final Group g2 = pool.getTextGroup(makeContext(0, 0), false, "a", 10, 20);
+
+        assertSame(g1, g2);
+        assertEquals(0, parent.getChildNodes().size());
+    }
+
+    @Test
+    public void testTextGroupNotPooledAboveFirstVisibleRow() {
+        pool.setMinVisibleRowIndex(5);
+        final Group g1 = pool.getTextGroup(makeContext(4, 0), false, "a", 10, 20);
+        final Group g2 = pool.getTextGroup(makeContext(4, 0), false, "a", 10, 20);
+
+        assertNotSame(g1, g2);
+        verify(bodyText2).setText("a");
+    }
+
+    @Test
+    public void testClear() {
+        final Group g1 = pool.getTextGroup(makeContext(0, 0), false, "a", 10, 20);
+
+        pool.clear();
+
+        final Group g2 = pool.getTextGroup(makeContext(0, 0), false, "a", 10, 20);
+
+        assertNotSame(g1, g2);
+        verify(theme, times(2)).getBodyText();
+        verify(theme, never()).getPlaceholderText();
+    }
+
+    private GridBodyCellRenderContext makeContext(final int rowIndex,
+                                                  final int columnIndex) {
+        return new GridBodyCellRenderContext(0,
+                                             0,
+                                             100,
+                                             50,
+                                             0,
+                                             0,
+                                             rowIndex,
+                                             columnIndex,
+                                             false,
+                                             null,
+                                             renderer);
+    }
+}
@@ -22,6 +22,7 @@ import com.ait.lienzo.client.core.shape.IPrimitive;
 import com.ait.lienzo.client.core.shape.Layer;
 import com.ait.lienzo.client.core.shape.Node;
 import com.ait.lienzo.client.core.shape.Viewport;
+import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.client.core.types.Transform;
 import com.ait.lienzo.client.widget.panel.impl.LienzoFixedPanel;
 import com.ait.lienzo.test.LienzoMockitoTestRunner;
@@ -127,6 +128,14 @@ public class DefaultGridLayerTest {
                times(1)).batch(any(GridLayerRedrawManager.PrioritizedCommand.class));
     }
 
+    @Test
+    public void checkBatchRegionRedrawsWholeLayer() {
+        gridLayer.batch(BoundingBox.fromDoubles(0, 0, 10, 10));
+
+        verify(gridLayer,
+               times(1)).batch();
+    }
+
     @Test
     public void checkFlipToGridWidgetWhenNotPinned() {
         final GridWidget gridWidget = makeGridWidget();